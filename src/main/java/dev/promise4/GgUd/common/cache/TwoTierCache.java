@@ -0,0 +1,168 @@
+package dev.promise4.GgUd.common.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.function.BiConsumer;
+
+/**
+ * 로컬(Caffeine) 계층을 Redis 캐시 앞에 둔 2단계 캐시
+ * 조회는 로컬 → Redis 순, 쓰기/삭제는 Redis 와 로컬에 함께 반영한 뒤 다른 인스턴스에 무효화를 전파
+ * 로컬 키는 Redis 캐시 키와 같은 문자열 표현(toString)을 사용
+ * 계층별 적중률은 cache.tier.requests{cache, tier, result} 로 집계
+ */
+public class TwoTierCache implements Cache {
+
+    static final String TIER_LOCAL = "local";
+    static final String TIER_REMOTE = "remote";
+
+    private final String name;
+    private final Cache remote;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> local;
+    /** (캐시 이름, 키) 무효화 전파, 키가 null 이면 전체 삭제 */
+    private final BiConsumer<String, String> invalidationPublisher;
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter remoteHits;
+    private final Counter remoteMisses;
+
+    public TwoTierCache(Cache remote, long maximumSize, Duration ttl,
+                        BiConsumer<String, String> invalidationPublisher, MeterRegistry meterRegistry) {
+        this.name = remote.getName();
+        this.remote = remote;
+        this.local = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .build();
+        this.invalidationPublisher = invalidationPublisher;
+
+        this.localHits = counter(meterRegistry, TIER_LOCAL, "hit");
+        this.localMisses = counter(meterRegistry, TIER_LOCAL, "miss");
+        this.remoteHits = counter(meterRegistry, TIER_REMOTE, "hit");
+        this.remoteMisses = counter(meterRegistry, TIER_REMOTE, "miss");
+        Gauge.builder("cache.tier.local.size", local, c -> c.estimatedSize())
+                .description("Entries held in the local cache tier")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = localKey(key);
+        ValueWrapper cached = local.getIfPresent(localKey);
+        if (cached != null) {
+            localHits.increment();
+            return cached;
+        }
+        localMisses.increment();
+
+        ValueWrapper loaded = remote.get(key);
+        if (loaded == null) {
+            remoteMisses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        ValueWrapper wrapper = new SimpleValueWrapper(loaded.get());
+        local.put(localKey, wrapper);
+        return wrapper;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException(
+                    "캐시 값 타입이 요청 타입과 다릅니다: " + value.getClass().getName() + " -> " + type.getName());
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+
+        T value = remote.get(key, valueLoader);
+        local.put(localKey(key), new SimpleValueWrapper(value));
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remote.put(key, value);
+        local.put(localKey(key), new SimpleValueWrapper(value));
+        invalidationPublisher.accept(name, localKey(key));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remote.evict(key);
+        local.invalidate(localKey(key));
+        invalidationPublisher.accept(name, localKey(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean evicted = remote.evictIfPresent(key);
+        local.invalidate(localKey(key));
+        invalidationPublisher.accept(name, localKey(key));
+        return evicted;
+    }
+
+    @Override
+    public void clear() {
+        remote.clear();
+        local.invalidateAll();
+        invalidationPublisher.accept(name, null);
+    }
+
+    /**
+     * 다른 인스턴스의 변경 알림 반영 (로컬 계층만, 키가 null 이면 전체)
+     */
+    void invalidateLocal(String localKey) {
+        if (localKey == null) {
+            local.invalidateAll();
+        } else {
+            local.invalidate(localKey);
+        }
+    }
+
+    long localSize() {
+        return local.estimatedSize();
+    }
+
+    private static String localKey(Object key) {
+        return key.toString();
+    }
+
+    private Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.requests")
+                .description("Two-tier cache lookups by tier")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
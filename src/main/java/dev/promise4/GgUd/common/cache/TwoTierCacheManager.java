@@ -0,0 +1,93 @@
+package dev.promise4.GgUd.common.cache;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * 지정한 캐시에만 로컬 계층을 씌우는 CacheManager (나머지는 Redis 캐시 그대로)
+ * 무효화 메시지는 "{인스턴스ID}\n{캐시 이름}\n{키}" 형식이며, 전체 삭제는 키 자리에 {@link #CLEAR_ALL}
+ * 자기 인스턴스가 보낸 메시지는 무시
+ */
+@Slf4j
+public class TwoTierCacheManager implements CacheManager {
+
+    static final String CLEAR_ALL = "*";
+
+    private final CacheManager remoteCacheManager;
+    private final Set<String> nearCacheNames;
+    private final long maximumSize;
+    private final Duration ttl;
+    private final Consumer<String> messagePublisher;
+    private final MeterRegistry meterRegistry;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ConcurrentMap<String, TwoTierCache> nearCaches = new ConcurrentHashMap<>();
+
+    /**
+     * @param messagePublisher 무효화 메시지를 다른 인스턴스로 보내는 함수 (Redis PUBLISH)
+     */
+    public TwoTierCacheManager(CacheManager remoteCacheManager, Collection<String> nearCacheNames,
+                               long maximumSize, Duration ttl, Consumer<String> messagePublisher,
+                               MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.nearCacheNames = Set.copyOf(nearCacheNames);
+        this.maximumSize = maximumSize;
+        this.ttl = ttl;
+        this.messagePublisher = messagePublisher;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null || !nearCacheNames.contains(name)) {
+            return remote;
+        }
+        return nearCaches.computeIfAbsent(name,
+                n -> new TwoTierCache(remote, maximumSize, ttl, this::publishInvalidation, meterRegistry));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * 다른 인스턴스에서 받은 무효화 메시지 처리
+     */
+    public void onInvalidationMessage(String message) {
+        String[] parts = message.split("\n", 3);
+        if (parts.length != 3) {
+            log.warn("Malformed cache invalidation message: {}", message);
+            return;
+        }
+        if (instanceId.equals(parts[0])) {
+            return;
+        }
+
+        TwoTierCache cache = nearCaches.get(parts[1]);
+        if (cache != null) {
+            cache.invalidateLocal(CLEAR_ALL.equals(parts[2]) ? null : parts[2]);
+            log.debug("Local cache invalidated by peer: cache={}, key={}", parts[1], parts[2]);
+        }
+    }
+
+    private void publishInvalidation(String cacheName, String localKey) {
+        try {
+            messagePublisher.accept(instanceId + "\n" + cacheName + "\n" + (localKey != null ? localKey : CLEAR_ALL));
+        } catch (Exception e) {
+            // 전파 실패 시 다른 인스턴스는 로컬 TTL 만료 후 갱신됨
+            log.warn("Failed to publish cache invalidation: cache={}, error={}", cacheName, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package dev.promise4.GgUd.common.messaging;
+
+import java.util.function.Consumer;
+
+/**
+ * 인스턴스 간 브로드캐스트 전송 수단 (모든 인스턴스가 같은 메시지를 받음, 보낸 인스턴스 포함)
+ */
+public interface BroadcastTransport {
+
+    void publish(byte[] message);
+
+    void subscribe(Consumer<byte[]> listener);
+}
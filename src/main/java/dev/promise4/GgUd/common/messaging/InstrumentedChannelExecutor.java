@@ -0,0 +1,94 @@
+package dev.promise4.GgUd.common.messaging;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * STOMP 채널 executor 계측 래퍼
+ * 대기 중인 작업 수와 실행 중인 작업 수(gauge), 대기 시간과 실행 시간(timer), 거부 수(counter)를 채널 이름 태그로 집계
+ * 스레드 풀·가상 스레드 어느 쪽이든 같은 지표로 비교할 수 있도록 executor 종류와 무관하게 동작
+ * 닫으면 감싼 executor 도 함께 종료
+ */
+@Slf4j
+public class InstrumentedChannelExecutor implements Executor, AutoCloseable {
+
+    private final String channel;
+    private final Executor delegate;
+
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+    private final Timer waitTimer;
+    private final Timer runTimer;
+    private final Counter rejected;
+
+    public InstrumentedChannelExecutor(String channel, Executor delegate, MeterRegistry meterRegistry) {
+        this.channel = channel;
+        this.delegate = delegate;
+
+        Gauge.builder("websocket.channel.queue.depth", queued, AtomicInteger::get)
+                .description("Messages waiting for a channel executor thread")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        Gauge.builder("websocket.channel.active", active, AtomicInteger::get)
+                .description("Messages currently being handled on the channel")
+                .tag("channel", channel)
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("websocket.channel.task.wait")
+                .description("Time a message waited before a channel executor picked it up")
+                .tag("channel", channel)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("websocket.channel.task.duration")
+                .description("Time spent handling a message on the channel executor")
+                .tag("channel", channel)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejected = Counter.builder("websocket.channel.rejected")
+                .description("Messages rejected because the channel executor was saturated")
+                .tag("channel", channel)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        long enqueuedAt = System.nanoTime();
+        queued.incrementAndGet();
+        try {
+            delegate.execute(() -> {
+                queued.decrementAndGet();
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - enqueuedAt, TimeUnit.NANOSECONDS);
+                active.incrementAndGet();
+                try {
+                    task.run();
+                } finally {
+                    active.decrementAndGet();
+                    runTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            queued.decrementAndGet();
+            rejected.increment();
+            log.warn("STOMP channel executor saturated: channel={}", channel);
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (delegate instanceof DisposableBean disposable) {
+            disposable.destroy();
+        } else if (delegate instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package dev.promise4.GgUd.common.messaging;
+
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+/**
+ * Redis pub/sub 브로드캐스트 (메시지 본문은 바이트 그대로 PUBLISH)
+ */
+public class RedisBroadcastTransport implements BroadcastTransport {
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final String channel;
+    private final byte[] channelBytes;
+
+    public RedisBroadcastTransport(StringRedisTemplate redisTemplate, RedisMessageListenerContainer listenerContainer,
+                                   String channel) {
+        this.redisTemplate = redisTemplate;
+        this.listenerContainer = listenerContainer;
+        this.channel = channel;
+        this.channelBytes = channel.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void publish(byte[] message) {
+        redisTemplate.execute((RedisCallback<Long>) connection -> connection.publish(channelBytes, message));
+    }
+
+    @Override
+    public void subscribe(Consumer<byte[]> listener) {
+        listenerContainer.addMessageListener((message, pattern) -> listener.accept(message.getBody()),
+                new ChannelTopic(channel));
+    }
+}
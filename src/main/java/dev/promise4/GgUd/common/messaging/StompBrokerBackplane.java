@@ -0,0 +1,121 @@
+package dev.promise4.GgUd.common.messaging;
+
+import dev.promise4.GgUd.common.redis.BinaryReader;
+import dev.promise4.GgUd.common.redis.BinaryWriter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.util.MimeType;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 여러 인스턴스의 simple broker 를 잇는 브로드캐스트 백플레인 (brokerChannel 인터셉터)
+ * 이 인스턴스에서 /topic 으로 보낸 메시지를 로컬 브로커에 그대로 전달하면서 다른 인스턴스에도 발행하고,
+ * 다른 인스턴스가 발행한 메시지는 로컬 brokerChannel 에 넣어 이 인스턴스에 연결된 구독자에게 전달
+ * /queue, /user 목적지는 세션이 있는 인스턴스에서만 의미가 있으므로 중계하지 않음
+ * 메시지 형식: 버전, 발행 인스턴스 ID, 목적지, content-type, 본문 길이 + 본문
+ */
+@Slf4j
+public class StompBrokerBackplane implements ChannelInterceptor {
+
+    /** 다른 인스턴스에서 받은 메시지 표시 (다시 발행하지 않도록) */
+    public static final String ORIGIN_HEADER = "backplaneOrigin";
+
+    private static final int FORMAT_VERSION = 1;
+    private static final String RELAYED_PREFIX = "/topic/";
+
+    private final BroadcastTransport transport;
+    private final Supplier<MessageChannel> brokerChannel;
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private final Counter published;
+    private final Counter received;
+    private final Counter failed;
+
+    public StompBrokerBackplane(BroadcastTransport transport, Supplier<MessageChannel> brokerChannel,
+                                MeterRegistry meterRegistry) {
+        this.transport = transport;
+        this.brokerChannel = brokerChannel;
+        this.published = counter(meterRegistry, "published");
+        this.received = counter(meterRegistry, "received");
+        this.failed = counter(meterRegistry, "failed");
+        transport.subscribe(this::onBroadcast);
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        MessageHeaders headers = message.getHeaders();
+        String destination = SimpMessageHeaderAccessor.getDestination(headers);
+        if (SimpMessageHeaderAccessor.getMessageType(headers) != SimpMessageType.MESSAGE
+                || destination == null || !destination.startsWith(RELAYED_PREFIX)
+                || headers.containsKey(ORIGIN_HEADER)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        try {
+            Object contentType = headers.get(MessageHeaders.CONTENT_TYPE);
+            transport.publish(new BinaryWriter(payload.length + 64)
+                    .writeByte(FORMAT_VERSION)
+                    .writeString(instanceId)
+                    .writeString(destination)
+                    .writeString(contentType != null ? contentType.toString() : null)
+                    .writeVarLong(payload.length)
+                    .writeBytes(payload)
+                    .toByteArray());
+            published.increment();
+        } catch (Exception e) {
+            // 발행 실패 시에도 이 인스턴스의 구독자에게는 전달됨
+            failed.increment();
+            log.warn("Failed to publish broker message to backplane: destination={}, error={}",
+                    destination, e.getMessage());
+        }
+        return message;
+    }
+
+    void onBroadcast(byte[] body) {
+        try {
+            BinaryReader reader = new BinaryReader(body, 0);
+            int version = reader.readByte();
+            if (version != FORMAT_VERSION) {
+                log.warn("Unsupported backplane message version: {}", version);
+                return;
+            }
+            String origin = reader.readString();
+            if (instanceId.equals(origin)) {
+                return;
+            }
+            String destination = reader.readString();
+            String contentType = reader.readString();
+            byte[] payload = reader.readBytes(reader.readVarInt());
+
+            SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+            accessor.setDestination(destination);
+            if (contentType != null) {
+                accessor.setContentType(MimeType.valueOf(contentType));
+            }
+            accessor.setHeader(ORIGIN_HEADER, origin);
+            brokerChannel.get().send(MessageBuilder.createMessage(payload, accessor.getMessageHeaders()));
+            received.increment();
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("Failed to deliver backplane message: {}", e.getMessage());
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("websocket.backplane.messages")
+                .description("Broker messages relayed between instances")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
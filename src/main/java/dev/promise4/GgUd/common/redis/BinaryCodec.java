@@ -0,0 +1,22 @@
+package dev.promise4.GgUd.common.redis;
+
+/**
+ * 타입별 고정 스키마 바이너리 코덱
+ * 필드 순서가 곧 스키마이므로 필드를 바꿀 때는 새 typeId 로 코덱을 추가하고 기존 코덱은 읽기용으로 유지
+ */
+public interface BinaryCodec<T> {
+
+    /**
+     * 헤더에 기록되는 타입 ID (0~255, 코덱마다 고유)
+     */
+    int typeId();
+
+    /**
+     * 이 코덱으로 쓸 수 있는 값인지
+     */
+    boolean supports(Object value);
+
+    void write(T value, BinaryWriter writer);
+
+    T read(BinaryReader reader);
+}
@@ -0,0 +1,100 @@
+package dev.promise4.GgUd.common.redis;
+
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 바이너리 코덱 읽기 도구 ({@link BinaryWriter} 의 역)
+ */
+public final class BinaryReader {
+
+    private final byte[] buffer;
+    private int position;
+
+    public BinaryReader(byte[] buffer, int offset) {
+        this.buffer = buffer;
+        this.position = offset;
+    }
+
+    public int readByte() {
+        ensure(1);
+        return buffer[position++] & 0xFF;
+    }
+
+    public long readVarLong() {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int b = readByte();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new SerializationException("잘못된 varint 입니다");
+    }
+
+    public int readVarInt() {
+        long value = readVarLong();
+        if (value > Integer.MAX_VALUE) {
+            throw new SerializationException("int 범위를 벗어난 값입니다: " + value);
+        }
+        return (int) value;
+    }
+
+    public long readSignedVarLong() {
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public int readSignedVarInt() {
+        return (int) readSignedVarLong();
+    }
+
+    public double readDouble() {
+        ensure(8);
+        long bits = 0;
+        for (int i = 0; i < 8; i++) {
+            bits = (bits << 8) | (buffer[position++] & 0xFF);
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    public String readString() {
+        int length = readVarInt();
+        if (length == 0) {
+            return null;
+        }
+        int bytes = length - 1;
+        ensure(bytes);
+        String value = new String(buffer, position, bytes, StandardCharsets.UTF_8);
+        position += bytes;
+        return value;
+    }
+
+    public byte[] readBytes(int length) {
+        ensure(length);
+        byte[] bytes = new byte[length];
+        System.arraycopy(buffer, position, bytes, 0, length);
+        position += length;
+        return bytes;
+    }
+
+    public Long readNullableLong() {
+        return readByte() == 0 ? null : readSignedVarLong();
+    }
+
+    public Double readNullableDouble() {
+        return readByte() == 0 ? null : readDouble();
+    }
+
+    public boolean hasRemaining() {
+        return position < buffer.length;
+    }
+
+    private void ensure(int bytes) {
+        if (bytes < 0 || position + bytes > buffer.length) {
+            throw new SerializationException("바이너리 캐시 값이 잘렸습니다");
+        }
+    }
+}
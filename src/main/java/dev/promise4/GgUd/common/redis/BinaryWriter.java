@@ -0,0 +1,92 @@
+package dev.promise4.GgUd.common.redis;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 바이너리 코덱 쓰기 도구 (varint, zigzag, IEEE754 double, 길이 접두 UTF-8 문자열)
+ */
+public final class BinaryWriter {
+
+    private final ByteArrayOutputStream out;
+
+    public BinaryWriter(int initialCapacity) {
+        this.out = new ByteArrayOutputStream(initialCapacity);
+    }
+
+    public BinaryWriter writeByte(int value) {
+        out.write(value);
+        return this;
+    }
+
+    public BinaryWriter writeBytes(byte[] bytes) {
+        out.write(bytes, 0, bytes.length);
+        return this;
+    }
+
+    /**
+     * 부호 없는 가변 길이 정수 (7비트씩, 최상위 비트는 계속 여부)
+     */
+    public BinaryWriter writeVarLong(long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+        return this;
+    }
+
+    /**
+     * 부호 있는 가변 길이 정수 (zigzag)
+     */
+    public BinaryWriter writeSignedVarLong(long value) {
+        return writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public BinaryWriter writeDouble(double value) {
+        long bits = Double.doubleToRawLongBits(value);
+        for (int shift = 56; shift >= 0; shift -= 8) {
+            out.write((int) (bits >>> shift));
+        }
+        return this;
+    }
+
+    /**
+     * null 은 길이 0, 그 외에는 (바이트 길이 + 1) 접두
+     */
+    public BinaryWriter writeString(String value) {
+        if (value == null) {
+            return writeVarLong(0);
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(bytes.length + 1L);
+        return writeBytes(bytes);
+    }
+
+    /**
+     * null 여부 1바이트 + zigzag 값
+     */
+    public BinaryWriter writeNullableLong(Long value) {
+        if (value == null) {
+            return writeByte(0);
+        }
+        writeByte(1);
+        return writeSignedVarLong(value);
+    }
+
+    public BinaryWriter writeNullableDouble(Double value) {
+        if (value == null) {
+            return writeByte(0);
+        }
+        writeByte(1);
+        return writeDouble(value);
+    }
+
+    public int size() {
+        return out.size();
+    }
+
+    public byte[] toByteArray() {
+        return out.toByteArray();
+    }
+}
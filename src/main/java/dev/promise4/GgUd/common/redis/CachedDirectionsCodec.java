@@ -0,0 +1,108 @@
+package dev.promise4.GgUd.common.redis;
+
+import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+import dev.promise4.GgUd.service.directions.CachedDirections;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 길찾기 캐시 항목 코덱
+ * 출발지 좌표 → 경로 수 → (시간, 거리, 요금, 환승, 구간 수 → 구간들)
+ */
+public class CachedDirectionsCodec implements BinaryCodec<CachedDirections> {
+
+    private static final DirectionsResponse.TransportType[] TRANSPORT_TYPES = DirectionsResponse.TransportType.values();
+
+    @Override
+    public int typeId() {
+        return 1;
+    }
+
+    @Override
+    public boolean supports(Object value) {
+        return value instanceof CachedDirections;
+    }
+
+    @Override
+    public void write(CachedDirections value, BinaryWriter writer) {
+        writer.writeDouble(value.getOriginLatitude());
+        writer.writeDouble(value.getOriginLongitude());
+
+        List<DirectionsResponse.RouteOption> options =
+                value.getResponse() != null ? value.getResponse().getRouteOptions() : null;
+        writeSize(writer, options);
+        if (options == null) return;
+
+        for (DirectionsResponse.RouteOption option : options) {
+            writer.writeSignedVarLong(option.getTotalDuration())
+                    .writeSignedVarLong(option.getTotalDistance())
+                    .writeSignedVarLong(option.getTotalFare())
+                    .writeSignedVarLong(option.getTransferCount());
+            writeSize(writer, option.getRoutes());
+            if (option.getRoutes() == null) continue;
+
+            for (DirectionsResponse.RouteStep step : option.getRoutes()) {
+                writer.writeByte(step.getType() != null ? step.getType().ordinal() + 1 : 0)
+                        .writeString(step.getInstruction())
+                        .writeSignedVarLong(step.getDuration())
+                        .writeSignedVarLong(step.getDistance())
+                        .writeString(step.getLineName())
+                        .writeString(step.getLinestring())
+                        .writeString(step.getEncodedPolyline());
+            }
+        }
+    }
+
+    @Override
+    public CachedDirections read(BinaryReader reader) {
+        double originLatitude = reader.readDouble();
+        double originLongitude = reader.readDouble();
+
+        int optionCount = reader.readVarInt();
+        List<DirectionsResponse.RouteOption> options = null;
+        if (optionCount > 0) {
+            options = new ArrayList<>(optionCount - 1);
+            for (int i = 0; i < optionCount - 1; i++) {
+                options.add(readOption(reader));
+            }
+        }
+
+        return new CachedDirections(originLatitude, originLongitude,
+                DirectionsResponse.builder().routeOptions(options).build());
+    }
+
+    private DirectionsResponse.RouteOption readOption(BinaryReader reader) {
+        DirectionsResponse.RouteOption.RouteOptionBuilder option = DirectionsResponse.RouteOption.builder()
+                .totalDuration(reader.readSignedVarInt())
+                .totalDistance(reader.readSignedVarInt())
+                .totalFare(reader.readSignedVarInt())
+                .transferCount(reader.readSignedVarInt());
+
+        int stepCount = reader.readVarInt();
+        if (stepCount > 0) {
+            List<DirectionsResponse.RouteStep> steps = new ArrayList<>(stepCount - 1);
+            for (int i = 0; i < stepCount - 1; i++) {
+                int type = reader.readByte();
+                steps.add(DirectionsResponse.RouteStep.builder()
+                        .type(type > 0 ? TRANSPORT_TYPES[type - 1] : null)
+                        .instruction(reader.readString())
+                        .duration(reader.readSignedVarInt())
+                        .distance(reader.readSignedVarInt())
+                        .lineName(reader.readString())
+                        .linestring(reader.readString())
+                        .encodedPolyline(reader.readString())
+                        .build());
+            }
+            option.routes(steps);
+        }
+        return option.build();
+    }
+
+    /**
+     * null 은 0, 그 외에는 (크기 + 1)
+     */
+    private static void writeSize(BinaryWriter writer, List<?> list) {
+        writer.writeVarLong(list == null ? 0 : list.size() + 1L);
+    }
+}
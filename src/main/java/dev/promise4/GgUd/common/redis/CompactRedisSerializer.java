@@ -0,0 +1,163 @@
+package dev.promise4.GgUd.common.redis;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * 코덱이 있는 타입은 바이너리로, 나머지는 기존 JSON 직렬화기로 저장하는 RedisSerializer
+ * 바이너리 값 헤더: [매직 0xC7][포맷 버전][코덱 typeId][플래그], 압축 시 이어서 원본 길이(varint)
+ * 매직 바이트로 시작하지 않는 값은 기존 JSON 으로 읽으므로, 읽기를 먼저 배포한 뒤 binaryWrites 를 켜면
+ * 구버전/신버전 인스턴스가 섞여 있어도 안전하게 전환 가능
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    static final int MAGIC = 0xC7;
+    static final int FORMAT_VERSION = 1;
+    static final int FLAG_DEFLATE = 0x01;
+    private static final int HEADER_SIZE = 4;
+
+    private final List<BinaryCodec<?>> codecs;
+    private final Map<Integer, BinaryCodec<?>> codecsById = new HashMap<>();
+    private final RedisSerializer<Object> fallback;
+    private final boolean binaryWrites;
+    private final int compressionThresholdBytes;
+
+    /**
+     * @param fallback                  코덱이 없는 타입과 헤더 없는(기존) 값에 쓰는 직렬화기
+     * @param binaryWrites              false 면 쓰기는 모두 fallback (읽기는 두 형식 모두 지원)
+     * @param compressionThresholdBytes 바이너리 본문이 이 크기 이상이면 Deflate 압축 (0 이하면 압축 안 함)
+     */
+    public CompactRedisSerializer(List<BinaryCodec<?>> codecs, RedisSerializer<Object> fallback,
+                                  boolean binaryWrites, int compressionThresholdBytes) {
+        this.codecs = List.copyOf(codecs);
+        for (BinaryCodec<?> codec : codecs) {
+            if (codec.typeId() < 0 || codec.typeId() > 0xFF || codecsById.put(codec.typeId(), codec) != null) {
+                throw new IllegalArgumentException("코덱 typeId 가 잘못되었거나 중복됩니다: " + codec.typeId());
+            }
+        }
+        this.fallback = fallback;
+        this.binaryWrites = binaryWrites;
+        this.compressionThresholdBytes = compressionThresholdBytes;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null || !binaryWrites) {
+            return fallback.serialize(value);
+        }
+
+        BinaryCodec<Object> codec = null;
+        for (BinaryCodec<?> candidate : codecs) {
+            if (candidate.supports(value)) {
+                codec = (BinaryCodec<Object>) candidate;
+                break;
+            }
+        }
+        if (codec == null) {
+            return fallback.serialize(value);
+        }
+
+        BinaryWriter body = new BinaryWriter(256);
+        codec.write(value, body);
+        byte[] payload = body.toByteArray();
+
+        boolean compress = compressionThresholdBytes > 0 && payload.length >= compressionThresholdBytes;
+        BinaryWriter out = new BinaryWriter(HEADER_SIZE + payload.length);
+        out.writeByte(MAGIC)
+                .writeByte(FORMAT_VERSION)
+                .writeByte(codec.typeId())
+                .writeByte(compress ? FLAG_DEFLATE : 0);
+        if (compress) {
+            out.writeVarLong(payload.length).writeBytes(deflate(payload));
+        } else {
+            out.writeBytes(payload);
+        }
+        return out.toByteArray();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if ((bytes[0] & 0xFF) != MAGIC) {
+            return fallback.deserialize(bytes);
+        }
+        if (bytes.length < HEADER_SIZE) {
+            throw new SerializationException("바이너리 캐시 값 헤더가 잘렸습니다");
+        }
+
+        int version = bytes[1] & 0xFF;
+        if (version != FORMAT_VERSION) {
+            throw new SerializationException("지원하지 않는 바이너리 캐시 포맷 버전입니다: " + version);
+        }
+        BinaryCodec<?> codec = codecsById.get(bytes[2] & 0xFF);
+        if (codec == null) {
+            throw new SerializationException("알 수 없는 바이너리 캐시 타입입니다: " + (bytes[2] & 0xFF));
+        }
+
+        BinaryReader reader = new BinaryReader(bytes, HEADER_SIZE);
+        if ((bytes[3] & FLAG_DEFLATE) != 0) {
+            int length = reader.readVarInt();
+            reader = new BinaryReader(inflate(bytes, HEADER_SIZE + varIntSize(length), length), 0);
+        }
+        return codec.read(reader);
+    }
+
+    private static byte[] deflate(byte[] payload) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(payload);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, payload.length / 2));
+            byte[] chunk = new byte[4096];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(chunk);
+                out.write(chunk, 0, written);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] bytes, int offset, int length) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(bytes, offset, bytes.length - offset);
+            byte[] result = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(result, read, length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) break;
+                read += n;
+            }
+            if (read != length) {
+                throw new SerializationException("압축된 캐시 값 길이가 헤더와 다릅니다");
+            }
+            return result;
+        } catch (DataFormatException e) {
+            throw new SerializationException("압축된 캐시 값을 풀 수 없습니다", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static int varIntSize(long value) {
+        int size = 1;
+        while ((value & ~0x7FL) != 0) {
+            value >>>= 7;
+            size++;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,58 @@
+package dev.promise4.GgUd.common.redis;
+
+import dev.promise4.GgUd.controller.dto.LocationUpdateMessage;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 실시간 위치 코덱 (location 해시 값)
+ * 사용자 ID, 닉네임, 프로필 URL, 위도, 경도, 시각(UTC 기준 epoch 초 + 나노초)
+ */
+public class LocationUpdateMessageCodec implements BinaryCodec<LocationUpdateMessage> {
+
+    @Override
+    public int typeId() {
+        return 3;
+    }
+
+    @Override
+    public boolean supports(Object value) {
+        return value instanceof LocationUpdateMessage;
+    }
+
+    @Override
+    public void write(LocationUpdateMessage value, BinaryWriter writer) {
+        writer.writeNullableLong(value.getUserId())
+                .writeString(value.getNickname())
+                .writeString(value.getProfileImageUrl())
+                .writeDouble(value.getLatitude())
+                .writeDouble(value.getLongitude());
+
+        LocalDateTime timestamp = value.getTimestamp();
+        if (timestamp == null) {
+            writer.writeByte(0);
+        } else {
+            writer.writeByte(1)
+                    .writeSignedVarLong(timestamp.toEpochSecond(ZoneOffset.UTC))
+                    .writeVarLong(timestamp.getNano());
+        }
+    }
+
+    @Override
+    public LocationUpdateMessage read(BinaryReader reader) {
+        LocationUpdateMessage.LocationUpdateMessageBuilder message = LocationUpdateMessage.builder()
+                .userId(reader.readNullableLong())
+                .nickname(reader.readString())
+                .profileImageUrl(reader.readString())
+                .latitude(reader.readDouble())
+                .longitude(reader.readDouble());
+
+        if (reader.readByte() == 1) {
+            long epochSecond = reader.readSignedVarLong();
+            int nanos = reader.readVarInt();
+            message.timestamp(LocalDateTime.ofEpochSecond(epochSecond, nanos, ZoneOffset.UTC));
+        }
+        return message.build();
+    }
+}
@@ -0,0 +1,42 @@
+package dev.promise4.GgUd.common.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.util.List;
+
+/**
+ * Redis 값 직렬화기 모음
+ */
+public final class RedisSerializers {
+
+    private RedisSerializers() {
+    }
+
+    /**
+     * 기존 형식: 클래스명을 포함한 JSON (default typing NON_FINAL)
+     */
+    public static GenericJackson2JsonRedisSerializer json() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.activateDefaultTyping(
+                objectMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL
+        );
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+
+    /**
+     * 길찾기 캐시, 지하철역 목록, 실시간 위치는 바이너리로, 그 외는 JSON 으로 저장
+     */
+    public static CompactRedisSerializer compact(boolean binaryWrites, int compressionThresholdBytes) {
+        return new CompactRedisSerializer(
+                List.of(new CachedDirectionsCodec(), new SubwayStationListCodec(), new LocationUpdateMessageCodec()),
+                json(),
+                binaryWrites,
+                compressionThresholdBytes);
+    }
+}
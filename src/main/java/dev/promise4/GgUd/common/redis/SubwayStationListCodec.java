@@ -0,0 +1,57 @@
+package dev.promise4.GgUd.common.redis;
+
+import dev.promise4.GgUd.entity.SubwayStation;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 지하철역 목록 코덱 (subwayStations 캐시)
+ * 역 수 → (ID, 역명, 노선명, 위도, 경도)
+ */
+public class SubwayStationListCodec implements BinaryCodec<List<SubwayStation>> {
+
+    @Override
+    public int typeId() {
+        return 2;
+    }
+
+    @Override
+    public boolean supports(Object value) {
+        if (!(value instanceof List<?> list) || list.isEmpty()) {
+            return false;
+        }
+        for (Object element : list) {
+            if (!(element instanceof SubwayStation)) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void write(List<SubwayStation> value, BinaryWriter writer) {
+        writer.writeVarLong(value.size());
+        for (SubwayStation station : value) {
+            writer.writeNullableLong(station.getId())
+                    .writeString(station.getStationName())
+                    .writeString(station.getLineName())
+                    .writeNullableDouble(station.getLatitude())
+                    .writeNullableDouble(station.getLongitude());
+        }
+    }
+
+    @Override
+    public List<SubwayStation> read(BinaryReader reader) {
+        int size = reader.readVarInt();
+        List<SubwayStation> stations = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            stations.add(SubwayStation.builder()
+                    .id(reader.readNullableLong())
+                    .stationName(reader.readString())
+                    .lineName(reader.readString())
+                    .latitude(reader.readNullableDouble())
+                    .longitude(reader.readNullableDouble())
+                    .build());
+        }
+        return stations;
+    }
+}
@@ -0,0 +1,37 @@
+package dev.promise4.GgUd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 도착 감지 및 도착 기록 write-behind 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.arrival")
+public class ArrivalProperties {
+
+    /**
+     * 도착 감지 반경 (미터)
+     */
+    private double radiusMeters = 100.0;
+
+    /**
+     * Redis 에 쌓인 도착 기록을 DB 에 반영하는 주기 (밀리초)
+     */
+    private long flushIntervalMillis = 1000;
+
+    /**
+     * 한 번에 DB 에 반영할 최대 도착 기록 수
+     */
+    private int flushBatchSize = 200;
+
+    /**
+     * 꺼낸 도착 기록을 처리 중으로 보는 시간 (밀리초)
+     * 이 시간 안에 DB 반영이 확정되지 않으면(인스턴스 종료·장애) 대기 목록으로 되돌려 다시 반영
+     */
+    private long claimTimeoutMillis = 60_000;
+}
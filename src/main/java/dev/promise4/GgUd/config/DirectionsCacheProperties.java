@@ -0,0 +1,36 @@
+package dev.promise4.GgUd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 길찾기 캐시 키 격자화 및 경로 좌표 저장 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.directions-cache")
+public class DirectionsCacheProperties {
+
+    /**
+     * 출발지 geohash 정밀도 (7 ≈ 150m 셀, 8 ≈ 38m × 19m 셀)
+     */
+    private int originPrecision = 7;
+
+    /**
+     * 도착지를 역 ID로 스냅하는 최대 거리 (m)
+     */
+    private double destinationSnapMeters = 100;
+
+    /**
+     * 역으로 스냅되지 않은 도착지의 geohash 정밀도
+     */
+    private int destinationPrecision = 8;
+
+    /**
+     * 캐시 저장 시 경로 좌표 Douglas–Peucker 단순화 허용 오차 (m, 0이면 단순화 없이 인코딩만)
+     */
+    private double geometryToleranceMeters = 1.0;
+}
@@ -0,0 +1,56 @@
+package dev.promise4.GgUd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 실시간 도착 예정 시간(ETA) 계산 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.eta")
+public class EtaProperties {
+
+    /**
+     * ETA 계산 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 참여자별 대중교통 소요 시간(TMap) 재조회 최소 간격 (초)
+     */
+    private long transitRefreshSeconds = 180;
+
+    /**
+     * 이전에 보낸 ETA 와 이 값 이상 차이 날 때만 전송 (초)
+     */
+    private long publishThresholdSeconds = 60;
+
+    /**
+     * 최근 이동 속도 지수 평활 계수 (0~1, 클수록 최근 속도 비중이 큼)
+     */
+    private double speedSmoothing = 0.3;
+
+    /**
+     * 이동 중으로 보는 최소 속도 (m/s), 이보다 느리면 속도 기반 ETA 를 쓰지 않음
+     */
+    private double minMovingSpeedMetersPerSecond = 0.5;
+
+    /**
+     * 대중교통 추정과 함께 쓸 때 속도 기반 ETA 비중 (0~1)
+     */
+    private double speedWeight = 0.3;
+
+    /**
+     * 대중교통 추정도 이동 속도도 없을 때 쓰는 도보 속도 (m/s)
+     */
+    private double fallbackSpeedMetersPerSecond = 1.2;
+
+    /**
+     * 참여자별 ETA 상태를 메모리에서 정리하는 유휴 시간 (초)
+     */
+    private long idleExpirySeconds = 600;
+}
@@ -0,0 +1,46 @@
+package dev.promise4.GgUd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 초대 코드 조회 캐시 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.invite-cache")
+public class InviteCacheProperties {
+
+    /**
+     * 초대 코드 → 약속 ID 캐시 사용 여부 (끄면 매번 DB 조회)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 없는 초대 코드 캐시 보관 시간 (초)
+     */
+    private long negativeTtlSeconds = 300;
+
+    /**
+     * 이미 만료된 초대 코드의 캐시 보관 시간 (초)
+     */
+    private long expiredTtlSeconds = 60;
+
+    /**
+     * 블룸 필터 비트 수 (기본 2^24 = 2MB, 약 100만 코드에서 오탐률 1% 미만)
+     */
+    private long bloomBits = 1L << 24;
+
+    /**
+     * 블룸 필터 해시 함수 수
+     */
+    private int bloomHashes = 7;
+
+    /**
+     * 블룸 필터 준비 상태 확인·재구성 주기 (밀리초)
+     */
+    private long bloomRebuildIntervalMillis = 60_000;
+}
@@ -0,0 +1,61 @@
+package dev.promise4.GgUd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 실시간 위치 수신 게이트 및 브로드캐스트 묶음 전송 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.location-gate")
+public class LocationGateProperties {
+
+    /**
+     * 게이트 사용 여부 (false 면 모든 위치를 반영)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 같은 참여자의 위치를 반영하는 최소 간격 (밀리초)
+     */
+    private long minIntervalMillis = 2000;
+
+    /**
+     * 빠르게 이동 중일 때의 최소 간격 (밀리초)
+     */
+    private long fastIntervalMillis = 1000;
+
+    /**
+     * 빠른 이동으로 보는 속도 (m/s), 직전 두 반영 위치로 추정
+     */
+    private double fastSpeedMetersPerSecond = 8.0;
+
+    /**
+     * 이 거리 미만으로 움직인 위치는 무시 (미터)
+     */
+    private double minDisplacementMeters = 10.0;
+
+    /**
+     * 움직이지 않아도 위치를 다시 반영하는 간격 (밀리초), 마지막 수신 시각 갱신용
+     */
+    private long heartbeatIntervalMillis = 30000;
+
+    /**
+     * 약속별로 위치 변경을 모아 한 번에 보내는 시간 창 (밀리초), 0 이면 즉시 전송
+     */
+    private long coalesceWindowMillis = 250;
+
+    /**
+     * 재연결한 클라이언트가 이어받을 수 있도록 약속별로 보관하는 최근 묶음 메시지 수
+     */
+    private int resumeBufferSize = 200;
+
+    /**
+     * 위치 수신이 없는 참여자의 게이트 상태 유지 시간 (초)
+     */
+    private long idleExpirySeconds = 600;
+}
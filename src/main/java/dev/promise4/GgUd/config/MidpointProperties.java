@@ -0,0 +1,76 @@
+package dev.promise4.GgUd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 중간지점 계산 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.midpoint")
+public class MidpointProperties {
+
+    /**
+     * 중간지점 계산 전략 (centroid, geometric-median, minimax)
+     */
+    private String strategy = "minimax";
+
+    /**
+     * 전략 1회 탐색 시간 예산 (밀리초)
+     */
+    private long searchBudgetMillis = 50;
+
+    /**
+     * 전략 1회 탐색 최대 역 수 (0이면 전체)
+     */
+    private int maxSearchStations = 0;
+
+    /**
+     * Weiszfeld 기하 중앙값 최대 반복 횟수
+     */
+    private int weiszfeldMaxIterations = 100;
+
+    /**
+     * 추천 조회 전체 시간 예산 (밀리초), 넘기면 남은 이동시간은 추정값 사용
+     */
+    private long recommendationTimeoutMillis = 3000;
+
+    /**
+     * 추천 조회 시 길찾기 API 동시 호출 수
+     */
+    private int directionsConcurrency = 16;
+
+    /**
+     * 지하철 평균 운행 속도 (km/h, 정차 시간 제외)
+     */
+    private double subwaySpeedKmh = 33.0;
+
+    /**
+     * 역마다 더하는 정차 시간 (초)
+     */
+    private int dwellSeconds = 30;
+
+    /**
+     * 같은 역 다른 노선 간 환승 시간 (분)
+     */
+    private int transferPenaltyMinutes = 4;
+
+    /**
+     * 같은 노선 인접역으로 인정하는 최대 직선거리 (km)
+     */
+    private double maxAdjacentStationKm = 4.0;
+
+    /**
+     * 도보 속도 (km/h)
+     */
+    private double walkingSpeedKmh = 4.5;
+
+    /**
+     * 출발지에서 탑승 후보로 보는 가까운 역 수
+     */
+    private int accessStationCount = 3;
+}
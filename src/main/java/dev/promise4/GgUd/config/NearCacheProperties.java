@@ -0,0 +1,44 @@
+package dev.promise4.GgUd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 로컬(힙) + Redis 2단계 캐시 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.near-cache")
+public class NearCacheProperties {
+
+    /**
+     * 로컬 캐시 계층 사용 여부 (false 면 Redis 캐시만 사용)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 로컬 계층을 두는 캐시 이름
+     */
+    private List<String> caches = new ArrayList<>(List.of("subwayStations", "users"));
+
+    /**
+     * 캐시별 로컬 최대 항목 수
+     */
+    private long maximumSize = 1000;
+
+    /**
+     * 로컬 항목 유지 시간 (초), 무효화 메시지 유실 시 최대 불일치 시간이기도 함
+     */
+    private long ttlSeconds = 60;
+
+    /**
+     * 인스턴스 간 로컬 캐시 무효화 Redis pub/sub 채널
+     */
+    private String invalidationChannel = "cache:invalidation";
+}
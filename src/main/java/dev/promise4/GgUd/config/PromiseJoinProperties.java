@@ -0,0 +1,23 @@
+package dev.promise4.GgUd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 약속 참여 처리 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.promise-join")
+public class PromiseJoinProperties {
+
+    /**
+     * 참여 처리 방식
+     * seat-counter: participant_count 조건부 UPDATE 로 좌석 확보 후 INSERT (약속 행 잠금 없이 검증)
+     * pessimistic-lock: 약속 행 SELECT ... FOR UPDATE 후 검증과 INSERT
+     */
+    private String strategy = "seat-counter";
+}
@@ -1,8 +1,10 @@
 package dev.promise4.GgUd.config;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import dev.promise4.GgUd.common.cache.TwoTierCacheManager;
+import dev.promise4.GgUd.common.redis.RedisSerializers;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -10,10 +12,14 @@ import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
@@ -24,17 +30,15 @@ import java.util.Map;
  */
 @Configuration
 @EnableCaching
+@RequiredArgsConstructor
 public class RedisConfig {
 
-    private GenericJackson2JsonRedisSerializer redisSerializer() {
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        objectMapper.activateDefaultTyping(
-                objectMapper.getPolymorphicTypeValidator(),
-                ObjectMapper.DefaultTyping.NON_FINAL
-        );
-        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    private final RedisSerializerProperties redisSerializerProperties;
+
+    private RedisSerializer<Object> compactSerializer() {
+        return RedisSerializers.compact(
+                redisSerializerProperties.isBinaryWrites(),
+                redisSerializerProperties.getCompressionThresholdBytes());
     }
 
     @Bean
@@ -42,7 +46,9 @@ public class RedisConfig {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
-        GenericJackson2JsonRedisSerializer serializer = redisSerializer();
+        RedisSerializer<Object> serializer = redisSerializerProperties.isTemplateBinary()
+                ? compactSerializer()
+                : RedisSerializers.json();
 
         template.setKeySerializer(new StringRedisSerializer());
         template.setHashKeySerializer(new StringRedisSerializer());
@@ -53,14 +59,53 @@ public class RedisConfig {
         return template;
     }
 
+    /**
+     * Redis 캐시 매니저, near-cache 가 켜져 있으면 지정 캐시에 로컬 계층을 씌운 2단계 캐시로 감쌈
+     */
+    @Bean
+    public CacheManager cacheManager(RedisConnectionFactory connectionFactory,
+                                     NearCacheProperties nearCacheProperties,
+                                     StringRedisTemplate stringRedisTemplate,
+                                     MeterRegistry meterRegistry) {
+        RedisCacheManager redisCacheManager = redisCacheManager(connectionFactory);
+        if (!nearCacheProperties.isEnabled()) {
+            return redisCacheManager;
+        }
+
+        return new TwoTierCacheManager(
+                redisCacheManager,
+                nearCacheProperties.getCaches(),
+                nearCacheProperties.getMaximumSize(),
+                Duration.ofSeconds(nearCacheProperties.getTtlSeconds()),
+                message -> stringRedisTemplate.convertAndSend(nearCacheProperties.getInvalidationChannel(), message),
+                meterRegistry);
+    }
+
+    /**
+     * 다른 인스턴스의 캐시 변경 시 로컬 계층 무효화 구독
+     */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory connectionFactory) {
+    public RedisMessageListenerContainer redisMessageListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                       NearCacheProperties nearCacheProperties,
+                                                                       CacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        if (cacheManager instanceof TwoTierCacheManager twoTierCacheManager) {
+            container.addMessageListener(
+                    (message, pattern) -> twoTierCacheManager.onInvalidationMessage(
+                            new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(nearCacheProperties.getInvalidationChannel()));
+        }
+        return container;
+    }
+
+    private RedisCacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofHours(1))
                 .serializeKeysWith(
                         RedisSerializationContext.SerializationPair.fromSerializer(new StringRedisSerializer()))
                 .serializeValuesWith(RedisSerializationContext.SerializationPair
-                        .fromSerializer(redisSerializer()));
+                        .fromSerializer(RedisSerializers.json()));
 
         // 캐시별 개별 설정
         Map<String, RedisCacheConfiguration> cacheConfigs = new HashMap<>();
@@ -77,9 +122,19 @@ public class RedisConfig {
         // 카카오 경로 정보: 1시간 캐싱
         cacheConfigs.put("directions", defaultConfig.entryTtl(Duration.ofHours(1)));
 
-        return RedisCacheManager.builder(connectionFactory)
+        // 지정 캐시는 바이너리 직렬화기 사용 (기존 JSON 값도 그대로 읽음)
+        RedisSerializationContext.SerializationPair<Object> compactValues =
+                RedisSerializationContext.SerializationPair.fromSerializer(compactSerializer());
+        for (String cacheName : redisSerializerProperties.getBinaryCaches()) {
+            cacheConfigs.put(cacheName,
+                    cacheConfigs.getOrDefault(cacheName, defaultConfig).serializeValuesWith(compactValues));
+        }
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigs)
                 .build();
+        redisCacheManager.initializeCaches();
+        return redisCacheManager;
     }
 }
@@ -0,0 +1,40 @@
+package dev.promise4.GgUd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Redis 값 직렬화 형식 설정 프로퍼티
+ * 바이너리 값은 헤더로 구분되므로 읽기는 항상 두 형식 모두 지원
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.redis-serializer")
+public class RedisSerializerProperties {
+
+    /**
+     * 바이너리 쓰기 사용 여부 (기본 꺼짐, 모든 인스턴스가 바이너리 읽기를 지원하도록 배포된 뒤에 켬)
+     */
+    private boolean binaryWrites = false;
+
+    /**
+     * 이 크기(바이트) 이상인 바이너리 본문은 Deflate 압축 (0이면 압축 안 함)
+     */
+    private int compressionThresholdBytes = 1024;
+
+    /**
+     * RedisTemplate 값(길찾기 캐시, 실시간 위치 해시 등)에 바이너리 직렬화기 사용
+     */
+    private boolean templateBinary = true;
+
+    /**
+     * 바이너리 직렬화기를 쓰는 Spring 캐시 이름
+     */
+    private List<String> binaryCaches = new ArrayList<>(List.of("subwayStations", "directions"));
+}
@@ -2,16 +2,16 @@ package dev.promise4.GgUd.config;
 
 import dev.promise4.GgUd.entity.SubwayStation;
 import dev.promise4.GgUd.repository.SubwayStationRepository;
+import dev.promise4.GgUd.service.station.SubwayStationCsvReader;
+import dev.promise4.GgUd.service.station.SubwayStationDataChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
-import org.springframework.core.io.ClassPathResource;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -24,51 +24,17 @@ import java.util.List;
 public class SubwayStationDataLoader implements ApplicationRunner {
 
     private final SubwayStationRepository subwayStationRepository;
-
-    private static final java.util.Map<String, String> INCHEON_LINE_NAME_MAP = java.util.Map.of(
-            "IN_1", "인천1호선",
-            "IN_2", "인천2호선"
-    );
+    private final ApplicationEventPublisher eventPublisher;
 
     private List<SubwayStation> loadFromCsv(String path, boolean isIncheon) throws Exception {
-        ClassPathResource resource = new ClassPathResource(path);
-        List<SubwayStation> stations = new ArrayList<>();
-
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(resource.getInputStream(), java.nio.charset.StandardCharsets.UTF_8))) {
-
-            String line;
-            boolean isHeader = true;
-
-            while ((line = reader.readLine()) != null) {
-                if (isHeader) { isHeader = false; continue; }
-
-                String[] fields = line.split(",");
-                if (fields.length < 6) continue;
-
-                try {
-                    String stationName = fields[3].trim();
-                    String rawLine = fields[1].trim();
-                    String lineName = isIncheon
-                            ? INCHEON_LINE_NAME_MAP.getOrDefault(rawLine, rawLine)
-                            : rawLine + "호선";
-                    double latitude = Double.parseDouble(fields[4].trim());
-                    double longitude = Double.parseDouble(fields[5].trim());
-
-                    stations.add(SubwayStation.builder()
-                            .stationName(stationName)
-                            .lineName(lineName)
-                            .latitude(latitude)
-                            .longitude(longitude)
-                            .build());
-                } catch (NumberFormatException e) {
-                    log.warn("Failed to parse line in {}: {}", path, line);
-                }
-            }
-        }
-
-        log.info("Loaded {} stations from {}", stations.size(), path);
-        return stations;
+        return SubwayStationCsvReader.read(path, isIncheon).stream()
+                .map(row -> SubwayStation.builder()
+                        .stationName(row.stationName())
+                        .lineName(row.lineName())
+                        .latitude(row.latitude())
+                        .longitude(row.longitude())
+                        .build())
+                .toList();
     }
 
     @Override
@@ -77,13 +43,13 @@ public class SubwayStationDataLoader implements ApplicationRunner {
         List<SubwayStation> toSave = new ArrayList<>();
 
         if (subwayStationRepository.findByLineName("1호선").isEmpty()) {
-            toSave.addAll(loadFromCsv("data/seoul_subway_stations.csv", false));
+            toSave.addAll(loadFromCsv(SubwayStationCsvReader.SEOUL_CSV_PATH, false));
         } else {
             log.info("Seoul subway data already loaded. Skipping...");
         }
 
         if (subwayStationRepository.findByLineName("인천1호선").isEmpty()) {
-            toSave.addAll(loadFromCsv("data/incheon_subway_stations.csv", true));
+            toSave.addAll(loadFromCsv(SubwayStationCsvReader.INCHEON_CSV_PATH, true));
         } else {
             log.info("Incheon subway data already loaded. Skipping...");
         }
@@ -91,6 +57,8 @@ public class SubwayStationDataLoader implements ApplicationRunner {
         if (!toSave.isEmpty()) {
             subwayStationRepository.saveAll(toSave);
             log.info("Loaded {} subway stations", toSave.size());
+            // 커밋 이후 역 공간 색인 재구성
+            eventPublisher.publishEvent(new SubwayStationDataChangedEvent(toSave.size()));
         }
     }
 }
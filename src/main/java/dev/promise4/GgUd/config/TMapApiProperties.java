@@ -15,4 +15,14 @@ public class TMapApiProperties {
     private String baseUrl = "https://apis.openapi.sk.com";
     private int connectTimeout = 5000;
     private int readTimeout = 10000;
+
+    /**
+     * 다중 인스턴스 배포 시 Redis 잠금으로 인스턴스 간 동일 요청도 병합
+     */
+    private boolean singleFlightRedisLock = false;
+
+    /**
+     * Redis 잠금 TTL 겸 다른 인스턴스 결과 최대 대기 시간 (밀리초)
+     */
+    private int singleFlightLockTimeout = 3000;
 }
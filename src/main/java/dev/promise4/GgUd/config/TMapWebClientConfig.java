@@ -1,5 +1,8 @@
 package dev.promise4.GgUd.config;
 
+import dev.promise4.GgUd.service.directions.CachedDirections;
+import dev.promise4.GgUd.service.directions.SingleFlight;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.netty.channel.ChannelOption;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
@@ -29,4 +32,12 @@ public class TMapWebClientConfig {
                 .defaultHeader("Content-Type", "application/json")
                 .build();
     }
+
+    /**
+     * 동일 출발/도착지 길찾기 동시 요청 병합
+     */
+    @Bean(name = "tMapDirectionsSingleFlight")
+    public SingleFlight<CachedDirections> tMapDirectionsSingleFlight(MeterRegistry meterRegistry) {
+        return new SingleFlight<>("tmap-directions", meterRegistry);
+    }
 }
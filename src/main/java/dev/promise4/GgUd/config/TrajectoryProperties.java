@@ -0,0 +1,36 @@
+package dev.promise4.GgUd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 이동 경로(궤적) 저장 설정 프로퍼티
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.trajectory")
+public class TrajectoryProperties {
+
+    /**
+     * 궤적 저장 사용 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 참여자별 궤적 샘플 간격 (초), 이 시간 안의 위치는 첫 위치만 저장
+     */
+    private long sampleIntervalSeconds = 10;
+
+    /**
+     * 참여자별 최대 보관 지점 수 (Redis Stream MAXLEN, 근사 trim)
+     */
+    private long maxPointsPerUser = 360;
+
+    /**
+     * 조회 가능한 최대 기간 (분)
+     */
+    private int maxQueryMinutes = 60;
+}
@@ -0,0 +1,35 @@
+package dev.promise4.GgUd.config;
+
+import dev.promise4.GgUd.common.messaging.RedisBroadcastTransport;
+import dev.promise4.GgUd.common.messaging.StompBrokerBackplane;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.MessageChannel;
+
+/**
+ * 다중 인스턴스 STOMP 브로드캐스트 백플레인 설정
+ * broker-mode 가 REDIS 일 때만 {@link WebSocketConfig} 가 꺼내 쓰므로 지연 생성
+ */
+@Configuration
+public class WebSocketBackplaneConfig {
+
+    @Bean
+    @Lazy
+    public StompBrokerBackplane stompBrokerBackplane(WebSocketBrokerProperties properties,
+                                                     StringRedisTemplate stringRedisTemplate,
+                                                     RedisMessageListenerContainer redisMessageListenerContainer,
+                                                     @Qualifier("brokerChannel") ObjectProvider<MessageChannel> brokerChannel,
+                                                     MeterRegistry meterRegistry) {
+        return new StompBrokerBackplane(
+                new RedisBroadcastTransport(stringRedisTemplate, redisMessageListenerContainer,
+                        properties.getBackplaneChannel()),
+                brokerChannel::getObject,
+                meterRegistry);
+    }
+}
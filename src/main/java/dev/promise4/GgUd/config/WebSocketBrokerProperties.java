@@ -0,0 +1,83 @@
+package dev.promise4.GgUd.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * STOMP 브로커 및 채널/전송 구성 프로퍼티
+ */
+@Getter
+@Setter
+@Configuration
+@ConfigurationProperties(prefix = "app.websocket")
+public class WebSocketBrokerProperties {
+
+    /**
+     * SIMPLE: 인스턴스 내 simple broker 만 사용 (단일 인스턴스)
+     * REDIS: simple broker + Redis pub/sub 백플레인으로 다른 인스턴스 구독자에게도 /topic 메시지 전달
+     */
+    private BrokerMode brokerMode = BrokerMode.SIMPLE;
+
+    /**
+     * 백플레인 Redis pub/sub 채널
+     */
+    private String backplaneChannel = "ws:broadcast";
+
+    /**
+     * 클라이언트 → 서버 메시지(위치 수신 등) 처리 executor
+     */
+    private ChannelExecutor inbound = new ChannelExecutor();
+
+    /**
+     * 서버 → 클라이언트 메시지 전송 executor
+     */
+    private ChannelExecutor outbound = new ChannelExecutor();
+
+    /**
+     * 세션 하나에 메시지 전송이 걸릴 수 있는 최대 시간 (밀리초), 넘기면 해당 세션만 종료
+     */
+    private int sendTimeLimitMillis = 10_000;
+
+    /**
+     * 세션별로 전송 대기 중인 메시지 최대 크기 (바이트), 넘기면 해당 세션만 종료
+     */
+    private int sendBufferSizeLimitBytes = 512 * 1024;
+
+    public enum BrokerMode {
+        SIMPLE, REDIS
+    }
+
+    public enum ExecutorMode {
+        /** 고정 크기 플랫폼 스레드 풀 */
+        POOL,
+        /** 메시지마다 가상 스레드 (JDK 21 이상에서 실행할 때만, 아니면 POOL 로 대체) */
+        VIRTUAL
+    }
+
+    @Getter
+    @Setter
+    public static class ChannelExecutor {
+
+        /**
+         * 실행 방식
+         */
+        private ExecutorMode mode = ExecutorMode.POOL;
+
+        /**
+         * POOL 스레드 수 (0 이면 CPU 코어 수 × 2)
+         */
+        private int poolSize = 0;
+
+        /**
+         * POOL 대기열 크기
+         */
+        private int queueCapacity = Integer.MAX_VALUE;
+
+        /**
+         * VIRTUAL 동시 실행 제한 (0 이면 제한 없음)
+         */
+        private int concurrencyLimit = 0;
+    }
+}
@@ -1,28 +1,78 @@
 package dev.promise4.GgUd.config;
 
+import dev.promise4.GgUd.common.messaging.InstrumentedChannelExecutor;
+import dev.promise4.GgUd.common.messaging.StompBrokerBackplane;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
 
 /**
  * WebSocket + STOMP 설정
+ * 클라이언트 inbound/outbound 채널 executor 는 설정값으로 구성하고 계측 래퍼로 감싸 대기열 길이·지연을 집계
+ * 느린 클라이언트 하나가 전체 브로드캐스트를 막지 않도록 세션별 전송 시간·버퍼 한도를 두고, 넘으면 그 세션만 종료
+ * 채널 executor 는 빈이 아니므로 직접 보관했다가 컨텍스트 종료 시 함께 종료
  */
+@Slf4j
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final WebSocketBrokerProperties brokerProperties;
+    private final ObjectProvider<StompBrokerBackplane> backplane;
+    private final MeterRegistry meterRegistry;
+    private final List<InstrumentedChannelExecutor> channelExecutors = new CopyOnWriteArrayList<>();
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
         // 클라이언트가 구독할 수 있는 브로커 prefix
         registry.enableSimpleBroker("/topic", "/queue");
 
+        // 다중 인스턴스: /topic 메시지를 Redis 백플레인으로 다른 인스턴스에도 전달
+        if (brokerProperties.getBrokerMode() == WebSocketBrokerProperties.BrokerMode.REDIS) {
+            registry.configureBrokerChannel().interceptors(backplane.getObject());
+            log.info("STOMP broker backplane enabled: channel={}", brokerProperties.getBackplaneChannel());
+        }
+
         // 클라이언트가 서버로 메시지를 보낼 때 사용하는 prefix
         registry.setApplicationDestinationPrefixes("/app");
 
         // 특정 사용자에게 메시지를 보낼 때 사용
         registry.setUserDestinationPrefix("/user");
+
+        // outbound executor 가 여러 스레드여도 세션별 전송 순서 유지 (위치 묶음 메시지 순번 역전 방지)
+        registry.setPreservePublishOrder(true);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.executor(channelExecutor("clientInbound", brokerProperties.getInbound()));
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        registration.executor(channelExecutor("clientOutbound", brokerProperties.getOutbound()));
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registry) {
+        registry.setSendTimeLimit(brokerProperties.getSendTimeLimitMillis());
+        registry.setSendBufferSizeLimit(brokerProperties.getSendBufferSizeLimitBytes());
     }
 
     @Override
@@ -32,4 +82,52 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*")
                 .withSockJS(); // SockJS fallback 활성화
     }
+
+    private InstrumentedChannelExecutor channelExecutor(String channel,
+                                                        WebSocketBrokerProperties.ChannelExecutor properties) {
+        Executor executor;
+        if (properties.getMode() == WebSocketBrokerProperties.ExecutorMode.VIRTUAL
+                && Runtime.version().feature() >= 21) {
+            SimpleAsyncTaskExecutor virtual = new SimpleAsyncTaskExecutor(channel + "-vt-");
+            virtual.setVirtualThreads(true);
+            if (properties.getConcurrencyLimit() > 0) {
+                virtual.setConcurrencyLimit(properties.getConcurrencyLimit());
+            }
+            executor = virtual;
+        } else {
+            if (properties.getMode() == WebSocketBrokerProperties.ExecutorMode.VIRTUAL) {
+                log.warn("Virtual threads require JDK 21+, falling back to thread pool: channel={}, jdk={}",
+                        channel, Runtime.version().feature());
+            }
+            int poolSize = properties.getPoolSize() > 0
+                    ? properties.getPoolSize()
+                    : Runtime.getRuntime().availableProcessors() * 2;
+            ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+            pool.setCorePoolSize(poolSize);
+            pool.setMaxPoolSize(poolSize);
+            pool.setQueueCapacity(properties.getQueueCapacity());
+            pool.setAllowCoreThreadTimeOut(true);
+            pool.setThreadNamePrefix(channel + "-");
+            pool.initialize();
+            executor = pool;
+        }
+
+        log.info("STOMP channel executor configured: channel={}, type={}",
+                channel, executor.getClass().getSimpleName());
+        InstrumentedChannelExecutor instrumented = new InstrumentedChannelExecutor(channel, executor, meterRegistry);
+        channelExecutors.add(instrumented);
+        return instrumented;
+    }
+
+    @PreDestroy
+    void shutdownChannelExecutors() {
+        for (InstrumentedChannelExecutor executor : channelExecutors) {
+            try {
+                executor.close();
+            } catch (Exception e) {
+                log.warn("Failed to shut down STOMP channel executor: {}", e.getMessage());
+            }
+        }
+        channelExecutors.clear();
+    }
 }
@@ -1,10 +1,11 @@
 package dev.promise4.GgUd.controller;
 
-import dev.promise4.GgUd.controller.dto.LocationUpdateMessage;
+import dev.promise4.GgUd.controller.dto.TrajectoryResponse;
 import dev.promise4.GgUd.entity.Participant;
 import dev.promise4.GgUd.repository.ParticipantRepository;
 import dev.promise4.GgUd.service.LocationTrackingService;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,11 +13,12 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
-import org.springframework.messaging.handler.annotation.SendTo;
 import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.security.Principal;
@@ -66,15 +68,29 @@ public class LocationTrackingController {
         ));
     }
 
+    /**
+     * 최근 이동 궤적 조회
+     * GET /api/v1/promises/{promiseId}/trajectories?minutes=10&toleranceMeters=0
+     */
+    @GetMapping("/{promiseId}/trajectories")
+    @Operation(summary = "이동 궤적 조회",
+            description = "최근 N분 동안의 참여자별 이동 궤적을 조회합니다. toleranceMeters 를 주면 경로를 단순화해 반환합니다. (참여자만 조회 가능)")
+    public ResponseEntity<TrajectoryResponse> getTrajectories(
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
+            @PathVariable Long promiseId,
+            @RequestParam(defaultValue = "10") int minutes,
+            @RequestParam(defaultValue = "0") double toleranceMeters) {
+        return ResponseEntity.ok(locationTrackingService.getTrajectories(promiseId, userId, minutes, toleranceMeters));
+    }
+
     /**
      * 위치 업데이트 수신 및 브로드캐스트
      * 
      * 클라이언트 → /app/promises/{promiseId}/location
-     * 서버 → /topic/promises/{promiseId}/locations
+     * 서버 → /topic/promises/{promiseId}/locations (참여자별 최신 위치를 묶은 LocationsDeltaMessage)
      */
     @MessageMapping("/promises/{promiseId}/location")
-    @SendTo("/topic/promises/{promiseId}/locations")
-    public LocationUpdateMessage updateLocation(
+    public void updateLocation(
             @DestinationVariable Long promiseId,
             @Payload LocationUpdateRequest request,
             SimpMessageHeaderAccessor headerAccessor) {
@@ -86,7 +102,7 @@ public class LocationTrackingController {
 
         Long userId = Long.parseLong(principal.getName());
 
-        return locationTrackingService.updateLocation(
+        locationTrackingService.updateLocation(
                 promiseId,
                 userId,
                 request.getLatitude(),
@@ -2,6 +2,7 @@ package dev.promise4.GgUd.controller;
 
 import dev.promise4.GgUd.controller.dto.Coordinate;
 import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+import dev.promise4.GgUd.controller.dto.GeometryFormat;
 import dev.promise4.GgUd.controller.dto.MapDataResponse;
 import dev.promise4.GgUd.service.TMapDirectionsService;
 import dev.promise4.GgUd.service.MapDataService;
@@ -50,7 +51,7 @@ public class MapDataController {
      * 길찾기 조회
      */
     @GetMapping("/directions")
-    @Operation(summary = "길찾기 조회", description = "현재 위치에서 약속 장소까지의 경로를 조회합니다.")
+    @Operation(summary = "길찾기 조회", description = "현재 위치에서 약속 장소까지의 경로를 조회합니다. geometry=ENCODED 이면 경로 좌표를 linestring 대신 encodedPolyline 으로 반환합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공", content = @Content(schema = @Schema(implementation = DirectionsResponse.class))),
             @ApiResponse(responseCode = "400", description = "경로 없음"),
@@ -61,14 +62,16 @@ public class MapDataController {
             @Parameter(description = "출발지 위도") @RequestParam double originLat,
             @Parameter(description = "출발지 경도") @RequestParam double originLon,
             @Parameter(description = "도착지 위도") @RequestParam double destLat,
-            @Parameter(description = "도착지 경도") @RequestParam double destLon) {
+            @Parameter(description = "도착지 경도") @RequestParam double destLon,
+            @Parameter(description = "경로 좌표 형식 (RAW: linestring, ENCODED: encodedPolyline)")
+            @RequestParam(defaultValue = "RAW") GeometryFormat geometry) {
 
         log.debug("GET /api/v1/promises/{}/directions", promiseId);
 
         Coordinate origin = Coordinate.of(originLat, originLon);
         Coordinate destination = Coordinate.of(destLat, destLon);
 
-        DirectionsResponse response = tMapDirectionsService.getDirections(origin, destination).block();
+        DirectionsResponse response = tMapDirectionsService.getDirections(origin, destination, geometry).block();
         return ResponseEntity.ok(response);
     }
 }
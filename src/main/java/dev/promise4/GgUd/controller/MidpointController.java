@@ -15,6 +15,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
 
 /**
  * 중간지점 추천 및 확정 API 컨트롤러
@@ -38,13 +39,13 @@ public class MidpointController {
             @ApiResponse(responseCode = "400", description = "출발지 미입력 또는 잘못된 상태"),
             @ApiResponse(responseCode = "401", description = "인증 필요")
     })
-    public ResponseEntity<MidpointRecommendationResponse> getRecommendations(
+    public Mono<ResponseEntity<MidpointRecommendationResponse>> getRecommendations(
             @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
             @PathVariable Long promiseId) {
 
         log.debug("GET /api/v1/promises/{}/midpoint/recommendations - userId: {}", promiseId, userId);
-        MidpointRecommendationResponse response = midpointService.getRecommendations(promiseId, userId);
-        return ResponseEntity.ok(response);
+        return midpointService.getRecommendations(promiseId, userId)
+                .map(ResponseEntity::ok);
     }
 
     /**
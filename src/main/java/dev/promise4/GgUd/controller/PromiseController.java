@@ -153,6 +153,56 @@ public class PromiseController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 내 약속 목록 커서 조회
+     */
+    @GetMapping("/cursor")
+    @Operation(summary = "내 약속 목록 커서 조회",
+            description = "내가 참여한 약속을 약속 일시 순으로 커서 페이지 조회합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 전달합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서 또는 페이지 크기"),
+            @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    public ResponseEntity<PromiseCursorResponse> getMyPromisesByCursor(
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
+            @Parameter(description = "상태 필터") @RequestParam(required = false) PromiseStatus status,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지면 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~50)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "정렬 방향 (asc: 이른 약속부터, desc: 늦은 약속부터)") @RequestParam(defaultValue = "desc") String order,
+            @Parameter(description = "전체 약속 수 포함 여부") @RequestParam(defaultValue = "false") boolean includeTotal) {
+
+        log.debug("GET /api/v1/promises/cursor - userId: {}, status: {}, order: {}", userId, status, order);
+        PromiseCursorResponse response = promiseService.getMyPromisesByCursor(
+                userId, status, cursor, size, "asc".equalsIgnoreCase(order), includeTotal);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 내 약속 검색
+     */
+    @GetMapping("/search")
+    @Operation(summary = "내 약속 검색",
+            description = "내가 참여한 약속을 제목과 참여자 닉네임으로 검색합니다. 부분 일치와 초성 검색(예: ㄱㄴㅇ)을 지원하며, 커서와 정렬은 커서 조회와 같습니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "검색 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 검색어, 커서 또는 페이지 크기"),
+            @ApiResponse(responseCode = "401", description = "인증 필요")
+    })
+    public ResponseEntity<PromiseCursorResponse> searchMyPromises(
+            @Parameter(hidden = true) @AuthenticationPrincipal Long userId,
+            @Parameter(description = "검색어 (1~50자)") @RequestParam String keyword,
+            @Parameter(description = "상태 필터") @RequestParam(required = false) PromiseStatus status,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지면 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~50)") @RequestParam(defaultValue = "20") int size,
+            @Parameter(description = "정렬 방향 (asc: 이른 약속부터, desc: 늦은 약속부터)") @RequestParam(defaultValue = "desc") String order) {
+
+        log.debug("GET /api/v1/promises/search - userId: {}, status: {}, order: {}", userId, status, order);
+        PromiseCursorResponse response = promiseService.searchMyPromises(
+                userId, keyword, status, cursor, size, "asc".equalsIgnoreCase(order));
+        return ResponseEntity.ok(response);
+    }
+
     /**
      * 약속 상세 조회
      */
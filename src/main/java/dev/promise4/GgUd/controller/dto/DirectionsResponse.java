@@ -68,6 +68,9 @@ public class DirectionsResponse {
 
         @Schema(description = "경로 좌표 문자열 (공백 구분, 'lon,lat' 형식) - 지도 폴리라인 표시용")
         private String linestring;
+
+        @Schema(description = "경로 좌표 Encoded Polyline (위도,경도 순, 정밀도 1e-5) - geometry=ENCODED 요청 시 linestring 대신 제공")
+        private String encodedPolyline;
     }
 
     public enum TransportType {
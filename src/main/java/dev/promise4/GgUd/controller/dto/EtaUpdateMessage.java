@@ -0,0 +1,38 @@
+package dev.promise4.GgUd.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 참여자 도착 예정 시간(ETA) 메시지 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "도착 예정 시간 메시지")
+public class EtaUpdateMessage {
+
+    @Schema(description = "사용자 ID", example = "1")
+    private Long userId;
+
+    @Schema(description = "닉네임", example = "홍길동")
+    private String nickname;
+
+    @Schema(description = "남은 소요 시간 (초)", example = "900")
+    private long etaSeconds;
+
+    @Schema(description = "약속 장소까지 직선거리 (m)", example = "3200")
+    private int remainingDistanceMeters;
+
+    @Schema(description = "도착 예정 시각")
+    private LocalDateTime estimatedArrivalTime;
+
+    @Schema(description = "타임스탬프")
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,10 @@
+package dev.promise4.GgUd.controller.dto;
+
+/**
+ * 길찾기 응답 경로 좌표 형식
+ * RAW: linestring ("lon,lat lon,lat ..."), ENCODED: encodedPolyline (Google Encoded Polyline)
+ */
+public enum GeometryFormat {
+    RAW,
+    ENCODED
+}
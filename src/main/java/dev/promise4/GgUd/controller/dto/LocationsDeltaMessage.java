@@ -0,0 +1,35 @@
+package dev.promise4.GgUd.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 위치 변경 묶음 메시지 DTO (/topic/promises/{promiseId}/locations)
+ * 짧은 시간 창 안에 바뀐 참여자 위치를 참여자당 최신 1건씩 모아 전송
+ * seq 는 약속별로 1씩 증가하므로 클라이언트는 건너뛴 번호로 유실을 감지하고 재구독 시 이어받기를 요청
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "위치 변경 묶음 메시지")
+public class LocationsDeltaMessage {
+
+    @Schema(description = "약속 ID", example = "1")
+    private Long promiseId;
+
+    @Schema(description = "약속별 순번", example = "42")
+    private long seq;
+
+    @Schema(description = "변경된 참여자 위치 목록")
+    private List<LocationUpdateMessage> locations;
+
+    @Schema(description = "전송 시간")
+    private LocalDateTime timestamp;
+}
@@ -0,0 +1,34 @@
+package dev.promise4.GgUd.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 위치 구독 시작 시 보내는 전체 위치 스냅샷 DTO (/user/queue/promises/{promiseId}/locations)
+ * 클라이언트는 seq 보다 큰 묶음 메시지만 이어서 적용
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "위치 스냅샷 메시지")
+public class LocationsSnapshotMessage {
+
+    @Schema(description = "약속 ID", example = "1")
+    private Long promiseId;
+
+    @Schema(description = "스냅샷 기준 순번 (이후 묶음 메시지는 seq + 1 부터)", example = "42")
+    private long seq;
+
+    @Schema(description = "참여자별 최신 위치 목록")
+    private List<LocationUpdateMessage> locations;
+
+    @Schema(description = "전송 시간")
+    private LocalDateTime timestamp;
+}
@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 /**
@@ -75,6 +76,12 @@ public class MapDataResponse {
 
         @Schema(description = "호스트 여부", example = "false")
         private boolean host;
+
+        @Schema(description = "남은 소요 시간 (초, 실시간 위치에만 있음)", example = "900")
+        private Long etaSeconds;
+
+        @Schema(description = "도착 예정 시각 (실시간 위치에만 있음)")
+        private LocalDateTime estimatedArrivalTime;
     }
 
     public enum MarkerType {
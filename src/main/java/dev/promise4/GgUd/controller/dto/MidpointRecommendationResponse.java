@@ -21,7 +21,10 @@ public class MidpointRecommendationResponse {
     @Schema(description = "계산된 중간지점 좌표")
     private Coordinate calculatedMidpoint;
 
-    @Schema(description = "추천 역 목록 (거리순)")
+    @Schema(description = "중간지점 계산 전략", example = "minimax")
+    private String strategy;
+
+    @Schema(description = "추천 역 목록 (전략 순위순)")
     private List<StationRecommendation> recommendedStations;
 
     @Schema(description = "참여자 수", example = "5")
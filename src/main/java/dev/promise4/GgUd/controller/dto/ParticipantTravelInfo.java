@@ -30,4 +30,7 @@ public class ParticipantTravelInfo {
 
     @Schema(description = "이동 거리 (m)", example = "8500")
     private int distanceMeters;
+
+    @Schema(description = "길찾기 실패/시간 초과로 역간 이동시간 행렬 추정값을 사용했는지", example = "false")
+    private boolean estimated;
 }
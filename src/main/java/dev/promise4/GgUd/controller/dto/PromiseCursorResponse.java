@@ -0,0 +1,32 @@
+package dev.promise4.GgUd.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 내 약속 목록 커서 페이지 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "내 약속 목록 커서 페이지 응답")
+public class PromiseCursorResponse {
+
+    @Schema(description = "약속 목록 (약속 일시, ID 순)")
+    private List<PromiseResponse> content;
+
+    @Schema(description = "다음 페이지 커서 (마지막 페이지면 null)")
+    private String nextCursor;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private boolean hasNext;
+
+    @Schema(description = "전체 약속 수 (includeTotal=true 일 때만)", example = "42")
+    private Long totalCount;
+}
@@ -46,6 +46,12 @@ public class StationRecommendation {
     @Schema(description = "평균 이동 시간 (분)", example = "30")
     private int averageTravelTimeMinutes;
 
+    @Schema(description = "최대 이동 시간 (분)", example = "42")
+    private int maxTravelTimeMinutes;
+
+    @Schema(description = "이동 시간 분산 (분^2, 작을수록 공평)", example = "64.0")
+    private double travelTimeVariance;
+
     public static StationRecommendation from(SubwayStation station, double distanceFromMidpoint, double avgDistance) {
         return StationRecommendation.builder()
                 .stationId(station.getId())
@@ -65,6 +71,14 @@ public class StationRecommendation {
                         .mapToInt(ParticipantTravelInfo::getTravelTimeMinutes)
                         .average()
                         .orElse(0);
+        int maxTravelTime = travelInfos.stream()
+                .mapToInt(ParticipantTravelInfo::getTravelTimeMinutes)
+                .max()
+                .orElse(0);
+        double variance = travelInfos.stream()
+                .mapToDouble(info -> Math.pow(info.getTravelTimeMinutes() - avgTravelTime, 2))
+                .average()
+                .orElse(0);
 
         return StationRecommendation.builder()
                 .stationId(station.getId())
@@ -76,6 +90,8 @@ public class StationRecommendation {
                 .averageDistanceFromParticipants(Math.round(avgDistance * 100.0) / 100.0)
                 .participantTravelInfos(travelInfos)
                 .averageTravelTimeMinutes(avgTravelTime)
+                .maxTravelTimeMinutes(maxTravelTime)
+                .travelTimeVariance(Math.round(variance * 10.0) / 10.0)
                 .build();
     }
 }
@@ -0,0 +1,64 @@
+package dev.promise4.GgUd.controller.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 참여자 이동 궤적 응답 DTO
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "참여자 이동 궤적 응답")
+public class TrajectoryResponse {
+
+    @Schema(description = "약속 ID", example = "1")
+    private Long promiseId;
+
+    @Schema(description = "조회 시작 시각")
+    private LocalDateTime since;
+
+    @Schema(description = "참여자별 궤적")
+    private List<ParticipantTrajectory> trajectories;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "참여자 궤적")
+    public static class ParticipantTrajectory {
+
+        @Schema(description = "사용자 ID", example = "1")
+        private Long userId;
+
+        @Schema(description = "닉네임", example = "홍길동")
+        private String nickname;
+
+        @Schema(description = "궤적 지점 (오래된 순)")
+        private List<Point> points;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "궤적 지점")
+    public static class Point {
+
+        @Schema(description = "위도", example = "37.5665")
+        private double latitude;
+
+        @Schema(description = "경도", example = "126.9780")
+        private double longitude;
+
+        @Schema(description = "기록 시각")
+        private LocalDateTime timestamp;
+    }
+}
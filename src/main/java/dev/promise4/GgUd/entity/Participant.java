@@ -16,7 +16,9 @@ import java.time.LocalDateTime;
         @Index(name = "idx_participants_promise_id", columnList = "promise_id"),
         @Index(name = "idx_participants_user_id", columnList = "user_id"),
         // 복합 인덱스: 약속별 출발지 제출 여부 조회 최적화
-        @Index(name = "idx_participants_promise_location", columnList = "promise_id, is_location_submitted")
+        @Index(name = "idx_participants_promise_location", columnList = "promise_id, is_location_submitted"),
+        // 복합 인덱스: 내 약속 목록 keyset 페이지 조회 (약속 일시, ID 순)
+        @Index(name = "idx_participants_user_schedule", columnList = "user_id, promise_date_time DESC, promise_id DESC")
 })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -59,6 +61,10 @@ public class Participant extends BaseTimeEntity {
     @Column(name = "arrived_at")
     private LocalDateTime arrivedAt;
 
+    // 약속 일시 복사본 (내 약속 목록 정렬용, 약속 일시는 생성 후 바뀌지 않음)
+    @Column(name = "promise_date_time", nullable = false)
+    private LocalDateTime promiseDateTime;
+
     /**
      * Builder 커스텀: joinedAt 자동 생성
      */
@@ -66,6 +72,13 @@ public class Participant extends BaseTimeEntity {
         private LocalDateTime joinedAt = LocalDateTime.now();
     }
 
+    @PrePersist
+    void copyPromiseDateTime() {
+        if (promiseDateTime == null && promise != null) {
+            promiseDateTime = promise.getPromiseDateTime();
+        }
+    }
+
     /**
      * 출발지 입력/수정
      */
@@ -54,6 +54,11 @@ public class Promise extends BaseTimeEntity {
     @Builder.Default
     private int maxParticipants = 10;
 
+    // 참여자 수 (참여 시 조건부 UPDATE 로 정원 안에서만 증가)
+    @Column(name = "participant_count", nullable = false)
+    @Builder.Default
+    private int participantCount = 0;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "host_id", nullable = false)
     private User host;
@@ -187,6 +192,13 @@ public class Promise extends BaseTimeEntity {
         this.status = PromiseStatus.CANCELLED;
     }
 
+    /**
+     * 참여자 수 증가 (약속 행 잠금을 잡은 참여 처리용)
+     */
+    public void increaseParticipantCount() {
+        this.participantCount++;
+    }
+
     /**
      * 정산 완료 여부
      */
@@ -0,0 +1,58 @@
+package dev.promise4.GgUd.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 약속 검색 문서 (참여자별 1행, 약속 제목 + 참여자 닉네임)
+ * 약속/참여자/사용자 원본에서 파생되는 값이라 PromiseSearchIndexer 만 갱신
+ * search_text 의 trigram GIN 인덱스는 마이그레이션(V8), 짧은 검색어용 search_tokens 인덱스는 V9 에서 생성
+ */
+@Entity
+@Table(name = "promise_search_documents", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_promise_search_user_promise", columnNames = { "user_id", "promise_id" })
+}, indexes = {
+        @Index(name = "idx_promise_search_promise_id", columnList = "promise_id")
+})
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PromiseSearchDocument {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "promise_id", nullable = false)
+    private Long promiseId;
+
+    // 검색 결과 조회용 (promise_id 컬럼은 위 필드로만 기록)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "promise_id", insertable = false, updatable = false)
+    private Promise promise;
+
+    // 약속 일시 복사본 (검색 결과 keyset 정렬용)
+    @Column(name = "promise_date_time", nullable = false)
+    private LocalDateTime promiseDateTime;
+
+    @Column(name = "search_text", nullable = false, columnDefinition = "TEXT")
+    private String searchText;
+
+    // 2자 이하 검색어용 토큰 문자열 (KoreanSearchText.tokens)
+    @Column(name = "search_tokens", nullable = false, columnDefinition = "TEXT")
+    private String searchTokens;
+
+    /**
+     * 검색 텍스트 갱신
+     */
+    public void updateSearchText(String searchText, String searchTokens) {
+        this.searchText = searchText;
+        this.searchTokens = searchTokens;
+    }
+}
@@ -1,11 +1,16 @@
 package dev.promise4.GgUd.repository;
 
 import dev.promise4.GgUd.entity.Participant;
+import dev.promise4.GgUd.entity.Promise;
+import dev.promise4.GgUd.entity.PromiseStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -52,6 +57,47 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
     @Query("SELECT p.promise.id FROM Participant p WHERE p.user.id = :userId")
     List<Long> findPromiseIdsByUserId(@Param("userId") Long userId);
 
+    /**
+     * 내 약속 목록 keyset 페이지 (약속 일시, ID 내림차순, 커서 다음부터)
+     * participants(user_id, promise_date_time, promise_id) 인덱스를 순서대로 읽고 약속은 PK 로 조인
+     */
+    @Query("SELECT p FROM Participant pt JOIN pt.promise p JOIN FETCH p.host " +
+            "WHERE pt.user.id = :userId " +
+            "AND (:status IS NULL OR p.status = :status) " +
+            "AND (pt.promiseDateTime < :cursorTime " +
+            "     OR (pt.promiseDateTime = :cursorTime AND pt.promise.id < :cursorId)) " +
+            "ORDER BY pt.promiseDateTime DESC, pt.promise.id DESC")
+    List<Promise> findMyPromisesBefore(@Param("userId") Long userId,
+                                       @Param("status") PromiseStatus status,
+                                       @Param("cursorTime") LocalDateTime cursorTime,
+                                       @Param("cursorId") Long cursorId,
+                                       Pageable pageable);
+
+    /**
+     * 내 약속 목록 keyset 페이지 (약속 일시, ID 오름차순, 커서 다음부터)
+     */
+    @Query("SELECT p FROM Participant pt JOIN pt.promise p JOIN FETCH p.host " +
+            "WHERE pt.user.id = :userId " +
+            "AND (:status IS NULL OR p.status = :status) " +
+            "AND (pt.promiseDateTime > :cursorTime " +
+            "     OR (pt.promiseDateTime = :cursorTime AND pt.promise.id > :cursorId)) " +
+            "ORDER BY pt.promiseDateTime ASC, pt.promise.id ASC")
+    List<Promise> findMyPromisesAfter(@Param("userId") Long userId,
+                                      @Param("status") PromiseStatus status,
+                                      @Param("cursorTime") LocalDateTime cursorTime,
+                                      @Param("cursorId") Long cursorId,
+                                      Pageable pageable);
+
+    /**
+     * 내 약속 수 (참여자 인덱스만으로 집계)
+     */
+    long countByUserId(Long userId);
+
+    /**
+     * 상태별 내 약속 수
+     */
+    long countByUserIdAndPromiseStatus(Long userId, PromiseStatus status);
+
     /**
      * 약속의 모든 참여자가 출발지를 입력했는지 확인
      */
@@ -75,6 +121,15 @@ public interface ParticipantRepository extends JpaRepository<Participant, Long>
      */
     long countByPromiseIdAndArrivedAtIsNotNull(Long promiseId);
 
+    /**
+     * 도착 시각 기록 (이미 도착한 참여자는 변경하지 않음)
+     */
+    @Modifying
+    @Query("UPDATE Participant p SET p.arrivedAt = :arrivedAt " +
+            "WHERE p.promise.id = :promiseId AND p.user.id = :userId AND p.arrivedAt IS NULL")
+    int markArrivedIfAbsent(@Param("promiseId") Long promiseId, @Param("userId") Long userId,
+                            @Param("arrivedAt") LocalDateTime arrivedAt);
+
     /**
      * 여러 약속의 참여자 수 일괄 조회 (N+1 방지)
      * returns: [promiseId, count] 쌍의 배열 목록
@@ -34,6 +34,29 @@ public interface PromiseRepository extends JpaRepository<Promise, Long> {
     @Query("SELECT p FROM Promise p WHERE p.inviteCode = :inviteCode")
     Optional<Promise> findByInviteCodeWithLock(@Param("inviteCode") String inviteCode);
 
+    /**
+     * 약속 ID로 조회 + Pessimistic Lock (같은 약속의 검색 문서 재색인 직렬화용)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Promise p WHERE p.id = :id")
+    Optional<Promise> findByIdWithLock(@Param("id") Long id);
+
+    /**
+     * 정원이 남아 있으면 참여자 수를 1 증가시키고 증가된 값 반환 (정원이 찼으면 empty)
+     * 조건 검사와 증가가 한 문장이라 별도 잠금 없이 정원을 넘지 않음
+     * 갱신한 행 잠금은 트랜잭션 끝까지 유지되므로 참여자 INSERT 직전에 호출
+     */
+    @Query(value = "UPDATE promises SET participant_count = participant_count + 1 " +
+            "WHERE id = :id AND participant_count < max_participants " +
+            "RETURNING participant_count", nativeQuery = true)
+    Optional<Integer> reserveSeat(@Param("id") Long id);
+
+    /**
+     * 취소되지 않은 약속의 초대 코드 전체 (초대 코드 블룸 필터 재구성용)
+     */
+    @Query("SELECT p.inviteCode FROM Promise p WHERE p.status <> 'CANCELLED'")
+    List<String> findActiveInviteCodes();
+
     /**
      * 호스트 ID로 약속 목록 조회
      */
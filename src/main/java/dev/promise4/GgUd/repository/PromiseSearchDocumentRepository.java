@@ -0,0 +1,108 @@
+package dev.promise4.GgUd.repository;
+
+import dev.promise4.GgUd.entity.Promise;
+import dev.promise4.GgUd.entity.PromiseSearchDocument;
+import dev.promise4.GgUd.entity.PromiseStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * PromiseSearchDocument Repository
+ */
+@Repository
+public interface PromiseSearchDocumentRepository extends JpaRepository<PromiseSearchDocument, Long> {
+
+    /**
+     * 약속의 검색 문서 목록 (참여자별)
+     */
+    List<PromiseSearchDocument> findByPromiseId(Long promiseId);
+
+    /**
+     * 약속의 검색 문서 삭제 (약속이 사라진 경우)
+     */
+    @Modifying
+    @Query("DELETE FROM PromiseSearchDocument d WHERE d.promiseId = :promiseId")
+    int deleteByPromiseId(@Param("promiseId") Long promiseId);
+
+    /**
+     * 내 약속 검색 keyset 페이지 (약속 일시, ID 내림차순, 커서 다음부터)
+     * (user_id, search_text) trigram GIN 인덱스로 일치하는 문서만 찾은 뒤 정렬
+     *
+     * @param pattern LIKE 패턴 (KoreanSearchText.likePattern, 이스케이프 문자 '\')
+     */
+    @Query("SELECT p FROM PromiseSearchDocument d JOIN d.promise p JOIN FETCH p.host " +
+            "WHERE d.userId = :userId " +
+            "AND d.searchText LIKE :pattern ESCAPE '\\' " +
+            "AND (:status IS NULL OR p.status = :status) " +
+            "AND (d.promiseDateTime < :cursorTime " +
+            "     OR (d.promiseDateTime = :cursorTime AND d.promiseId < :cursorId)) " +
+            "ORDER BY d.promiseDateTime DESC, d.promiseId DESC")
+    List<Promise> searchMyPromisesBefore(@Param("userId") Long userId,
+                                         @Param("pattern") String pattern,
+                                         @Param("status") PromiseStatus status,
+                                         @Param("cursorTime") LocalDateTime cursorTime,
+                                         @Param("cursorId") Long cursorId,
+                                         Pageable pageable);
+
+    /**
+     * 내 약속 검색 keyset 페이지 (약속 일시, ID 오름차순, 커서 다음부터)
+     */
+    @Query("SELECT p FROM PromiseSearchDocument d JOIN d.promise p JOIN FETCH p.host " +
+            "WHERE d.userId = :userId " +
+            "AND d.searchText LIKE :pattern ESCAPE '\\' " +
+            "AND (:status IS NULL OR p.status = :status) " +
+            "AND (d.promiseDateTime > :cursorTime " +
+            "     OR (d.promiseDateTime = :cursorTime AND d.promiseId > :cursorId)) " +
+            "ORDER BY d.promiseDateTime ASC, d.promiseId ASC")
+    List<Promise> searchMyPromisesAfter(@Param("userId") Long userId,
+                                        @Param("pattern") String pattern,
+                                        @Param("status") PromiseStatus status,
+                                        @Param("cursorTime") LocalDateTime cursorTime,
+                                        @Param("cursorId") Long cursorId,
+                                        Pageable pageable);
+
+    /**
+     * 짧은 검색어(2자 이하) 내 약속 검색 keyset 페이지 (약속 일시, ID 내림차순, 커서 다음부터)
+     * 3자 미만 LIKE 패턴은 trigram 이 없어 search_text 인덱스가 사용자 범위로만 좁히므로,
+     * (user_id, search_tokens) trigram GIN 인덱스에서 단어 단위로 찾음
+     *
+     * @param tokenPattern 토큰 LIKE 패턴 (KoreanSearchText.tokenPattern)
+     */
+    @Query("SELECT p FROM PromiseSearchDocument d JOIN d.promise p JOIN FETCH p.host " +
+            "WHERE d.userId = :userId " +
+            "AND d.searchTokens LIKE :tokenPattern " +
+            "AND (:status IS NULL OR p.status = :status) " +
+            "AND (d.promiseDateTime < :cursorTime " +
+            "     OR (d.promiseDateTime = :cursorTime AND d.promiseId < :cursorId)) " +
+            "ORDER BY d.promiseDateTime DESC, d.promiseId DESC")
+    List<Promise> searchMyPromisesByTokenBefore(@Param("userId") Long userId,
+                                                @Param("tokenPattern") String tokenPattern,
+                                                @Param("status") PromiseStatus status,
+                                                @Param("cursorTime") LocalDateTime cursorTime,
+                                                @Param("cursorId") Long cursorId,
+                                                Pageable pageable);
+
+    /**
+     * 짧은 검색어(2자 이하) 내 약속 검색 keyset 페이지 (약속 일시, ID 오름차순, 커서 다음부터)
+     */
+    @Query("SELECT p FROM PromiseSearchDocument d JOIN d.promise p JOIN FETCH p.host " +
+            "WHERE d.userId = :userId " +
+            "AND d.searchTokens LIKE :tokenPattern " +
+            "AND (:status IS NULL OR p.status = :status) " +
+            "AND (d.promiseDateTime > :cursorTime " +
+            "     OR (d.promiseDateTime = :cursorTime AND d.promiseId > :cursorId)) " +
+            "ORDER BY d.promiseDateTime ASC, d.promiseId ASC")
+    List<Promise> searchMyPromisesByTokenAfter(@Param("userId") Long userId,
+                                               @Param("tokenPattern") String tokenPattern,
+                                               @Param("status") PromiseStatus status,
+                                               @Param("cursorTime") LocalDateTime cursorTime,
+                                               @Param("cursorId") Long cursorId,
+                                               Pageable pageable);
+}
@@ -5,8 +5,10 @@ import dev.promise4.GgUd.entity.Promise;
 import dev.promise4.GgUd.entity.PromiseStatus;
 import dev.promise4.GgUd.repository.ParticipantRepository;
 import dev.promise4.GgUd.repository.PromiseRepository;
+import dev.promise4.GgUd.service.event.PromiseStatusChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +30,7 @@ public class PromiseScheduler {
 
     private final PromiseRepository promiseRepository;
     private final ParticipantRepository participantRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * PLACE_CONFIRMED 상태 약속 → IN_PROGRESS 자동 전환
@@ -45,6 +48,7 @@ public class PromiseScheduler {
         for (Promise promise : promisesToStart) {
             try {
                 promise.startProgress();
+                eventPublisher.publishEvent(new PromiseStatusChangedEvent(promise.getId(), promise.getStatus()));
                 log.info("Promise auto-started: promiseId={}, title={}, promiseDateTime={}",
                         promise.getId(), promise.getTitle(), promise.getPromiseDateTime());
             } catch (Exception e) {
@@ -3,9 +3,9 @@ package dev.promise4.GgUd.service;
 import dev.promise4.GgUd.client.KakaoApiClient;
 import dev.promise4.GgUd.controller.dto.Coordinate;
 import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+import dev.promise4.GgUd.service.directions.QuantizedDirectionsCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
@@ -25,9 +25,10 @@ public class KakaoDirectionsService {
 
     private static final String DIRECTIONS_CACHE_PREFIX = "directions:";
     private static final Duration DIRECTIONS_CACHE_TTL = Duration.ofHours(1);
+    private static final String CACHE_PROVIDER = "kakao";
 
     private final KakaoApiClient kakaoApiClient;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final QuantizedDirectionsCache directionsCache;
 
     /**
      * 대중교통 경로 조회 (Redis 캐시 적용)
@@ -39,7 +40,7 @@ public class KakaoDirectionsService {
         String cacheKey = generateCacheKey(origin, destination);
 
         // 캐시에서 먼저 조회
-        DirectionsResponse cached = getCachedDirections(cacheKey);
+        DirectionsResponse cached = directionsCache.get(CACHE_PROVIDER, cacheKey, origin);
         if (cached != null) {
             log.debug("Directions cache hit: {}", cacheKey);
             return Mono.just(cached);
@@ -51,7 +52,7 @@ public class KakaoDirectionsService {
 
         return kakaoApiClient.getDirections(uri, Map.class)
                 .map(this::parseDirectionsResponse)
-                .doOnNext(response -> cacheDirections(cacheKey, response))
+                .doOnNext(response -> directionsCache.put(cacheKey, origin, response, DIRECTIONS_CACHE_TTL))
                 .onErrorResume(e -> {
                     log.error("Failed to get directions: {}", e.getMessage());
                     return Mono.just(DirectionsResponse.builder()
@@ -61,42 +62,10 @@ public class KakaoDirectionsService {
     }
 
     /**
-     * 캐시 키 생성 (출발지-도착지 좌표 기반)
+     * 캐시 키 생성 (출발지 격자 + 도착역 기반)
      */
     private String generateCacheKey(Coordinate origin, Coordinate destination) {
-        return String.format("%s%.4f:%.4f:%.4f:%.4f",
-                DIRECTIONS_CACHE_PREFIX,
-                origin.getLatitude(), origin.getLongitude(),
-                destination.getLatitude(), destination.getLongitude());
-    }
-
-    /**
-     * 캐시에서 경로 정보 조회
-     */
-    private DirectionsResponse getCachedDirections(String cacheKey) {
-        try {
-            Object cached = redisTemplate.opsForValue().get(cacheKey);
-            if (cached instanceof DirectionsResponse) {
-                return (DirectionsResponse) cached;
-            }
-        } catch (Exception e) {
-            log.warn("Failed to get cached directions: {}", e.getMessage());
-        }
-        return null;
-    }
-
-    /**
-     * 경로 정보 캐시에 저장
-     */
-    private void cacheDirections(String cacheKey, DirectionsResponse response) {
-        try {
-            if (response.getRouteOptions() != null && !response.getRouteOptions().isEmpty()) {
-                redisTemplate.opsForValue().set(cacheKey, response, DIRECTIONS_CACHE_TTL);
-                log.debug("Directions cached: {}", cacheKey);
-            }
-        } catch (Exception e) {
-            log.warn("Failed to cache directions: {}", e.getMessage());
-        }
+        return directionsCache.key(DIRECTIONS_CACHE_PREFIX, origin, destination);
     }
 
     /**
@@ -1,26 +1,35 @@
 package dev.promise4.GgUd.service;
 
+import dev.promise4.GgUd.config.TrajectoryProperties;
+import dev.promise4.GgUd.controller.dto.EtaUpdateMessage;
 import dev.promise4.GgUd.controller.dto.LocationUpdateMessage;
 import dev.promise4.GgUd.controller.dto.ParticipantLocationResponse;
-import dev.promise4.GgUd.entity.Participant;
-import dev.promise4.GgUd.entity.Promise;
-import dev.promise4.GgUd.entity.PromiseStatus;
-import dev.promise4.GgUd.entity.User;
-import dev.promise4.GgUd.repository.ParticipantRepository;
-import dev.promise4.GgUd.repository.PromiseRepository;
-import dev.promise4.GgUd.repository.UserRepository;
+import dev.promise4.GgUd.controller.dto.TrajectoryResponse;
+import dev.promise4.GgUd.service.tracking.ArrivalResult;
+import dev.promise4.GgUd.service.tracking.LiveEtaEngine;
+import dev.promise4.GgUd.service.tracking.LocationBroadcastCoalescer;
+import dev.promise4.GgUd.service.tracking.LocationGate;
+import dev.promise4.GgUd.service.tracking.RedisLocationStore;
+import dev.promise4.GgUd.service.tracking.TrackingSession;
+import dev.promise4.GgUd.service.tracking.TrackingSessionCache;
+import dev.promise4.GgUd.service.tracking.TrajectoryPoint;
+import dev.promise4.GgUd.service.tracking.TrajectorySimplifier;
+import dev.promise4.GgUd.service.tracking.TrajectoryStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 /**
  * 실시간 위치 추적 서비스
@@ -31,109 +40,115 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class LocationTrackingService {
 
-    private final PromiseRepository promiseRepository;
-    private final UserRepository userRepository;
-    private final ParticipantRepository participantRepository;
+    // 마지막 ETA 보관 기간 (위치 데이터와 동일)
+    private static final Duration ETA_TTL = Duration.ofHours(2);
+
+    private final TrackingSessionCache trackingSessionCache;
+    private final LocationGate locationGate;
+    private final LocationBroadcastCoalescer broadcastCoalescer;
+    private final RedisLocationStore locationStore;
+    private final TrajectoryStore trajectoryStore;
+    private final TrajectoryProperties trajectoryProperties;
+    private final LiveEtaEngine liveEtaEngine;
     private final RedisTemplate<String, Object> redisTemplate;
     private final SimpMessagingTemplate messagingTemplate;
 
-    // Redis Key 패턴: location:promise:{promiseId}
-    private static final String LOCATION_KEY_PREFIX = "location:promise:";
-    // 위치 데이터 TTL: 2시간 (약속 종료 후 자동 삭제)
-    private static final Duration LOCATION_TTL = Duration.ofHours(2);
-    // 도착 감지 반경 (미터)
-    private static final double ARRIVAL_RADIUS_METERS = 100.0;
-
     /**
      * 위치 업데이트 및 도착 감지
+     * 약속/참여자 정보는 추적 세션 캐시에서 읽고 도착 기록은 write-behind 로 반영하므로 DB 를 사용하지 않음
+     * 세션·참여자 검증을 통과한 위치만 게이트에 적용하고, 걸러진 위치는 저장·브로드캐스트하지 않으며 반영된 위치는 약속별로 묶어 전송
+     *
+     * @return 반영된 위치 (게이트에서 걸러지면 empty)
      */
-    @Transactional
-    public LocationUpdateMessage updateLocation(Long promiseId, Long userId, double latitude, double longitude) {
-        Promise promise = promiseRepository.findById(promiseId)
-                .orElseThrow(() -> new IllegalArgumentException("약속을 찾을 수 없습니다"));
+    public Optional<LocationUpdateMessage> updateLocation(Long promiseId, Long userId, double latitude, double longitude) {
+        TrackingSession session = trackingSessionCache.get(promiseId);
 
-        if (!isTrackingAllowed(promise)) {
-            throw new IllegalStateException("위치 공유가 허용되지 않는 상태입니다: " + promise.getStatus());
+        if (!session.allowsTracking()) {
+            throw new IllegalStateException("위치 공유가 허용되지 않는 상태입니다: " + session.getStatus());
         }
 
-        if (!isWithinTrackingWindow(promise)) {
+        if (!session.trackingStarted(LocalDateTime.now())) {
             throw new IllegalStateException("위치 공유는 약속 시간 1시간 전부터 가능합니다");
         }
 
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
-
-        LocationUpdateMessage location = LocationUpdateMessage.of(userId, user.getNickname(), user.getProfileImageUrl(), latitude, longitude);
+        TrackingSession.TrackingParticipant participant = session.participant(userId);
+        if (participant == null) {
+            throw new IllegalStateException("약속 참여자만 위치를 공유할 수 있습니다");
+        }
 
-        // Redis Hash에 저장
-        String key = LOCATION_KEY_PREFIX + promiseId;
-        redisTemplate.opsForHash().put(key, userId.toString(), location);
-        redisTemplate.expire(key, LOCATION_TTL);
+        // 거부될 요청이 게이트의 마지막 반영 위치·시간을 갱신하지 않도록 검증을 통과한 뒤에 적용
+        if (!locationGate.accept(promiseId, userId, latitude, longitude, System.currentTimeMillis())) {
+            return Optional.empty();
+        }
 
-        // IN_PROGRESS 상태이고 약속 장소가 확정된 경우 도착 감지
-        if (promise.getStatus() == PromiseStatus.IN_PROGRESS
-                && promise.getConfirmedLatitude() != null
-                && promise.getConfirmedLongitude() != null) {
-            checkAndMarkArrival(promise, userId, latitude, longitude);
+        LocationUpdateMessage location = LocationUpdateMessage.of(
+                userId, participant.getNickname(), participant.getProfileImageUrl(), latitude, longitude);
+
+        // 위치 저장과 도착 판정을 Redis 스크립트 한 번으로 처리 (IN_PROGRESS 이고 약속 장소가 확정된 경우만 도착 판정)
+        long nowMillis = System.currentTimeMillis();
+        ArrivalResult arrival = locationStore.save(session, location, nowMillis);
+        if (arrival.newlyArrived()) {
+            broadcastArrival(promiseId, participant, arrival);
+            liveEtaEngine.arrived(promiseId, userId);
+        } else if (!arrival.alreadyArrived()) {
+            // 이미 도착한 참여자는 세션 캐시가 갱신되기 전이라도 ETA 를 다시 계산·전송하지 않음
+            liveEtaEngine.update(session, participant, latitude, longitude, nowMillis)
+                    .ifPresent(eta -> broadcastEta(promiseId, eta));
         }
+        trajectoryStore.append(promiseId, userId, latitude, longitude, nowMillis);
 
-        return location;
+        broadcastCoalescer.submit(promiseId, location);
+        return Optional.of(location);
     }
 
     /**
-     * 도착 감지 및 처리
+     * 도착 이벤트 WebSocket 브로드캐스트
      */
-    private void checkAndMarkArrival(Promise promise, Long userId, double latitude, double longitude) {
-        double distance = calculateDistance(
-                latitude, longitude,
-                promise.getConfirmedLatitude(), promise.getConfirmedLongitude());
-
-        if (distance > ARRIVAL_RADIUS_METERS) return;
-
-        Participant participant = participantRepository
-                .findByPromiseIdAndUserId(promise.getId(), userId)
-                .orElse(null);
-
-        if (participant == null || participant.isArrived()) return;
-
-        participant.markAsArrived();
-
-        long arrivedCount = participantRepository.countByPromiseIdAndArrivedAtIsNotNull(promise.getId());
-        long totalCount = participantRepository.countByPromiseId(promise.getId());
-
-        // 도착 이벤트 WebSocket 브로드캐스트
+    private void broadcastArrival(Long promiseId, TrackingSession.TrackingParticipant participant,
+                                  ArrivalResult arrival) {
         Map<String, Object> arrivalEvent = Map.of(
-                "userId", userId,
-                "nickname", participant.getUser().getNickname(),
-                "arrivedCount", arrivedCount,
-                "totalCount", totalCount
+                "userId", participant.getUserId(),
+                "nickname", participant.getNickname(),
+                "arrivedCount", arrival.arrivedCount(),
+                "totalCount", arrival.totalCount()
         );
         messagingTemplate.convertAndSend(
-                "/topic/promises/" + promise.getId() + "/arrivals", arrivalEvent);
+                "/topic/promises/" + promiseId + "/arrivals", arrivalEvent);
 
-        log.info("Arrival detected: promiseId={}, userId={}, distance={}m, arrivedCount={}/{}",
-                promise.getId(), userId, (int) distance, arrivedCount, totalCount);
+        log.info("Arrival detected: promiseId={}, userId={}, arrivedCount={}/{}",
+                promiseId, participant.getUserId(), arrival.arrivedCount(), arrival.totalCount());
     }
 
     /**
-     * Haversine 공식으로 두 좌표 간 거리 계산 (미터)
+     * ETA 변경 WebSocket 브로드캐스트 (지도 조회용으로 참여자별 마지막 값을 Redis 에 보관)
      */
-    private double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
-        final int R = 6371000;
-        double dLat = Math.toRadians(lat2 - lat1);
-        double dLon = Math.toRadians(lon2 - lon1);
-        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
-                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
-                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
-        double c = 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
-        return R * c;
+    private void broadcastEta(Long promiseId, EtaUpdateMessage eta) {
+        String key = LiveEtaEngine.etaKey(promiseId);
+        redisTemplate.opsForHash().put(key, eta.getUserId().toString(), eta);
+        redisTemplate.expire(key, ETA_TTL);
+        messagingTemplate.convertAndSend("/topic/promises/" + promiseId + "/etas", eta);
+    }
+
+    /**
+     * 참여자별 마지막 ETA (사용자 ID → ETA)
+     */
+    public Map<Long, EtaUpdateMessage> getEtas(Long promiseId) {
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(LiveEtaEngine.etaKey(promiseId));
+
+        Map<Long, EtaUpdateMessage> etas = new HashMap<>();
+        for (Object value : entries.values()) {
+            if (value instanceof EtaUpdateMessage eta) {
+                etas.put(eta.getUserId(), eta);
+            }
+        }
+        return etas;
     }
 
     /**
      * 참여자 위치 목록 조회
      */
     public ParticipantLocationResponse getParticipantLocations(Long promiseId) {
-        String key = LOCATION_KEY_PREFIX + promiseId;
+        String key = RedisLocationStore.locationKey(promiseId);
         Map<Object, Object> entries = redisTemplate.opsForHash().entries(key);
 
         List<LocationUpdateMessage> locations = new ArrayList<>();
@@ -151,28 +166,60 @@ public class LocationTrackingService {
     }
 
     /**
-     * 약속 종료 시 위치 데이터 삭제
+     * 최근 이동 궤적 조회 (해당 약속의 참여자만 조회 가능)
+     *
+     * @param minutes         조회 기간 (분, 최대 app.trajectory.max-query-minutes)
+     * @param toleranceMeters 0보다 크면 Douglas–Peucker 단순화 허용 오차 (m)
      */
-    public void clearLocations(Long promiseId) {
-        String key = LOCATION_KEY_PREFIX + promiseId;
-        Boolean deleted = redisTemplate.delete(key);
-        log.info("Location cache cleared for promiseId={}, deleted={}", promiseId, deleted);
-    }
+    public TrajectoryResponse getTrajectories(Long promiseId, Long userId, int minutes, double toleranceMeters) {
+        if (minutes <= 0 || minutes > trajectoryProperties.getMaxQueryMinutes()) {
+            throw new IllegalArgumentException(
+                    "조회 기간은 1~" + trajectoryProperties.getMaxQueryMinutes() + "분이어야 합니다");
+        }
 
-    /**
-     * 위치 추적 가능 상태 확인
-     */
-    private boolean isTrackingAllowed(Promise promise) {
-        PromiseStatus status = promise.getStatus();
-        return status == PromiseStatus.PLACE_CONFIRMED || status == PromiseStatus.IN_PROGRESS;
+        TrackingSession session = trackingSessionCache.get(promiseId);
+        if (session.participant(userId) == null) {
+            throw new IllegalStateException("해당 약속의 참여자만 이동 궤적을 조회할 수 있습니다");
+        }
+
+        LocalDateTime since = LocalDateTime.now().minusMinutes(minutes);
+        long sinceMillis = System.currentTimeMillis() - Duration.ofMinutes(minutes).toMillis();
+
+        List<TrajectoryResponse.ParticipantTrajectory> trajectories = new ArrayList<>();
+        for (TrackingSession.TrackingParticipant participant : session.getParticipants().values()) {
+            List<TrajectoryPoint> points = TrajectorySimplifier.simplify(
+                    trajectoryStore.since(promiseId, participant.getUserId(), sinceMillis), toleranceMeters);
+            if (points.isEmpty()) continue;
+
+            trajectories.add(TrajectoryResponse.ParticipantTrajectory.builder()
+                    .userId(participant.getUserId())
+                    .nickname(participant.getNickname())
+                    .points(points.stream()
+                            .map(point -> TrajectoryResponse.Point.builder()
+                                    .latitude(point.latitude())
+                                    .longitude(point.longitude())
+                                    .timestamp(LocalDateTime.ofInstant(
+                                            Instant.ofEpochMilli(point.timestampMillis()), ZoneId.systemDefault()))
+                                    .build())
+                            .toList())
+                    .build());
+        }
+
+        return TrajectoryResponse.builder()
+                .promiseId(promiseId)
+                .since(since)
+                .trajectories(trajectories)
+                .build();
     }
 
     /**
-     * 약속 시간 1시간 전부터 추적 가능
+     * 약속 종료 시 위치 데이터 삭제
      */
-    private boolean isWithinTrackingWindow(Promise promise) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime trackingStartTime = promise.getPromiseDateTime().minusHours(1);
-        return now.isAfter(trackingStartTime);
+    public void clearLocations(Long promiseId) {
+        boolean deleted = locationStore.clear(promiseId);
+        redisTemplate.delete(LiveEtaEngine.etaKey(promiseId));
+        locationGate.clear(promiseId);
+        liveEtaEngine.clear(promiseId);
+        log.info("Location cache cleared for promiseId={}, deleted={}", promiseId, deleted);
     }
 }
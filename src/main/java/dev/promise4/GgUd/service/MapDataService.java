@@ -1,6 +1,6 @@
 package dev.promise4.GgUd.service;
 
-import dev.promise4.GgUd.controller.dto.LocationUpdateMessage;
+import dev.promise4.GgUd.controller.dto.EtaUpdateMessage;
 import dev.promise4.GgUd.controller.dto.MapDataResponse;
 import dev.promise4.GgUd.controller.dto.ParticipantLocationResponse;
 import dev.promise4.GgUd.entity.Participant;
@@ -71,9 +71,11 @@ public class MapDataService {
             Map<Long, Participant> participantMap = participants.stream()
                     .collect(Collectors.toMap(p -> p.getUser().getId(), p -> p));
             ParticipantLocationResponse locations = locationTrackingService.getParticipantLocations(promiseId);
+            Map<Long, EtaUpdateMessage> etas = locationTrackingService.getEtas(promiseId);
             currentLocations = locations.getLocations().stream()
                     .map(loc -> {
                         Participant p = participantMap.get(loc.getUserId());
+                        EtaUpdateMessage eta = p != null && !p.isArrived() ? etas.get(loc.getUserId()) : null;
                         return MapDataResponse.ParticipantMarker.builder()
                                 .userId(loc.getUserId())
                                 .nickname(loc.getNickname())
@@ -81,6 +83,8 @@ public class MapDataService {
                                 .latitude(loc.getLatitude())
                                 .longitude(loc.getLongitude())
                                 .host(p != null && p.isHost())
+                                .etaSeconds(eta != null ? eta.getEtaSeconds() : null)
+                                .estimatedArrivalTime(eta != null ? eta.getEstimatedArrivalTime() : null)
                                 .build();
                     })
                     .toList();
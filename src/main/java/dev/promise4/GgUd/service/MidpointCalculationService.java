@@ -4,12 +4,12 @@ import dev.promise4.GgUd.controller.dto.Coordinate;
 import dev.promise4.GgUd.controller.dto.StationDistance;
 import dev.promise4.GgUd.entity.SubwayStation;
 import dev.promise4.GgUd.repository.SubwayStationRepository;
+import dev.promise4.GgUd.service.station.SubwayStationIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
-import java.util.Comparator;
 import java.util.List;
 
 /**
@@ -20,7 +20,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MidpointCalculationService {
 
+    private static final double GEOMETRIC_MEDIAN_TOLERANCE_KM = 0.001;
+
     private final SubwayStationRepository subwayStationRepository;
+    private final SubwayStationIndex subwayStationIndex;
 
     /**
      * 여러 출발지의 중간지점 계산 (평균 좌표)
@@ -46,6 +49,55 @@ public class MidpointCalculationService {
         return Coordinate.of(avgLat, avgLon);
     }
 
+    /**
+     * 여러 출발지의 기하 중앙값 계산 (Weiszfeld 반복법)
+     * 출발지까지의 직선거리 합이 최소인 지점으로, 한쪽에 몰린 출발지에 평균 좌표보다 덜 끌려감
+     * 중간지점 근방은 평면으로 근사 (km 단위 등장방형 투영)
+     */
+    public Coordinate calculateGeometricMedian(List<Coordinate> departures, int maxIterations) {
+        Coordinate centroid = calculateMidpoint(departures);
+        if (departures.size() <= 2) {
+            return centroid;
+        }
+
+        double kmPerLat = 110.574;
+        double kmPerLon = 111.320 * Math.cos(Math.toRadians(centroid.getLatitude()));
+
+        int n = departures.size();
+        double[] xs = new double[n];
+        double[] ys = new double[n];
+        for (int i = 0; i < n; i++) {
+            xs[i] = (departures.get(i).getLongitude() - centroid.getLongitude()) * kmPerLon;
+            ys[i] = (departures.get(i).getLatitude() - centroid.getLatitude()) * kmPerLat;
+        }
+
+        double x = 0;
+        double y = 0;
+        for (int iteration = 0; iteration < maxIterations; iteration++) {
+            double weightSum = 0;
+            double nextX = 0;
+            double nextY = 0;
+            for (int i = 0; i < n; i++) {
+                double d = Math.hypot(xs[i] - x, ys[i] - y);
+                if (d < GEOMETRIC_MEDIAN_TOLERANCE_KM) continue; // 출발지와 겹치면 해당 점은 가중치에서 제외
+                double w = 1.0 / d;
+                weightSum += w;
+                nextX += xs[i] * w;
+                nextY += ys[i] * w;
+            }
+            if (weightSum == 0) break;
+
+            nextX /= weightSum;
+            nextY /= weightSum;
+            double shift = Math.hypot(nextX - x, nextY - y);
+            x = nextX;
+            y = nextY;
+            if (shift < GEOMETRIC_MEDIAN_TOLERANCE_KM) break;
+        }
+
+        return Coordinate.of(centroid.getLatitude() + y / kmPerLat, centroid.getLongitude() + x / kmPerLon);
+    }
+
     /**
      * 모든 지하철역 조회 (캐싱됨 - 7일 TTL)
      */
@@ -56,20 +108,17 @@ public class MidpointCalculationService {
     }
 
     /**
-     * 중간지점에서 가장 가까운 지하철역 찾기
+     * 중간지점에서 가장 가까운 지하철역 찾기 (인메모리 KD-트리 색인)
      */
     public List<StationDistance> findNearestStations(Coordinate midpoint, int count) {
-        List<SubwayStation> allStations = getAllStations();
-
-        return allStations.stream()
-                .map(station -> {
-                    Coordinate stationCoord = Coordinate.of(station.getLatitude(), station.getLongitude());
-                    double distance = midpoint.distanceTo(stationCoord);
-                    return new StationDistance(station, distance);
-                })
-                .sorted(Comparator.comparingDouble(StationDistance::getDistanceKm))
-                .limit(count)
-                .toList();
+        return subwayStationIndex.findNearest(midpoint, count);
+    }
+
+    /**
+     * 중간지점 반경(km) 내 지하철역 찾기 (거리 오름차순)
+     */
+    public List<StationDistance> findStationsWithinRadius(Coordinate midpoint, double radiusKm) {
+        return subwayStationIndex.findWithinRadius(midpoint, radiusKm);
     }
 
     /**
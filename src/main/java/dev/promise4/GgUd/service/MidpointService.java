@@ -2,20 +2,33 @@ package dev.promise4.GgUd.service;
 
 import dev.promise4.GgUd.common.exception.BusinessException;
 import dev.promise4.GgUd.common.exception.ErrorCode;
+import dev.promise4.GgUd.config.MidpointProperties;
 import dev.promise4.GgUd.controller.dto.*;
 import dev.promise4.GgUd.entity.*;
 import dev.promise4.GgUd.repository.AiPlaceRecommendationsRepository;
 import dev.promise4.GgUd.repository.ParticipantRepository;
 import dev.promise4.GgUd.repository.PromiseRepository;
 import dev.promise4.GgUd.repository.SubwayStationRepository;
+import dev.promise4.GgUd.service.directions.OriginDestination;
+import dev.promise4.GgUd.service.event.PromiseStatusChangedEvent;
+import dev.promise4.GgUd.service.midpoint.MidpointCandidate;
+import dev.promise4.GgUd.service.midpoint.MidpointResult;
+import dev.promise4.GgUd.service.midpoint.MidpointStrategyEngine;
+import dev.promise4.GgUd.service.station.TransitTimeEstimator;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 중간지점 추천 및 확정 서비스
@@ -25,18 +38,36 @@ import java.util.List;
 @RequiredArgsConstructor
 public class MidpointService {
 
+    private static final int RECOMMENDATION_COUNT = 5;
+
     private final PromiseRepository promiseRepository;
     private final ParticipantRepository participantRepository;
     private final SubwayStationRepository subwayStationRepository;
     private final MidpointCalculationService midpointCalculationService;
     private final TMapDirectionsService tMapDirectionsService;
     private final AiPlaceRecommendationsRepository aiPlaceRecommendationsRepository;
+    private final TransitTimeEstimator transitTimeEstimator;
+    private final MidpointStrategyEngine midpointStrategyEngine;
+    private final MidpointProperties midpointProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 중간지점 추천 조회 (논블로킹)
+     * DB 조회와 후보 계산은 boundedElastic 에서 한 번에 처리하고,
+     * 참여자 × 후보역 길찾기는 일괄 API로 동시 실행 수를 제한해 한꺼번에 요청
+     * 전체 시간 예산을 넘기면 도착한 결과만 사용하고 나머지는 행렬 추정값(estimated)으로 채움
+     */
+    public Mono<MidpointRecommendationResponse> getRecommendations(Long promiseId, Long userId) {
+        return Mono.fromCallable(() -> transactionTemplate.execute(status -> loadRecommendationContext(promiseId, userId)))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(this::recommend);
+    }
 
     /**
-     * 중간지점 추천 조회
+     * 추천 계산에 필요한 값만 트랜잭션 안에서 꺼냄 (지연 로딩 엔티티를 트랜잭션 밖으로 넘기지 않음)
      */
-    @Transactional(readOnly = true)
-    public MidpointRecommendationResponse getRecommendations(Long promiseId, Long userId) {
+    private RecommendationContext loadRecommendationContext(Long promiseId, Long userId) {
         Promise promise = promiseRepository.findById(promiseId)
                 .orElseThrow(() -> new IllegalArgumentException("약속을 찾을 수 없습니다"));
 
@@ -47,95 +78,144 @@ public class MidpointService {
 
         // 참여자 출발지 목록
         List<Participant> participants = participantRepository.findByPromiseId(promiseId);
-        List<Participant> participantsWithLocation = participants.stream()
+        List<Traveler> travelers = participants.stream()
                 .filter(Participant::isLocationSubmitted)
+                .map(p -> new Traveler(
+                        p.getUser().getId(),
+                        p.getUser().getNickname(),
+                        p.getDepartureAddress(),
+                        Coordinate.of(p.getDepartureLatitude(), p.getDepartureLongitude())))
                 .toList();
 
-        if (participantsWithLocation.isEmpty()) {
+        if (travelers.isEmpty()) {
             throw new IllegalStateException("출발지를 입력한 참여자가 없습니다");
         }
 
-        List<Coordinate> departures = participantsWithLocation.stream()
-                .map(p -> Coordinate.of(p.getDepartureLatitude(), p.getDepartureLongitude()))
-                .toList();
+        boolean isHost = promise.getHost().getId().equals(userId);
+        return new RecommendationContext(promiseId, isHost, participants.size(), travelers);
+    }
 
-        // 중간지점 계산
-        Coordinate midpoint = midpointCalculationService.calculateMidpoint(departures);
-
-        // 가까운 역 5개 찾기
-        List<StationDistance> nearestStations = midpointCalculationService.findNearestStations(midpoint, 5);
-
-        // 추천 결과 생성 (TMap API로 이동시간 조회)
-        List<StationRecommendation> recommendations = nearestStations.stream()
-                .map(sd -> {
-                    List<ParticipantTravelInfo> travelInfos = getTravelInfosForStation(
-                            sd.getStation(), participantsWithLocation);
-                    return StationRecommendation.from(
-                            sd.getStation(),
-                            sd.getDistanceKm(),
-                            midpointCalculationService.calculateAverageDistance(sd.getStation(), departures),
-                            travelInfos);
+    private Mono<MidpointRecommendationResponse> recommend(RecommendationContext context) {
+        List<Coordinate> departures = context.travelers().stream().map(Traveler::origin).toList();
+
+        // 중간지점 계산 및 후보역 선정 (설정된 전략, 역간 이동시간 행렬 기준)
+        MidpointResult result = midpointStrategyEngine.solve(departures, RECOMMENDATION_COUNT);
+
+        List<TravelPair> pairs = new ArrayList<>();
+        List<OriginDestination> requests = new ArrayList<>();
+        for (int s = 0; s < result.candidates().size(); s++) {
+            SubwayStation station = result.candidates().get(s).station();
+            Coordinate destination = Coordinate.of(station.getLatitude(), station.getLongitude());
+            for (int t = 0; t < context.travelers().size(); t++) {
+                pairs.add(new TravelPair(s, t));
+                requests.add(new OriginDestination(context.travelers().get(t).origin(), destination));
+            }
+        }
+
+        // 모든 참여자 × 후보역을 일괄 조회 (캐시 MGET 1회 + 미스만 동시 TMap 호출), 시간 예산 내 도착분만 수집
+        return tMapDirectionsService.getDirectionsBatch(requests, midpointProperties.getDirectionsConcurrency())
+                .take(Duration.ofMillis(midpointProperties.getRecommendationTimeoutMillis()))
+                .onErrorResume(e -> {
+                    log.warn("Directions batch failed: promiseId={}, error={}", context.promiseId(), e.getMessage());
+                    return Flux.empty();
                 })
-                .toList();
+                .collectMap(
+                        indexed -> pairs.get(indexed.index()),
+                        indexed -> {
+                            TravelPair pair = pairs.get(indexed.index());
+                            return toTravelInfo(
+                                    context.travelers().get(pair.travelerIndex()),
+                                    result.candidates().get(pair.stationIndex()).station(),
+                                    indexed.response());
+                        })
+                .map(found -> buildResponse(context, result, departures, found));
+    }
 
-        log.info("Midpoint recommendations generated: promiseId={}, midpoint=({}, {}), stationCount={}",
-                promiseId, midpoint.getLatitude(), midpoint.getLongitude(), recommendations.size());
+    private MidpointRecommendationResponse buildResponse(RecommendationContext context, MidpointResult result,
+                                                         List<Coordinate> departures,
+                                                         Map<TravelPair, ParticipantTravelInfo> found) {
+        int missing = 0;
+        List<StationRecommendation> recommendations = new ArrayList<>(result.candidates().size());
+        for (int s = 0; s < result.candidates().size(); s++) {
+            MidpointCandidate candidate = result.candidates().get(s);
+
+            List<ParticipantTravelInfo> travelInfos = new ArrayList<>(context.travelers().size());
+            for (int t = 0; t < context.travelers().size(); t++) {
+                ParticipantTravelInfo info = found.get(new TravelPair(s, t));
+                if (info == null) {
+                    missing++;
+                    info = estimatedTravelInfo(context.travelers().get(t), candidate.station());
+                }
+                travelInfos.add(info);
+            }
+
+            recommendations.add(StationRecommendation.from(
+                    candidate.station(),
+                    candidate.distanceFromMidpointKm(),
+                    midpointCalculationService.calculateAverageDistance(candidate.station(), departures),
+                    travelInfos));
+        }
 
-        boolean isHost = promise.getHost().getId().equals(userId);
+        if (missing > 0) {
+            log.warn("Midpoint recommendations hit deadline: promiseId={}, missingPairs={}/{}",
+                    context.promiseId(), missing, result.candidates().size() * context.travelers().size());
+        }
+
+        Coordinate midpoint = result.midpoint();
+        log.info("Midpoint recommendations generated: promiseId={}, strategy={}, midpoint=({}, {}), stationCount={}",
+                context.promiseId(), result.strategy(), midpoint.getLatitude(), midpoint.getLongitude(),
+                recommendations.size());
 
         return MidpointRecommendationResponse.builder()
                 .calculatedMidpoint(midpoint)
+                .strategy(result.strategy())
                 .recommendedStations(recommendations)
-                .participantCount(participants.size())
-                .host(isHost)
+                .participantCount(context.participantCount())
+                .host(context.host())
+                .build();
+    }
+
+    /**
+     * 길찾기 결과 → 참여자 이동 정보 (경로 없음은 추정값으로 대체)
+     */
+    private ParticipantTravelInfo toTravelInfo(Traveler traveler, SubwayStation station, DirectionsResponse directions) {
+        // 소요 시간 오름차순 정렬된 첫 번째 경로(최단 시간) 사용
+        if (directions.getRouteOptions() == null || directions.getRouteOptions().isEmpty()) {
+            return estimatedTravelInfo(traveler, station);
+        }
+        DirectionsResponse.RouteOption best = directions.getRouteOptions().get(0);
+        return ParticipantTravelInfo.builder()
+                .userId(traveler.userId())
+                .nickname(traveler.nickname())
+                .departureAddress(traveler.departureAddress())
+                .travelTimeMinutes(best.getTotalDuration())
+                .distanceMeters(best.getTotalDistance())
                 .build();
     }
 
     /**
-     * 특정 역까지 각 참여자의 이동 정보 조회 (TMap API)
+     * 역간 이동시간 행렬 추정값
      */
-    private List<ParticipantTravelInfo> getTravelInfosForStation(SubwayStation station, List<Participant> participants) {
+    private ParticipantTravelInfo estimatedTravelInfo(Traveler traveler, SubwayStation station) {
         Coordinate destination = Coordinate.of(station.getLatitude(), station.getLongitude());
+        return ParticipantTravelInfo.builder()
+                .userId(traveler.userId())
+                .nickname(traveler.nickname())
+                .departureAddress(traveler.departureAddress())
+                .travelTimeMinutes(transitTimeEstimator.estimateMinutes(traveler.origin(), station))
+                .distanceMeters((int) Math.round(traveler.origin().distanceTo(destination) * 1000))
+                .estimated(true)
+                .build();
+    }
 
-        // 모든 참여자에 대해 병렬로 TMap API 호출
-        List<Mono<ParticipantTravelInfo>> travelInfoMonos = participants.stream()
-                .map(participant -> {
-                    Coordinate origin = Coordinate.of(
-                            participant.getDepartureLatitude(),
-                            participant.getDepartureLongitude());
-
-                    return tMapDirectionsService.getDirections(origin, destination)
-                            .map(directions -> {
-                                // 소요 시간 오름차순 정렬된 첫 번째 경로(최단 시간) 사용
-                                DirectionsResponse.RouteOption best = directions.getRouteOptions().isEmpty()
-                                        ? null : directions.getRouteOptions().get(0);
-                                return ParticipantTravelInfo.builder()
-                                        .userId(participant.getUser().getId())
-                                        .nickname(participant.getUser().getNickname())
-                                        .departureAddress(participant.getDepartureAddress())
-                                        .travelTimeMinutes(best != null ? best.getTotalDuration() : 0)
-                                        .distanceMeters(best != null ? best.getTotalDistance() : 0)
-                                        .build();
-                            })
-                            .onErrorResume(e -> {
-                                log.warn("Failed to get directions for participant {}: {}",
-                                        participant.getUser().getId(), e.getMessage());
-                                // 실패 시 기본값 반환
-                                return Mono.just(ParticipantTravelInfo.builder()
-                                        .userId(participant.getUser().getId())
-                                        .nickname(participant.getUser().getNickname())
-                                        .departureAddress(participant.getDepartureAddress())
-                                        .travelTimeMinutes(0)
-                                        .distanceMeters(0)
-                                        .build());
-                            });
-                })
-                .toList();
+    private record Traveler(Long userId, String nickname, String departureAddress, Coordinate origin) {
+    }
+
+    private record RecommendationContext(Long promiseId, boolean host, int participantCount,
+                                         List<Traveler> travelers) {
+    }
 
-        // 모든 API 호출을 병렬로 실행하고 결과 수집
-        return Flux.merge(travelInfoMonos)
-                .collectList()
-                .block();
+    private record TravelPair(int stationIndex, int travelerIndex) {
     }
 
     /**
@@ -158,6 +238,7 @@ public class MidpointService {
                 .orElseThrow(() -> new IllegalArgumentException("역을 찾을 수 없습니다"));
 
         promise.confirmMidpointStation(station.getLatitude(), station.getLongitude(), station.getStationName());
+        eventPublisher.publishEvent(new PromiseStatusChangedEvent(promiseId, promise.getStatus()));
 
         log.info("Midpoint confirmed: promiseId={}, stationId={}, stationName={}",
                 promiseId, stationId, station.getStationName());
@@ -177,6 +258,7 @@ public class MidpointService {
         }
 
         promise.resetMidpoint();
+        eventPublisher.publishEvent(new PromiseStatusChangedEvent(promiseId, promise.getStatus()));
         aiPlaceRecommendationsRepository.deleteByPromiseId(promiseId);
 
         log.info("Midpoint reset: promiseId={}, hostId={}", promiseId, userId);
@@ -196,6 +278,7 @@ public class MidpointService {
         }
 
         promise.confirmFinalPlace(request.getLatitude(), request.getLongitude(), request.getPlaceName());
+        eventPublisher.publishEvent(new PromiseStatusChangedEvent(promiseId, promise.getStatus()));
 
         log.info("Final place confirmed: promiseId={}, placeName={}", promiseId, request.getPlaceName());
     }
@@ -2,15 +2,29 @@ package dev.promise4.GgUd.service;
 
 import dev.promise4.GgUd.common.exception.BusinessException;
 import dev.promise4.GgUd.common.exception.ErrorCode;
+import dev.promise4.GgUd.config.PromiseJoinProperties;
 import dev.promise4.GgUd.controller.dto.*;
 import dev.promise4.GgUd.entity.*;
 import dev.promise4.GgUd.exception.*;
 import dev.promise4.GgUd.repository.ParticipantRepository;
 import dev.promise4.GgUd.repository.PromiseRepository;
+import dev.promise4.GgUd.repository.PromiseSearchDocumentRepository;
 import dev.promise4.GgUd.repository.UserRepository;
+import dev.promise4.GgUd.service.event.InviteCodeIssuedEvent;
+import dev.promise4.GgUd.service.event.ParticipantDepartureSubmittedEvent;
+import dev.promise4.GgUd.service.event.PromiseParticipantsChangedEvent;
+import dev.promise4.GgUd.service.event.PromiseStatusChangedEvent;
+import dev.promise4.GgUd.service.invite.InviteCodeResolver;
+import dev.promise4.GgUd.service.listing.PromiseCursor;
+import dev.promise4.GgUd.service.search.KoreanSearchText;
+import dev.promise4.GgUd.service.view.PromiseView;
+import dev.promise4.GgUd.service.view.PromiseViewService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -27,9 +41,16 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PromiseService {
 
+    private static final int MAX_CURSOR_PAGE_SIZE = 50;
+
     private final PromiseRepository promiseRepository;
     private final ParticipantRepository participantRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PromiseJoinProperties promiseJoinProperties;
+    private final InviteCodeResolver inviteCodeResolver;
+    private final PromiseSearchDocumentRepository searchDocumentRepository;
+    private final PromiseViewService promiseViewService;
 
     /**
      * 약속 생성
@@ -45,6 +66,7 @@ public class PromiseService {
                 .description(request.getDescription())
                 .promiseDateTime(request.getPromiseDateTime())
                 .host(host)
+                .participantCount(1)
                 .build();
 
         promise = promiseRepository.save(promise);
@@ -57,9 +79,13 @@ public class PromiseService {
                 .build();
 
         participantRepository.save(hostParticipant);
+        eventPublisher.publishEvent(
+                new InviteCodeIssuedEvent(promise.getId(), promise.getInviteCode(), promise.getInviteExpiredAt()));
 
         // 모집 시작
         promise.startRecruiting();
+        eventPublisher.publishEvent(new PromiseStatusChangedEvent(promise.getId(), promise.getStatus()));
+        eventPublisher.publishEvent(new PromiseParticipantsChangedEvent(promise.getId(), userId));
 
         log.info("Promise created: id={}, title={}, hostId={}",
                 promise.getId(), promise.getTitle(), userId);
@@ -68,22 +94,75 @@ public class PromiseService {
     }
 
     /**
-     * 초대 정보 조회
+     * 초대 정보 조회 (없는 초대 코드는 DB 조회 없이 거절)
      */
     @Transactional(readOnly = true)
     public PromiseResponse getInviteInfo(String inviteCode) {
-        Promise promise = promiseRepository.findByInviteCode(inviteCode)
-                .orElseThrow(() -> new InvalidInviteCodeException(inviteCode));
-
-        long count = participantRepository.countByPromiseId(promise.getId());
-        return PromiseResponse.from(promise, count);
+        Promise promise = findByInviteCode(inviteCode);
+        return PromiseResponse.from(promise, promise.getParticipantCount());
     }
 
     /**
-     * 약속 참여 (Pessimistic Lock으로 동시성 제어)
+     * 약속 참여 (app.promise-join.strategy 에 따라 좌석 카운터 또는 Pessimistic Lock 으로 동시성 제어)
      */
     @Transactional
     public PromiseResponse joinPromise(Long userId, String inviteCode) {
+        if ("pessimistic-lock".equals(promiseJoinProperties.getStrategy())) {
+            return joinWithLock(userId, inviteCode);
+        }
+        return joinWithSeatCounter(userId, inviteCode);
+    }
+
+    /**
+     * 좌석 카운터 참여
+     * 검증은 잠금 없이 먼저 하고, participant_count 조건부 UPDATE 한 문장으로 좌석을 확보한 뒤 INSERT
+     * 같은 약속 행을 잡는 구간이 좌석 확보부터 커밋까지로 줄어 초대 링크로 몰리는 참여 요청이 덜 직렬화됨
+     * 동시에 같은 사용자가 참여하면 유니크 제약 위반으로 롤백되어 확보한 좌석도 되돌려짐
+     */
+    private PromiseResponse joinWithSeatCounter(Long userId, String inviteCode) {
+        Promise promise = findByInviteCode(inviteCode);
+
+        if (!promise.isInviteValid()) {
+            throw new InviteExpiredException();
+        }
+
+        if (participantRepository.existsByPromiseIdAndUserId(promise.getId(), userId)) {
+            throw new AlreadyJoinedException();
+        }
+
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+
+        int count = promiseRepository.reserveSeat(promise.getId())
+                .orElseThrow(() -> new MaxParticipantsExceededException(promise.getMaxParticipants()));
+
+        Participant participant = Participant.builder()
+                .promise(promise)
+                .user(user)
+                .isHost(false)
+                .build();
+
+        try {
+            participantRepository.save(participant);
+        } catch (DataIntegrityViolationException e) {
+            throw new AlreadyJoinedException();
+        }
+        eventPublisher.publishEvent(new PromiseParticipantsChangedEvent(promise.getId(), userId));
+
+        log.info("User joined promise: promiseId={}, userId={}, count={}", promise.getId(), userId, count);
+
+        return PromiseResponse.from(promise, count);
+    }
+
+    /**
+     * Pessimistic Lock 참여 (약속 행을 잠근 채 검증과 INSERT)
+     */
+    private PromiseResponse joinWithLock(Long userId, String inviteCode) {
+        // 없는 초대 코드는 잠금 조회 전에 거절
+        if (inviteCodeResolver.resolve(inviteCode).isEmpty()) {
+            throw new InvalidInviteCodeException(inviteCode);
+        }
+
         // Pessimistic Write Lock을 사용하여 동시 참여 요청 시 race condition 방지
         Promise promise = promiseRepository.findByInviteCodeWithLock(inviteCode)
                 .orElseThrow(() -> new InvalidInviteCodeException(inviteCode));
@@ -115,6 +194,9 @@ public class PromiseService {
                 .build();
 
         participantRepository.save(participant);
+        // 좌석 카운터 방식과 전환해도 맞도록 참여자 수 컬럼도 함께 갱신
+        promise.increaseParticipantCount();
+        eventPublisher.publishEvent(new PromiseParticipantsChangedEvent(promise.getId(), userId));
 
         log.info("User joined promise: promiseId={}, userId={}", promise.getId(), userId);
 
@@ -122,6 +204,16 @@ public class PromiseService {
         return PromiseResponse.from(promise, count);
     }
 
+    /**
+     * 초대 코드로 약속 조회 (취소된 약속은 없는 코드로 취급)
+     */
+    private Promise findByInviteCode(String inviteCode) {
+        return inviteCodeResolver.resolve(inviteCode)
+                .flatMap(promiseRepository::findByIdWithHost)
+                .filter(promise -> promise.getStatus() != PromiseStatus.CANCELLED)
+                .orElseThrow(() -> new InvalidInviteCodeException(inviteCode));
+    }
+
     /**
      * 출발지 입력 (RECRUITING 상태에서만 가능)
      */
@@ -141,6 +233,7 @@ public class PromiseService {
                 request.getLatitude(),
                 request.getLongitude(),
                 request.getAddress());
+        eventPublisher.publishEvent(new ParticipantDepartureSubmittedEvent(promiseId, userId));
 
         log.debug("Departure location submitted: promiseId={}, userId={}", promiseId, userId);
 
@@ -170,21 +263,20 @@ public class PromiseService {
         }
 
         promise.startSelectingMidpoint();
+        eventPublisher.publishEvent(new PromiseStatusChangedEvent(promiseId, promise.getStatus()));
 
         log.info("Midpoint selection started: promiseId={}, hostId={}", promiseId, userId);
     }
 
     /**
-     * 참여자 목록 조회 (해당 약속의 참여자만 조회 가능)
+     * 참여자 목록 조회 (해당 약속의 참여자만 조회 가능, 약속 조회 모델 사용)
      */
-    @Transactional(readOnly = true)
     public List<ParticipantResponse> getParticipants(Long promiseId, Long userId) {
-        if (!participantRepository.existsByPromiseIdAndUserId(promiseId, userId)) {
+        PromiseView view = promiseViewService.getView(promiseId);
+        if (!view.hasParticipant(userId)) {
             throw new IllegalStateException("해당 약속의 참여자만 참여자 목록을 조회할 수 있습니다");
         }
-        return participantRepository.findByPromiseId(promiseId).stream()
-                .map(ParticipantResponse::from)
-                .toList();
+        return List.copyOf(view.getParticipants());
     }
 
     /**
@@ -217,26 +309,104 @@ public class PromiseService {
     }
 
     /**
-     * 약속 요약 조회 (제목, 일시, 주최자)
+     * 내 약속 목록 커서 조회
+     * 참여자 인덱스를 약속 일시, ID 순으로 읽는 keyset 페이지라 뒤 페이지도 첫 페이지와 비용이 같고,
+     * 참여 인원은 participant_count 를 쓰며 전체 수는 요청할 때만 집계
+     *
+     * @param ascending true 면 이른 약속부터, false 면 늦은 약속부터
      */
     @Transactional(readOnly = true)
-    public PromiseSummaryResponse getPromiseSummary(Long promiseId) {
-        Promise promise = promiseRepository.findByIdWithHost(promiseId)
-                .orElseThrow(() -> new IllegalArgumentException("약속을 찾을 수 없습니다"));
+    public PromiseCursorResponse getMyPromisesByCursor(Long userId, PromiseStatus status, String cursor, int size,
+                                                       boolean ascending, boolean includeTotal) {
+        PromiseCursor from = startCursor(cursor, size, ascending);
+        // 다음 페이지 존재 여부를 알기 위해 하나 더 조회
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Promise> promises = ascending
+                ? participantRepository.findMyPromisesAfter(userId, status, from.promiseDateTime(), from.promiseId(), limit)
+                : participantRepository.findMyPromisesBefore(userId, status, from.promiseDateTime(), from.promiseId(), limit);
+
+        Long totalCount = null;
+        if (includeTotal) {
+            totalCount = status != null
+                    ? participantRepository.countByUserIdAndPromiseStatus(userId, status)
+                    : participantRepository.countByUserId(userId);
+        }
 
-        return PromiseSummaryResponse.from(promise);
+        return toCursorResponse(promises, size, totalCount);
     }
 
     /**
-     * 약속 상세 조회
+     * 내 약속 검색 (제목, 참여자 닉네임 부분 일치 및 초성 검색)
+     * 사용자 범위의 trigram GIN 인덱스로 일치하는 약속만 찾으므로 약속 이력이 늘어도 검색 비용은 결과 수를 따라감
+     * (trigram 이 없는 2자 이하 검색어는 토큰 문자열 인덱스로 찾음)
+     * 커서와 정렬은 내 약속 목록 커서 조회와 같음
      */
     @Transactional(readOnly = true)
-    public PromiseResponse getPromise(Long promiseId) {
-        Promise promise = promiseRepository.findByIdWithHost(promiseId)
-                .orElseThrow(() -> new IllegalArgumentException("약속을 찾을 수 없습니다"));
+    public PromiseCursorResponse searchMyPromises(Long userId, String keyword, PromiseStatus status, String cursor,
+                                                  int size, boolean ascending) {
+        String tokenPattern = KoreanSearchText.tokenPattern(keyword);
+        String pattern = tokenPattern == null ? KoreanSearchText.likePattern(keyword) : null;
+        PromiseCursor from = startCursor(cursor, size, ascending);
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Promise> promises;
+        if (tokenPattern != null) {
+            promises = ascending
+                    ? searchDocumentRepository.searchMyPromisesByTokenAfter(
+                            userId, tokenPattern, status, from.promiseDateTime(), from.promiseId(), limit)
+                    : searchDocumentRepository.searchMyPromisesByTokenBefore(
+                            userId, tokenPattern, status, from.promiseDateTime(), from.promiseId(), limit);
+        } else {
+            promises = ascending
+                    ? searchDocumentRepository.searchMyPromisesAfter(
+                            userId, pattern, status, from.promiseDateTime(), from.promiseId(), limit)
+                    : searchDocumentRepository.searchMyPromisesBefore(
+                            userId, pattern, status, from.promiseDateTime(), from.promiseId(), limit);
+        }
+
+        return toCursorResponse(promises, size, null);
+    }
+
+    private PromiseCursor startCursor(String cursor, int size, boolean ascending) {
+        if (size <= 0 || size > MAX_CURSOR_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1~" + MAX_CURSOR_PAGE_SIZE + "이어야 합니다");
+        }
+        return cursor != null && !cursor.isBlank()
+                ? PromiseCursor.decode(cursor)
+                : PromiseCursor.first(ascending);
+    }
 
-        List<Participant> participants = participantRepository.findByPromiseId(promiseId);
-        return PromiseResponse.from(promise, participants);
+    /**
+     * size + 1 건 조회 결과 → 커서 페이지 (참여 인원은 participant_count)
+     */
+    private PromiseCursorResponse toCursorResponse(List<Promise> promises, int size, Long totalCount) {
+        boolean hasNext = promises.size() > size;
+        List<Promise> page = hasNext ? promises.subList(0, size) : promises;
+        String nextCursor = null;
+        if (hasNext) {
+            Promise last = page.get(page.size() - 1);
+            nextCursor = new PromiseCursor(last.getPromiseDateTime(), last.getId()).encode();
+        }
+
+        return PromiseCursorResponse.builder()
+                .content(page.stream().map(p -> PromiseResponse.from(p, p.getParticipantCount())).toList())
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .totalCount(totalCount)
+                .build();
+    }
+
+    /**
+     * 약속 요약 조회 (제목, 일시, 주최자, 약속 조회 모델 사용)
+     */
+    public PromiseSummaryResponse getPromiseSummary(Long promiseId) {
+        return promiseViewService.getView(promiseId).toSummaryResponse();
+    }
+
+    /**
+     * 약속 상세 조회 (약속 조회 모델 사용)
+     */
+    public PromiseResponse getPromise(Long promiseId) {
+        return promiseViewService.getView(promiseId).toResponse();
     }
 
     /**
@@ -253,6 +423,8 @@ public class PromiseService {
         }
 
         promise.cancel();
+        inviteCodeResolver.invalidate(promise.getInviteCode());
+        eventPublisher.publishEvent(new PromiseStatusChangedEvent(promiseId, promise.getStatus()));
 
         log.info("Promise cancelled by host: promiseId={}, hostId={}", promiseId, userId);
     }
@@ -275,19 +447,16 @@ public class PromiseService {
         }
 
         promise.complete();
+        eventPublisher.publishEvent(new PromiseStatusChangedEvent(promiseId, promise.getStatus()));
 
         log.info("Promise completed by host: promiseId={}, hostId={}", promiseId, userId);
     }
 
     /**
-     * 약속 상태 조회
+     * 약속 상태 조회 (약속 조회 모델 사용)
      */
-    @Transactional(readOnly = true)
     public PromiseStatus getPromiseStatus(Long promiseId) {
-        Promise promise = promiseRepository.findById(promiseId)
-                .orElseThrow(() -> new IllegalArgumentException("약속을 찾을 수 없습니다"));
-
-        return promise.getStatus();
+        return promiseViewService.getView(promiseId).getStatus();
     }
 
 }
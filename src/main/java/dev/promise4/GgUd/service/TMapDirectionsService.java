@@ -1,20 +1,35 @@
 package dev.promise4.GgUd.service;
 
+import dev.promise4.GgUd.config.DirectionsCacheProperties;
+import dev.promise4.GgUd.config.TMapApiProperties;
 import dev.promise4.GgUd.controller.dto.Coordinate;
 import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+import dev.promise4.GgUd.controller.dto.GeometryFormat;
+import dev.promise4.GgUd.service.directions.CachedDirections;
+import dev.promise4.GgUd.service.directions.IndexedDirections;
+import dev.promise4.GgUd.service.directions.OriginDestination;
+import dev.promise4.GgUd.service.directions.QuantizedDirectionsCache;
+import dev.promise4.GgUd.service.directions.RedisSingleFlightLock;
+import dev.promise4.GgUd.service.directions.RouteGeometry;
+import dev.promise4.GgUd.service.directions.SingleFlight;
+import dev.promise4.GgUd.service.directions.TMapRouteDecoder;
+import dev.promise4.GgUd.service.directions.WalkingLegAdjuster;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.time.Duration;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /**
  * TMap 대중교통 길찾기 서비스
@@ -26,23 +41,145 @@ public class TMapDirectionsService {
 
     private static final String DIRECTIONS_CACHE_PREFIX = "tmap:directions:";
     private static final Duration DIRECTIONS_CACHE_TTL = Duration.ofHours(1);
+    private static final String CACHE_PROVIDER = "tmap";
+    /** 좌표 없이 디코딩한 응답 키 접미사 (좌표 포함 응답과 분리 저장) */
+    private static final String SUMMARY_KEY_SUFFIX = ":summary";
 
     @Qualifier("tMapWebClient")
     private final WebClient tMapWebClient;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final QuantizedDirectionsCache directionsCache;
+    private final TMapApiProperties tMapApiProperties;
+    private final DirectionsCacheProperties directionsCacheProperties;
+    private final SingleFlight<CachedDirections> tMapDirectionsSingleFlight;
+    private final RedisSingleFlightLock redisSingleFlightLock;
 
     /**
-     * 대중교통 경로 조회 (Redis 캐시 적용)
+     * 대중교통 경로 조회 (Redis 캐시 적용, 좌표는 linestring 형식)
      */
     public Mono<DirectionsResponse> getDirections(Coordinate origin, Coordinate destination) {
+        return getDirections(origin, destination, GeometryFormat.RAW);
+    }
+
+    /**
+     * 대중교통 경로 조회 (Redis 캐시 적용)
+     * 같은 출발/도착지 동시 요청은 캐시 조회부터 TMap 호출까지 한 번으로 병합
+     * 병합된 결과는 처음 요청한 출발지 기준이므로 요청마다 자기 출발지로 도보 구간을 보정
+     * 캐시 조회는 구독 시점에 실행되며, 캐시/TMap 어느 쪽 결과든 요청한 좌표 형식으로 변환
+     */
+    public Mono<DirectionsResponse> getDirections(Coordinate origin, Coordinate destination, GeometryFormat format) {
         String cacheKey = generateCacheKey(origin, destination);
+        return tMapDirectionsSingleFlight.execute(cacheKey, () -> loadDirections(cacheKey, origin, destination))
+                .map(loaded -> WalkingLegAdjuster.adjust(loaded.getResponse(), originOf(loaded), origin))
+                .map(response -> RouteGeometry.convert(
+                        response, format, directionsCacheProperties.getGeometryToleranceMeters()));
+    }
 
-        DirectionsResponse cached = getCachedDirections(cacheKey);
+    /**
+     * 캐시 항목 또는 TMap 응답을 조회한 출발지와 함께 반환 (보정은 호출하는 쪽에서)
+     */
+    private Mono<CachedDirections> loadDirections(String cacheKey, Coordinate origin, Coordinate destination) {
+        CachedDirections cached = directionsCache.getEntry(CACHE_PROVIDER, cacheKey);
         if (cached != null) {
             log.debug("Directions cache hit: {}", cacheKey);
             return Mono.just(cached);
         }
 
+        if (!tMapApiProperties.isSingleFlightRedisLock()) {
+            return requestDirections(cacheKey, origin, destination);
+        }
+        return redisSingleFlightLock.execute(
+                cacheKey,
+                () -> directionsCache.getEntry(CACHE_PROVIDER, cacheKey),
+                () -> requestDirections(cacheKey, origin, destination),
+                Duration.ofMillis(tMapApiProperties.getSingleFlightLockTimeout()));
+    }
+
+    /**
+     * 여러 출발/도착지 일괄 조회 (소요 시간 비교용, linestring 없음)
+     * 캐시는 MGET 한 번으로 확인하고(좌표 포함 응답 우선, 없으면 요약 응답),
+     * 미스만 (같은 키는 한 번씩) 동시 실행 수를 제한해 TMap 호출
+     * 캐시 적중분을 먼저, 이후 TMap 응답을 도착 순서대로 내보내며
+     * 새로 받은 결과는 스트림 종료(취소 포함) 시 요약 키에 파이프라인 한 번으로 저장
+     */
+    public Flux<IndexedDirections> getDirectionsBatch(List<OriginDestination> requests, int concurrency) {
+        if (requests.isEmpty()) {
+            return Flux.empty();
+        }
+
+        List<String> keys = requests.stream()
+                .map(r -> generateCacheKey(r.origin(), r.destination()))
+                .toList();
+        List<String> summaryKeys = keys.stream().map(key -> key + SUMMARY_KEY_SUFFIX).toList();
+        List<Coordinate> origins = requests.stream().map(OriginDestination::origin).toList();
+
+        return Mono.fromCallable(() -> directionsCache.getAll(CACHE_PROVIDER, keys, summaryKeys, origins))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMapMany(cached -> {
+                    List<IndexedDirections> hits = new ArrayList<>();
+                    Map<String, List<Integer>> missesByKey = new LinkedHashMap<>();
+                    for (int i = 0; i < requests.size(); i++) {
+                        if (cached.get(i) != null) {
+                            hits.add(new IndexedDirections(i, cached.get(i)));
+                        } else {
+                            missesByKey.computeIfAbsent(summaryKeys.get(i), k -> new ArrayList<>()).add(i);
+                        }
+                    }
+                    log.debug("Directions batch: requests={}, hits={}, upstream={}",
+                            requests.size(), hits.size(), missesByKey.size());
+
+                    Queue<QuantizedDirectionsCache.PendingWrite> writes = new ConcurrentLinkedQueue<>();
+                    Flux<IndexedDirections> upstream = Flux.fromIterable(missesByKey.entrySet())
+                            .flatMap(miss -> fetchForIndexes(miss.getKey(), miss.getValue(), requests, writes),
+                                    concurrency)
+                            .doFinally(signal -> Schedulers.boundedElastic().schedule(
+                                    () -> directionsCache.putAll(List.copyOf(writes), DIRECTIONS_CACHE_TTL)));
+
+                    return Flux.fromIterable(hits).concatWith(upstream);
+                });
+    }
+
+    /**
+     * 같은 키를 공유하는 요청들에 대해 TMap 한 번 호출, 출발지가 다르면 도보 구간 보정
+     * (다른 일괄 조회와 병합되면 그쪽 대표 출발지 기준 응답이므로 응답의 출발지로 보정)
+     */
+    private Flux<IndexedDirections> fetchForIndexes(String cacheKey, List<Integer> indexes,
+                                                    List<OriginDestination> requests,
+                                                    Queue<QuantizedDirectionsCache.PendingWrite> writes) {
+        OriginDestination representative = requests.get(indexes.get(0));
+
+        return tMapDirectionsSingleFlight.execute(cacheKey,
+                        () -> fetchDirections(representative.origin(), representative.destination(), false)
+                                .map(response -> loadedAt(representative.origin(), response)))
+                .doOnNext(loaded -> writes.add(
+                        new QuantizedDirectionsCache.PendingWrite(cacheKey, originOf(loaded), loaded.getResponse())))
+                .flatMapIterable(loaded -> indexes.stream()
+                        .map(i -> new IndexedDirections(i, WalkingLegAdjuster.adjust(
+                                loaded.getResponse(), originOf(loaded), requests.get(i).origin())))
+                        .toList());
+    }
+
+    private Mono<CachedDirections> requestDirections(String cacheKey, Coordinate origin, Coordinate destination) {
+        return fetchDirections(origin, destination, true)
+                .doOnNext(response -> directionsCache.put(cacheKey, origin, response, DIRECTIONS_CACHE_TTL))
+                .map(response -> loadedAt(origin, response));
+    }
+
+    private static CachedDirections loadedAt(Coordinate origin, DirectionsResponse response) {
+        return new CachedDirections(origin.getLatitude(), origin.getLongitude(), response);
+    }
+
+    private static Coordinate originOf(CachedDirections loaded) {
+        return Coordinate.of(loaded.getOriginLatitude(), loaded.getOriginLongitude());
+    }
+
+    /**
+     * TMap 대중교통 경로 API 호출 (캐시 저장 없음, 실패 시 빈 응답)
+     * 응답 본문은 바이트로 받아 {@link TMapRouteDecoder} 로 바로 디코딩
+     *
+     * @param includeGeometry false 면 경로 좌표(linestring)를 읽지 않음
+     */
+    private Mono<DirectionsResponse> fetchDirections(Coordinate origin, Coordinate destination,
+                                                     boolean includeGeometry) {
         Map<String, Object> requestBody = Map.of(
                 "startX", String.valueOf(origin.getLongitude()),
                 "startY", String.valueOf(origin.getLatitude()),
@@ -57,9 +194,8 @@ public class TMapDirectionsService {
                 .uri("/transit/routes")
                 .bodyValue(requestBody)
                 .retrieve()
-                .bodyToMono(Map.class)
-                .map(this::parseResponse)
-                .doOnNext(response -> cacheDirections(cacheKey, response))
+                .bodyToMono(byte[].class)
+                .map(body -> parseResponse(body, includeGeometry))
                 .onErrorResume(e -> {
                     log.error("TMap API call failed: {}", e.getMessage());
                     return Mono.just(DirectionsResponse.builder()
@@ -68,181 +204,20 @@ public class TMapDirectionsService {
                 });
     }
 
-    @SuppressWarnings("unchecked")
-    private DirectionsResponse parseResponse(Map<String, Object> response) {
+    private DirectionsResponse parseResponse(byte[] body, boolean includeGeometry) {
         try {
-            Map<String, Object> metaData = (Map<String, Object>) response.get("metaData");
-            if (metaData == null) return emptyResponse();
-
-            Map<String, Object> plan = (Map<String, Object>) metaData.get("plan");
-            if (plan == null) return emptyResponse();
-
-            List<Map<String, Object>> itineraries = (List<Map<String, Object>>) plan.get("itineraries");
-            if (itineraries == null || itineraries.isEmpty()) return emptyResponse();
-
-            List<DirectionsResponse.RouteOption> routeOptions = new ArrayList<>();
-
-            for (Map<String, Object> itinerary : itineraries) {
-                int totalDuration = ((Number) itinerary.getOrDefault("totalTime", 0)).intValue() / 60;
-                int totalDistance = ((Number) itinerary.getOrDefault("totalDistance", 0)).intValue();
-                int transferCount = ((Number) itinerary.getOrDefault("transferCount", 0)).intValue();
-                int totalFare = parseFare(itinerary);
-
-                List<Map<String, Object>> legs = (List<Map<String, Object>>) itinerary.get("legs");
-                List<DirectionsResponse.RouteStep> steps = new ArrayList<>();
-
-                if (legs != null) {
-                    for (Map<String, Object> leg : legs) {
-                        String mode = (String) leg.getOrDefault("mode", "WALK");
-                        int duration = ((Number) leg.getOrDefault("sectionTime", 0)).intValue() / 60;
-                        int distance = ((Number) leg.getOrDefault("distance", 0)).intValue();
-
-                        DirectionsResponse.TransportType type = switch (mode) {
-                            case "BUS" -> DirectionsResponse.TransportType.BUS;
-                            case "SUBWAY" -> DirectionsResponse.TransportType.SUBWAY;
-                            case "TRANSFER" -> DirectionsResponse.TransportType.TRANSFER;
-                            default -> DirectionsResponse.TransportType.WALK;
-                        };
-
-                        // TMap API에서 route 필드는 "지선:1128" 형태의 String
-                        String lineName = null;
-                        if (type == DirectionsResponse.TransportType.BUS || type == DirectionsResponse.TransportType.SUBWAY) {
-                            Object routeObj = leg.get("route");
-                            if (routeObj instanceof String) {
-                                lineName = (String) routeObj;
-                            }
-                        }
-
-                        String linestring = extractLinestring(mode, leg);
-                        String instruction = buildInstruction(mode, leg);
-
-                        steps.add(DirectionsResponse.RouteStep.builder()
-                                .type(type)
-                                .instruction(instruction)
-                                .duration(duration)
-                                .distance(distance)
-                                .lineName(lineName)
-                                .linestring(linestring)
-                                .build());
-                    }
-                }
-
-                routeOptions.add(DirectionsResponse.RouteOption.builder()
-                        .totalDuration(totalDuration)
-                        .totalDistance(totalDistance)
-                        .totalFare(totalFare)
-                        .transferCount(transferCount)
-                        .routes(steps)
-                        .build());
-            }
-
-            routeOptions.sort(Comparator.comparingInt(DirectionsResponse.RouteOption::getTotalDuration));
-
-            return DirectionsResponse.builder()
-                    .routeOptions(routeOptions)
-                    .build();
-
+            return TMapRouteDecoder.decode(body, includeGeometry);
         } catch (Exception e) {
             log.error("Failed to parse TMap response: {}", e.getMessage());
             return emptyResponse();
         }
     }
 
-    @SuppressWarnings("unchecked")
-    private String extractLinestring(String mode, Map<String, Object> leg) {
-        try {
-            if ("BUS".equals(mode) || "SUBWAY".equals(mode)) {
-                // 대중교통: passShape.linestring
-                Map<String, Object> passShape = (Map<String, Object>) leg.get("passShape");
-                if (passShape != null) {
-                    return (String) passShape.get("linestring");
-                }
-            } else if ("WALK".equals(mode)) {
-                // 도보: steps[].linestring 을 이어붙임
-                List<Map<String, Object>> walkSteps = (List<Map<String, Object>>) leg.get("steps");
-                if (walkSteps != null && !walkSteps.isEmpty()) {
-                    StringBuilder sb = new StringBuilder();
-                    for (Map<String, Object> step : walkSteps) {
-                        String ls = (String) step.get("linestring");
-                        if (ls != null && !ls.isBlank()) {
-                            if (!sb.isEmpty()) sb.append(" ");
-                            sb.append(ls.trim());
-                        }
-                    }
-                    return sb.isEmpty() ? null : sb.toString();
-                }
-            }
-        } catch (Exception e) {
-            log.warn("Failed to extract linestring: {}", e.getMessage());
-        }
-        return null;
-    }
-
-    @SuppressWarnings("unchecked")
-    private String buildInstruction(String mode, Map<String, Object> leg) {
-        return switch (mode) {
-            case "BUS" -> {
-                Map<String, Object> start = (Map<String, Object>) leg.get("start");
-                Map<String, Object> end = (Map<String, Object>) leg.get("end");
-                String startName = start != null ? (String) start.getOrDefault("name", "") : "";
-                String endName = end != null ? (String) end.getOrDefault("name", "") : "";
-                yield startName + " 승차 → " + endName + " 하차";
-            }
-            case "SUBWAY" -> {
-                Map<String, Object> start = (Map<String, Object>) leg.get("start");
-                Map<String, Object> end = (Map<String, Object>) leg.get("end");
-                String startName = start != null ? (String) start.getOrDefault("name", "") : "";
-                String endName = end != null ? (String) end.getOrDefault("name", "") : "";
-                yield startName + " 승차 → " + endName + " 하차";
-            }
-            case "WALK" -> "도보 이동";
-            default -> "이동";
-        };
-    }
-
-    @SuppressWarnings("unchecked")
-    private int parseFare(Map<String, Object> itinerary) {
-        try {
-            Map<String, Object> fare = (Map<String, Object>) itinerary.get("fare");
-            if (fare == null) return 0;
-            Map<String, Object> regular = (Map<String, Object>) fare.get("regular");
-            if (regular == null) return 0;
-            return ((Number) regular.getOrDefault("totalFare", 0)).intValue();
-        } catch (Exception e) {
-            return 0;
-        }
-    }
-
     private DirectionsResponse emptyResponse() {
         return DirectionsResponse.builder().routeOptions(List.of()).build();
     }
 
     private String generateCacheKey(Coordinate origin, Coordinate destination) {
-        return String.format("%s%.4f:%.4f:%.4f:%.4f",
-                DIRECTIONS_CACHE_PREFIX,
-                origin.getLatitude(), origin.getLongitude(),
-                destination.getLatitude(), destination.getLongitude());
-    }
-
-    private DirectionsResponse getCachedDirections(String cacheKey) {
-        try {
-            Object cached = redisTemplate.opsForValue().get(cacheKey);
-            if (cached instanceof DirectionsResponse) {
-                return (DirectionsResponse) cached;
-            }
-        } catch (Exception e) {
-            log.warn("Failed to get cached directions: {}", e.getMessage());
-        }
-        return null;
-    }
-
-    private void cacheDirections(String cacheKey, DirectionsResponse response) {
-        try {
-            if (response.getRouteOptions() != null && !response.getRouteOptions().isEmpty()) {
-                redisTemplate.opsForValue().set(cacheKey, response, DIRECTIONS_CACHE_TTL);
-            }
-        } catch (Exception e) {
-            log.warn("Failed to cache directions: {}", e.getMessage());
-        }
+        return directionsCache.key(DIRECTIONS_CACHE_PREFIX, origin, destination);
     }
 }
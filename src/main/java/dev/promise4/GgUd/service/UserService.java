@@ -2,14 +2,18 @@ package dev.promise4.GgUd.service;
 
 import dev.promise4.GgUd.entity.User;
 import dev.promise4.GgUd.repository.UserRepository;
+import dev.promise4.GgUd.service.event.UserProfileChangedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.Objects;
+
 /**
  * 사용자 서비스
  * 사용자 조회 및 관리 기능 제공
@@ -21,6 +25,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final S3Service s3Service;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 사용자 ID로 조회 (캐시 적용)
@@ -51,6 +56,7 @@ public class UserService {
     /**
      * 프로필 업데이트 (캐시 무효화)
      * 이메일은 카카오 계정 정보이므로 변경 불가
+     * 닉네임/프로필 이미지가 바뀌면 약속 검색 문서, 약속 조회 모델 갱신을 위해 이벤트 발행
      *
      * @param userId          사용자 ID
      * @param nickname        닉네임
@@ -63,7 +69,12 @@ public class UserService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
 
+        boolean nicknameChanged = !Objects.equals(user.getNickname(), nickname);
+        boolean imageChanged = !Objects.equals(user.getProfileImageUrl(), profileImageUrl);
         user.updateProfile(nickname, user.getEmail(), profileImageUrl);
+        if (nicknameChanged || imageChanged) {
+            eventPublisher.publishEvent(new UserProfileChangedEvent(userId, nicknameChanged));
+        }
         log.info("User profile updated: userId={}, nickname={}", userId, nickname);
 
         return user;
@@ -86,6 +97,7 @@ public class UserService {
 
         String newUrl = s3Service.uploadProfileImage(userId, file);
         user.updateProfile(user.getNickname(), user.getEmail(), newUrl);
+        eventPublisher.publishEvent(new UserProfileChangedEvent(userId, false));
         log.info("Profile image updated: userId={}", userId);
         return user;
     }
@@ -0,0 +1,20 @@
+package dev.promise4.GgUd.service.directions;
+
+import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 격자 단위 길찾기 캐시 항목
+ * 같은 셀의 다른 출발지가 재사용할 때 도보 구간을 보정할 수 있도록 실제 조회 출발지를 함께 저장
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedDirections {
+
+    private double originLatitude;
+    private double originLongitude;
+    private DirectionsResponse response;
+}
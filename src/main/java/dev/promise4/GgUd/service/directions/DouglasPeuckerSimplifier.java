@@ -0,0 +1,80 @@
+package dev.promise4.GgUd.service.directions;
+
+import dev.promise4.GgUd.controller.dto.Coordinate;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Douglas–Peucker 경로 단순화
+ * 구간 양 끝을 잇는 선분에서 tolerance(m) 이상 벗어난 좌표만 남김 (시작/끝 좌표는 항상 유지)
+ * 도시 규모 거리에서는 위도 기준 등장방형 투영 평면 거리로 충분히 정확함
+ */
+public final class DouglasPeuckerSimplifier {
+
+    private static final double METERS_PER_DEGREE = 111_320.0;
+
+    private DouglasPeuckerSimplifier() {
+    }
+
+    public static List<Coordinate> simplify(List<Coordinate> points, double toleranceMeters) {
+        if (toleranceMeters <= 0 || points.size() < 3) return points;
+
+        int n = points.size();
+        double cosLat = Math.cos(Math.toRadians(points.get(0).getLatitude()));
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = points.get(i).getLongitude() * METERS_PER_DEGREE * cosLat;
+            y[i] = points.get(i).getLatitude() * METERS_PER_DEGREE;
+        }
+
+        boolean[] keep = new boolean[n];
+        keep[0] = true;
+        keep[n - 1] = true;
+
+        // 재귀 대신 스택으로 (긴 경로에서 스택 깊이 제한 회피)
+        Deque<int[]> ranges = new ArrayDeque<>();
+        ranges.push(new int[]{0, n - 1});
+        while (!ranges.isEmpty()) {
+            int[] range = ranges.pop();
+            int start = range[0];
+            int end = range[1];
+
+            int farthest = -1;
+            double maxDistance = toleranceMeters;
+            for (int i = start + 1; i < end; i++) {
+                double distance = segmentDistance(x[i], y[i], x[start], y[start], x[end], y[end]);
+                if (distance > maxDistance) {
+                    maxDistance = distance;
+                    farthest = i;
+                }
+            }
+
+            if (farthest >= 0) {
+                keep[farthest] = true;
+                ranges.push(new int[]{start, farthest});
+                ranges.push(new int[]{farthest, end});
+            }
+        }
+
+        List<Coordinate> simplified = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (keep[i]) simplified.add(points.get(i));
+        }
+        return simplified;
+    }
+
+    private static double segmentDistance(double px, double py, double ax, double ay, double bx, double by) {
+        double dx = bx - ax;
+        double dy = by - ay;
+        double lengthSquared = dx * dx + dy * dy;
+        if (lengthSquared == 0) {
+            return Math.hypot(px - ax, py - ay);
+        }
+        double t = Math.max(0, Math.min(1, ((px - ax) * dx + (py - ay) * dy) / lengthSquared));
+        return Math.hypot(px - (ax + t * dx), py - (ay + t * dy));
+    }
+}
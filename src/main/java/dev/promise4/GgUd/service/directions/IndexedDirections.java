@@ -0,0 +1,11 @@
+package dev.promise4.GgUd.service.directions;
+
+import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+
+/**
+ * 일괄 길찾기 결과 한 건
+ *
+ * @param index 요청 목록에서의 위치
+ */
+public record IndexedDirections(int index, DirectionsResponse response) {
+}
@@ -0,0 +1,9 @@
+package dev.promise4.GgUd.service.directions;
+
+import dev.promise4.GgUd.controller.dto.Coordinate;
+
+/**
+ * 일괄 길찾기 요청 한 건
+ */
+public record OriginDestination(Coordinate origin, Coordinate destination) {
+}
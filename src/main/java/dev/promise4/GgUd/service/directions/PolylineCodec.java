@@ -0,0 +1,107 @@
+package dev.promise4.GgUd.service.directions;
+
+import dev.promise4.GgUd.controller.dto.Coordinate;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경로 좌표 인코더 (Google Encoded Polyline, 정밀도 1e-5 ≈ 1.1m)
+ * 이전 좌표와의 차이를 zigzag 정수로 바꿔 5비트씩 가변 길이로 기록하고 각 문자에 63을 더한 ASCII 문자열
+ * 좌표 순서는 (위도, 경도), TMap linestring 은 "lon,lat lon,lat ..." 형식
+ */
+public final class PolylineCodec {
+
+    private static final double SCALE = 1e5;
+
+    private PolylineCodec() {
+    }
+
+    public static String encode(List<Coordinate> points) {
+        StringBuilder encoded = new StringBuilder(points.size() * 8);
+        long previousLat = 0;
+        long previousLon = 0;
+        for (Coordinate point : points) {
+            long lat = Math.round(point.getLatitude() * SCALE);
+            long lon = Math.round(point.getLongitude() * SCALE);
+            appendValue(encoded, lat - previousLat);
+            appendValue(encoded, lon - previousLon);
+            previousLat = lat;
+            previousLon = lon;
+        }
+        return encoded.toString();
+    }
+
+    public static List<Coordinate> decode(String encoded) {
+        List<Coordinate> points = new ArrayList<>();
+        if (encoded == null || encoded.isEmpty()) return points;
+
+        int[] index = {0};
+        long lat = 0;
+        long lon = 0;
+        while (index[0] < encoded.length()) {
+            lat += readValue(encoded, index);
+            lon += readValue(encoded, index);
+            points.add(Coordinate.of(lat / SCALE, lon / SCALE));
+        }
+        return points;
+    }
+
+    /**
+     * "lon,lat lon,lat ..." → 좌표 목록 (형식이 잘못된 좌표는 건너뜀)
+     */
+    public static List<Coordinate> parseLinestring(String linestring) {
+        List<Coordinate> points = new ArrayList<>();
+        if (linestring == null || linestring.isBlank()) return points;
+
+        for (String token : linestring.trim().split("\\s+")) {
+            int comma = token.indexOf(',');
+            if (comma < 0) continue;
+            try {
+                double lon = Double.parseDouble(token.substring(0, comma));
+                double lat = Double.parseDouble(token.substring(comma + 1));
+                points.add(Coordinate.of(lat, lon));
+            } catch (NumberFormatException ignored) {
+                // 잘못된 좌표는 건너뜀
+            }
+        }
+        return points;
+    }
+
+    /**
+     * 좌표 목록 → "lon,lat lon,lat ..." (비어 있으면 null)
+     */
+    public static String toLinestring(List<Coordinate> points) {
+        if (points.isEmpty()) return null;
+        StringBuilder sb = new StringBuilder(points.size() * 22);
+        for (Coordinate point : points) {
+            if (!sb.isEmpty()) sb.append(' ');
+            sb.append(point.getLongitude()).append(',').append(point.getLatitude());
+        }
+        return sb.toString();
+    }
+
+    private static void appendValue(StringBuilder encoded, long delta) {
+        long value = delta < 0 ? ~(delta << 1) : delta << 1;
+        while (value >= 0x20) {
+            encoded.append((char) ((0x20 | (value & 0x1f)) + 63));
+            value >>= 5;
+        }
+        encoded.append((char) (value + 63));
+    }
+
+    private static long readValue(String encoded, int[] index) {
+        long result = 0;
+        int shift = 0;
+        int chunk;
+        do {
+            if (index[0] >= encoded.length()) {
+                throw new IllegalArgumentException("잘못된 polyline 문자열입니다");
+            }
+            chunk = encoded.charAt(index[0]++) - 63;
+            result |= (long) (chunk & 0x1f) << shift;
+            shift += 5;
+        } while (chunk >= 0x20);
+        return (result & 1) != 0 ? ~(result >> 1) : result >> 1;
+    }
+}
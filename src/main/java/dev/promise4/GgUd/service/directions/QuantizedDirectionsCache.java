@@ -0,0 +1,228 @@
+package dev.promise4.GgUd.service.directions;
+
+import dev.promise4.GgUd.config.DirectionsCacheProperties;
+import dev.promise4.GgUd.controller.dto.Coordinate;
+import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+import dev.promise4.GgUd.controller.dto.StationDistance;
+import dev.promise4.GgUd.service.station.SubwayStationIndex;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 격자화된 키를 쓰는 길찾기 Redis 캐시
+ * 출발지는 geohash 셀, 도착지는 가까운 역 ID(없으면 고정밀 geohash)로 묶어
+ * 근처 출발지끼리 캐시를 공유하고, 조회 시 도보 구간만 요청 출발지 기준으로 보정
+ * 적중률은 directions.cache.requests{provider, precision, result} 로 정밀도별 집계
+ * 경로 좌표는 단순화 후 Encoded Polyline 으로 저장 (조회 결과도 인코딩된 형태)
+ */
+@Slf4j
+@Component
+public class QuantizedDirectionsCache {
+
+    private static final String KEY_VERSION = "v2";
+    /** 적중률 카운터를 미리 등록해 둘 길찾기 제공자 */
+    private static final List<String> PROVIDERS = List.of("tmap", "kakao");
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final SubwayStationIndex subwayStationIndex;
+    private final DirectionsCacheProperties directionsCacheProperties;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, LookupCounters> lookupCounters = new ConcurrentHashMap<>();
+
+    public QuantizedDirectionsCache(RedisTemplate<String, Object> redisTemplate,
+                                    SubwayStationIndex subwayStationIndex,
+                                    DirectionsCacheProperties directionsCacheProperties,
+                                    MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.subwayStationIndex = subwayStationIndex;
+        this.directionsCacheProperties = directionsCacheProperties;
+        this.meterRegistry = meterRegistry;
+        PROVIDERS.forEach(provider -> lookupCounters.put(provider, registerCounters(provider)));
+    }
+
+    /**
+     * 캐시 키: {prefix}v2:o{정밀도}:{출발 셀}:{st:역ID | gh:도착 셀}
+     */
+    public String key(String prefix, Coordinate origin, Coordinate destination) {
+        int precision = directionsCacheProperties.getOriginPrecision();
+        String originCell = GeoHash.encode(origin.getLatitude(), origin.getLongitude(), precision);
+        return prefix + KEY_VERSION + ":o" + precision + ":" + originCell + ":" + destinationToken(destination);
+    }
+
+    /**
+     * 캐시 조회, 적중 시 요청 출발지 기준으로 도보 구간 보정 (미스/오류 시 null)
+     */
+    public DirectionsResponse get(String provider, String key, Coordinate origin) {
+        CachedDirections entry = getEntry(provider, key);
+        if (entry == null) return null;
+
+        Coordinate cachedOrigin = Coordinate.of(entry.getOriginLatitude(), entry.getOriginLongitude());
+        return WalkingLegAdjuster.adjust(entry.getResponse(), cachedOrigin, origin);
+    }
+
+    /**
+     * 보정 전 캐시 항목 조회 (조회 출발지 포함, 미스/오류 시 null)
+     * 결과를 여러 출발지가 나눠 쓰는 경우 각자 보정하도록 원본 그대로 반환
+     */
+    public CachedDirections getEntry(String provider, String key) {
+        CachedDirections entry = null;
+        try {
+            Object cached = redisTemplate.opsForValue().get(key);
+            if (cached instanceof CachedDirections value && value.getResponse() != null) {
+                entry = value;
+            }
+        } catch (Exception e) {
+            log.warn("Failed to get cached directions: {}", e.getMessage());
+        }
+
+        LookupCounters counters = counters(provider);
+        (entry != null ? counters.hit() : counters.miss()).increment();
+        return entry;
+    }
+
+    /**
+     * 여러 키를 MGET 한 번으로 조회 (keys 와 같은 순서, 미스는 null)
+     */
+    public List<DirectionsResponse> getAll(String provider, List<String> keys, List<Coordinate> origins) {
+        return getAll(provider, keys, List.of(), origins);
+    }
+
+    /**
+     * 키마다 대체 키를 함께 MGET 한 번으로 조회, 기본 키가 미스면 대체 키 값 사용
+     * (예: 좌표 포함 전체 응답이 없으면 요약 응답)
+     */
+    public List<DirectionsResponse> getAll(String provider, List<String> keys, List<String> fallbackKeys,
+                                           List<Coordinate> origins) {
+        List<String> lookup = new ArrayList<>(keys.size() + fallbackKeys.size());
+        lookup.addAll(keys);
+        lookup.addAll(fallbackKeys);
+
+        List<Object> values = null;
+        try {
+            values = redisTemplate.opsForValue().multiGet(lookup);
+        } catch (Exception e) {
+            log.warn("Failed to multi-get cached directions: {}", e.getMessage());
+        }
+
+        List<DirectionsResponse> result = new ArrayList<>(keys.size());
+        int hits = 0;
+        for (int i = 0; i < keys.size(); i++) {
+            Object cached = valueAt(values, i);
+            if (!(cached instanceof CachedDirections) && i < fallbackKeys.size()) {
+                cached = valueAt(values, keys.size() + i);
+            }
+            DirectionsResponse adjusted = null;
+            if (cached instanceof CachedDirections entry && entry.getResponse() != null) {
+                Coordinate cachedOrigin = Coordinate.of(entry.getOriginLatitude(), entry.getOriginLongitude());
+                adjusted = WalkingLegAdjuster.adjust(entry.getResponse(), cachedOrigin, origins.get(i));
+                hits++;
+            }
+            result.add(adjusted);
+        }
+
+        LookupCounters counters = counters(provider);
+        counters.hit().increment(hits);
+        counters.miss().increment(keys.size() - hits);
+        return result;
+    }
+
+    /**
+     * 경로가 있는 응답만 조회 출발지와 함께 저장
+     */
+    public void put(String key, Coordinate origin, DirectionsResponse response, Duration ttl) {
+        try {
+            if (response.getRouteOptions() != null && !response.getRouteOptions().isEmpty()) {
+                redisTemplate.opsForValue().set(key,
+                        new CachedDirections(origin.getLatitude(), origin.getLongitude(), compact(response)), ttl);
+                log.debug("Directions cached: {}", key);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to cache directions: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 여러 건을 파이프라인 한 번으로 저장 (각각 TTL 포함)
+     */
+    public void putAll(List<PendingWrite> writes, Duration ttl) {
+        List<PendingWrite> routable = writes.stream()
+                .filter(w -> w.response().getRouteOptions() != null && !w.response().getRouteOptions().isEmpty())
+                .toList();
+        if (routable.isEmpty()) return;
+
+        try {
+            redisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    for (PendingWrite write : routable) {
+                        ops.opsForValue().set(write.key(), new CachedDirections(
+                                write.origin().getLatitude(), write.origin().getLongitude(),
+                                compact(write.response())), ttl);
+                    }
+                    return null;
+                }
+            });
+            log.debug("Directions cached in pipeline: count={}", routable.size());
+        } catch (Exception e) {
+            log.warn("Failed to cache directions in pipeline: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 일괄 저장 대기 항목
+     */
+    public record PendingWrite(String key, Coordinate origin, DirectionsResponse response) {
+    }
+
+    private DirectionsResponse compact(DirectionsResponse response) {
+        return RouteGeometry.encode(response, directionsCacheProperties.getGeometryToleranceMeters());
+    }
+
+    private static Object valueAt(List<Object> values, int index) {
+        return values != null && index < values.size() ? values.get(index) : null;
+    }
+
+    private String destinationToken(Coordinate destination) {
+        List<StationDistance> nearest = subwayStationIndex.findNearest(destination, 1);
+        if (!nearest.isEmpty()
+                && nearest.get(0).getDistanceKm() * 1000 <= directionsCacheProperties.getDestinationSnapMeters()) {
+            return "st:" + nearest.get(0).getStation().getId();
+        }
+        return "gh:" + GeoHash.encode(destination.getLatitude(), destination.getLongitude(),
+                directionsCacheProperties.getDestinationPrecision());
+    }
+
+    private LookupCounters counters(String provider) {
+        LookupCounters counters = lookupCounters.get(provider);
+        return counters != null ? counters : lookupCounters.computeIfAbsent(provider, this::registerCounters);
+    }
+
+    private LookupCounters registerCounters(String provider) {
+        return new LookupCounters(counter(provider, "hit"), counter(provider, "miss"));
+    }
+
+    private Counter counter(String provider, String result) {
+        return Counter.builder("directions.cache.requests")
+                .description("Directions cache lookups by origin geohash precision")
+                .tag("provider", provider)
+                .tag("precision", String.valueOf(directionsCacheProperties.getOriginPrecision()))
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record LookupCounters(Counter hit, Counter miss) {
+    }
+}
@@ -0,0 +1,89 @@
+package dev.promise4.GgUd.service.directions;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * 다중 인스턴스용 요청 병합 (Redis SET NX 잠금)
+ * 잠금을 얻은 인스턴스만 외부 API를 호출하고, 나머지는 잠금 시간 동안 캐시에 결과가 생기길 기다림
+ * 기다려도 결과가 없으면 직접 호출 (잠금 보유자 장애 대비)
+ */
+@Slf4j
+@Component
+public class RedisSingleFlightLock {
+
+    private static final String LOCK_PREFIX = "singleflight:lock:";
+    private static final Duration POLL_INTERVAL = Duration.ofMillis(100);
+
+    /** 자신이 건 잠금만 해제 */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Counter waitedCounter;
+
+    public RedisSingleFlightLock(RedisTemplate<String, Object> redisTemplate, MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.waitedCounter = Counter.builder("singleflight.calls")
+                .description("Single-flight lookups by outcome")
+                .tag("name", "redis-lock")
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @param key         잠금 키 (보통 캐시 키)
+     * @param cacheReader 다른 인스턴스가 채운 결과를 읽는 블로킹 조회, 없으면 null
+     * @param loader      잠금을 얻었거나 대기 시간이 지났을 때 실행할 조회
+     * @param lockTimeout 잠금 TTL 겸 최대 대기 시간
+     */
+    public <V> Mono<V> execute(String key, Supplier<V> cacheReader, Supplier<Mono<V>> loader, Duration lockTimeout) {
+        String lockKey = LOCK_PREFIX + key;
+        String owner = UUID.randomUUID().toString();
+
+        return Mono.fromCallable(() -> tryLock(lockKey, owner, lockTimeout))
+                .subscribeOn(Schedulers.boundedElastic())
+                .flatMap(acquired -> acquired
+                        ? Mono.defer(loader).doFinally(signal -> release(lockKey, owner))
+                        : waitForOther(cacheReader, lockTimeout).switchIfEmpty(Mono.defer(loader)));
+    }
+
+    private boolean tryLock(String lockKey, String owner, Duration lockTimeout) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey, owner, lockTimeout));
+        } catch (Exception e) {
+            log.warn("Failed to acquire single-flight lock {}: {}", lockKey, e.getMessage());
+            return true; // Redis 장애 시 병합 없이 진행
+        }
+    }
+
+    private <V> Mono<V> waitForOther(Supplier<V> cacheReader, Duration lockTimeout) {
+        long maxPolls = Math.max(1, lockTimeout.toMillis() / POLL_INTERVAL.toMillis());
+        return Mono.defer(() -> Mono.justOrEmpty(cacheReader.get()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .repeatWhenEmpty((int) maxPolls, attempts -> attempts.delayElements(POLL_INTERVAL))
+                .doOnNext(value -> waitedCounter.increment())
+                .onErrorResume(IllegalStateException.class, e -> Mono.empty());
+    }
+
+    private void release(String lockKey, String owner) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(lockKey), owner);
+        } catch (Exception e) {
+            log.warn("Failed to release single-flight lock {}: {}", lockKey, e.getMessage());
+        }
+    }
+}
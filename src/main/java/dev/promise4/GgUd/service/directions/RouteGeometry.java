@@ -0,0 +1,108 @@
+package dev.promise4.GgUd.service.directions;
+
+import dev.promise4.GgUd.controller.dto.Coordinate;
+import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+import dev.promise4.GgUd.controller.dto.GeometryFormat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.UnaryOperator;
+
+/**
+ * 길찾기 응답의 경로 좌표 형식 변환
+ * 캐시에는 단순화 + 인코딩된 형태로 저장하고, 응답 시 클라이언트가 요청한 형식으로 맞춤
+ * 바꿀 구간이 없으면 원본 인스턴스를 그대로 반환
+ */
+public final class RouteGeometry {
+
+    private RouteGeometry() {
+    }
+
+    public static DirectionsResponse convert(DirectionsResponse response, GeometryFormat format,
+                                             double toleranceMeters) {
+        return format == GeometryFormat.ENCODED ? encode(response, toleranceMeters) : decode(response);
+    }
+
+    /**
+     * linestring → encodedPolyline (toleranceMeters 가 0보다 크면 Douglas–Peucker 단순화 후 인코딩)
+     */
+    public static DirectionsResponse encode(DirectionsResponse response, double toleranceMeters) {
+        return mapSteps(response, step -> {
+            if (step.getLinestring() == null) return step;
+            List<Coordinate> points = PolylineCodec.parseLinestring(step.getLinestring());
+            String encoded = points.isEmpty()
+                    ? null
+                    : PolylineCodec.encode(DouglasPeuckerSimplifier.simplify(points, toleranceMeters));
+            return withGeometry(step, null, encoded);
+        });
+    }
+
+    /**
+     * encodedPolyline → linestring
+     */
+    public static DirectionsResponse decode(DirectionsResponse response) {
+        return mapSteps(response, step -> {
+            if (step.getEncodedPolyline() == null) return step;
+            return withGeometry(step, PolylineCodec.toLinestring(PolylineCodec.decode(step.getEncodedPolyline())), null);
+        });
+    }
+
+    /**
+     * 구간 좌표 (형식 무관, 없으면 빈 목록)
+     */
+    public static List<Coordinate> points(DirectionsResponse.RouteStep step) {
+        if (step.getEncodedPolyline() != null) {
+            return PolylineCodec.decode(step.getEncodedPolyline());
+        }
+        return PolylineCodec.parseLinestring(step.getLinestring());
+    }
+
+    public static DirectionsResponse.RouteStep withGeometry(DirectionsResponse.RouteStep step, String linestring,
+                                                            String encodedPolyline) {
+        return DirectionsResponse.RouteStep.builder()
+                .type(step.getType())
+                .instruction(step.getInstruction())
+                .duration(step.getDuration())
+                .distance(step.getDistance())
+                .lineName(step.getLineName())
+                .linestring(linestring)
+                .encodedPolyline(encodedPolyline)
+                .build();
+    }
+
+    private static DirectionsResponse mapSteps(DirectionsResponse response, UnaryOperator<DirectionsResponse.RouteStep> mapper) {
+        if (response == null || response.getRouteOptions() == null) return response;
+
+        boolean changed = false;
+        List<DirectionsResponse.RouteOption> options = new ArrayList<>(response.getRouteOptions().size());
+        for (DirectionsResponse.RouteOption option : response.getRouteOptions()) {
+            List<DirectionsResponse.RouteStep> steps = option.getRoutes();
+            if (steps == null) {
+                options.add(option);
+                continue;
+            }
+
+            boolean optionChanged = false;
+            List<DirectionsResponse.RouteStep> mapped = new ArrayList<>(steps.size());
+            for (DirectionsResponse.RouteStep step : steps) {
+                DirectionsResponse.RouteStep converted = mapper.apply(step);
+                optionChanged |= converted != step;
+                mapped.add(converted);
+            }
+
+            if (!optionChanged) {
+                options.add(option);
+                continue;
+            }
+            changed = true;
+            options.add(DirectionsResponse.RouteOption.builder()
+                    .totalDuration(option.getTotalDuration())
+                    .totalDistance(option.getTotalDistance())
+                    .totalFare(option.getTotalFare())
+                    .transferCount(option.getTransferCount())
+                    .routes(mapped)
+                    .build());
+        }
+        return changed ? DirectionsResponse.builder().routeOptions(options).build() : response;
+    }
+}
@@ -0,0 +1,65 @@
+package dev.promise4.GgUd.service.directions;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키 동시 요청 병합 (JVM 로컬)
+ * 같은 키로 진행 중인 조회가 있으면 새로 실행하지 않고 그 결과를 함께 구독함
+ * 조회가 끝나면(성공/실패/취소) 키를 비우므로 결과를 보관하지는 않음 - 캐시는 호출자 책임
+ */
+public class SingleFlight<V> {
+
+    private final Map<String, Mono<V>> inFlight = new ConcurrentHashMap<>();
+    private final Counter upstreamCounter;
+    private final Counter coalescedCounter;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.upstreamCounter = Counter.builder("singleflight.calls")
+                .description("Single-flight lookups by outcome")
+                .tag("name", name)
+                .tag("result", "upstream")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("singleflight.calls")
+                .description("Single-flight lookups by outcome")
+                .tag("name", name)
+                .tag("result", "coalesced")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 키별로 loader 를 최대 한 번만 동시에 실행
+     */
+    public Mono<V> execute(String key, Supplier<Mono<V>> loader) {
+        return Mono.defer(() -> {
+            AtomicReference<Mono<V>> created = new AtomicReference<>();
+            Mono<V> shared = inFlight.computeIfAbsent(key, k -> {
+                Mono<V> mono = Mono.defer(loader)
+                        .doFinally(signal -> inFlight.remove(k, created.get()))
+                        .cache();
+                created.set(mono);
+                return mono;
+            });
+
+            if (shared == created.get()) {
+                upstreamCounter.increment();
+            } else {
+                coalescedCounter.increment();
+            }
+            return shared;
+        });
+    }
+
+    /**
+     * 현재 진행 중인 키 수
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+}
@@ -0,0 +1,49 @@
+package dev.promise4.GgUd.service.directions;
+
+/**
+ * 반복 문자열(노선명, 역명 등) 공유용 고정 크기 인터너
+ * 슬롯 충돌 시 덮어쓰는 손실형 캐시로, 적중하면 파서 버퍼에서 바로 찾아 새 String 을 만들지 않음
+ * String 은 불변이므로 슬롯 경쟁은 중복 생성 외에 문제가 없음
+ */
+final class StringInterner {
+
+    private final String[] slots;
+    private final int mask;
+
+    StringInterner(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("capacity must be a power of two: " + capacity);
+        }
+        this.slots = new String[capacity];
+        this.mask = capacity - 1;
+    }
+
+    String intern(char[] buffer, int offset, int length) {
+        int hash = 0;
+        for (int i = 0; i < length; i++) {
+            hash = 31 * hash + buffer[offset + i];
+        }
+        int slot = (hash ^ (hash >>> 16)) & mask;
+
+        String existing = slots[slot];
+        if (existing != null && matches(existing, buffer, offset, length)) {
+            return existing;
+        }
+        String created = new String(buffer, offset, length);
+        slots[slot] = created;
+        return created;
+    }
+
+    String intern(String value) {
+        if (value == null) return null;
+        return intern(value.toCharArray(), 0, value.length());
+    }
+
+    private static boolean matches(String existing, char[] buffer, int offset, int length) {
+        if (existing.length() != length) return false;
+        for (int i = 0; i < length; i++) {
+            if (existing.charAt(i) != buffer[offset + i]) return false;
+        }
+        return true;
+    }
+}
@@ -0,0 +1,286 @@
+package dev.promise4.GgUd.service.directions;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * TMap 대중교통 응답 스트리밍 디코더
+ * Map 트리를 만들지 않고 JsonParser 토큰을 따라가며 필요한 필드만 DirectionsResponse 로 옮김
+ * 좌표(passShape, steps)는 요청할 때만 읽고 아니면 문자열을 만들지 않고 건너뛰며,
+ * 노선명/역명/이동수단은 인터너로 공유
+ */
+public final class TMapRouteDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final StringInterner INTERNER = new StringInterner(4096);
+
+    private TMapRouteDecoder() {
+    }
+
+    /**
+     * 응답 본문 디코딩 (metaData.plan.itineraries 가 없으면 빈 응답)
+     *
+     * @param includeGeometry false 면 linestring 을 채우지 않음
+     */
+    public static DirectionsResponse decode(byte[] body, boolean includeGeometry) throws IOException {
+        List<DirectionsResponse.RouteOption> routeOptions = new ArrayList<>();
+        try (JsonParser parser = JSON_FACTORY.createParser(body)) {
+            if (parser.nextToken() == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String field = parser.currentName();
+                    parser.nextToken();
+                    if ("metaData".equals(field)) {
+                        readMetaData(parser, includeGeometry, routeOptions);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+
+        routeOptions.sort(Comparator.comparingInt(DirectionsResponse.RouteOption::getTotalDuration));
+        return DirectionsResponse.builder().routeOptions(routeOptions).build();
+    }
+
+    private static void readMetaData(JsonParser parser, boolean includeGeometry,
+                                     List<DirectionsResponse.RouteOption> out) throws IOException {
+        if (!isObject(parser)) return;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("plan".equals(field) && isObject(parser)) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String planField = parser.currentName();
+                    parser.nextToken();
+                    if ("itineraries".equals(planField) && parser.currentToken() == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            out.add(readItinerary(parser, includeGeometry));
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    private static DirectionsResponse.RouteOption readItinerary(JsonParser parser, boolean includeGeometry)
+            throws IOException {
+        int totalTime = 0;
+        int totalDistance = 0;
+        int transferCount = 0;
+        int totalFare = 0;
+        List<DirectionsResponse.RouteStep> steps = new ArrayList<>();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "totalTime" -> totalTime = parser.getValueAsInt();
+                case "totalDistance" -> totalDistance = parser.getValueAsInt();
+                case "transferCount" -> transferCount = parser.getValueAsInt();
+                case "fare" -> totalFare = readFare(parser);
+                case "legs" -> {
+                    if (parser.currentToken() == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            steps.add(readLeg(parser, includeGeometry));
+                        }
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        return DirectionsResponse.RouteOption.builder()
+                .totalDuration(totalTime / 60)
+                .totalDistance(totalDistance)
+                .totalFare(totalFare)
+                .transferCount(transferCount)
+                .routes(steps)
+                .build();
+    }
+
+    /**
+     * fare.regular.totalFare
+     */
+    private static int readFare(JsonParser parser) throws IOException {
+        int totalFare = 0;
+        if (!isObject(parser)) return totalFare;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("regular".equals(field) && isObject(parser)) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String regularField = parser.currentName();
+                    parser.nextToken();
+                    if ("totalFare".equals(regularField)) {
+                        totalFare = parser.getValueAsInt();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return totalFare;
+    }
+
+    /**
+     * 구간 하나 디코딩, 필드 순서가 보장되지 않으므로 값을 모은 뒤 mode 기준으로 조립
+     */
+    private static DirectionsResponse.RouteStep readLeg(JsonParser parser, boolean includeGeometry)
+            throws IOException {
+        String mode = "WALK";
+        int sectionTime = 0;
+        int distance = 0;
+        String route = null;
+        String startName = "";
+        String endName = "";
+        String passShape = null;
+        String walkShape = null;
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            switch (field) {
+                case "mode" -> mode = internText(parser, mode);
+                case "sectionTime" -> sectionTime = parser.getValueAsInt();
+                case "distance" -> distance = parser.getValueAsInt();
+                // TMap API에서 route 필드는 "지선:1128" 형태의 String
+                case "route" -> route = internText(parser, null);
+                case "start" -> startName = readName(parser);
+                case "end" -> endName = readName(parser);
+                case "passShape" -> {
+                    if (includeGeometry) passShape = readPassShape(parser);
+                    else parser.skipChildren();
+                }
+                case "steps" -> {
+                    if (includeGeometry) walkShape = readWalkSteps(parser);
+                    else parser.skipChildren();
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        DirectionsResponse.TransportType type = switch (mode) {
+            case "BUS" -> DirectionsResponse.TransportType.BUS;
+            case "SUBWAY" -> DirectionsResponse.TransportType.SUBWAY;
+            case "TRANSFER" -> DirectionsResponse.TransportType.TRANSFER;
+            default -> DirectionsResponse.TransportType.WALK;
+        };
+        boolean transit = "BUS".equals(mode) || "SUBWAY".equals(mode);
+
+        String instruction;
+        if (transit) {
+            instruction = startName + " 승차 → " + endName + " 하차";
+        } else {
+            instruction = "WALK".equals(mode) ? "도보 이동" : "이동";
+        }
+
+        String linestring = null;
+        if (transit) {
+            linestring = passShape;
+        } else if ("WALK".equals(mode)) {
+            linestring = walkShape;
+        }
+
+        return DirectionsResponse.RouteStep.builder()
+                .type(type)
+                .instruction(instruction)
+                .duration(sectionTime / 60)
+                .distance(distance)
+                .lineName(transit ? route : null)
+                .linestring(linestring)
+                .build();
+    }
+
+    /**
+     * start/end.name
+     */
+    private static String readName(JsonParser parser) throws IOException {
+        String name = "";
+        if (!isObject(parser)) return name;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("name".equals(field)) {
+                name = internText(parser, "");
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return name;
+    }
+
+    /**
+     * 대중교통: passShape.linestring
+     */
+    private static String readPassShape(JsonParser parser) throws IOException {
+        String linestring = null;
+        if (!isObject(parser)) return null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            parser.nextToken();
+            if ("linestring".equals(field) && parser.currentToken() == JsonToken.VALUE_STRING) {
+                linestring = parser.getText();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return linestring;
+    }
+
+    /**
+     * 도보: steps[].linestring 을 공백으로 이어붙임
+     */
+    private static String readWalkSteps(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_ARRAY) {
+            parser.skipChildren();
+            return null;
+        }
+
+        StringBuilder sb = new StringBuilder();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("linestring".equals(field) && parser.currentToken() == JsonToken.VALUE_STRING) {
+                    String ls = parser.getText();
+                    if (!ls.isBlank()) {
+                        if (!sb.isEmpty()) sb.append(" ");
+                        sb.append(ls.trim());
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return sb.isEmpty() ? null : sb.toString();
+    }
+
+    private static String internText(JsonParser parser, String fallback) throws IOException {
+        if (parser.currentToken() != JsonToken.VALUE_STRING) {
+            parser.skipChildren();
+            return fallback;
+        }
+        return INTERNER.intern(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+    }
+
+    private static boolean isObject(JsonParser parser) throws IOException {
+        if (parser.currentToken() == JsonToken.START_OBJECT) return true;
+        parser.skipChildren();
+        return false;
+    }
+}
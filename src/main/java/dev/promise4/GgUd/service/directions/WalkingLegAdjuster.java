@@ -0,0 +1,112 @@
+package dev.promise4.GgUd.service.directions;
+
+import dev.promise4.GgUd.controller.dto.Coordinate;
+import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 캐시된 경로를 다른 출발지에 맞게 첫 도보 구간만 로컬 재계산
+ * 첫 구간이 좌표(linestring 또는 encodedPolyline)를 가진 도보면 승차 지점까지 직선거리로 다시 계산하고,
+ * 좌표가 없으면 두 출발지 사이 거리만큼 도보가 늘어난다고 보수적으로 가정
+ */
+public final class WalkingLegAdjuster {
+
+    /** 도보 경로는 직선거리보다 길다고 보고 보정 */
+    private static final double WALK_DETOUR_FACTOR = 1.3;
+    /** 도보 4.5km/h */
+    private static final double WALK_METERS_PER_MINUTE = 75.0;
+    private static final double NEGLIGIBLE_METERS = 5.0;
+
+    private WalkingLegAdjuster() {
+    }
+
+    public static DirectionsResponse adjust(DirectionsResponse cached, Coordinate cachedOrigin, Coordinate origin) {
+        double shiftMeters = cachedOrigin.distanceTo(origin) * 1000;
+        if (shiftMeters < NEGLIGIBLE_METERS || cached.getRouteOptions() == null) {
+            return cached;
+        }
+
+        List<DirectionsResponse.RouteOption> adjusted = new ArrayList<>(cached.getRouteOptions().size());
+        for (DirectionsResponse.RouteOption option : cached.getRouteOptions()) {
+            adjusted.add(adjustOption(option, origin, shiftMeters));
+        }
+        return DirectionsResponse.builder().routeOptions(adjusted).build();
+    }
+
+    private static DirectionsResponse.RouteOption adjustOption(DirectionsResponse.RouteOption option,
+                                                              Coordinate origin, double shiftMeters) {
+        List<DirectionsResponse.RouteStep> steps = option.getRoutes() != null ? option.getRoutes() : List.of();
+        DirectionsResponse.RouteStep first = steps.isEmpty() ? null : steps.get(0);
+
+        int deltaMeters = (int) Math.round(shiftMeters * WALK_DETOUR_FACTOR);
+        List<DirectionsResponse.RouteStep> adjustedSteps = steps;
+
+        if (first != null && first.getType() == DirectionsResponse.TransportType.WALK) {
+            Coordinate boarding = lastPoint(first);
+            if (boarding != null) {
+                int recalculated = (int) Math.round(origin.distanceTo(boarding) * 1000 * WALK_DETOUR_FACTOR);
+                deltaMeters = recalculated - first.getDistance();
+            }
+
+            int walkMeters = Math.max(0, first.getDistance() + deltaMeters);
+            adjustedSteps = new ArrayList<>(steps);
+            adjustedSteps.set(0, DirectionsResponse.RouteStep.builder()
+                    .type(first.getType())
+                    .instruction(first.getInstruction())
+                    .duration((int) Math.round(walkMeters / WALK_METERS_PER_MINUTE))
+                    .distance(walkMeters)
+                    .lineName(first.getLineName())
+                    .linestring(replaceFirstPoint(first.getLinestring(), origin))
+                    .encodedPolyline(replaceFirstEncodedPoint(first.getEncodedPolyline(), origin))
+                    .build());
+        }
+
+        int deltaMinutes = (int) Math.round(deltaMeters / WALK_METERS_PER_MINUTE);
+        return DirectionsResponse.RouteOption.builder()
+                .totalDuration(Math.max(1, option.getTotalDuration() + deltaMinutes))
+                .totalDistance(Math.max(0, option.getTotalDistance() + deltaMeters))
+                .totalFare(option.getTotalFare())
+                .transferCount(option.getTransferCount())
+                .routes(adjustedSteps)
+                .build();
+    }
+
+    /**
+     * 구간의 마지막 좌표 (linestring/encodedPolyline 모두 지원)
+     */
+    private static Coordinate lastPoint(DirectionsResponse.RouteStep step) {
+        try {
+            List<Coordinate> points = RouteGeometry.points(step);
+            return points.isEmpty() ? null : points.get(points.size() - 1);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /**
+     * "lon,lat lon,lat ..." 의 첫 좌표 교체
+     */
+    private static String replaceFirstPoint(String linestring, Coordinate origin) {
+        if (linestring == null || linestring.isBlank()) return linestring;
+        String trimmed = linestring.trim();
+        int space = trimmed.indexOf(' ');
+        String rest = space < 0 ? "" : trimmed.substring(space);
+        return origin.getLongitude() + "," + origin.getLatitude() + rest;
+    }
+
+    /**
+     * Encoded Polyline 의 첫 좌표 교체 (디코딩 실패 시 그대로)
+     */
+    private static String replaceFirstEncodedPoint(String encodedPolyline, Coordinate origin) {
+        if (encodedPolyline == null || encodedPolyline.isEmpty()) return encodedPolyline;
+        try {
+            List<Coordinate> points = new ArrayList<>(PolylineCodec.decode(encodedPolyline));
+            points.set(0, origin);
+            return PolylineCodec.encode(points);
+        } catch (IllegalArgumentException e) {
+            return encodedPolyline;
+        }
+    }
+}
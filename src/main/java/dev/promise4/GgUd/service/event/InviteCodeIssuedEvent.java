@@ -0,0 +1,13 @@
+package dev.promise4.GgUd.service.event;
+
+import java.time.LocalDateTime;
+
+/**
+ * 초대 코드 발급 이벤트 (약속 생성)
+ *
+ * @param promiseId       약속 ID
+ * @param inviteCode      발급한 초대 코드
+ * @param inviteExpiredAt 초대 만료 시각
+ */
+public record InviteCodeIssuedEvent(Long promiseId, String inviteCode, LocalDateTime inviteExpiredAt) {
+}
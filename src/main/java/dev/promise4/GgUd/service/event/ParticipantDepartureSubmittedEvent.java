@@ -0,0 +1,10 @@
+package dev.promise4.GgUd.service.event;
+
+/**
+ * 참여자 출발지 입력/수정 이벤트
+ *
+ * @param promiseId 약속 ID
+ * @param userId    출발지를 입력한 사용자 ID
+ */
+public record ParticipantDepartureSubmittedEvent(Long promiseId, Long userId) {
+}
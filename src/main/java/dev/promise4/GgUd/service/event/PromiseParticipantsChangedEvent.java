@@ -0,0 +1,10 @@
+package dev.promise4.GgUd.service.event;
+
+/**
+ * 약속 참여자 구성 변경 이벤트
+ *
+ * @param promiseId 약속 ID
+ * @param userId    변경된 참여자의 사용자 ID
+ */
+public record PromiseParticipantsChangedEvent(Long promiseId, Long userId) {
+}
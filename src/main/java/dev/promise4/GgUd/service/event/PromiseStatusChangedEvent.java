@@ -0,0 +1,12 @@
+package dev.promise4.GgUd.service.event;
+
+import dev.promise4.GgUd.entity.PromiseStatus;
+
+/**
+ * 약속 상태 변경 이벤트 (장소 재확정처럼 상태는 같아도 약속 정보가 바뀐 경우 포함)
+ *
+ * @param promiseId 약속 ID
+ * @param status    변경 후 상태
+ */
+public record PromiseStatusChangedEvent(Long promiseId, PromiseStatus status) {
+}
@@ -0,0 +1,10 @@
+package dev.promise4.GgUd.service.event;
+
+/**
+ * 사용자 프로필(닉네임, 프로필 이미지) 변경 이벤트
+ *
+ * @param userId          사용자 ID
+ * @param nicknameChanged 닉네임 변경 여부 (false 면 프로필 이미지만 변경)
+ */
+public record UserProfileChangedEvent(Long userId, boolean nicknameChanged) {
+}
@@ -0,0 +1,132 @@
+package dev.promise4.GgUd.service.invite;
+
+import dev.promise4.GgUd.config.InviteCacheProperties;
+import dev.promise4.GgUd.repository.PromiseRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 초대 코드 블룸 필터 (Redis 비트맵, 인스턴스 간 공유)
+ * 발급된 적 없는 코드는 DB 조회 없이 걸러내고, 있을 수도 있는 코드만 캐시/DB 로 넘김
+ * 비트맵 끝의 준비 비트가 켜진 뒤에만 거절에 사용하므로 재구성 중이거나 키가 사라지면 모두 통과시킴
+ * 취소된 코드의 비트는 지우지 않음 (없는 코드 캐시가 처리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class InviteCodeBloomFilter {
+
+    // Redis Key 패턴: invite:bloom (비트맵), invite:bloom:rebuild (재구성 잠금)
+    private static final String BLOOM_KEY = "invite:bloom";
+    private static final String REBUILD_LOCK_KEY = "invite:bloom:rebuild";
+    private static final Duration REBUILD_LOCK_TTL = Duration.ofMinutes(5);
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+    private final PromiseRepository promiseRepository;
+    private final InviteCacheProperties properties;
+
+    /**
+     * @return false 면 발급된 적 없는 코드, true 면 있을 수 있는 코드 (필터가 준비되지 않았으면 항상 true)
+     */
+    public boolean mightContain(String inviteCode) {
+        long[] offsets = offsets(inviteCode);
+        List<Object> bits = redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                ops.opsForValue().getBit(BLOOM_KEY, readyOffset());
+                for (long offset : offsets) {
+                    ops.opsForValue().getBit(BLOOM_KEY, offset);
+                }
+                return null;
+            }
+        });
+
+        if (!Boolean.TRUE.equals(bits.get(0))) return true;
+        for (int i = 1; i < bits.size(); i++) {
+            if (!Boolean.TRUE.equals(bits.get(i))) return false;
+        }
+        return true;
+    }
+
+    public void add(String inviteCode) {
+        addAll(List.of(inviteCode));
+    }
+
+    /**
+     * 준비 비트가 꺼져 있으면(최초 기동, 키 유실) DB 의 초대 코드로 재구성
+     * 여러 인스턴스가 동시에 하지 않도록 잠금 키를 잡은 인스턴스만 수행
+     */
+    @Scheduled(initialDelay = 0, fixedDelayString = "${app.invite-cache.bloom-rebuild-interval-millis:60000}")
+    public void ensureBuilt() {
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().getBit(BLOOM_KEY, readyOffset()))) return;
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(REBUILD_LOCK_KEY, "1", REBUILD_LOCK_TTL))) {
+            return;
+        }
+
+        try {
+            long start = System.nanoTime();
+            List<String> codes = promiseRepository.findActiveInviteCodes();
+            for (int from = 0; from < codes.size(); from += REBUILD_BATCH_SIZE) {
+                addAll(codes.subList(from, Math.min(codes.size(), from + REBUILD_BATCH_SIZE)));
+            }
+            redisTemplate.opsForValue().setBit(BLOOM_KEY, readyOffset(), true);
+            log.info("Invite code bloom filter rebuilt: codes={}, elapsed={}ms",
+                    codes.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            redisTemplate.delete(REBUILD_LOCK_KEY);
+        }
+    }
+
+    private void addAll(List<String> inviteCodes) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (String inviteCode : inviteCodes) {
+                    for (long offset : offsets(inviteCode)) {
+                        ops.opsForValue().setBit(BLOOM_KEY, offset, true);
+                    }
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 이중 해싱 비트 위치 (JVM 과 무관하게 같은 값이 나오도록 FNV-1a 64 + splitmix64)
+     */
+    long[] offsets(String inviteCode) {
+        long h1 = 0xcbf29ce484222325L;
+        for (int i = 0; i < inviteCode.length(); i++) {
+            h1 ^= inviteCode.charAt(i);
+            h1 *= 0x100000001b3L;
+        }
+        long h2 = h1 + 0x9e3779b97f4a7c15L;
+        h2 = (h2 ^ (h2 >>> 30)) * 0xbf58476d1ce4e5b9L;
+        h2 = (h2 ^ (h2 >>> 27)) * 0x94d049bb133111ebL;
+        h2 = (h2 ^ (h2 >>> 31)) | 1;
+
+        long[] offsets = new long[properties.getBloomHashes()];
+        for (int i = 0; i < offsets.length; i++) {
+            offsets[i] = Math.floorMod(h1 + i * h2, properties.getBloomBits());
+        }
+        return offsets;
+    }
+
+    private long readyOffset() {
+        return properties.getBloomBits();
+    }
+}
@@ -0,0 +1,161 @@
+package dev.promise4.GgUd.service.invite;
+
+import dev.promise4.GgUd.config.InviteCacheProperties;
+import dev.promise4.GgUd.entity.Promise;
+import dev.promise4.GgUd.entity.PromiseStatus;
+import dev.promise4.GgUd.repository.PromiseRepository;
+import dev.promise4.GgUd.service.event.InviteCodeIssuedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * 초대 코드 → 약속 ID 조회
+ * 형식이 틀린 코드 → 블룸 필터에 없는 코드 → 없는 코드 캐시 순으로 DB 전에 걸러내고,
+ * 있는 코드는 초대 만료 시각까지 Redis 에 보관해 초대 링크 조회가 DB 의 초대 코드 조회를 거치지 않게 함
+ * 취소된 약속의 코드는 없는 코드로 취급
+ * 새 코드는 약속 생성이 커밋된 뒤에 등록 (롤백된 약속의 코드가 캐시·블룸 필터에 남지 않도록)
+ */
+@Slf4j
+@Component
+public class InviteCodeResolver {
+
+    // Redis Key 패턴: invite:code:{inviteCode} (약속 ID), invite:missing:{inviteCode} (없는 코드)
+    private static final String CODE_KEY_PREFIX = "invite:code:";
+    private static final String MISSING_KEY_PREFIX = "invite:missing:";
+    // Promise 빌더가 발급하는 형식 (대문자·숫자 6자리)
+    private static final Pattern INVITE_CODE = Pattern.compile("^[A-Z0-9]{6}$");
+
+    private final StringRedisTemplate redisTemplate;
+    private final PromiseRepository promiseRepository;
+    private final InviteCodeBloomFilter bloomFilter;
+    private final InviteCacheProperties properties;
+
+    private final Counter cached;
+    private final Counter loaded;
+    private final Counter rejectedFormat;
+    private final Counter rejectedBloom;
+    private final Counter rejectedNegative;
+    private final Counter missing;
+
+    public InviteCodeResolver(StringRedisTemplate redisTemplate, PromiseRepository promiseRepository,
+                              InviteCodeBloomFilter bloomFilter, InviteCacheProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.redisTemplate = redisTemplate;
+        this.promiseRepository = promiseRepository;
+        this.bloomFilter = bloomFilter;
+        this.properties = properties;
+        this.cached = resolveCounter(meterRegistry, "cached");
+        this.loaded = resolveCounter(meterRegistry, "loaded");
+        this.rejectedFormat = resolveCounter(meterRegistry, "rejected_format");
+        this.rejectedBloom = resolveCounter(meterRegistry, "rejected_bloom");
+        this.rejectedNegative = resolveCounter(meterRegistry, "rejected_negative");
+        this.missing = resolveCounter(meterRegistry, "missing");
+    }
+
+    /**
+     * 초대 코드의 약속 ID (없거나 취소된 약속이면 empty, 만료 여부는 호출하는 쪽에서 검증)
+     */
+    public Optional<Long> resolve(String inviteCode) {
+        if (inviteCode == null || !INVITE_CODE.matcher(inviteCode).matches()) {
+            rejectedFormat.increment();
+            return Optional.empty();
+        }
+
+        if (!properties.isEnabled()) {
+            return load(inviteCode).map(Promise::getId);
+        }
+
+        String promiseId = redisTemplate.opsForValue().get(CODE_KEY_PREFIX + inviteCode);
+        if (promiseId != null) {
+            cached.increment();
+            return Optional.of(Long.parseLong(promiseId));
+        }
+
+        if (!bloomFilter.mightContain(inviteCode)) {
+            rejectedBloom.increment();
+            return Optional.empty();
+        }
+
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(MISSING_KEY_PREFIX + inviteCode))) {
+            rejectedNegative.increment();
+            return Optional.empty();
+        }
+
+        Optional<Promise> promise = load(inviteCode);
+        if (promise.isEmpty()) {
+            missing.increment();
+            markMissing(inviteCode);
+            log.debug("Invite code not found: inviteCode={}", inviteCode);
+            return Optional.empty();
+        }
+
+        loaded.increment();
+        remember(inviteCode, promise.get().getId(), promise.get().getInviteExpiredAt());
+        return promise.map(Promise::getId);
+    }
+
+    /**
+     * 새로 발급한 초대 코드 등록 (약속 생성 커밋 후)
+     * 실패해도 조회 시 DB 에서 찾아 캐시하므로 로그만 남김 (블룸 필터는 다음 재구성 때 반영)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onInviteCodeIssued(InviteCodeIssuedEvent event) {
+        if (!properties.isEnabled()) return;
+
+        try {
+            bloomFilter.add(event.inviteCode());
+            redisTemplate.delete(MISSING_KEY_PREFIX + event.inviteCode());
+            remember(event.inviteCode(), event.promiseId(), event.inviteExpiredAt());
+        } catch (RuntimeException e) {
+            log.warn("Failed to register invite code: promiseId={}, error={}", event.promiseId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 약속 취소 등으로 더 이상 쓸 수 없는 초대 코드 무효화
+     */
+    public void invalidate(String inviteCode) {
+        if (!properties.isEnabled()) return;
+
+        redisTemplate.delete(CODE_KEY_PREFIX + inviteCode);
+        markMissing(inviteCode);
+    }
+
+    private Optional<Promise> load(String inviteCode) {
+        return promiseRepository.findByInviteCode(inviteCode)
+                .filter(promise -> promise.getStatus() != PromiseStatus.CANCELLED);
+    }
+
+    /**
+     * 초대 만료 시각까지 보관 (이미 만료됐으면 만료 안내를 위해 짧게 보관)
+     */
+    private void remember(String inviteCode, Long promiseId, LocalDateTime inviteExpiredAt) {
+        Duration ttl = Duration.between(LocalDateTime.now(), inviteExpiredAt);
+        Duration minimum = Duration.ofSeconds(properties.getExpiredTtlSeconds());
+        if (ttl.compareTo(minimum) < 0) {
+            ttl = minimum;
+        }
+        redisTemplate.opsForValue().set(CODE_KEY_PREFIX + inviteCode, promiseId.toString(), ttl);
+    }
+
+    private void markMissing(String inviteCode) {
+        redisTemplate.opsForValue().set(MISSING_KEY_PREFIX + inviteCode, "1",
+                Duration.ofSeconds(properties.getNegativeTtlSeconds()));
+    }
+
+    private static Counter resolveCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("invite.resolve")
+                .description("Invite code lookups by how they were answered")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
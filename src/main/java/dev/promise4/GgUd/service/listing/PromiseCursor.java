@@ -0,0 +1,47 @@
+package dev.promise4.GgUd.service.listing;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 내 약속 목록 keyset 커서 (마지막으로 받은 약속의 일시와 ID)
+ * 클라이언트에는 내용을 해석할 필요 없는 base64url 문자열로 전달
+ *
+ * @param promiseDateTime 마지막 약속 일시
+ * @param promiseId       마지막 약속 ID (같은 일시끼리의 순서)
+ */
+public record PromiseCursor(LocalDateTime promiseDateTime, long promiseId) {
+
+    private static final String SEPARATOR = "|";
+    // 첫 페이지 커서 (DB timestamp 범위 안의 양 끝값)
+    private static final PromiseCursor FIRST_DESCENDING =
+            new PromiseCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+    private static final PromiseCursor FIRST_ASCENDING =
+            new PromiseCursor(LocalDateTime.of(1, 1, 1, 0, 0), Long.MIN_VALUE);
+
+    /**
+     * 첫 페이지 조회용 커서 (모든 약속보다 앞)
+     */
+    public static PromiseCursor first(boolean ascending) {
+        return ascending ? FIRST_ASCENDING : FIRST_DESCENDING;
+    }
+
+    public String encode() {
+        String raw = promiseDateTime + SEPARATOR + promiseId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static PromiseCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            return new PromiseCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    Long.parseLong(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다");
+        }
+    }
+}
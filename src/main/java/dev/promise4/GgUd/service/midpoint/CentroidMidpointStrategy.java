@@ -0,0 +1,33 @@
+package dev.promise4.GgUd.service.midpoint;
+
+import dev.promise4.GgUd.controller.dto.Coordinate;
+import dev.promise4.GgUd.service.MidpointCalculationService;
+import dev.promise4.GgUd.service.station.SubwayStationIndex;
+import org.springframework.stereotype.Component;
+
+/**
+ * 평균 좌표 기준 전략 (기존 방식)
+ */
+@Component
+public class CentroidMidpointStrategy extends NearestStationMidpointStrategy {
+
+    public static final String NAME = "centroid";
+
+    private final MidpointCalculationService midpointCalculationService;
+
+    public CentroidMidpointStrategy(SubwayStationIndex subwayStationIndex,
+                                    MidpointCalculationService midpointCalculationService) {
+        super(subwayStationIndex);
+        this.midpointCalculationService = midpointCalculationService;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    protected Coordinate locate(MidpointProblem problem) {
+        return midpointCalculationService.calculateMidpoint(problem.getDepartures());
+    }
+}
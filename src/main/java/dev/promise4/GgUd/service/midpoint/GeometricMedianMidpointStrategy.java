@@ -0,0 +1,39 @@
+package dev.promise4.GgUd.service.midpoint;
+
+import dev.promise4.GgUd.config.MidpointProperties;
+import dev.promise4.GgUd.controller.dto.Coordinate;
+import dev.promise4.GgUd.service.MidpointCalculationService;
+import dev.promise4.GgUd.service.station.SubwayStationIndex;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기하 중앙값(Weiszfeld) 기준 전략
+ * 직선거리 합을 최소화하므로 한쪽에 몰린 참여자 무리에 덜 끌려감
+ */
+@Component
+public class GeometricMedianMidpointStrategy extends NearestStationMidpointStrategy {
+
+    public static final String NAME = "geometric-median";
+
+    private final MidpointCalculationService midpointCalculationService;
+    private final MidpointProperties midpointProperties;
+
+    public GeometricMedianMidpointStrategy(SubwayStationIndex subwayStationIndex,
+                                           MidpointCalculationService midpointCalculationService,
+                                           MidpointProperties midpointProperties) {
+        super(subwayStationIndex);
+        this.midpointCalculationService = midpointCalculationService;
+        this.midpointProperties = midpointProperties;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    protected Coordinate locate(MidpointProblem problem) {
+        return midpointCalculationService.calculateGeometricMedian(
+                problem.getDepartures(), midpointProperties.getWeiszfeldMaxIterations());
+    }
+}
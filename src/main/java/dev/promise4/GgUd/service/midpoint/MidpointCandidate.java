@@ -0,0 +1,12 @@
+package dev.promise4.GgUd.service.midpoint;
+
+import dev.promise4.GgUd.entity.SubwayStation;
+
+/**
+ * 전략이 고른 후보역
+ *
+ * @param distanceFromMidpointKm 계산된 중간지점으로부터의 직선거리
+ * @param fairness               추정 이동시간 기준 공정성 지표
+ */
+public record MidpointCandidate(SubwayStation station, double distanceFromMidpointKm, TravelTimeFairness fairness) {
+}
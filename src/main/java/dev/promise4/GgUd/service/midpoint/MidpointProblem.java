@@ -0,0 +1,56 @@
+package dev.promise4.GgUd.service.midpoint;
+
+import dev.promise4.GgUd.controller.dto.Coordinate;
+import dev.promise4.GgUd.entity.SubwayStation;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 한 번의 중간지점 계산 입력
+ * 출발지, 탐색 대상 역, 후보 수, 탐색 시간 예산과 이동시간 조회 함수를 묶음
+ */
+@Getter
+public class MidpointProblem {
+
+    private final List<Coordinate> departures;
+    private final List<SubwayStation> stations;
+    private final int candidateCount;
+    private final long deadlineNanos;
+    private final TravelTimeTable travelTimeTable;
+
+    public MidpointProblem(List<Coordinate> departures, List<SubwayStation> stations, int candidateCount,
+                           long budgetNanos, TravelTimeTable travelTimeTable) {
+        if (departures == null || departures.isEmpty()) {
+            throw new IllegalArgumentException("출발지 목록이 비어있습니다");
+        }
+        this.departures = departures;
+        this.stations = stations;
+        this.candidateCount = candidateCount;
+        this.deadlineNanos = System.nanoTime() + budgetNanos;
+        this.travelTimeTable = travelTimeTable;
+    }
+
+    public boolean isOverBudget() {
+        return System.nanoTime() - deadlineNanos > 0;
+    }
+
+    /**
+     * 역 하나에 대한 전체 참여자 공정성 지표
+     */
+    public TravelTimeFairness evaluate(SubwayStation station) {
+        int[] minutes = new int[departures.size()];
+        for (int i = 0; i < minutes.length; i++) {
+            minutes[i] = travelTimeTable.minutes(i, station);
+        }
+        return TravelTimeFairness.of(minutes);
+    }
+
+    /**
+     * 출발지 순번 → 역 추정 이동시간 (분)
+     */
+    @FunctionalInterface
+    public interface TravelTimeTable {
+        int minutes(int departureIndex, SubwayStation station);
+    }
+}
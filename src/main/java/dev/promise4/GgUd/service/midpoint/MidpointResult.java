@@ -0,0 +1,15 @@
+package dev.promise4.GgUd.service.midpoint;
+
+import dev.promise4.GgUd.controller.dto.Coordinate;
+
+import java.util.List;
+
+/**
+ * 중간지점 계산 결과
+ *
+ * @param strategy   사용한 전략 이름
+ * @param midpoint   계산된 중간지점 좌표
+ * @param candidates 순위순 후보역
+ */
+public record MidpointResult(String strategy, Coordinate midpoint, List<MidpointCandidate> candidates) {
+}
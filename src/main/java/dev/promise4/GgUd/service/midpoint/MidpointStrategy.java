@@ -0,0 +1,15 @@
+package dev.promise4.GgUd.service.midpoint;
+
+/**
+ * 중간지점 계산 전략
+ * 구현체는 빈으로 등록되고 app.midpoint.strategy 값(이름)으로 선택됨
+ */
+public interface MidpointStrategy {
+
+    /**
+     * 설정에서 사용하는 전략 이름
+     */
+    String getName();
+
+    MidpointResult solve(MidpointProblem problem);
+}
@@ -0,0 +1,95 @@
+package dev.promise4.GgUd.service.midpoint;
+
+import dev.promise4.GgUd.config.MidpointProperties;
+import dev.promise4.GgUd.controller.dto.Coordinate;
+import dev.promise4.GgUd.entity.SubwayStation;
+import dev.promise4.GgUd.service.station.SubwayStationIndex;
+import dev.promise4.GgUd.service.station.TransitTimeEstimator;
+import dev.promise4.GgUd.service.station.TransitTimeMatrix;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 중간지점 전략 선택 및 실행
+ * 참여자별 전체 역 이동시간을 요청마다 한 번만 계산해 전략에 넘김
+ */
+@Slf4j
+@Service
+public class MidpointStrategyEngine {
+
+    private final Map<String, MidpointStrategy> strategies;
+    private final SubwayStationIndex subwayStationIndex;
+    private final TransitTimeEstimator transitTimeEstimator;
+    private final MidpointProperties midpointProperties;
+
+    public MidpointStrategyEngine(List<MidpointStrategy> strategies,
+                                  SubwayStationIndex subwayStationIndex,
+                                  TransitTimeEstimator transitTimeEstimator,
+                                  MidpointProperties midpointProperties) {
+        this.strategies = strategies.stream()
+                .collect(Collectors.toUnmodifiableMap(MidpointStrategy::getName, Function.identity()));
+        this.subwayStationIndex = subwayStationIndex;
+        this.transitTimeEstimator = transitTimeEstimator;
+        this.midpointProperties = midpointProperties;
+    }
+
+    /**
+     * 설정된 전략으로 후보역 계산
+     */
+    public MidpointResult solve(List<Coordinate> departures, int candidateCount) {
+        return solve(midpointProperties.getStrategy(), departures, candidateCount);
+    }
+
+    public MidpointResult solve(String strategyName, List<Coordinate> departures, int candidateCount) {
+        MidpointStrategy strategy = strategies.get(strategyName);
+        if (strategy == null) {
+            log.warn("Unknown midpoint strategy '{}', falling back to {}", strategyName, CentroidMidpointStrategy.NAME);
+            strategy = strategies.get(CentroidMidpointStrategy.NAME);
+        }
+
+        long start = System.nanoTime();
+        MidpointProblem problem = new MidpointProblem(
+                departures,
+                subwayStationIndex.getStations(),
+                candidateCount,
+                TimeUnit.MILLISECONDS.toNanos(midpointProperties.getSearchBudgetMillis()),
+                travelTimeTable(departures));
+        MidpointResult result = strategy.solve(problem);
+
+        log.debug("Midpoint solved: strategy={}, departures={}, candidates={}, elapsed={}us",
+                result.strategy(), departures.size(), result.candidates().size(),
+                (System.nanoTime() - start) / 1_000);
+        return result;
+    }
+
+    /**
+     * 행렬 노드가 있는 역은 미리 계산한 참여자별 배열에서, 없으면 추정기에서 직접 조회
+     */
+    private MidpointProblem.TravelTimeTable travelTimeTable(List<Coordinate> departures) {
+        TransitTimeMatrix matrix = transitTimeEstimator.current();
+        if (matrix == null) {
+            return (i, station) -> transitTimeEstimator.estimateMinutes(departures.get(i), station);
+        }
+
+        int[][] fromDeparture = new int[departures.size()][];
+        for (int i = 0; i < fromDeparture.length; i++) {
+            fromDeparture[i] = transitTimeEstimator.travelTimesFrom(departures.get(i));
+        }
+
+        return (i, station) -> {
+            int node = matrix.nodeOf(station);
+            int minutes = node >= 0 && node < fromDeparture[i].length
+                    ? fromDeparture[i][node]
+                    : TransitTimeMatrix.UNREACHABLE;
+            return minutes != TransitTimeMatrix.UNREACHABLE
+                    ? minutes
+                    : transitTimeEstimator.estimateMinutes(departures.get(i), station);
+        };
+    }
+}
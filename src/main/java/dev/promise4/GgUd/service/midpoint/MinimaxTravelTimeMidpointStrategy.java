@@ -0,0 +1,84 @@
+package dev.promise4.GgUd.service.midpoint;
+
+import dev.promise4.GgUd.config.MidpointProperties;
+import dev.promise4.GgUd.controller.dto.Coordinate;
+import dev.promise4.GgUd.entity.SubwayStation;
+import dev.promise4.GgUd.service.MidpointCalculationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 최대 이동시간 최소화(minimax) 전략
+ * 기하 중앙값에서 가까운 역부터 전체 역을 추정 이동시간으로 평가하고,
+ * 시간 예산을 넘기면 그때까지 평가한 역 중에서 순위를 매김
+ * 같은 역명(환승역)은 가장 좋은 노선 하나만 남김
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MinimaxTravelTimeMidpointStrategy implements MidpointStrategy {
+
+    public static final String NAME = "minimax";
+
+    private static final int BUDGET_CHECK_INTERVAL = 32;
+
+    private final MidpointCalculationService midpointCalculationService;
+    private final MidpointProperties midpointProperties;
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+    @Override
+    public MidpointResult solve(MidpointProblem problem) {
+        Coordinate center = midpointCalculationService.calculateGeometricMedian(
+                problem.getDepartures(), midpointProperties.getWeiszfeldMaxIterations());
+
+        List<SubwayStation> ordered = new ArrayList<>(problem.getStations());
+        ordered.sort(Comparator.comparingDouble(station -> center.distanceTo(toCoordinate(station))));
+
+        int limit = midpointProperties.getMaxSearchStations() > 0
+                ? Math.min(ordered.size(), midpointProperties.getMaxSearchStations())
+                : ordered.size();
+
+        Map<String, MidpointCandidate> bestByName = new HashMap<>();
+        int evaluated = 0;
+        for (; evaluated < limit; evaluated++) {
+            if (evaluated >= problem.getCandidateCount()
+                    && evaluated % BUDGET_CHECK_INTERVAL == 0
+                    && problem.isOverBudget()) {
+                break;
+            }
+
+            SubwayStation station = ordered.get(evaluated);
+            MidpointCandidate scored = new MidpointCandidate(
+                    station, center.distanceTo(toCoordinate(station)), problem.evaluate(station));
+            bestByName.merge(station.getStationName(), scored,
+                    (a, b) -> TravelTimeFairness.MINIMAX_ORDER.compare(a.fairness(), b.fairness()) <= 0 ? a : b);
+        }
+
+        if (evaluated < limit) {
+            log.info("Minimax midpoint search stopped by budget: evaluated={}, total={}", evaluated, limit);
+        }
+
+        List<MidpointCandidate> ranked = bestByName.values().stream()
+                .sorted(Comparator.comparing(MidpointCandidate::fairness, TravelTimeFairness.MINIMAX_ORDER)
+                        .thenComparingDouble(MidpointCandidate::distanceFromMidpointKm))
+                .limit(problem.getCandidateCount())
+                .toList();
+
+        return new MidpointResult(NAME, center, ranked);
+    }
+
+    private static Coordinate toCoordinate(SubwayStation station) {
+        return Coordinate.of(station.getLatitude(), station.getLongitude());
+    }
+}
@@ -0,0 +1,31 @@
+package dev.promise4.GgUd.service.midpoint;
+
+import dev.promise4.GgUd.controller.dto.Coordinate;
+import dev.promise4.GgUd.controller.dto.StationDistance;
+import dev.promise4.GgUd.service.station.SubwayStationIndex;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 좌표 하나를 정한 뒤 가장 가까운 역들을 거리순 후보로 내는 전략 공통 구현
+ */
+@RequiredArgsConstructor
+abstract class NearestStationMidpointStrategy implements MidpointStrategy {
+
+    private final SubwayStationIndex subwayStationIndex;
+
+    protected abstract Coordinate locate(MidpointProblem problem);
+
+    @Override
+    public MidpointResult solve(MidpointProblem problem) {
+        Coordinate midpoint = locate(problem);
+
+        List<StationDistance> nearest = subwayStationIndex.findNearest(midpoint, problem.getCandidateCount());
+        List<MidpointCandidate> candidates = nearest.stream()
+                .map(sd -> new MidpointCandidate(sd.getStation(), sd.getDistanceKm(), problem.evaluate(sd.getStation())))
+                .toList();
+
+        return new MidpointResult(getName(), midpoint, candidates);
+    }
+}
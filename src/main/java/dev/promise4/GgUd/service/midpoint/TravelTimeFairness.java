@@ -0,0 +1,39 @@
+package dev.promise4.GgUd.service.midpoint;
+
+import java.util.Comparator;
+
+/**
+ * 한 후보역에 대한 참여자 이동시간 공정성 지표 (분)
+ *
+ * @param maxMinutes     가장 오래 걸리는 참여자의 이동시간
+ * @param averageMinutes 평균 이동시간
+ * @param variance       이동시간 분산
+ */
+public record TravelTimeFairness(int maxMinutes, double averageMinutes, double variance) {
+
+    /**
+     * 최대 이동시간 → 평균 → 분산 순 (minimax 기준)
+     */
+    public static final Comparator<TravelTimeFairness> MINIMAX_ORDER = Comparator
+            .comparingInt(TravelTimeFairness::maxMinutes)
+            .thenComparingDouble(TravelTimeFairness::averageMinutes)
+            .thenComparingDouble(TravelTimeFairness::variance);
+
+    public static TravelTimeFairness of(int[] minutes) {
+        if (minutes.length == 0) {
+            return new TravelTimeFairness(0, 0, 0);
+        }
+
+        int max = 0;
+        long sum = 0;
+        long sumOfSquares = 0;
+        for (int m : minutes) {
+            max = Math.max(max, m);
+            sum += m;
+            sumOfSquares += (long) m * m;
+        }
+        double average = (double) sum / minutes.length;
+        double variance = Math.max(0, (double) sumOfSquares / minutes.length - average * average);
+        return new TravelTimeFairness(max, average, variance);
+    }
+}
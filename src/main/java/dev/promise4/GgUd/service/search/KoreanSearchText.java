@@ -0,0 +1,123 @@
+package dev.promise4.GgUd.service.search;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 약속 검색 텍스트 생성/검색어 변환
+ * 검색 텍스트는 "소문자 원문\n초성 변환문" 두 줄이라 LIKE '%검색어%' 하나로 부분 일치와 초성 검색(ㄱㄴㅇ → 강남역)을 함께 처리
+ * 초성 변환 규칙은 V8 마이그레이션의 promise_search_chosung 함수와 동일하게 유지
+ * pg_trgm 은 3자 미만 검색어에서 trigram 을 뽑지 못하므로, 2자 이하 검색어는 검색 텍스트의 1~2자 조각을
+ * 공백으로 구분한 토큰 문자열에서 LIKE '% 검색어 %' 로 찾음 (앞뒤 공백 덕분에 단어 단위 trigram 이 생겨 인덱스 사용)
+ * 토큰 생성 규칙은 V9 마이그레이션의 promise_search_tokens 함수와 동일하게 유지
+ */
+public final class KoreanSearchText {
+
+    public static final int MAX_KEYWORD_LENGTH = 50;
+    /** 토큰 검색을 쓰는 최대 검색어 길이 (trigram 이 생기지 않는 길이) */
+    public static final int MAX_TOKEN_LENGTH = 2;
+
+    private static final char HANGUL_FIRST = '가';
+    private static final char HANGUL_LAST = '힣';
+    // 초성 하나당 중성 21 × 종성 28 음절
+    private static final int SYLLABLES_PER_INITIAL = 21 * 28;
+    private static final char[] INITIALS = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ".toCharArray();
+    private static final char ESCAPE = '\\';
+
+    private KoreanSearchText() {
+    }
+
+    /**
+     * 약속 검색 텍스트 (제목 + 참여자 닉네임)
+     */
+    public static String build(String title, Collection<String> nicknames) {
+        StringBuilder base = new StringBuilder(title == null ? "" : title);
+        for (String nickname : nicknames) {
+            if (nickname != null) {
+                base.append(' ').append(nickname);
+            }
+        }
+        String normalized = base.toString().toLowerCase(Locale.ROOT);
+        return normalized + "\n" + chosung(normalized);
+    }
+
+    /**
+     * 검색 텍스트의 짧은 검색어용 토큰 문자열 (" 토큰 토큰 ... ")
+     * 줄마다 글자·숫자로만 이뤄진 1~2자 부분 문자열을 중복 없이 모음
+     */
+    public static String tokens(String searchText) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String line : searchText.split("\n")) {
+            for (int i = 0; i < line.length(); i++) {
+                if (!Character.isLetterOrDigit(line.charAt(i))) continue;
+                tokens.add(line.substring(i, i + 1));
+                if (i + 1 < line.length() && Character.isLetterOrDigit(line.charAt(i + 1))) {
+                    tokens.add(line.substring(i, i + 2));
+                }
+            }
+        }
+        return tokens.isEmpty() ? " " : " " + String.join(" ", tokens) + " ";
+    }
+
+    /**
+     * 한글 음절을 초성으로 바꾸고 나머지 문자는 그대로 둠
+     */
+    public static String chosung(String text) {
+        StringBuilder result = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char ch = text.charAt(i);
+            if (ch >= HANGUL_FIRST && ch <= HANGUL_LAST) {
+                result.append(INITIALS[(ch - HANGUL_FIRST) / SYLLABLES_PER_INITIAL]);
+            } else {
+                result.append(ch);
+            }
+        }
+        return result.toString();
+    }
+
+    /**
+     * 검색어 → LIKE 패턴 (앞뒤 공백 제거, 소문자, %/_ 이스케이프)
+     */
+    public static String likePattern(String keyword) {
+        String normalized = normalize(keyword);
+        StringBuilder pattern = new StringBuilder(normalized.length() + 2).append('%');
+        for (int i = 0; i < normalized.length(); i++) {
+            char ch = normalized.charAt(i);
+            if (ch == '%' || ch == '_' || ch == ESCAPE) {
+                pattern.append(ESCAPE);
+            }
+            pattern.append(ch);
+        }
+        return pattern.append('%').toString();
+    }
+
+    /**
+     * 짧은 검색어 → 토큰 문자열용 LIKE 패턴 ('% 검색어 %')
+     *
+     * @return 글자·숫자로만 된 2자 이하 검색어가 아니면 null (likePattern 으로 검색 텍스트를 찾음)
+     */
+    public static String tokenPattern(String keyword) {
+        String normalized = normalize(keyword);
+        if (normalized.length() > MAX_TOKEN_LENGTH) return null;
+        for (int i = 0; i < normalized.length(); i++) {
+            if (!Character.isLetterOrDigit(normalized.charAt(i))) return null;
+        }
+        return "% " + normalized + " %";
+    }
+
+    /**
+     * 검색어 정규화 (앞뒤 공백 제거, 소문자, 길이 검증)
+     */
+    private static String normalize(String keyword) {
+        String normalized = keyword == null ? "" : keyword.strip().toLowerCase(Locale.ROOT);
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요");
+        }
+        if (normalized.length() > MAX_KEYWORD_LENGTH) {
+            throw new IllegalArgumentException("검색어는 " + MAX_KEYWORD_LENGTH + "자 이하여야 합니다");
+        }
+        return normalized;
+    }
+}
@@ -0,0 +1,107 @@
+package dev.promise4.GgUd.service.search;
+
+import dev.promise4.GgUd.entity.Participant;
+import dev.promise4.GgUd.entity.Promise;
+import dev.promise4.GgUd.entity.PromiseSearchDocument;
+import dev.promise4.GgUd.repository.ParticipantRepository;
+import dev.promise4.GgUd.repository.PromiseRepository;
+import dev.promise4.GgUd.repository.PromiseSearchDocumentRepository;
+import dev.promise4.GgUd.service.event.PromiseParticipantsChangedEvent;
+import dev.promise4.GgUd.service.event.UserProfileChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 약속 검색 문서 증분 갱신
+ * 참여자 구성이 바뀐 약속, 닉네임이 바뀐 사용자의 약속만 다시 만들고 전체 재색인은 하지 않음
+ * 커밋 후 약속마다 별도 트랜잭션으로 수행하고 실패는 로그만 남겨 검색 문서 갱신이 원래 요청을 실패시키지 않게 함
+ * 같은 약속의 재색인은 약속 행 잠금으로 직렬화해, 먼저 끝난 재색인이 커밋한 문서와 참여자를 보고 이어서 맞춤
+ */
+@Slf4j
+@Component
+public class PromiseSearchIndexer {
+
+    private final PromiseRepository promiseRepository;
+    private final ParticipantRepository participantRepository;
+    private final PromiseSearchDocumentRepository documentRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public PromiseSearchIndexer(PromiseRepository promiseRepository, ParticipantRepository participantRepository,
+                                PromiseSearchDocumentRepository documentRepository,
+                                PlatformTransactionManager transactionManager) {
+        this.promiseRepository = promiseRepository;
+        this.participantRepository = participantRepository;
+        this.documentRepository = documentRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipantsChanged(PromiseParticipantsChangedEvent event) {
+        reindexSafely(event.promiseId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        if (!event.nicknameChanged()) return;
+
+        List<Long> promiseIds = participantRepository.findPromiseIdsByUserId(event.userId());
+        promiseIds.forEach(this::reindexSafely);
+        log.debug("Promise search documents reindexed for user: userId={}, promises={}",
+                event.userId(), promiseIds.size());
+    }
+
+    private void reindexSafely(Long promiseId) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> reindex(promiseId));
+        } catch (RuntimeException e) {
+            log.warn("Failed to reindex promise search documents: promiseId={}", promiseId, e);
+        }
+    }
+
+    /**
+     * 약속의 검색 문서를 현재 참여자 기준으로 맞춤 (참여자별 upsert, 빠진 참여자 문서 삭제)
+     * 동시에 들어온 재색인이 같은 문서를 각자 INSERT 하다 유니크 제약으로 롤백되지 않도록 약속 행을 먼저 잠금
+     */
+    void reindex(Long promiseId) {
+        Optional<Promise> promise = promiseRepository.findByIdWithLock(promiseId);
+        if (promise.isEmpty()) {
+            documentRepository.deleteByPromiseId(promiseId);
+            return;
+        }
+
+        List<Participant> participants = participantRepository.findByPromiseId(promiseId);
+        String searchText = KoreanSearchText.build(promise.get().getTitle(),
+                participants.stream().map(participant -> participant.getUser().getNickname()).toList());
+        String searchTokens = KoreanSearchText.tokens(searchText);
+
+        Map<Long, PromiseSearchDocument> existing = documentRepository.findByPromiseId(promiseId).stream()
+                .collect(Collectors.toMap(PromiseSearchDocument::getUserId, Function.identity()));
+
+        for (Participant participant : participants) {
+            PromiseSearchDocument document = existing.remove(participant.getUser().getId());
+            if (document == null) {
+                documentRepository.save(PromiseSearchDocument.builder()
+                        .userId(participant.getUser().getId())
+                        .promiseId(promiseId)
+                        .promiseDateTime(promise.get().getPromiseDateTime())
+                        .searchText(searchText)
+                        .searchTokens(searchTokens)
+                        .build());
+            } else if (!searchText.equals(document.getSearchText())) {
+                document.updateSearchText(searchText, searchTokens);
+            }
+        }
+        documentRepository.deleteAll(existing.values());
+    }
+}
@@ -0,0 +1,256 @@
+package dev.promise4.GgUd.service.station;
+
+import dev.promise4.GgUd.controller.dto.Coordinate;
+import dev.promise4.GgUd.controller.dto.StationDistance;
+import dev.promise4.GgUd.entity.SubwayStation;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 지하철역 최근접 탐색용 불변 KD-트리
+ * 위경도를 단위 구 위의 3차원 좌표로 변환해 저장하므로
+ * 현(chord) 거리 순서가 Haversine 거리 순서와 정확히 일치함
+ */
+public final class StationKdTree {
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final int DIMENSIONS = 3;
+
+    private final SubwayStation[] stations;
+    private final double[] points; // [x0, y0, z0, x1, y1, z1, ...] (암묵적 균형 트리 순서)
+
+    private StationKdTree(SubwayStation[] stations, double[] points) {
+        this.stations = stations;
+        this.points = points;
+    }
+
+    /**
+     * 역 목록으로 트리 생성 (위경도가 없는 역은 제외)
+     */
+    public static StationKdTree build(List<SubwayStation> source) {
+        List<SubwayStation> valid = source.stream()
+                .filter(s -> s.getLatitude() != null && s.getLongitude() != null)
+                .toList();
+
+        SubwayStation[] stations = valid.toArray(new SubwayStation[0]);
+        double[] points = new double[stations.length * DIMENSIONS];
+        for (int i = 0; i < stations.length; i++) {
+            toUnitVector(stations[i].getLatitude(), stations[i].getLongitude(), points, i * DIMENSIONS);
+        }
+
+        buildRange(stations, points, 0, stations.length, 0);
+        return new StationKdTree(stations, points);
+    }
+
+    public int size() {
+        return stations.length;
+    }
+
+    public boolean isEmpty() {
+        return stations.length == 0;
+    }
+
+    /**
+     * 색인된 모든 역 (트리 순서)
+     */
+    public List<SubwayStation> getStations() {
+        return List.of(stations);
+    }
+
+    /**
+     * 가장 가까운 역 k개 (거리 오름차순)
+     */
+    public List<StationDistance> nearest(Coordinate point, int k) {
+        if (k <= 0 || stations.length == 0) {
+            return List.of();
+        }
+
+        double[] query = new double[DIMENSIONS];
+        toUnitVector(point.getLatitude(), point.getLongitude(), query, 0);
+
+        NearestCollector collector = new NearestCollector(Math.min(k, stations.length));
+        searchNearest(query, 0, stations.length, 0, collector);
+
+        List<StationDistance> result = new ArrayList<>(collector.size);
+        for (int i = 0; i < collector.size; i++) {
+            result.add(new StationDistance(stations[collector.indexes[i]], chordToKm(collector.distances[i])));
+        }
+        return result;
+    }
+
+    /**
+     * 반경 내 모든 역 (거리 오름차순)
+     */
+    public List<StationDistance> withinRadius(Coordinate point, double radiusKm) {
+        if (radiusKm < 0 || stations.length == 0) {
+            return List.of();
+        }
+
+        double[] query = new double[DIMENSIONS];
+        toUnitVector(point.getLatitude(), point.getLongitude(), query, 0);
+
+        double chord = kmToChord(radiusKm);
+        List<StationDistance> result = new ArrayList<>();
+        searchRadius(query, chord * chord, 0, stations.length, 0, result);
+        result.sort(Comparator.comparingDouble(StationDistance::getDistanceKm));
+        return result;
+    }
+
+    private void searchNearest(double[] query, int lo, int hi, int depth, NearestCollector collector) {
+        if (lo >= hi) return;
+
+        int mid = (lo + hi) >>> 1;
+        int axis = depth % DIMENSIONS;
+
+        collector.offer(mid, squaredDistance(query, mid));
+
+        double diff = query[axis] - points[mid * DIMENSIONS + axis];
+        if (diff < 0) {
+            searchNearest(query, lo, mid, depth + 1, collector);
+            if (diff * diff < collector.worst()) {
+                searchNearest(query, mid + 1, hi, depth + 1, collector);
+            }
+        } else {
+            searchNearest(query, mid + 1, hi, depth + 1, collector);
+            if (diff * diff < collector.worst()) {
+                searchNearest(query, lo, mid, depth + 1, collector);
+            }
+        }
+    }
+
+    private void searchRadius(double[] query, double maxSquared, int lo, int hi, int depth,
+                              List<StationDistance> result) {
+        if (lo >= hi) return;
+
+        int mid = (lo + hi) >>> 1;
+        int axis = depth % DIMENSIONS;
+
+        double squared = squaredDistance(query, mid);
+        if (squared <= maxSquared) {
+            result.add(new StationDistance(stations[mid], chordToKm(squared)));
+        }
+
+        double diff = query[axis] - points[mid * DIMENSIONS + axis];
+        if (diff < 0 || diff * diff <= maxSquared) {
+            searchRadius(query, maxSquared, lo, mid, depth + 1, result);
+        }
+        if (diff >= 0 || diff * diff <= maxSquared) {
+            searchRadius(query, maxSquared, mid + 1, hi, depth + 1, result);
+        }
+    }
+
+    private double squaredDistance(double[] query, int index) {
+        int offset = index * DIMENSIONS;
+        double dx = query[0] - points[offset];
+        double dy = query[1] - points[offset + 1];
+        double dz = query[2] - points[offset + 2];
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * [lo, hi) 구간의 중앙값을 mid 위치에 두고 좌우 구간을 재귀적으로 정렬
+     */
+    private static void buildRange(SubwayStation[] stations, double[] points, int lo, int hi, int depth) {
+        if (hi - lo <= 1) return;
+
+        int mid = (lo + hi) >>> 1;
+        int axis = depth % DIMENSIONS;
+        select(stations, points, lo, hi - 1, mid, axis);
+
+        buildRange(stations, points, lo, mid, depth + 1);
+        buildRange(stations, points, mid + 1, hi, depth + 1);
+    }
+
+    /**
+     * Quickselect: k번째 원소가 제자리에 오도록 [left, right] 구간을 분할
+     */
+    private static void select(SubwayStation[] stations, double[] points, int left, int right, int k, int axis) {
+        while (left < right) {
+            double pivot = points[((left + right) >>> 1) * DIMENSIONS + axis];
+            int i = left;
+            int j = right;
+            while (i <= j) {
+                while (points[i * DIMENSIONS + axis] < pivot) i++;
+                while (points[j * DIMENSIONS + axis] > pivot) j--;
+                if (i <= j) {
+                    swap(stations, points, i, j);
+                    i++;
+                    j--;
+                }
+            }
+            if (k <= j) {
+                right = j;
+            } else if (k >= i) {
+                left = i;
+            } else {
+                return;
+            }
+        }
+    }
+
+    private static void swap(SubwayStation[] stations, double[] points, int a, int b) {
+        SubwayStation tmp = stations[a];
+        stations[a] = stations[b];
+        stations[b] = tmp;
+        for (int d = 0; d < DIMENSIONS; d++) {
+            double t = points[a * DIMENSIONS + d];
+            points[a * DIMENSIONS + d] = points[b * DIMENSIONS + d];
+            points[b * DIMENSIONS + d] = t;
+        }
+    }
+
+    private static void toUnitVector(double latitude, double longitude, double[] target, int offset) {
+        double lat = Math.toRadians(latitude);
+        double lon = Math.toRadians(longitude);
+        double cosLat = Math.cos(lat);
+        target[offset] = cosLat * Math.cos(lon);
+        target[offset + 1] = cosLat * Math.sin(lon);
+        target[offset + 2] = Math.sin(lat);
+    }
+
+    /**
+     * 단위 구 위 현 길이의 제곱 → 대원 거리(km)
+     */
+    private static double chordToKm(double squaredChord) {
+        double halfChord = Math.min(1.0, Math.sqrt(squaredChord) / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(halfChord);
+    }
+
+    private static double kmToChord(double km) {
+        double angle = Math.min(Math.PI, km / EARTH_RADIUS_KM);
+        return 2 * Math.sin(angle / 2);
+    }
+
+    /**
+     * 상위 k개 후보를 거리 오름차순으로 유지하는 고정 크기 버퍼
+     */
+    private static final class NearestCollector {
+        private final int[] indexes;
+        private final double[] distances;
+        private int size;
+
+        private NearestCollector(int capacity) {
+            this.indexes = new int[capacity];
+            this.distances = new double[capacity];
+        }
+
+        private double worst() {
+            return size < indexes.length ? Double.POSITIVE_INFINITY : distances[size - 1];
+        }
+
+        private void offer(int index, double distance) {
+            if (size == indexes.length && distance >= distances[size - 1]) return;
+
+            int pos = size < indexes.length ? size++ : size - 1;
+            while (pos > 0 && distances[pos - 1] > distance) {
+                indexes[pos] = indexes[pos - 1];
+                distances[pos] = distances[pos - 1];
+                pos--;
+            }
+            indexes[pos] = index;
+            distances[pos] = distance;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package dev.promise4.GgUd.service.station;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 지하철역 CSV 파서
+ * 컬럼: 연번, 호선, 고유역번호(외부역코드), 역명, 위도, 경도, 작성일자
+ */
+@Slf4j
+public final class SubwayStationCsvReader {
+
+    public static final String SEOUL_CSV_PATH = "data/seoul_subway_stations.csv";
+    public static final String INCHEON_CSV_PATH = "data/incheon_subway_stations.csv";
+
+    private static final Map<String, String> INCHEON_LINE_NAME_MAP = Map.of(
+            "IN_1", "인천1호선",
+            "IN_2", "인천2호선"
+    );
+
+    private SubwayStationCsvReader() {
+    }
+
+    /**
+     * CSV 한 행
+     *
+     * @param lineName    노선명 (예: "2호선", "인천1호선")
+     * @param stationCode 고유역번호 (예: "222", "IN1001")
+     */
+    public record StationRow(String lineName, String stationCode, String stationName,
+                             double latitude, double longitude) {
+    }
+
+    /**
+     * 서울 + 인천 전체 행
+     */
+    public static List<StationRow> readAll() throws IOException {
+        List<StationRow> rows = new ArrayList<>(read(SEOUL_CSV_PATH, false));
+        rows.addAll(read(INCHEON_CSV_PATH, true));
+        return rows;
+    }
+
+    public static List<StationRow> read(String path, boolean isIncheon) throws IOException {
+        ClassPathResource resource = new ClassPathResource(path);
+        List<StationRow> rows = new ArrayList<>();
+
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(resource.getInputStream(), StandardCharsets.UTF_8))) {
+
+            String line;
+            boolean isHeader = true;
+
+            while ((line = reader.readLine()) != null) {
+                if (isHeader) { isHeader = false; continue; }
+
+                String[] fields = line.split(",");
+                if (fields.length < 6) continue;
+
+                try {
+                    String rawLine = fields[1].trim();
+                    rows.add(new StationRow(
+                            toLineName(rawLine, isIncheon),
+                            fields[2].trim(),
+                            fields[3].trim(),
+                            Double.parseDouble(fields[4].trim()),
+                            Double.parseDouble(fields[5].trim())));
+                } catch (NumberFormatException e) {
+                    log.warn("Failed to parse line in {}: {}", path, line);
+                }
+            }
+        }
+
+        log.info("Loaded {} stations from {}", rows.size(), path);
+        return rows;
+    }
+
+    /**
+     * CSV 노선 값 → 저장용 노선명
+     */
+    public static String toLineName(String rawLine, boolean isIncheon) {
+        return isIncheon
+                ? INCHEON_LINE_NAME_MAP.getOrDefault(rawLine, rawLine)
+                : rawLine + "호선";
+    }
+
+    /**
+     * DB에 원본 코드("IN_1")로 들어간 노선명도 같은 노선으로 취급
+     */
+    public static String normalizeLineName(String lineName) {
+        return INCHEON_LINE_NAME_MAP.getOrDefault(lineName, lineName);
+    }
+}
@@ -0,0 +1,9 @@
+package dev.promise4.GgUd.service.station;
+
+/**
+ * 지하철역 데이터 변경 이벤트 (역 색인 재구성 트리거)
+ *
+ * @param changedCount 추가/변경된 역 수
+ */
+public record SubwayStationDataChangedEvent(int changedCount) {
+}
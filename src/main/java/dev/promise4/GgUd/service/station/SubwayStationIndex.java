@@ -0,0 +1,93 @@
+package dev.promise4.GgUd.service.station;
+
+import dev.promise4.GgUd.controller.dto.Coordinate;
+import dev.promise4.GgUd.controller.dto.StationDistance;
+import dev.promise4.GgUd.entity.SubwayStation;
+import dev.promise4.GgUd.repository.SubwayStationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 지하철역 인메모리 공간 색인
+ * 서버 기동 시 한 번 생성하고, 역 데이터가 바뀌면 새 트리를 만들어 원자적으로 교체
+ * 조회는 잠금 없이 현재 트리 스냅샷을 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SubwayStationIndex {
+
+    private final SubwayStationRepository subwayStationRepository;
+
+    private final AtomicReference<StationKdTree> tree = new AtomicReference<>(StationKdTree.build(List.of()));
+    private volatile boolean loaded;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onStationDataChanged(SubwayStationDataChangedEvent event) {
+        log.info("Subway station data changed: changedCount={}", event.changedCount());
+        rebuild();
+    }
+
+    /**
+     * DB에서 전체 역을 읽어 색인 재구성
+     */
+    public synchronized void rebuild() {
+        long start = System.nanoTime();
+        StationKdTree rebuilt = StationKdTree.build(subwayStationRepository.findAll());
+        tree.set(rebuilt);
+        loaded = true;
+        log.info("Subway station index rebuilt: size={}, elapsed={}ms",
+                rebuilt.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    /**
+     * 가장 가까운 역 k개 (거리 오름차순)
+     */
+    public List<StationDistance> findNearest(Coordinate point, int k) {
+        return current().nearest(point, k);
+    }
+
+    /**
+     * 반경(km) 내 모든 역 (거리 오름차순)
+     */
+    public List<StationDistance> findWithinRadius(Coordinate point, double radiusKm) {
+        return current().withinRadius(point, radiusKm);
+    }
+
+    /**
+     * 색인된 전체 역
+     */
+    public List<SubwayStation> getStations() {
+        return current().getStations();
+    }
+
+    public int size() {
+        return current().size();
+    }
+
+    /**
+     * 기동 이벤트 이전에 호출되면 그 자리에서 한 번 로딩
+     */
+    private StationKdTree current() {
+        if (!loaded) {
+            synchronized (this) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+        }
+        return tree.get();
+    }
+}
@@ -0,0 +1,148 @@
+package dev.promise4.GgUd.service.station;
+
+import dev.promise4.GgUd.config.MidpointProperties;
+import dev.promise4.GgUd.controller.dto.Coordinate;
+import dev.promise4.GgUd.controller.dto.StationDistance;
+import dev.promise4.GgUd.entity.SubwayStation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 역간 이동시간 행렬 기반 이동시간 추정기
+ * 출발지 → (도보) → 가까운 역 → (지하철) → 도착역 중 최솟값을 사용
+ * 외부 길찾기 API 없이 밀리초 이내로 계산되므로 후보 선별 및 API 실패 시 대체값으로 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransitTimeEstimator {
+
+    /** 도보 경로는 직선거리보다 길다고 보고 보정 */
+    private static final double WALK_DETOUR_FACTOR = 1.3;
+
+    private final SubwayStationIndex subwayStationIndex;
+    private final MidpointProperties midpointProperties;
+
+    private final AtomicReference<TransitTimeMatrix> matrix = new AtomicReference<>();
+    private volatile boolean attempted;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuild();
+    }
+
+    /**
+     * CSV 노선 데이터로 행렬 재구성 (실패 시 기존 행렬 유지)
+     */
+    public synchronized void rebuild() {
+        attempted = true;
+        long start = System.nanoTime();
+        try {
+            TransitTimeMatrix rebuilt = TransitTimeMatrix.build(SubwayStationCsvReader.readAll(), networkParameters());
+            matrix.set(rebuilt);
+            log.info("Transit time matrix built: nodes={}, elapsed={}ms",
+                    rebuilt.size(), (System.nanoTime() - start) / 1_000_000);
+        } catch (IOException e) {
+            log.error("Failed to build transit time matrix: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 출발지에서 모든 행렬 노드까지의 추정 이동시간 (분)
+     * 행렬이 없으면 빈 배열
+     */
+    public int[] travelTimesFrom(Coordinate origin) {
+        TransitTimeMatrix current = current();
+        if (current == null) {
+            return new int[0];
+        }
+
+        int[] result = new int[current.size()];
+        Arrays.fill(result, TransitTimeMatrix.UNREACHABLE);
+
+        List<StationDistance> accessStations =
+                subwayStationIndex.findNearest(origin, midpointProperties.getAccessStationCount());
+        for (StationDistance access : accessStations) {
+            int accessNode = current.nodeOf(access.getStation());
+            if (accessNode < 0) continue;
+
+            int walk = walkMinutes(access.getDistanceKm());
+            for (int node = 0; node < result.length; node++) {
+                int ride = current.minutes(accessNode, node);
+                if (ride != TransitTimeMatrix.UNREACHABLE && walk + ride < result[node]) {
+                    result[node] = walk + ride;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 출발지 → 역 추정 이동시간 (분)
+     * 행렬에 없는 역이면 직선거리 기준 도보/지하철 근사값 사용
+     */
+    public int estimateMinutes(Coordinate origin, SubwayStation destination) {
+        Coordinate target = Coordinate.of(destination.getLatitude(), destination.getLongitude());
+        int best = walkMinutes(origin.distanceTo(target));
+
+        TransitTimeMatrix current = current();
+        int destinationNode = current != null ? current.nodeOf(destination) : -1;
+        if (destinationNode < 0) {
+            return Math.min(best, straightLineMinutes(origin.distanceTo(target)));
+        }
+
+        List<StationDistance> accessStations =
+                subwayStationIndex.findNearest(origin, midpointProperties.getAccessStationCount());
+        for (StationDistance access : accessStations) {
+            int accessNode = current.nodeOf(access.getStation());
+            if (accessNode < 0) continue;
+
+            int ride = current.minutes(accessNode, destinationNode);
+            if (ride != TransitTimeMatrix.UNREACHABLE) {
+                best = Math.min(best, walkMinutes(access.getDistanceKm()) + ride);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * 현재 행렬 (기동 전이면 그 자리에서 한 번 생성, 생성 실패 시 null)
+     */
+    public TransitTimeMatrix current() {
+        if (!attempted) {
+            synchronized (this) {
+                if (!attempted) {
+                    rebuild();
+                }
+            }
+        }
+        return matrix.get();
+    }
+
+    private int walkMinutes(double km) {
+        return (int) Math.round(km * WALK_DETOUR_FACTOR / midpointProperties.getWalkingSpeedKmh() * 60);
+    }
+
+    /**
+     * 행렬을 쓸 수 없을 때: 직선거리를 지하철 속도로 이동 + 접근/대기 10분
+     */
+    private int straightLineMinutes(double km) {
+        return (int) Math.round(km * WALK_DETOUR_FACTOR / midpointProperties.getSubwaySpeedKmh() * 60) + 10;
+    }
+
+    private TransitTimeMatrix.NetworkParameters networkParameters() {
+        return new TransitTimeMatrix.NetworkParameters(
+                midpointProperties.getSubwaySpeedKmh(),
+                midpointProperties.getDwellSeconds(),
+                midpointProperties.getTransferPenaltyMinutes() * 60,
+                midpointProperties.getMaxAdjacentStationKm());
+    }
+}
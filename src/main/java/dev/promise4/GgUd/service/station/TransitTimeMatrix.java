@@ -0,0 +1,265 @@
+package dev.promise4.GgUd.service.station;
+
+import dev.promise4.GgUd.entity.SubwayStation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * 지하철 노선망 기반 역간 이동시간 행렬 (분)
+ * 노드는 (역명, 노선) 단위이며, 같은 역명의 다른 노선 노드는 환승 간선으로 연결됨
+ * 전체 쌍 최단시간을 short[] 한 개에 행 우선으로 저장
+ */
+public final class TransitTimeMatrix {
+
+    public static final int UNREACHABLE = Short.MAX_VALUE;
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final int NEAREST_SAME_LINE_NEIGHBOURS = 2;
+
+    private final String[] stationNames;
+    private final String[] lineNames;
+    private final double[] latitudes;
+    private final double[] longitudes;
+    private final short[] minutes;
+    private final Map<String, Integer> nodeByKey;
+    private final Map<String, Integer> nodeByName;
+
+    private TransitTimeMatrix(String[] stationNames, String[] lineNames, double[] latitudes, double[] longitudes,
+                              short[] minutes) {
+        this.stationNames = stationNames;
+        this.lineNames = lineNames;
+        this.latitudes = latitudes;
+        this.longitudes = longitudes;
+        this.minutes = minutes;
+        this.nodeByKey = new HashMap<>();
+        this.nodeByName = new HashMap<>();
+        for (int i = 0; i < stationNames.length; i++) {
+            nodeByKey.put(key(stationNames[i], lineNames[i]), i);
+            nodeByName.putIfAbsent(stationNames[i], i);
+        }
+    }
+
+    /**
+     * 노선망 구성 파라미터
+     *
+     * @param subwaySpeedKmh         평균 운행 속도 (정차 시간 제외)
+     * @param dwellSeconds           역마다 더하는 정차 시간
+     * @param transferPenaltySeconds 같은 역 다른 노선 간 환승 시간
+     * @param maxAdjacentKm          같은 노선 인접역으로 인정하는 최대 직선거리
+     */
+    public record NetworkParameters(double subwaySpeedKmh, int dwellSeconds, int transferPenaltySeconds,
+                                    double maxAdjacentKm) {
+    }
+
+    /**
+     * CSV 행으로 노선망을 만들고 노드마다 Dijkstra를 돌려 전체 쌍 행렬 생성
+     * 노선 인접 관계: 역번호 순 연속역 + 같은 노선 최근접 2개 역 (지선/순환선 보정), 모두 maxAdjacentKm 이내
+     */
+    public static TransitTimeMatrix build(List<SubwayStationCsvReader.StationRow> rows, NetworkParameters params) {
+        Map<String, SubwayStationCsvReader.StationRow> unique = new LinkedHashMap<>();
+        for (SubwayStationCsvReader.StationRow row : rows) {
+            unique.putIfAbsent(key(row.stationName(), row.lineName()), row);
+        }
+        List<SubwayStationCsvReader.StationRow> nodes = new ArrayList<>(unique.values());
+        int n = nodes.size();
+
+        String[] stationNames = new String[n];
+        String[] lineNames = new String[n];
+        double[] latitudes = new double[n];
+        double[] longitudes = new double[n];
+        for (int i = 0; i < n; i++) {
+            stationNames[i] = nodes.get(i).stationName();
+            lineNames[i] = nodes.get(i).lineName();
+            latitudes[i] = nodes.get(i).latitude();
+            longitudes[i] = nodes.get(i).longitude();
+        }
+
+        Graph graph = new Graph(n);
+
+        // 노선 내부 간선
+        Map<String, List<Integer>> nodesByLine = new LinkedHashMap<>();
+        for (int i = 0; i < n; i++) {
+            nodesByLine.computeIfAbsent(lineNames[i], k -> new ArrayList<>()).add(i);
+        }
+        for (List<Integer> lineNodes : nodesByLine.values()) {
+            List<Integer> ordered = new ArrayList<>(lineNodes);
+            ordered.sort(Comparator.comparing((Integer i) -> nodes.get(i).stationCode(), TransitTimeMatrix::compareCodes));
+            for (int k = 1; k < ordered.size(); k++) {
+                addRideEdge(graph, ordered.get(k - 1), ordered.get(k), latitudes, longitudes, params);
+            }
+
+            for (int a : lineNodes) {
+                List<Integer> byDistance = new ArrayList<>(lineNodes);
+                byDistance.remove(Integer.valueOf(a));
+                byDistance.sort(Comparator.comparingDouble(b -> distanceKm(latitudes, longitudes, a, b)));
+                for (int k = 0; k < Math.min(NEAREST_SAME_LINE_NEIGHBOURS, byDistance.size()); k++) {
+                    addRideEdge(graph, a, byDistance.get(k), latitudes, longitudes, params);
+                }
+            }
+        }
+
+        // 환승 간선 (같은 역명, 다른 노선)
+        Map<String, List<Integer>> nodesByName = new HashMap<>();
+        for (int i = 0; i < n; i++) {
+            nodesByName.computeIfAbsent(stationNames[i], k -> new ArrayList<>()).add(i);
+        }
+        for (List<Integer> sameName : nodesByName.values()) {
+            for (int a = 0; a < sameName.size(); a++) {
+                for (int b = a + 1; b < sameName.size(); b++) {
+                    graph.addEdge(sameName.get(a), sameName.get(b), params.transferPenaltySeconds());
+                }
+            }
+        }
+
+        short[] minutes = new short[n * n];
+        int[] seconds = new int[n];
+        for (int source = 0; source < n; source++) {
+            graph.shortestPaths(source, seconds);
+            for (int target = 0; target < n; target++) {
+                int value = seconds[target] == Integer.MAX_VALUE
+                        ? UNREACHABLE
+                        : Math.min(UNREACHABLE - 1, Math.round(seconds[target] / 60f));
+                minutes[source * n + target] = (short) value;
+            }
+        }
+
+        return new TransitTimeMatrix(stationNames, lineNames, latitudes, longitudes, minutes);
+    }
+
+    public int size() {
+        return stationNames.length;
+    }
+
+    /**
+     * 노드 간 이동시간 (분), 도달 불가 시 {@link #UNREACHABLE}
+     */
+    public int minutes(int from, int to) {
+        return minutes[from * stationNames.length + to];
+    }
+
+    /**
+     * 역 엔티티 → 노드 인덱스 (역명+노선 우선, 없으면 역명만), 없으면 -1
+     */
+    public int nodeOf(SubwayStation station) {
+        return nodeOf(station.getStationName(), station.getLineName());
+    }
+
+    public int nodeOf(String stationName, String lineName) {
+        Integer node = nodeByKey.get(key(stationName, SubwayStationCsvReader.normalizeLineName(lineName)));
+        if (node == null) {
+            node = nodeByName.get(stationName);
+        }
+        return node != null ? node : -1;
+    }
+
+    public String stationName(int node) {
+        return stationNames[node];
+    }
+
+    public String lineName(int node) {
+        return lineNames[node];
+    }
+
+    public double latitude(int node) {
+        return latitudes[node];
+    }
+
+    public double longitude(int node) {
+        return longitudes[node];
+    }
+
+    private static void addRideEdge(Graph graph, int a, int b, double[] latitudes, double[] longitudes,
+                                    NetworkParameters params) {
+        double km = distanceKm(latitudes, longitudes, a, b);
+        if (km > params.maxAdjacentKm()) return;
+        int seconds = (int) Math.round(km / params.subwaySpeedKmh() * 3600) + params.dwellSeconds();
+        graph.addEdge(a, b, seconds);
+    }
+
+    /**
+     * 역번호 비교: 숫자 부분이 있으면 숫자로, 아니면 문자열로
+     */
+    private static int compareCodes(String a, String b) {
+        String digitsA = a.replaceAll("\\D", "");
+        String digitsB = b.replaceAll("\\D", "");
+        String prefixA = a.replaceAll("\\d", "");
+        String prefixB = b.replaceAll("\\d", "");
+        int byPrefix = prefixA.compareTo(prefixB);
+        if (byPrefix != 0 || digitsA.isEmpty() || digitsB.isEmpty()) {
+            return byPrefix != 0 ? byPrefix : a.compareTo(b);
+        }
+        return Long.compare(Long.parseLong(digitsA), Long.parseLong(digitsB));
+    }
+
+    private static double distanceKm(double[] latitudes, double[] longitudes, int a, int b) {
+        double lat1 = Math.toRadians(latitudes[a]);
+        double lat2 = Math.toRadians(latitudes[b]);
+        double deltaLat = lat2 - lat1;
+        double deltaLon = Math.toRadians(longitudes[b] - longitudes[a]);
+        double h = Math.sin(deltaLat / 2) * Math.sin(deltaLat / 2)
+                + Math.cos(lat1) * Math.cos(lat2) * Math.sin(deltaLon / 2) * Math.sin(deltaLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.atan2(Math.sqrt(h), Math.sqrt(1 - h));
+    }
+
+    private static String key(String stationName, String lineName) {
+        return stationName + "|" + lineName;
+    }
+
+    /**
+     * 무방향 가중 그래프 (인접 리스트, 간선 가중치 = 초)
+     */
+    private static final class Graph {
+        private final List<List<int[]>> adjacency;
+
+        private Graph(int size) {
+            adjacency = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                adjacency.add(new ArrayList<>());
+            }
+        }
+
+        private void addEdge(int a, int b, int seconds) {
+            if (a == b) return;
+            upsert(a, b, seconds);
+            upsert(b, a, seconds);
+        }
+
+        private void upsert(int from, int to, int seconds) {
+            for (int[] edge : adjacency.get(from)) {
+                if (edge[0] == to) {
+                    edge[1] = Math.min(edge[1], seconds);
+                    return;
+                }
+            }
+            adjacency.get(from).add(new int[]{to, seconds});
+        }
+
+        private void shortestPaths(int source, int[] dist) {
+            Arrays.fill(dist, Integer.MAX_VALUE);
+            dist[source] = 0;
+            PriorityQueue<long[]> queue = new PriorityQueue<>(Comparator.comparingLong(e -> e[0]));
+            queue.add(new long[]{0, source});
+
+            while (!queue.isEmpty()) {
+                long[] top = queue.poll();
+                int node = (int) top[1];
+                if (top[0] > dist[node]) continue;
+
+                for (int[] edge : adjacency.get(node)) {
+                    int candidate = dist[node] + edge[1];
+                    if (candidate < dist[edge[0]]) {
+                        dist[edge[0]] = candidate;
+                        queue.add(new long[]{candidate, edge[0]});
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package dev.promise4.GgUd.service.tracking;
+
+/**
+ * 위치 저장 스크립트의 도착 판정 결과
+ *
+ * @param newlyArrived   이번 위치로 처음 도착했는지
+ * @param alreadyArrived 이전 위치로 이미 도착한 참여자인지 (ETA 계산 대상 아님)
+ * @param arrivedCount   도착한 참여자 수
+ * @param totalCount     전체 참여자 수
+ */
+public record ArrivalResult(boolean newlyArrived, boolean alreadyArrived, long arrivedCount, long totalCount) {
+
+    public static final ArrivalResult NONE = new ArrivalResult(false, false, 0, 0);
+}
@@ -0,0 +1,150 @@
+package dev.promise4.GgUd.service.tracking;
+
+import dev.promise4.GgUd.config.ArrivalProperties;
+import dev.promise4.GgUd.repository.ParticipantRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 도착 기록 write-behind
+ * Redis 도착 대기 목록을 주기적으로 꺼내 participants.arrived_at 에 반영
+ * 꺼낸 기록은 꺼낸 시각과 함께 처리 중 집합으로 옮기고 DB 커밋 후에만 지우므로,
+ * 커밋 전에 인스턴스가 죽거나 Redis 오류로 되돌리지 못해도 처리 시간 초과 후 다음 주기에 대기 목록으로 돌아감
+ * (반영 쿼리가 arrived_at IS NULL 일 때만 갱신하므로 같은 기록을 여러 번 반영해도 결과는 같음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ArrivalWriteBehindFlusher {
+
+    // Redis Key: 처리 중인 도착 기록 (score: 꺼낸 epoch millis)
+    static final String PROCESSING_ARRIVALS_KEY = "tracking:arrivals:processing";
+
+    /**
+     * KEYS: 대기 목록, 처리 중 집합 / ARGV: 최대 개수, 현재 epoch millis
+     * 반환: 꺼낸 기록
+     */
+    private static final String CLAIM_SCRIPT = """
+            local records = redis.call('LPOP', KEYS[1], ARGV[1])
+            if not records then
+                return {}
+            end
+            for _, record in ipairs(records) do
+                redis.call('ZADD', KEYS[2], ARGV[2], record)
+            end
+            return records
+            """;
+
+    /**
+     * KEYS: 대기 목록, 처리 중 집합 / ARGV: 기준 epoch millis(이전에 꺼낸 기록은 만료), 최대 개수
+     * 반환: 대기 목록으로 되돌린 기록 수
+     */
+    private static final String RECLAIM_SCRIPT = """
+            local expired = redis.call('ZRANGEBYSCORE', KEYS[2], '-inf', ARGV[1], 'LIMIT', 0, ARGV[2])
+            if #expired == 0 then
+                return 0
+            end
+            redis.call('RPUSH', KEYS[1], unpack(expired))
+            redis.call('ZREM', KEYS[2], unpack(expired))
+            return #expired
+            """;
+
+    @SuppressWarnings("rawtypes")
+    static final RedisScript<List> CLAIM = new DefaultRedisScript<>(CLAIM_SCRIPT, List.class);
+    static final RedisScript<Long> RECLAIM = new DefaultRedisScript<>(RECLAIM_SCRIPT, Long.class);
+
+    private static final List<String> KEYS =
+            List.of(RedisLocationStore.PENDING_ARRIVALS_KEY, PROCESSING_ARRIVALS_KEY);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ParticipantRepository participantRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ArrivalProperties arrivalProperties;
+
+    @Scheduled(fixedDelayString = "${app.arrival.flush-interval-millis:1000}")
+    @SuppressWarnings("unchecked")
+    public void flush() {
+        long now = System.currentTimeMillis();
+        List<String> records;
+        try {
+            reclaimExpired(now);
+            records = stringRedisTemplate.execute(CLAIM, KEYS,
+                    String.valueOf(arrivalProperties.getFlushBatchSize()), String.valueOf(now));
+        } catch (Exception e) {
+            log.warn("Failed to read pending arrivals: {}", e.getMessage());
+            return;
+        }
+        if (records == null || records.isEmpty()) return;
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> records.forEach(this::persist));
+            log.debug("Arrivals persisted: count={}", records.size());
+        } catch (Exception e) {
+            requeue(records, e);
+            return;
+        }
+
+        try {
+            stringRedisTemplate.opsForZSet().remove(PROCESSING_ARRIVALS_KEY, records.toArray());
+        } catch (Exception e) {
+            // 처리 시간 초과 후 다시 반영되지만 이미 반영된 기록이라 변화 없음
+            log.warn("Failed to ack persisted arrivals: count={}, error={}", records.size(), e.getMessage());
+        }
+    }
+
+    /**
+     * 처리 시간을 넘긴 기록을 대기 목록으로 되돌림 (커밋 전에 종료된 인스턴스가 남긴 기록)
+     */
+    private void reclaimExpired(long now) {
+        Long reclaimed = stringRedisTemplate.execute(RECLAIM, KEYS,
+                String.valueOf(now - arrivalProperties.getClaimTimeoutMillis()),
+                String.valueOf(arrivalProperties.getFlushBatchSize()));
+        if (reclaimed != null && reclaimed > 0) {
+            log.warn("Reclaimed stale pending arrivals: count={}", reclaimed);
+        }
+    }
+
+    /**
+     * DB 반영에 실패한 기록을 바로 대기 목록으로 되돌림
+     * 되돌리기도 실패하면 처리 중 집합에 남아 처리 시간 초과 후 되돌려짐
+     */
+    private void requeue(List<String> records, Exception cause) {
+        try {
+            stringRedisTemplate.opsForList().rightPushAll(RedisLocationStore.PENDING_ARRIVALS_KEY, records);
+            stringRedisTemplate.opsForZSet().remove(PROCESSING_ARRIVALS_KEY, records.toArray());
+            log.warn("Failed to persist arrivals, requeued {}: {}", records.size(), cause.getMessage());
+        } catch (Exception e) {
+            log.warn("Failed to persist arrivals and to requeue {}, left for reclaim: {}",
+                    records.size(), e.getMessage());
+        }
+    }
+
+    private void persist(String record) {
+        String[] parts = record.split(":");
+        long promiseId;
+        long userId;
+        LocalDateTime arrivedAt;
+        try {
+            promiseId = Long.parseLong(parts[0]);
+            userId = Long.parseLong(parts[1]);
+            arrivedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(parts[2])), ZoneId.systemDefault());
+        } catch (RuntimeException e) {
+            // 잘못된 기록은 되돌리지 않고 버림 (재시도해도 계속 실패)
+            log.warn("Malformed pending arrival: {}", record);
+            return;
+        }
+
+        participantRepository.markArrivedIfAbsent(promiseId, userId, arrivedAt);
+    }
+}
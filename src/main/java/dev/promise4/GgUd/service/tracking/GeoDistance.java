@@ -0,0 +1,24 @@
+package dev.promise4.GgUd.service.tracking;
+
+/**
+ * 위치 추적용 거리 계산
+ */
+public final class GeoDistance {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_000.0;
+
+    private GeoDistance() {
+    }
+
+    /**
+     * Haversine 공식으로 두 좌표 간 거리 계산 (미터)
+     */
+    public static double meters(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return EARTH_RADIUS_METERS * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+    }
+}
@@ -0,0 +1,270 @@
+package dev.promise4.GgUd.service.tracking;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.promise4.GgUd.config.EtaProperties;
+import dev.promise4.GgUd.controller.dto.Coordinate;
+import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+import dev.promise4.GgUd.controller.dto.EtaUpdateMessage;
+import dev.promise4.GgUd.service.TMapDirectionsService;
+import dev.promise4.GgUd.service.directions.IndexedDirections;
+import dev.promise4.GgUd.service.directions.OriginDestination;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 참여자별 실시간 도착 예정 시간(ETA) 계산
+ * 반영된 위치마다 남은 직선거리, 최근 이동 속도(지수 평활), 캐시해 둔 대중교통 소요 시간으로 ETA 를 갱신
+ * 대중교통 소요 시간은 참여자당 재조회 간격마다 한 번만 경로 좌표 없는 요약 조회(양자화 캐시 경유)로
+ * 위치 수신 스레드 밖에서 요청하고, 그 사이에는 조회 당시 거리 대비 남은 거리 비율로 줄여 사용
+ * 직전에 보낸 ETA 와 임계값 이상 차이 날 때만 전송 대상으로 반환
+ */
+@Slf4j
+@Component
+public class LiveEtaEngine {
+
+    // Redis Key 패턴: tracking:eta:{promiseId} (참여자별 마지막 전송 ETA)
+    private static final String ETA_KEY_PREFIX = "tracking:eta:";
+
+    private final EtaProperties properties;
+    private final TMapDirectionsService directionsService;
+    private final Cache<EtaKey, EtaState> states;
+    private final Scheduler transitScheduler;
+
+    private final Counter published;
+    private final Counter suppressed;
+    private final Counter transitRefreshes;
+
+    public LiveEtaEngine(EtaProperties properties, TMapDirectionsService directionsService,
+                         MeterRegistry meterRegistry) {
+        this(properties, directionsService, meterRegistry, Schedulers.boundedElastic());
+    }
+
+    LiveEtaEngine(EtaProperties properties, TMapDirectionsService directionsService,
+                  MeterRegistry meterRegistry, Scheduler transitScheduler) {
+        this.properties = properties;
+        this.transitScheduler = transitScheduler;
+        this.directionsService = directionsService;
+        this.states = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofSeconds(properties.getIdleExpirySeconds()))
+                .build();
+        this.published = updateCounter(meterRegistry, "published");
+        this.suppressed = updateCounter(meterRegistry, "suppressed");
+        this.transitRefreshes = Counter.builder("location.eta.transit.refreshes")
+                .description("Transit duration lookups issued by the ETA engine")
+                .register(meterRegistry);
+    }
+
+    public static String etaKey(Long promiseId) {
+        return ETA_KEY_PREFIX + promiseId;
+    }
+
+    /**
+     * 반영된 위치로 ETA 갱신
+     *
+     * @return 전송할 ETA (약속 장소 미확정, 이미 도착, 변화가 임계값 미만이면 empty)
+     */
+    public Optional<EtaUpdateMessage> update(TrackingSession session, TrackingSession.TrackingParticipant participant,
+                                             double latitude, double longitude, long nowMillis) {
+        if (!properties.isEnabled() || !session.detectsArrival() || participant.isArrived()) {
+            return Optional.empty();
+        }
+
+        double destinationLatitude = session.getConfirmedLatitude();
+        double destinationLongitude = session.getConfirmedLongitude();
+        double distance = GeoDistance.meters(latitude, longitude, destinationLatitude, destinationLongitude);
+
+        EtaKey key = new EtaKey(session.getPromiseId(), participant.getUserId());
+        boolean[] refresh = new boolean[1];
+        states.asMap().compute(key, (k, state) -> {
+            EtaState next = state != null ? state : new EtaState();
+            next.observe(latitude, longitude, nowMillis, properties.getSpeedSmoothing());
+
+            refresh[0] = !next.transitInFlight && (next.transitRequestedAtMillis < 0
+                    || nowMillis - next.transitRequestedAtMillis >= properties.getTransitRefreshSeconds() * 1000);
+            if (refresh[0]) {
+                next.transitInFlight = true;
+                next.transitRequestedAtMillis = nowMillis;
+            }
+            return next;
+        });
+
+        // 조회는 별도 스케줄러에서 실행되므로 결과는 완료된 뒤의 위치부터 추정에 반영됨
+        if (refresh[0]) {
+            refreshTransit(key, Coordinate.of(latitude, longitude),
+                    Coordinate.of(destinationLatitude, destinationLongitude), distance);
+        }
+
+        long[] etaSeconds = {-1};
+        states.asMap().computeIfPresent(key, (k, state) -> {
+            // 첫 대중교통 추정을 기다리는 중이면 도보 기준 값을 보내지 않음
+            if (state.transitSeconds < 0 && state.transitInFlight) return state;
+
+            long eta = estimateSeconds(state, distance);
+            if (state.publishedEtaSeconds < 0
+                    || Math.abs(eta - state.publishedEtaSeconds) >= properties.getPublishThresholdSeconds()) {
+                state.publishedEtaSeconds = eta;
+                etaSeconds[0] = eta;
+            }
+            return state;
+        });
+
+        if (etaSeconds[0] < 0) {
+            suppressed.increment();
+            return Optional.empty();
+        }
+        published.increment();
+
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochMilli(nowMillis), ZoneId.systemDefault());
+        return Optional.of(EtaUpdateMessage.builder()
+                .userId(participant.getUserId())
+                .nickname(participant.getNickname())
+                .etaSeconds(etaSeconds[0])
+                .remainingDistanceMeters((int) Math.round(distance))
+                .estimatedArrivalTime(now.plusSeconds(etaSeconds[0]))
+                .timestamp(now)
+                .build());
+    }
+
+    /**
+     * 도착한 참여자 상태 정리
+     */
+    public void arrived(Long promiseId, Long userId) {
+        states.invalidate(new EtaKey(promiseId, userId));
+    }
+
+    /**
+     * 약속 종료 등으로 더 이상 필요 없는 ETA 상태 정리
+     */
+    public void clear(Long promiseId) {
+        states.asMap().keySet().removeIf(key -> key.promiseId() == promiseId);
+    }
+
+    /**
+     * 대중교통 추정(남은 거리 비율로 보정)과 최근 속도 기반 추정을 가중 평균
+     * 둘 다 없으면 직선거리를 기본 도보 속도로 나눈 값
+     */
+    private long estimateSeconds(EtaState state, double distance) {
+        Double transitSeconds = null;
+        if (state.transitSeconds >= 0) {
+            double ratio = state.transitDistanceMeters > 0 ? Math.min(1.0, distance / state.transitDistanceMeters) : 1.0;
+            transitSeconds = state.transitSeconds * ratio;
+        }
+
+        Double speedSeconds = state.speedMetersPerSecond >= properties.getMinMovingSpeedMetersPerSecond()
+                ? distance / state.speedMetersPerSecond
+                : null;
+
+        double estimate;
+        if (transitSeconds != null && speedSeconds != null) {
+            estimate = properties.getSpeedWeight() * speedSeconds + (1 - properties.getSpeedWeight()) * transitSeconds;
+        } else if (transitSeconds != null) {
+            estimate = transitSeconds;
+        } else if (speedSeconds != null) {
+            estimate = speedSeconds;
+        } else {
+            estimate = distance / properties.getFallbackSpeedMetersPerSecond();
+        }
+        return Math.max(0, Math.round(estimate));
+    }
+
+    /**
+     * 대중교통 소요 시간 비동기 재조회 (위치 수신 스레드를 막지 않음)
+     * 소요 시간만 필요하므로 경로 좌표를 읽지 않는 일괄 조회 경로를 쓰고, 캐시 조회(Redis)까지 별도 스케줄러에서 실행
+     * 실패하거나 경로가 없으면 기존 값을 유지하고 다음 재조회 간격에 다시 시도
+     */
+    private void refreshTransit(EtaKey key, Coordinate origin, Coordinate destination, double distance) {
+        transitRefreshes.increment();
+        Mono.defer(() -> directionsService
+                        .getDirectionsBatch(List.of(new OriginDestination(origin, destination)), 1)
+                        .next())
+                .map(IndexedDirections::response)
+                .subscribeOn(transitScheduler)
+                .subscribe(
+                        response -> states.asMap().computeIfPresent(key, (k, state) -> {
+                            state.transitInFlight = false;
+                            int minutes = fastestMinutes(response);
+                            if (minutes >= 0) {
+                                state.transitSeconds = minutes * 60L;
+                                state.transitDistanceMeters = distance;
+                            }
+                            return state;
+                        }),
+                        error -> {
+                            log.debug("Transit ETA refresh failed: promiseId={}, userId={}, error={}",
+                                    key.promiseId(), key.userId(), error.getMessage());
+                            states.asMap().computeIfPresent(key, (k, state) -> {
+                                state.transitInFlight = false;
+                                return state;
+                            });
+                        },
+                        () -> states.asMap().computeIfPresent(key, (k, state) -> {
+                            state.transitInFlight = false;
+                            return state;
+                        }));
+    }
+
+    /**
+     * 경로 옵션 중 최소 소요 시간 (분, 없으면 -1)
+     */
+    private static int fastestMinutes(DirectionsResponse response) {
+        if (response == null || response.getRouteOptions() == null) return -1;
+        return response.getRouteOptions().stream()
+                .mapToInt(DirectionsResponse.RouteOption::getTotalDuration)
+                .filter(minutes -> minutes > 0)
+                .min()
+                .orElse(-1);
+    }
+
+    private static Counter updateCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("location.eta.updates")
+                .description("ETA recalculations published or suppressed by the change threshold")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record EtaKey(long promiseId, long userId) {
+    }
+
+    /**
+     * 참여자별 ETA 상태 (Caffeine compute 안에서만 변경)
+     */
+    private static final class EtaState {
+        private double latitude;
+        private double longitude;
+        private long observedAtMillis = -1;
+        private double speedMetersPerSecond = -1;
+
+        private long transitSeconds = -1;
+        private double transitDistanceMeters;
+        private long transitRequestedAtMillis = -1;
+        private boolean transitInFlight;
+
+        private long publishedEtaSeconds = -1;
+
+        void observe(double latitude, double longitude, long nowMillis, double smoothing) {
+            if (observedAtMillis >= 0 && nowMillis > observedAtMillis) {
+                double instant = GeoDistance.meters(this.latitude, this.longitude, latitude, longitude)
+                        * 1000.0 / (nowMillis - observedAtMillis);
+                speedMetersPerSecond = speedMetersPerSecond < 0
+                        ? instant
+                        : smoothing * instant + (1 - smoothing) * speedMetersPerSecond;
+            }
+            this.latitude = latitude;
+            this.longitude = longitude;
+            this.observedAtMillis = nowMillis;
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package dev.promise4.GgUd.service.tracking;
+
+import dev.promise4.GgUd.config.LocationGateProperties;
+import dev.promise4.GgUd.controller.dto.LocationUpdateMessage;
+import dev.promise4.GgUd.controller.dto.LocationsDeltaMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 약속별 위치 브로드캐스트 묶음 전송
+ * 첫 위치가 들어오면 시간 창 뒤에 한 번 전송하도록 예약하고, 그 사이 들어온 위치는 참여자별 최신 값만 남김
+ * 예약 작업은 전용 스레드에서 실행 (DB 작업을 하는 @Scheduled 스레드와 분리)
+ * 보내는 묶음 메시지마다 {@link LocationDeltaLog} 에서 순번을 받아 재연결 시 이어받을 수 있게 함
+ */
+@Slf4j
+@Component
+public class LocationBroadcastCoalescer {
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final LocationDeltaLog deltaLog;
+    private final LocationGateProperties properties;
+    private final Counter frames;
+    private final Counter coalescedLocations;
+
+    private final ConcurrentMap<Long, Map<Long, LocationUpdateMessage>> pending = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "location-coalescer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public LocationBroadcastCoalescer(SimpMessagingTemplate messagingTemplate, LocationDeltaLog deltaLog,
+                                      LocationGateProperties properties, MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.deltaLog = deltaLog;
+        this.properties = properties;
+        this.frames = Counter.builder("location.broadcast.frames")
+                .description("Location delta frames sent to subscribers")
+                .register(meterRegistry);
+        this.coalescedLocations = Counter.builder("location.broadcast.locations")
+                .description("Participant locations carried by delta frames")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 위치 변경을 전송 대기열에 추가
+     */
+    public void submit(Long promiseId, LocationUpdateMessage location) {
+        long window = properties.getCoalesceWindowMillis();
+        if (window <= 0) {
+            send(promiseId, List.of(location));
+            return;
+        }
+
+        pending.compute(promiseId, (id, batch) -> {
+            if (batch == null) {
+                batch = new LinkedHashMap<>();
+                scheduler.schedule(() -> flush(id), window, TimeUnit.MILLISECONDS);
+            }
+            batch.put(location.getUserId(), location);
+            return batch;
+        });
+    }
+
+    void flush(Long promiseId) {
+        Map<Long, LocationUpdateMessage> batch = pending.remove(promiseId);
+        if (batch == null || batch.isEmpty()) return;
+
+        try {
+            send(promiseId, new ArrayList<>(batch.values()));
+        } catch (Exception e) {
+            log.warn("Failed to broadcast location delta: promiseId={}, error={}", promiseId, e.getMessage());
+        }
+    }
+
+    private void send(Long promiseId, List<LocationUpdateMessage> locations) {
+        LocationsDeltaMessage frame = deltaLog.append(promiseId, locations);
+        messagingTemplate.convertAndSend("/topic/promises/" + promiseId + "/locations", frame);
+        frames.increment();
+        coalescedLocations.increment(locations.size());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdownNow();
+        pending.keySet().forEach(this::flush);
+    }
+}
@@ -0,0 +1,102 @@
+package dev.promise4.GgUd.service.tracking;
+
+import dev.promise4.GgUd.config.LocationGateProperties;
+import dev.promise4.GgUd.controller.dto.LocationUpdateMessage;
+import dev.promise4.GgUd.controller.dto.LocationsDeltaMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 약속별 위치 묶음 메시지 순번과 최근 메시지 버퍼 (Redis)
+ * 순번은 INCR 로 발급해 여러 인스턴스가 보내도 약속 안에서 하나의 순서를 가짐
+ * 최근 메시지는 리스트에 길이 제한으로 보관해 잠깐 끊겼던 클라이언트가 스냅샷 없이 이어받게 함
+ */
+@Component
+@RequiredArgsConstructor
+public class LocationDeltaLog {
+
+    // Redis Key 패턴: tracking:seq:{promiseId}, tracking:deltas:{promiseId}
+    private static final String SEQ_KEY_PREFIX = "tracking:seq:";
+    private static final String DELTAS_KEY_PREFIX = "tracking:deltas:";
+    // 위치 데이터와 같은 보관 기간
+    private static final Duration DELTA_TTL = Duration.ofHours(2);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final LocationGateProperties properties;
+
+    /**
+     * 순번을 발급해 묶음 메시지를 만들고 버퍼에 추가
+     */
+    public LocationsDeltaMessage append(Long promiseId, List<LocationUpdateMessage> locations) {
+        String seqKey = SEQ_KEY_PREFIX + promiseId;
+        String deltasKey = DELTAS_KEY_PREFIX + promiseId;
+        Long seq = stringRedisTemplate.opsForValue().increment(seqKey);
+
+        LocationsDeltaMessage frame = LocationsDeltaMessage.builder()
+                .promiseId(promiseId)
+                .seq(seq != null ? seq : 0)
+                .locations(locations)
+                .timestamp(LocalDateTime.now())
+                .build();
+
+        int bufferSize = properties.getResumeBufferSize();
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                ops.opsForList().rightPush(deltasKey, frame);
+                ops.opsForList().trim(deltasKey, -bufferSize, -1);
+                ops.expire(deltasKey, DELTA_TTL);
+                ops.expire(seqKey, DELTA_TTL);
+                return null;
+            }
+        });
+        return frame;
+    }
+
+    /**
+     * 현재 순번 (아직 보낸 메시지가 없으면 0)
+     */
+    public long currentSeq(Long promiseId) {
+        String value = stringRedisTemplate.opsForValue().get(SEQ_KEY_PREFIX + promiseId);
+        return value != null ? Long.parseLong(value) : 0;
+    }
+
+    /**
+     * afterSeq 다음부터의 묶음 메시지 (오래된 순)
+     *
+     * @return 버퍼가 afterSeq 바로 다음 순번부터 이어지지 않으면 empty (스냅샷 필요)
+     */
+    public Optional<List<LocationsDeltaMessage>> since(Long promiseId, long afterSeq) {
+        long current = currentSeq(promiseId);
+        if (afterSeq > current) return Optional.empty();
+        if (afterSeq == current) return Optional.of(List.of());
+
+        List<Object> buffered = redisTemplate.opsForList().range(DELTAS_KEY_PREFIX + promiseId, 0, -1);
+        List<LocationsDeltaMessage> missed = new ArrayList<>();
+        if (buffered != null) {
+            for (Object value : buffered) {
+                if (value instanceof LocationsDeltaMessage frame && frame.getSeq() > afterSeq) {
+                    missed.add(frame);
+                }
+            }
+        }
+
+        if (missed.isEmpty() || missed.get(0).getSeq() != afterSeq + 1) {
+            return Optional.empty();
+        }
+        return Optional.of(missed);
+    }
+}
@@ -0,0 +1,101 @@
+package dev.promise4.GgUd.service.tracking;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.promise4.GgUd.config.LocationGateProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 참여자별 위치 수신 게이트
+ * 최소 간격 안에 들어온 위치, 최소 이동 거리보다 덜 움직인 위치는 Redis 저장·브로드캐스트 없이 버림
+ * 최소 간격은 직전 두 반영 위치로 추정한 속도에 따라 조정 (빠르게 이동 중이면 더 자주 반영)
+ * 움직이지 않아도 heartbeat 간격마다 한 번은 반영해 마지막 수신 시각을 갱신
+ */
+@Component
+public class LocationGate {
+
+    private final LocationGateProperties properties;
+    private final Cache<GateKey, GateState> states;
+
+    private final Counter accepted;
+    private final Counter suppressed;
+
+    public LocationGate(LocationGateProperties properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.states = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofSeconds(properties.getIdleExpirySeconds()))
+                .build();
+        this.accepted = decisionCounter(meterRegistry, "accepted");
+        this.suppressed = decisionCounter(meterRegistry, "suppressed");
+    }
+
+    /**
+     * 이번 위치를 반영할지 판단하고, 반영하면 게이트 상태를 갱신
+     */
+    public boolean accept(Long promiseId, Long userId, double latitude, double longitude, long nowMillis) {
+        if (!properties.isEnabled()) {
+            accepted.increment();
+            return true;
+        }
+
+        boolean[] decision = new boolean[1];
+        states.asMap().compute(new GateKey(promiseId, userId), (key, previous) -> {
+            GateState next = evaluate(previous, latitude, longitude, nowMillis);
+            decision[0] = next != previous;
+            return next;
+        });
+
+        (decision[0] ? accepted : suppressed).increment();
+        return decision[0];
+    }
+
+    /**
+     * 약속 종료 등으로 더 이상 필요 없는 게이트 상태 정리
+     */
+    public void clear(Long promiseId) {
+        states.asMap().keySet().removeIf(key -> key.promiseId() == promiseId);
+    }
+
+    /**
+     * 반영할 위치면 새 상태, 버릴 위치면 기존 상태를 그대로 반환
+     */
+    private GateState evaluate(GateState previous, double latitude, double longitude, long nowMillis) {
+        if (previous == null) {
+            return new GateState(latitude, longitude, nowMillis, 0.0);
+        }
+
+        long elapsedMillis = nowMillis - previous.acceptedAtMillis();
+        long minInterval = previous.speedMetersPerSecond() >= properties.getFastSpeedMetersPerSecond()
+                ? properties.getFastIntervalMillis()
+                : properties.getMinIntervalMillis();
+        if (elapsedMillis < minInterval) {
+            return previous;
+        }
+
+        double displacement = GeoDistance.meters(previous.latitude(), previous.longitude(), latitude, longitude);
+        if (displacement < properties.getMinDisplacementMeters()
+                && elapsedMillis < properties.getHeartbeatIntervalMillis()) {
+            return previous;
+        }
+
+        double speed = elapsedMillis > 0 ? displacement * 1000.0 / elapsedMillis : 0.0;
+        return new GateState(latitude, longitude, nowMillis, speed);
+    }
+
+    private static Counter decisionCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("location.gate.decisions")
+                .description("Inbound location updates accepted or suppressed by the gate")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record GateKey(long promiseId, long userId) {
+    }
+
+    private record GateState(double latitude, double longitude, long acceptedAtMillis, double speedMetersPerSecond) {
+    }
+}
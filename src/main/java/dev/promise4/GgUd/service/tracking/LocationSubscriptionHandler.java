@@ -0,0 +1,120 @@
+package dev.promise4.GgUd.service.tracking;
+
+import dev.promise4.GgUd.controller.dto.LocationUpdateMessage;
+import dev.promise4.GgUd.controller.dto.LocationsDeltaMessage;
+import dev.promise4.GgUd.controller.dto.LocationsSnapshotMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 위치 토픽 구독 핸드셰이크
+ * /topic/promises/{promiseId}/locations 구독 시 구독자 개인 큐(/user/queue/promises/{promiseId}/locations)로
+ * 전체 위치 스냅샷을 보내고, 구독 헤더에 resume-seq 가 있으면 버퍼에 남은 묶음 메시지만 다시 보냄
+ * 이어받을 수 없으면(버퍼에서 밀려났거나 순번이 맞지 않으면) 스냅샷으로 대체
+ * 브로커에 구독이 등록된 뒤 보내도록 비동기로 처리하며, 클라이언트는 순번으로 중복을 걸러냄
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LocationSubscriptionHandler {
+
+    /** 마지막으로 받은 묶음 메시지 순번을 담는 STOMP SUBSCRIBE 헤더 */
+    public static final String RESUME_SEQ_HEADER = "resume-seq";
+
+    private static final Pattern LOCATIONS_TOPIC = Pattern.compile("^/topic/promises/(\\d+)/locations$");
+
+    private final TrackingSessionCache trackingSessionCache;
+    private final LocationDeltaLog deltaLog;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Async
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        Principal user = accessor.getUser();
+        if (destination == null || user == null) return;
+
+        Matcher matcher = LOCATIONS_TOPIC.matcher(destination);
+        if (!matcher.matches()) return;
+
+        Long promiseId = Long.parseLong(matcher.group(1));
+        Long userId;
+        try {
+            userId = Long.parseLong(user.getName());
+        } catch (NumberFormatException e) {
+            return;
+        }
+        if (trackingSessionCache.get(promiseId).participant(userId) == null) {
+            log.debug("Location snapshot skipped for non-participant: promiseId={}, userId={}", promiseId, userId);
+            return;
+        }
+
+        handshake(user.getName(), promiseId, resumeSeq(accessor));
+    }
+
+    void handshake(String user, Long promiseId, Long resumeSeq) {
+        String queue = "/queue/promises/" + promiseId + "/locations";
+
+        if (resumeSeq != null) {
+            Optional<List<LocationsDeltaMessage>> missed = deltaLog.since(promiseId, resumeSeq);
+            if (missed.isPresent()) {
+                missed.get().forEach(frame -> messagingTemplate.convertAndSendToUser(user, queue, frame));
+                log.debug("Location stream resumed: promiseId={}, user={}, fromSeq={}, frames={}",
+                        promiseId, user, resumeSeq, missed.get().size());
+                return;
+            }
+        }
+
+        messagingTemplate.convertAndSendToUser(user, queue, snapshot(promiseId));
+    }
+
+    /**
+     * 순번을 먼저 읽고 위치를 읽으므로 스냅샷은 항상 seq 시점 이후 상태 (이후 묶음 메시지를 다시 적용해도 무방)
+     */
+    private LocationsSnapshotMessage snapshot(Long promiseId) {
+        long seq = deltaLog.currentSeq(promiseId);
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(RedisLocationStore.locationKey(promiseId));
+
+        List<LocationUpdateMessage> locations = new ArrayList<>();
+        for (Object value : entries.values()) {
+            if (value instanceof LocationUpdateMessage location) {
+                locations.add(location);
+            }
+        }
+
+        return LocationsSnapshotMessage.builder()
+                .promiseId(promiseId)
+                .seq(seq)
+                .locations(locations)
+                .timestamp(LocalDateTime.now())
+                .build();
+    }
+
+    private static Long resumeSeq(StompHeaderAccessor accessor) {
+        String value = accessor.getFirstNativeHeader(RESUME_SEQ_HEADER);
+        if (value == null) return null;
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package dev.promise4.GgUd.service.tracking;
+
+import dev.promise4.GgUd.config.ArrivalProperties;
+import dev.promise4.GgUd.controller.dto.LocationUpdateMessage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 실시간 위치 Redis 저장소
+ * 위치 저장, 도착 반경 판정, 도착 표시, 도착/전체 인원 집계를 Lua 스크립트 한 번으로 처리
+ * 새로 도착한 기록은 같은 스크립트에서 대기 목록에 넣고 {@link ArrivalWriteBehindFlusher} 가 DB 에 반영
+ */
+@Slf4j
+@Component
+public class RedisLocationStore {
+
+    // Redis Key 패턴: location:promise:{promiseId} (userId → 최신 위치)
+    private static final String LOCATION_KEY_PREFIX = "location:promise:";
+    // Redis Key 패턴: tracking:geo:{promiseId} (참여자 위치 + 약속 장소 GEO)
+    private static final String GEO_KEY_PREFIX = "tracking:geo:";
+    // Redis Key 패턴: tracking:arrivals:{promiseId} (도착한 userId 집합)
+    private static final String ARRIVALS_KEY_PREFIX = "tracking:arrivals:";
+    /** DB 반영 대기 중인 도착 기록 ("promiseId:userId:도착 epoch millis") */
+    static final String PENDING_ARRIVALS_KEY = "tracking:arrivals:pending";
+    // 위치 데이터 TTL: 2시간 (약속 종료 후 자동 삭제)
+    private static final Duration LOCATION_TTL = Duration.ofHours(2);
+
+    /**
+     * KEYS: 위치 Hash, GEO, 도착 집합, 도착 대기 목록
+     * ARGV: userId, 직렬화된 위치, TTL(초), 경도, 위도, 약속 장소 경도, 약속 장소 위도(도착 감지 안 하면 빈 값),
+     *       반경(m), 전체 인원, 기록(promiseId:userId:millis)
+     * 반환: {새 도착 여부, 도착 인원, 전체 인원, 이미 도착 여부}
+     */
+    private static final String SAVE_SCRIPT = """
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('EXPIRE', KEYS[1], ARGV[3])
+            if ARGV[6] == '' then
+                return {0, 0, 0}
+            end
+            redis.call('GEOADD', KEYS[2], ARGV[4], ARGV[5], ARGV[1], ARGV[6], ARGV[7], '@destination')
+            redis.call('EXPIRE', KEYS[2], ARGV[3])
+            if redis.call('SISMEMBER', KEYS[3], ARGV[1]) == 1 then
+                return {0, redis.call('SCARD', KEYS[3]), tonumber(ARGV[9]), 1}
+            end
+            local distance = tonumber(redis.call('GEODIST', KEYS[2], ARGV[1], '@destination', 'm'))
+            if distance == nil or distance > tonumber(ARGV[8]) then
+                return {0, 0, 0}
+            end
+            local added = redis.call('SADD', KEYS[3], ARGV[1])
+            redis.call('EXPIRE', KEYS[3], ARGV[3])
+            if added == 1 then
+                redis.call('RPUSH', KEYS[4], ARGV[10])
+            end
+            return {added, redis.call('SCARD', KEYS[3]), tonumber(ARGV[9]), 0}
+            """;
+
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> SAVE = new DefaultRedisScript<>(SAVE_SCRIPT, List.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ArrivalProperties arrivalProperties;
+    private final RedisSerializer<Object> locationSerializer;
+
+    @SuppressWarnings("unchecked")
+    public RedisLocationStore(RedisTemplate<String, Object> redisTemplate, StringRedisTemplate stringRedisTemplate,
+                              ArrivalProperties arrivalProperties) {
+        this.redisTemplate = redisTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.arrivalProperties = arrivalProperties;
+        // HGET/HGETALL 로 읽을 때와 같은 직렬화기로 스크립트 인자를 만듦
+        this.locationSerializer = (RedisSerializer<Object>) redisTemplate.getHashValueSerializer();
+    }
+
+    public static String locationKey(Long promiseId) {
+        return LOCATION_KEY_PREFIX + promiseId;
+    }
+
+    /**
+     * 위치 저장 및 도착 판정 (세션이 도착 감지 대상이 아니면 위치만 저장)
+     */
+    @SuppressWarnings("unchecked")
+    public ArrivalResult save(TrackingSession session, LocationUpdateMessage location, long nowMillis) {
+        Long promiseId = session.getPromiseId();
+        String userId = location.getUserId().toString();
+        boolean detectsArrival = session.detectsArrival();
+
+        List<String> keys = List.of(
+                locationKey(promiseId),
+                GEO_KEY_PREFIX + promiseId,
+                ARRIVALS_KEY_PREFIX + promiseId,
+                PENDING_ARRIVALS_KEY);
+        List<Object> result = redisTemplate.execute(SAVE, RedisSerializer.byteArray(), null, keys,
+                bytes(userId),
+                locationSerializer.serialize(location),
+                bytes(LOCATION_TTL.toSeconds()),
+                bytes(location.getLongitude()),
+                bytes(location.getLatitude()),
+                detectsArrival ? bytes(session.getConfirmedLongitude()) : new byte[0],
+                detectsArrival ? bytes(session.getConfirmedLatitude()) : new byte[0],
+                bytes(arrivalProperties.getRadiusMeters()),
+                bytes(session.getParticipants().size()),
+                bytes(promiseId + ":" + userId + ":" + nowMillis));
+
+        if (result == null || result.size() < 3) {
+            return ArrivalResult.NONE;
+        }
+        return new ArrivalResult(
+                ((Number) result.get(0)).longValue() == 1,
+                result.size() > 3 && ((Number) result.get(3)).longValue() == 1,
+                ((Number) result.get(1)).longValue(),
+                ((Number) result.get(2)).longValue());
+    }
+
+    /**
+     * 세션 적재 시 DB 에 이미 기록된 도착자를 도착 집합에 반영 (도착 인원 집계와 중복 도착 방지용)
+     */
+    public void seedArrivals(Long promiseId, Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+
+        String key = ARRIVALS_KEY_PREFIX + promiseId;
+        stringRedisTemplate.opsForSet().add(key, userIds.stream().map(String::valueOf).toArray(String[]::new));
+        stringRedisTemplate.expire(key, LOCATION_TTL);
+    }
+
+    /**
+     * 약속 종료 시 위치·도착 데이터 삭제
+     */
+    public boolean clear(Long promiseId) {
+        Long deleted = redisTemplate.delete(List.of(
+                locationKey(promiseId), GEO_KEY_PREFIX + promiseId, ARRIVALS_KEY_PREFIX + promiseId));
+        return deleted != null && deleted > 0;
+    }
+
+    private static byte[] bytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,111 @@
+package dev.promise4.GgUd.service.tracking;
+
+import dev.promise4.GgUd.entity.Participant;
+import dev.promise4.GgUd.entity.Promise;
+import dev.promise4.GgUd.entity.PromiseStatus;
+import dev.promise4.GgUd.entity.User;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 위치 추적 세션 스냅샷
+ * 위치 수신 경로에서 DB 를 조회하지 않도록 약속 상태, 추적 시작 시각, 확정 장소, 참여자 프로필을 묶어 Redis 에 보관
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TrackingSession {
+
+    /** 약속 시간 몇 시간 전부터 위치 공유를 허용하는지 */
+    static final long TRACKING_LEAD_HOURS = 1;
+
+    private Long promiseId;
+
+    private PromiseStatus status;
+
+    /** 위치 공유 시작 시각 (약속 시간 1시간 전) */
+    private LocalDateTime trackingStartTime;
+
+    private Double confirmedLatitude;
+
+    private Double confirmedLongitude;
+
+    /** 사용자 ID → 참여자 프로필 */
+    private Map<Long, TrackingParticipant> participants;
+
+    public static TrackingSession of(Promise promise, List<Participant> participants) {
+        Map<Long, TrackingParticipant> profiles = new HashMap<>();
+        for (Participant participant : participants) {
+            User user = participant.getUser();
+            profiles.put(user.getId(), new TrackingParticipant(
+                    user.getId(), user.getNickname(), user.getProfileImageUrl(), participant.isArrived()));
+        }
+
+        return TrackingSession.builder()
+                .promiseId(promise.getId())
+                .status(promise.getStatus())
+                .trackingStartTime(promise.getPromiseDateTime().minusHours(TRACKING_LEAD_HOURS))
+                .confirmedLatitude(promise.getConfirmedLatitude())
+                .confirmedLongitude(promise.getConfirmedLongitude())
+                .participants(profiles)
+                .build();
+    }
+
+    /**
+     * 위치 추적 가능 상태 (PLACE_CONFIRMED, IN_PROGRESS)
+     */
+    public boolean allowsTracking() {
+        return status == PromiseStatus.PLACE_CONFIRMED || status == PromiseStatus.IN_PROGRESS;
+    }
+
+    public boolean trackingStarted(LocalDateTime now) {
+        return now.isAfter(trackingStartTime);
+    }
+
+    /**
+     * 도착 감지 대상 여부 (진행 중이고 약속 장소가 확정됨)
+     */
+    public boolean detectsArrival() {
+        return status == PromiseStatus.IN_PROGRESS && confirmedLatitude != null && confirmedLongitude != null;
+    }
+
+    public TrackingParticipant participant(Long userId) {
+        return participants != null ? participants.get(userId) : null;
+    }
+
+    /**
+     * 세션 적재 시점에 이미 도착한 참여자
+     */
+    public List<Long> arrivedUserIds() {
+        if (participants == null) return List.of();
+        return participants.values().stream()
+                .filter(TrackingParticipant::isArrived)
+                .map(TrackingParticipant::getUserId)
+                .toList();
+    }
+
+    /**
+     * 참여자 프로필 (도착 여부는 세션 적재 시점의 DB 값)
+     */
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TrackingParticipant {
+
+        private Long userId;
+
+        private String nickname;
+
+        private String profileImageUrl;
+
+        private boolean arrived;
+    }
+}
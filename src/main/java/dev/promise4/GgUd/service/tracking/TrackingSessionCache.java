@@ -0,0 +1,144 @@
+package dev.promise4.GgUd.service.tracking;
+
+import dev.promise4.GgUd.entity.Participant;
+import dev.promise4.GgUd.entity.Promise;
+import dev.promise4.GgUd.repository.ParticipantRepository;
+import dev.promise4.GgUd.repository.PromiseRepository;
+import dev.promise4.GgUd.service.event.PromiseParticipantsChangedEvent;
+import dev.promise4.GgUd.service.event.PromiseStatusChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 위치 추적 세션 캐시 (Redis)
+ * 약속의 첫 위치 수신 시 한 번 DB 에서 적재하고, 이후 위치 수신은 Redis 만 사용
+ * 상태 변경·참여자 변경 이벤트는 커밋 후 세션을 삭제해 다음 수신 때 다시 적재되게 함
+ * 삭제할 때 세대 번호를 올리고, 적재한 세션은 적재 전에 읽은 세대가 그대로일 때만 저장해
+ * 커밋 전 행을 읽은 요청이 삭제 뒤에 옛 세션을 다시 써 넣지 못하게 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrackingSessionCache {
+
+    // Redis Key 패턴: tracking:session:{promiseId}
+    private static final String SESSION_KEY_PREFIX = "tracking:session:";
+    // 무효화 이벤트가 유실돼도 프로필 변경 등이 반영되도록 주기적으로 재적재
+    private static final Duration SESSION_TTL = Duration.ofMinutes(30);
+    // Redis Key 패턴: tracking:session:{promiseId}:gen (삭제 세대 번호)
+    private static final String GENERATION_KEY_SUFFIX = ":gen";
+    private static final Duration GENERATION_TTL = Duration.ofDays(1);
+
+    /**
+     * KEYS: 세대 번호
+     * 반환: 현재 세대 (없으면 0)
+     */
+    private static final RedisScript<Long> READ_GENERATION = new DefaultRedisScript<>(
+            "return tonumber(redis.call('GET', KEYS[1]) or '0')", Long.class);
+
+    /**
+     * KEYS: 세션, 세대 번호
+     * ARGV: 직렬화된 세션, 적재 전에 읽은 세대, 세션 TTL(ms)
+     * 반환: 저장했으면 1, 그 사이 삭제돼 세대가 바뀌었으면 0
+     */
+    private static final RedisScript<Long> STORE_IF_GENERATION = new DefaultRedisScript<>("""
+            if tonumber(redis.call('GET', KEYS[2]) or '0') ~= tonumber(ARGV[2]) then
+                return 0
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    /**
+     * KEYS: 세션, 세대 번호
+     * ARGV: 세대 번호 TTL(ms)
+     */
+    private static final RedisScript<Long> EVICT = new DefaultRedisScript<>("""
+            redis.call('DEL', KEYS[1])
+            redis.call('INCR', KEYS[2])
+            redis.call('PEXPIRE', KEYS[2], ARGV[1])
+            return 1
+            """, Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final PromiseRepository promiseRepository;
+    private final ParticipantRepository participantRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final RedisLocationStore locationStore;
+
+    /**
+     * 세션 조회, 없으면 DB 에서 적재
+     * 적재 중에 세션이 삭제됐으면 적재한 세션은 이번 요청에만 쓰고 저장하지 않음
+     */
+    public TrackingSession get(Long promiseId) {
+        Object cached = redisTemplate.opsForValue().get(key(promiseId));
+        if (cached instanceof TrackingSession session) {
+            return session;
+        }
+
+        Long generation = redisTemplate.execute(READ_GENERATION, List.of(generationKey(promiseId)));
+        TrackingSession session = transactionTemplate.execute(status -> load(promiseId));
+        Long stored = redisTemplate.execute(STORE_IF_GENERATION, RedisSerializer.byteArray(), null,
+                List.of(key(promiseId), generationKey(promiseId)),
+                valueSerializer().serialize(session),
+                bytes(generation == null ? 0 : generation),
+                bytes(SESSION_TTL.toMillis()));
+        locationStore.seedArrivals(promiseId, session.arrivedUserIds());
+        log.debug("Tracking session loaded: promiseId={}, participants={}, stored={}",
+                promiseId, session.getParticipants().size(), stored != null && stored == 1);
+        return session;
+    }
+
+    public void evict(Long promiseId) {
+        redisTemplate.execute(EVICT, RedisSerializer.byteArray(), null,
+                List.of(key(promiseId), generationKey(promiseId)),
+                bytes(GENERATION_TTL.toMillis()));
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPromiseStatusChanged(PromiseStatusChangedEvent event) {
+        evict(event.promiseId());
+        log.debug("Tracking session evicted: promiseId={}, status={}", event.promiseId(), event.status());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onParticipantsChanged(PromiseParticipantsChangedEvent event) {
+        evict(event.promiseId());
+        log.debug("Tracking session evicted: promiseId={}, participant={}", event.promiseId(), event.userId());
+    }
+
+    private TrackingSession load(Long promiseId) {
+        Promise promise = promiseRepository.findById(promiseId)
+                .orElseThrow(() -> new IllegalArgumentException("약속을 찾을 수 없습니다"));
+        List<Participant> participants = participantRepository.findByPromiseId(promiseId);
+        return TrackingSession.of(promise, participants);
+    }
+
+    @SuppressWarnings("unchecked")
+    private RedisSerializer<Object> valueSerializer() {
+        return (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+    }
+
+    private static String key(Long promiseId) {
+        return SESSION_KEY_PREFIX + promiseId;
+    }
+
+    private static String generationKey(Long promiseId) {
+        return key(promiseId) + GENERATION_KEY_SUFFIX;
+    }
+
+    private static byte[] bytes(long value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+}
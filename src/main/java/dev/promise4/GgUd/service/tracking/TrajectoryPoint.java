@@ -0,0 +1,11 @@
+package dev.promise4.GgUd.service.tracking;
+
+/**
+ * 궤적 지점
+ *
+ * @param latitude        위도
+ * @param longitude       경도
+ * @param timestampMillis 기록 시각 (epoch millis)
+ */
+public record TrajectoryPoint(double latitude, double longitude, long timestampMillis) {
+}
@@ -0,0 +1,38 @@
+package dev.promise4.GgUd.service.tracking;
+
+import dev.promise4.GgUd.controller.dto.Coordinate;
+import dev.promise4.GgUd.service.directions.DouglasPeuckerSimplifier;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 궤적 조회 시 Douglas–Peucker 단순화 (남는 지점의 기록 시각 유지)
+ */
+public final class TrajectorySimplifier {
+
+    private TrajectorySimplifier() {
+    }
+
+    public static List<TrajectoryPoint> simplify(List<TrajectoryPoint> points, double toleranceMeters) {
+        if (toleranceMeters <= 0 || points.size() < 3) return points;
+
+        List<Coordinate> coordinates = new ArrayList<>(points.size());
+        Map<Coordinate, TrajectoryPoint> byCoordinate = new IdentityHashMap<>(points.size());
+        for (TrajectoryPoint point : points) {
+            Coordinate coordinate = Coordinate.of(point.latitude(), point.longitude());
+            coordinates.add(coordinate);
+            byCoordinate.put(coordinate, point);
+        }
+
+        // 단순화 결과는 입력 좌표 인스턴스의 부분 목록
+        List<Coordinate> kept = DouglasPeuckerSimplifier.simplify(coordinates, toleranceMeters);
+        List<TrajectoryPoint> simplified = new ArrayList<>(kept.size());
+        for (Coordinate coordinate : kept) {
+            simplified.add(byCoordinate.get(coordinate));
+        }
+        return simplified;
+    }
+}
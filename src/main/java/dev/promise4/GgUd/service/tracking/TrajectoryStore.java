@@ -0,0 +1,104 @@
+package dev.promise4.GgUd.service.tracking;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.promise4.GgUd.config.TrajectoryProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 참여자별 이동 궤적 저장소 (Redis Stream)
+ * 샘플 간격 안의 위치는 버리는 시간 버킷 방식으로 줄여 저장하고, Stream 길이는 MAXLEN 으로 제한
+ * 약속이 많아져도 참여자당 메모리가 최대 지점 수로 고정됨
+ */
+@Slf4j
+@Component
+public class TrajectoryStore {
+
+    // Redis Key 패턴: tracking:trajectory:{promiseId}:{userId}
+    private static final String TRAJECTORY_KEY_PREFIX = "tracking:trajectory:";
+    private static final Duration TRAJECTORY_TTL = Duration.ofHours(2);
+
+    private static final String FIELD_LATITUDE = "lat";
+    private static final String FIELD_LONGITUDE = "lon";
+    private static final String FIELD_TIMESTAMP = "t";
+
+    private final StringRedisTemplate redisTemplate;
+    private final TrajectoryProperties properties;
+    /** 참여자별 마지막 저장 시각 (샘플 간격 판단용) */
+    private final Cache<String, Long> lastAppendedMillis;
+
+    public TrajectoryStore(StringRedisTemplate redisTemplate, TrajectoryProperties properties) {
+        this.redisTemplate = redisTemplate;
+        this.properties = properties;
+        this.lastAppendedMillis = Caffeine.newBuilder()
+                .expireAfterAccess(TRAJECTORY_TTL)
+                .build();
+    }
+
+    /**
+     * 위치를 궤적에 추가 (직전 저장 후 샘플 간격이 지나지 않았으면 버림)
+     *
+     * @return 저장했는지
+     */
+    public boolean append(Long promiseId, Long userId, double latitude, double longitude, long nowMillis) {
+        if (!properties.isEnabled()) return false;
+
+        String key = key(promiseId, userId);
+        long intervalMillis = properties.getSampleIntervalSeconds() * 1000;
+        boolean[] sampled = new boolean[1];
+        lastAppendedMillis.asMap().compute(key, (k, last) -> {
+            sampled[0] = last == null || nowMillis - last >= intervalMillis;
+            return sampled[0] ? nowMillis : last;
+        });
+        if (!sampled[0]) return false;
+
+        MapRecord<String, String, String> record = StreamRecords.newRecord()
+                .in(key)
+                .ofMap(Map.of(
+                        FIELD_LATITUDE, Double.toString(latitude),
+                        FIELD_LONGITUDE, Double.toString(longitude),
+                        FIELD_TIMESTAMP, Long.toString(nowMillis)));
+        redisTemplate.opsForStream().add(record,
+                XAddOptions.maxlen(properties.getMaxPointsPerUser()).approximateTrimming(true));
+        redisTemplate.expire(key, TRAJECTORY_TTL);
+        return true;
+    }
+
+    /**
+     * sinceMillis 이후 궤적 (오래된 순)
+     */
+    public List<TrajectoryPoint> since(Long promiseId, Long userId, long sinceMillis) {
+        List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream().range(
+                key(promiseId, userId), Range.rightUnbounded(Range.Bound.inclusive(sinceMillis + "-0")));
+        if (records == null || records.isEmpty()) return List.of();
+
+        List<TrajectoryPoint> points = new ArrayList<>(records.size());
+        for (MapRecord<String, Object, Object> record : records) {
+            Map<Object, Object> value = record.getValue();
+            try {
+                points.add(new TrajectoryPoint(
+                        Double.parseDouble((String) value.get(FIELD_LATITUDE)),
+                        Double.parseDouble((String) value.get(FIELD_LONGITUDE)),
+                        Long.parseLong((String) value.get(FIELD_TIMESTAMP))));
+            } catch (RuntimeException e) {
+                log.warn("Malformed trajectory entry: key={}, id={}", record.getStream(), record.getId());
+            }
+        }
+        return points;
+    }
+
+    private static String key(Long promiseId, Long userId) {
+        return TRAJECTORY_KEY_PREFIX + promiseId + ":" + userId;
+    }
+}
@@ -0,0 +1,117 @@
+package dev.promise4.GgUd.service.view;
+
+import dev.promise4.GgUd.controller.dto.ParticipantResponse;
+import dev.promise4.GgUd.controller.dto.PromiseResponse;
+import dev.promise4.GgUd.controller.dto.PromiseSummaryResponse;
+import dev.promise4.GgUd.entity.Participant;
+import dev.promise4.GgUd.entity.Promise;
+import dev.promise4.GgUd.entity.PromiseStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 약속 조회 모델 (약속 + 주최자 + 참여자, promises 캐시에 약속별로 저장)
+ * 캐시는 클래스명을 포함한 JSON 이라 final 이 아닌 클래스와 가변 List(ArrayList)로 유지
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PromiseView {
+
+    private Long id;
+    private String title;
+    private String description;
+    private LocalDateTime promiseDateTime;
+    private PromiseStatus status;
+    private String inviteCode;
+    private LocalDateTime inviteExpiredAt;
+    private int maxParticipants;
+    private Long hostId;
+    private String hostNickname;
+    private String hostProfileImageUrl;
+    private Double confirmedLatitude;
+    private Double confirmedLongitude;
+    private String confirmedPlaceName;
+    private String midpointStationName;
+    private LocalDateTime createdAt;
+    private List<ParticipantResponse> participants;
+
+    public static PromiseView of(Promise promise, List<Participant> participants) {
+        return PromiseView.builder()
+                .id(promise.getId())
+                .title(promise.getTitle())
+                .description(promise.getDescription())
+                .promiseDateTime(promise.getPromiseDateTime())
+                .status(promise.getStatus())
+                .inviteCode(promise.getInviteCode())
+                .inviteExpiredAt(promise.getInviteExpiredAt())
+                .maxParticipants(promise.getMaxParticipants())
+                .hostId(promise.getHost().getId())
+                .hostNickname(promise.getHost().getNickname())
+                .hostProfileImageUrl(promise.getHost().getProfileImageUrl())
+                .confirmedLatitude(promise.getConfirmedLatitude())
+                .confirmedLongitude(promise.getConfirmedLongitude())
+                .confirmedPlaceName(promise.getConfirmedPlaceName())
+                .midpointStationName(promise.getMidpointStationName())
+                .createdAt(promise.getCreatedAt())
+                .participants(participants.stream()
+                        .map(ParticipantResponse::from)
+                        .collect(Collectors.toCollection(ArrayList::new)))
+                .build();
+    }
+
+    /**
+     * 약속 상세 응답 (참여자 목록 포함)
+     */
+    public PromiseResponse toResponse() {
+        return PromiseResponse.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .promiseDateTime(promiseDateTime)
+                .status(status)
+                .inviteCode(inviteCode)
+                .inviteExpiredAt(inviteExpiredAt)
+                .maxParticipants(maxParticipants)
+                .hostId(hostId)
+                .hostNickname(hostNickname)
+                .hostProfileImageUrl(hostProfileImageUrl)
+                .participantCount(participants.size())
+                .confirmedLatitude(confirmedLatitude)
+                .confirmedLongitude(confirmedLongitude)
+                .confirmedPlaceName(confirmedPlaceName)
+                .midpointStationName(midpointStationName)
+                .createdAt(createdAt)
+                .participants(List.copyOf(participants))
+                .build();
+    }
+
+    /**
+     * 약속 요약 응답 (제목, 일시, 주최자)
+     */
+    public PromiseSummaryResponse toSummaryResponse() {
+        return PromiseSummaryResponse.builder()
+                .id(id)
+                .title(title)
+                .promiseDateTime(promiseDateTime)
+                .hostId(hostId)
+                .hostNickname(hostNickname)
+                .hostProfileImageUrl(hostProfileImageUrl)
+                .build();
+    }
+
+    /**
+     * 약속 참여자 여부
+     */
+    public boolean hasParticipant(Long userId) {
+        return participants.stream().anyMatch(participant -> participant.getUserId().equals(userId));
+    }
+}
@@ -0,0 +1,82 @@
+package dev.promise4.GgUd.service.view;
+
+import dev.promise4.GgUd.entity.Participant;
+import dev.promise4.GgUd.entity.Promise;
+import dev.promise4.GgUd.repository.ParticipantRepository;
+import dev.promise4.GgUd.repository.PromiseRepository;
+import dev.promise4.GgUd.service.event.ParticipantDepartureSubmittedEvent;
+import dev.promise4.GgUd.service.event.PromiseParticipantsChangedEvent;
+import dev.promise4.GgUd.service.event.PromiseStatusChangedEvent;
+import dev.promise4.GgUd.service.event.UserProfileChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * 약속 조회 모델 캐시 (promises 캐시)
+ * 상세/요약/상태/참여자 조회를 약속별 PromiseView 하나로 처리하고,
+ * 약속 상태 변경·참여·출발지 입력·프로필 변경 이벤트가 커밋된 뒤 해당 약속의 항목을 지움
+ * 커밋 직전에 읽어 간 요청이 지운 뒤에 옛 값을 다시 넣는 경우는 캐시 TTL(10분)까지 남을 수 있음
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PromiseViewService {
+
+    public static final String CACHE_NAME = "promises";
+
+    private final PromiseRepository promiseRepository;
+    private final ParticipantRepository participantRepository;
+    private final CacheManager cacheManager;
+
+    /**
+     * 약속 조회 모델 (캐시에 없으면 약속 + 주최자, 참여자 + 사용자 두 번의 조회로 생성)
+     * 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션 없이 각 Repository 조회만 수행
+     */
+    @Cacheable(value = CACHE_NAME, key = "#promiseId")
+    public PromiseView getView(Long promiseId) {
+        log.debug("Loading promise view from DB: promiseId={}", promiseId);
+        Promise promise = promiseRepository.findByIdWithHost(promiseId)
+                .orElseThrow(() -> new IllegalArgumentException("약속을 찾을 수 없습니다"));
+        List<Participant> participants = participantRepository.findByPromiseId(promiseId);
+        return PromiseView.of(promise, participants);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(value = CACHE_NAME, key = "#event.promiseId()")
+    public void onPromiseStatusChanged(PromiseStatusChangedEvent event) {
+        log.debug("Promise view evicted on status change: promiseId={}, status={}", event.promiseId(), event.status());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(value = CACHE_NAME, key = "#event.promiseId()")
+    public void onParticipantsChanged(PromiseParticipantsChangedEvent event) {
+        log.debug("Promise view evicted on participants change: promiseId={}", event.promiseId());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @CacheEvict(value = CACHE_NAME, key = "#event.promiseId()")
+    public void onDepartureSubmitted(ParticipantDepartureSubmittedEvent event) {
+        log.debug("Promise view evicted on departure submit: promiseId={}", event.promiseId());
+    }
+
+    /**
+     * 닉네임/프로필 이미지는 사용자가 참여한 모든 약속의 조회 모델에 들어 있으므로 모두 지움
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserProfileChanged(UserProfileChangedEvent event) {
+        Cache cache = cacheManager.getCache(CACHE_NAME);
+        if (cache == null) return;
+
+        List<Long> promiseIds = participantRepository.findPromiseIdsByUserId(event.userId());
+        promiseIds.forEach(cache::evict);
+        log.debug("Promise views evicted on profile change: userId={}, promises={}", event.userId(), promiseIds.size());
+    }
+}
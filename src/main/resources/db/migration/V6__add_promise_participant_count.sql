@@ -0,0 +1,8 @@
+-- V6: Denormalized participant count for lock-free promise joins
+-- Joins reserve a seat with a conditional UPDATE on this column instead of locking the promise row
+
+ALTER TABLE promises
+    ADD COLUMN IF NOT EXISTS participant_count INTEGER NOT NULL DEFAULT 0;
+
+UPDATE promises p
+SET participant_count = (SELECT COUNT(*) FROM participants pt WHERE pt.promise_id = p.id);
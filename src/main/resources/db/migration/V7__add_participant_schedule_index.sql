@@ -0,0 +1,20 @@
+-- V7: Keyset-paginated "my promises" listing driven off participants
+-- promise_date_time is copied from promises (it never changes after creation) so that
+-- one index range scan on participants returns a user's promises already in list order.
+-- The host is always a participant, so no OR on promises.host_id is needed.
+
+ALTER TABLE participants
+    ADD COLUMN IF NOT EXISTS promise_date_time TIMESTAMP;
+
+UPDATE participants pt
+SET promise_date_time = p.promise_date_time
+FROM promises p
+WHERE p.id = pt.promise_id
+  AND pt.promise_date_time IS NULL;
+
+ALTER TABLE participants
+    ALTER COLUMN promise_date_time SET NOT NULL;
+
+-- Keyset scan in both directions (DESC forward, ASC backward) and index-only total count
+CREATE INDEX IF NOT EXISTS idx_participants_user_schedule
+    ON participants(user_id, promise_date_time DESC, promise_id DESC);
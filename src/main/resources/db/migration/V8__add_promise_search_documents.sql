@@ -0,0 +1,62 @@
+-- V8: Per-user promise search documents (title + participant nicknames) with trigram GIN index
+-- One row per (participant, promise), kept up to date by PromiseSearchIndexer when participants
+-- or nicknames change. search_text holds the lower-cased text followed by its chosung (initial
+-- consonant) form on a second line, so a single LIKE '%keyword%' answers both substring and
+-- chosung queries. The GIN index is scoped to the user, so search cost follows the number of
+-- matches, not the size of the user's history.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE EXTENSION IF NOT EXISTS btree_gin;
+
+CREATE TABLE IF NOT EXISTS promise_search_documents (
+    id                BIGSERIAL PRIMARY KEY,
+    user_id           BIGINT    NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    promise_id        BIGINT    NOT NULL REFERENCES promises(id) ON DELETE CASCADE,
+    promise_date_time TIMESTAMP NOT NULL,
+    search_text       TEXT      NOT NULL,
+    CONSTRAINT uk_promise_search_user_promise UNIQUE (user_id, promise_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_promise_search_promise_id
+    ON promise_search_documents(promise_id);
+
+CREATE INDEX IF NOT EXISTS idx_promise_search_user_text
+    ON promise_search_documents USING GIN (user_id, search_text gin_trgm_ops);
+
+-- Same mapping as KoreanSearchText.chosung (Hangul syllable -> initial consonant, others kept)
+CREATE OR REPLACE FUNCTION promise_search_chosung(input TEXT) RETURNS TEXT AS $$
+DECLARE
+    initials CONSTANT TEXT[] := ARRAY['ㄱ','ㄲ','ㄴ','ㄷ','ㄸ','ㄹ','ㅁ','ㅂ','ㅃ','ㅅ','ㅆ',
+                                      'ㅇ','ㅈ','ㅉ','ㅊ','ㅋ','ㅌ','ㅍ','ㅎ'];
+    result TEXT := '';
+    ch TEXT;
+    code INT;
+BEGIN
+    IF input IS NULL OR input = '' THEN
+        RETURN input;
+    END IF;
+    FOREACH ch IN ARRAY regexp_split_to_array(input, '') LOOP
+        code := ascii(ch);
+        IF code BETWEEN 44032 AND 55203 THEN
+            result := result || initials[(code - 44032) / 588 + 1];
+        ELSE
+            result := result || ch;
+        END IF;
+    END LOOP;
+    RETURN result;
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+-- Backfill existing participations
+INSERT INTO promise_search_documents (user_id, promise_id, promise_date_time, search_text)
+SELECT pt.user_id, p.id, p.promise_date_time,
+       doc.base || E'\n' || promise_search_chosung(doc.base)
+FROM promises p
+JOIN participants pt ON pt.promise_id = p.id
+JOIN LATERAL (
+    SELECT lower(p.title || ' ' || string_agg(u.nickname, ' ' ORDER BY pt2.id)) AS base
+    FROM participants pt2
+    JOIN users u ON u.id = pt2.user_id
+    WHERE pt2.promise_id = p.id
+) doc ON TRUE
+ON CONFLICT (user_id, promise_id) DO NOTHING;
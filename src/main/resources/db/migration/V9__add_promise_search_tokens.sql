@@ -0,0 +1,63 @@
+-- V9: Short-keyword search tokens for promise_search_documents
+-- pg_trgm extracts no trigrams from a LIKE keyword shorter than 3 characters, so for the common
+-- 1-2 letter queries (2-syllable names, chosung such as 'ㅎㄱ') idx_promise_search_user_text only
+-- narrows by user_id and every document of the user is rechecked. search_tokens holds every
+-- 1-2 character alphanumeric substring of each search_text line, space separated and padded
+-- (' ㅎ ㅎㄱ ㄱ ... '). A short keyword is searched as LIKE '% ㅎㄱ %'; the literal spaces make it a
+-- whole word to pg_trgm, which then extracts padded trigrams ('  ㅎ', ' ㅎㄱ', 'ㅎㄱ ') and the
+-- (user_id, search_tokens) GIN index returns only the documents that contain the token.
+--
+-- Plan check (run against a user with a large history; not captured in CI):
+--   EXPLAIN (ANALYZE, BUFFERS)
+--   SELECT promise_id FROM promise_search_documents
+--   WHERE user_id = :uid AND search_text LIKE '%ㅎㄱ%';
+--     -> Bitmap Index Scan on idx_promise_search_user_text with Index Cond on user_id only;
+--        "Rows Removed by Index Recheck" grows with the user's document count.
+--   EXPLAIN (ANALYZE, BUFFERS)
+--   SELECT promise_id FROM promise_search_documents
+--   WHERE user_id = :uid AND search_tokens LIKE '% ㅎㄱ %';
+--     -> Bitmap Index Scan on idx_promise_search_user_tokens with Index Cond on user_id and
+--        search_tokens; heap rows visited follow the number of matches.
+-- Keywords of 3+ characters keep using search_text (trigrams are available there). Short keywords
+-- containing non-alphanumeric characters (e.g. '1%') also stay on search_text and are not indexed.
+-- [[:alnum:]] follows the database locale; Hangul and compatibility jamo are alphanumeric under
+-- UTF-8 locales, which the trigram index on search_text already relies on.
+
+-- Same rule as KoreanSearchText.tokens
+CREATE OR REPLACE FUNCTION promise_search_tokens(input TEXT) RETURNS TEXT AS $$
+DECLARE
+    tokens TEXT[] := ARRAY[]::TEXT[];
+    line TEXT;
+    chars TEXT[];
+    len INT;
+    i INT;
+BEGIN
+    FOREACH line IN ARRAY string_to_array(input, E'\n') LOOP
+        chars := regexp_split_to_array(line, '');
+        len := coalesce(array_length(chars, 1), 0);
+        FOR i IN 1 .. len LOOP
+            CONTINUE WHEN chars[i] !~ '^[[:alnum:]]$';
+            IF NOT chars[i] = ANY(tokens) THEN
+                tokens := tokens || chars[i];
+            END IF;
+            IF i < len AND chars[i + 1] ~ '^[[:alnum:]]$'
+                    AND NOT (chars[i] || chars[i + 1]) = ANY(tokens) THEN
+                tokens := tokens || (chars[i] || chars[i + 1]);
+            END IF;
+        END LOOP;
+    END LOOP;
+    IF coalesce(array_length(tokens, 1), 0) = 0 THEN
+        RETURN ' ';
+    END IF;
+    RETURN ' ' || array_to_string(tokens, ' ') || ' ';
+END;
+$$ LANGUAGE plpgsql IMMUTABLE;
+
+ALTER TABLE promise_search_documents
+    ADD COLUMN IF NOT EXISTS search_tokens TEXT NOT NULL DEFAULT ' ';
+
+UPDATE promise_search_documents
+SET search_tokens = promise_search_tokens(search_text);
+
+CREATE INDEX IF NOT EXISTS idx_promise_search_user_tokens
+    ON promise_search_documents USING GIN (user_id, search_tokens gin_trgm_ops);
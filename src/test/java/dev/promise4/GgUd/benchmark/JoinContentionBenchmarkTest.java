@@ -0,0 +1,207 @@
+package dev.promise4.GgUd.benchmark;
+
+import dev.promise4.GgUd.config.PromiseJoinProperties;
+import dev.promise4.GgUd.entity.Participant;
+import dev.promise4.GgUd.entity.Promise;
+import dev.promise4.GgUd.entity.PromiseStatus;
+import dev.promise4.GgUd.entity.User;
+import dev.promise4.GgUd.entity.UserRole;
+import dev.promise4.GgUd.exception.MaxParticipantsExceededException;
+import dev.promise4.GgUd.repository.ParticipantRepository;
+import dev.promise4.GgUd.repository.PromiseRepository;
+import dev.promise4.GgUd.repository.UserRepository;
+import dev.promise4.GgUd.service.PromiseService;
+import dev.promise4.GgUd.service.invite.InviteCodeResolver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 약속 참여 경합 벤치마크 (로컬 Postgres 필요, benchmark 프로필)
+ * 초대 링크 하나로 참여 요청이 동시에 몰릴 때 Pessimistic Lock 과 좌석 카운터(participant_count 조건부 UPDATE)의
+ * 처리량, 요청 지연 백분위, 정원 초과 여부 비교
+ */
+@SpringBootTest
+@ActiveProfiles("benchmark")
+@DisplayName("Join Contention Benchmark Test")
+class JoinContentionBenchmarkTest {
+
+    private static final int JOINERS = 200;
+    private static final int THREADS = 32;
+    private static final int SMALL_CAPACITY = 10;
+
+    private static final AtomicLong USER_SEQUENCE = new AtomicLong(System.currentTimeMillis());
+
+    @Autowired
+    private PromiseService promiseService;
+
+    @Autowired
+    private PromiseJoinProperties promiseJoinProperties;
+
+    @Autowired
+    private PromiseRepository promiseRepository;
+
+    @Autowired
+    private ParticipantRepository participantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private InviteCodeResolver inviteCodeResolver;
+
+    private final String originalStrategy = new PromiseJoinProperties().getStrategy();
+
+    @AfterEach
+    void restoreStrategy() {
+        promiseJoinProperties.setStrategy(originalStrategy);
+    }
+
+    @Test
+    @DisplayName("[1] 정원 여유 - 동시 참여 처리량과 지연 (Lock vs 좌석 카운터)")
+    void benchmarkBurstJoin() throws Exception {
+        System.out.println("\n========================================");
+        System.out.printf("[참여 경합 벤치마크] 참여자 %d명, 스레드 %d개, 정원 여유%n", JOINERS, THREADS);
+        System.out.println("========================================");
+
+        for (String strategy : List.of("pessimistic-lock", "seat-counter")) {
+            Result result = run(strategy, JOINERS + 1);
+            result.print(strategy);
+
+            assertThat(result.joined).isEqualTo(JOINERS);
+            assertThat(result.participantRows).isEqualTo(JOINERS + 1);
+            assertThat(result.participantCount).isEqualTo(JOINERS + 1);
+        }
+        System.out.println("========================================\n");
+    }
+
+    @Test
+    @DisplayName("[2] 정원 초과 요청 - 정확히 정원만큼만 참여 (Lock vs 좌석 카운터)")
+    void benchmarkOversubscribedJoin() throws Exception {
+        System.out.println("\n========================================");
+        System.out.printf("[참여 경합 벤치마크] 참여자 %d명, 스레드 %d개, 정원 %d명%n", JOINERS, THREADS, SMALL_CAPACITY);
+        System.out.println("========================================");
+
+        for (String strategy : List.of("pessimistic-lock", "seat-counter")) {
+            Result result = run(strategy, SMALL_CAPACITY);
+            result.print(strategy);
+
+            assertThat(result.joined).isEqualTo(SMALL_CAPACITY - 1);
+            assertThat(result.rejected).isEqualTo(JOINERS - (SMALL_CAPACITY - 1));
+            assertThat(result.participantRows).isEqualTo(SMALL_CAPACITY);
+            assertThat(result.participantCount).isEqualTo(SMALL_CAPACITY);
+        }
+        System.out.println("========================================\n");
+    }
+
+    private Result run(String strategy, int maxParticipants) throws Exception {
+        promiseJoinProperties.setStrategy(strategy);
+        Promise promise = createPromise(maxParticipants);
+        List<Long> joiners = new ArrayList<>();
+        for (int i = 0; i < JOINERS; i++) {
+            joiners.add(createUser().getId());
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger joined = new AtomicInteger();
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger failed = new AtomicInteger();
+        ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+
+        List<Future<?>> futures = new ArrayList<>();
+        for (Long userId : joiners) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                long begin = System.nanoTime();
+                try {
+                    promiseService.joinPromise(userId, promise.getInviteCode());
+                    joined.incrementAndGet();
+                } catch (MaxParticipantsExceededException e) {
+                    rejected.incrementAndGet();
+                } catch (Exception e) {
+                    failed.incrementAndGet();
+                } finally {
+                    latencies.add(System.nanoTime() - begin);
+                }
+                return null;
+            }));
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        long elapsedNanos = System.nanoTime() - begin;
+        executor.shutdown();
+
+        long[] sorted = latencies.stream().mapToLong(Long::longValue).sorted().toArray();
+        long rows = participantRepository.countByPromiseId(promise.getId());
+        int count = promiseRepository.findById(promise.getId()).orElseThrow().getParticipantCount();
+        return new Result(joined.get(), rejected.get(), failed.get(), elapsedNanos, sorted, rows, count);
+    }
+
+    private Promise createPromise(int maxParticipants) {
+        User host = createUser();
+        Promise promise = promiseRepository.save(Promise.builder()
+                .title("경합 벤치마크")
+                .promiseDateTime(LocalDateTime.now().plusDays(1))
+                .status(PromiseStatus.RECRUITING)
+                .maxParticipants(maxParticipants)
+                .participantCount(1)
+                .host(host)
+                .build());
+        participantRepository.save(Participant.builder()
+                .promise(promise)
+                .user(host)
+                .isHost(true)
+                .build());
+        inviteCodeResolver.register(promise);
+        return promise;
+    }
+
+    private User createUser() {
+        long sequence = USER_SEQUENCE.incrementAndGet();
+        return userRepository.save(User.builder()
+                .kakaoId("bench-" + sequence)
+                .nickname("bench" + sequence)
+                .role(UserRole.USER)
+                .build());
+    }
+
+    private record Result(int joined, int rejected, int failed, long elapsedNanos, long[] latencies,
+                          long participantRows, int participantCount) {
+
+        void print(String strategy) {
+            System.out.printf("%-16s: %,d ms, %,.0f req/s | 성공 %d, 정원 초과 %d, 실패 %d | " +
+                            "p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms | rows=%d, participant_count=%d%n",
+                    strategy, elapsedNanos / 1_000_000, latencies.length / (elapsedNanos / 1e9),
+                    joined, rejected, failed,
+                    percentile(0.50), percentile(0.95), percentile(0.99), percentile(1.0),
+                    participantRows, participantCount);
+        }
+
+        private double percentile(double percentile) {
+            if (latencies.length == 0) return 0;
+            int index = Math.min(latencies.length - 1, (int) Math.ceil(percentile * latencies.length) - 1);
+            return latencies[Math.max(0, index)] / 1_000_000.0;
+        }
+    }
+}
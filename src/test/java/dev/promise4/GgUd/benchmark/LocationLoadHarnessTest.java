@@ -0,0 +1,527 @@
+package dev.promise4.GgUd.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.promise4.GgUd.common.messaging.InstrumentedChannelExecutor;
+import dev.promise4.GgUd.config.ArrivalProperties;
+import dev.promise4.GgUd.config.EtaProperties;
+import dev.promise4.GgUd.config.LocationGateProperties;
+import dev.promise4.GgUd.config.TrajectoryProperties;
+import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+import dev.promise4.GgUd.controller.dto.LocationUpdateMessage;
+import dev.promise4.GgUd.controller.dto.LocationsDeltaMessage;
+import dev.promise4.GgUd.entity.PromiseStatus;
+import dev.promise4.GgUd.service.LocationTrackingService;
+import dev.promise4.GgUd.service.TMapDirectionsService;
+import dev.promise4.GgUd.service.directions.IndexedDirections;
+import dev.promise4.GgUd.service.tracking.ArrivalResult;
+import dev.promise4.GgUd.service.tracking.GeoDistance;
+import dev.promise4.GgUd.service.tracking.LiveEtaEngine;
+import dev.promise4.GgUd.service.tracking.LocationBroadcastCoalescer;
+import dev.promise4.GgUd.service.tracking.LocationDeltaLog;
+import dev.promise4.GgUd.service.tracking.LocationGate;
+import dev.promise4.GgUd.service.tracking.RedisLocationStore;
+import dev.promise4.GgUd.service.tracking.TrackingSession;
+import dev.promise4.GgUd.service.tracking.TrackingSessionCache;
+import dev.promise4.GgUd.service.tracking.TrajectoryStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+import reactor.core.publisher.Flux;
+
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * 실시간 위치 공유 부하 하네스 (외부 Redis·Postgres·TMap·네트워크 불필요)
+ * 약속 N개 × 참여자(STOMP 구독자) M명이 약속 장소를 향해 GPS 노이즈가 섞인 경로로 이동하며 위치를 보내고,
+ * 실제 위치 수신 경로(게이트 → 세션 → 저장/도착 판정 → ETA → 묶음 전송 → simple broker → 구독자)를 통과시켜
+ * 브로드캐스트 종단 지연 백분위, 도착 판정 정확성(누락·중복·오탐), 프로세스 CPU 시간과 할당량을 측정
+ *
+ * Redis/Postgres 는 컴포넌트 경계의 메모리 대체 구현으로 바꿈
+ * - 세션 캐시: DB 적재 대신 미리 만든 세션 반환
+ * - 위치 저장: Lua 스크립트와 같은 규칙(반경 안 첫 위치만 새 도착, 도착 인원 집계)을 메모리에서 수행
+ *   (도착 판정 정확성은 이 복제 규칙 기준이며 RedisLocationStore 의 스크립트 자체를 검증하지는 않음)
+ * - 순번 로그: INCR 대신 약속별 AtomicLong
+ *
+ * 실행 시간을 줄이기 위해 시간을 압축하므로(틱 간격마다 한 걸음) 게이트는 끄고 모든 위치를 반영
+ * 규모 조정: -Dharness.promises=50 -Dharness.clients=6 -Dharness.stepMeters=40 -Dharness.tickMillis=20
+ */
+@DisplayName("Location Load Harness Test")
+class LocationLoadHarnessTest {
+
+    private static final int PROMISES = Integer.getInteger("harness.promises", 10);
+    private static final int CLIENTS = Integer.getInteger("harness.clients", 4);
+    private static final double STEP_METERS = Double.parseDouble(System.getProperty("harness.stepMeters", "40"));
+    private static final long TICK_MILLIS = Long.getLong("harness.tickMillis", 20);
+    private static final long COALESCE_MILLIS = Long.getLong("harness.coalesceMillis", 50);
+
+    private static final double CENTER_LAT = 37.5665;
+    private static final double CENTER_LON = 126.9780;
+    private static final double METERS_PER_DEGREE = 111_320.0;
+    private static final double GPS_NOISE_METERS = 5.0;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ArrivalProperties arrivalProperties = new ArrivalProperties();
+
+    private final ExecutorService inboundPool = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors() * 2, daemon("harness-inbound"));
+    private final ExecutorService outboundPool = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors() * 2, daemon("harness-outbound"));
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(daemon("harness-tick"));
+
+    private SimpleBrokerMessageHandler broker;
+
+    @AfterEach
+    void tearDown() {
+        ticker.shutdownNow();
+        inboundPool.shutdownNow();
+        outboundPool.shutdownNow();
+        if (broker != null) broker.stop();
+    }
+
+    @Test
+    @DisplayName("[1] N 약속 × M 클라이언트 GPS 이동 - 브로드캐스트 지연, 도착 판정, CPU/할당")
+    void runHarness() throws Exception {
+        // given - 브로커 (WebSocketConfig 의 simple broker 와 같은 채널 구성)
+        ExecutorSubscribableChannel clientInbound = new ExecutorSubscribableChannel();
+        ExecutorSubscribableChannel clientOutbound = new ExecutorSubscribableChannel(
+                new InstrumentedChannelExecutor("clientOutbound", outboundPool, meterRegistry));
+        ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        broker = new SimpleBrokerMessageHandler(clientInbound, clientOutbound, brokerChannel, List.of("/topic", "/queue"));
+        broker.start();
+
+        SimpMessagingTemplate messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+        MappingJackson2MessageConverter converter = new MappingJackson2MessageConverter();
+        converter.setObjectMapper(objectMapper);
+        messagingTemplate.setMessageConverter(converter);
+
+        Map<Long, TrackingSession> sessions = new HashMap<>();
+        List<Walker> walkers = new ArrayList<>();
+        Random random = new Random(42);
+        for (long promiseId = 1; promiseId <= PROMISES; promiseId++) {
+            double destinationLat = CENTER_LAT + (random.nextDouble() - 0.5) * 0.1;
+            double destinationLon = CENTER_LON + (random.nextDouble() - 0.5) * 0.1;
+            Map<Long, TrackingSession.TrackingParticipant> participants = new HashMap<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                long userId = promiseId * 1000 + c;
+                participants.put(userId, new TrackingSession.TrackingParticipant(userId, "user" + userId, null, false));
+                walkers.add(new Walker(promiseId, userId, destinationLat, destinationLon,
+                        1000 + random.nextDouble() * 2000, random.nextDouble() * 2 * Math.PI, random.nextLong()));
+            }
+            sessions.put(promiseId, TrackingSession.builder()
+                    .promiseId(promiseId)
+                    .status(PromiseStatus.IN_PROGRESS)
+                    .trackingStartTime(LocalDateTime.now().minusMinutes(30))
+                    .confirmedLatitude(destinationLat)
+                    .confirmedLongitude(destinationLon)
+                    .participants(participants)
+                    .build());
+        }
+
+        LocationTrackingService service = locationTrackingService(sessions, messagingTemplate);
+        Metrics metrics = new Metrics();
+        subscribeAll(clientInbound, clientOutbound, walkers, metrics);
+
+        // when - 걸음마다 이전 위치 처리가 끝난 뒤 다음 틱을 예약 (참여자별 순서 보장)
+        CountDownLatch finished = new CountDownLatch(walkers.size());
+        long cpuBefore = processCpuNanos();
+        long allocatedBefore = allocatedBytes();
+        long started = System.nanoTime();
+        for (Walker walker : walkers) {
+            ticker.schedule(() -> step(walker, service, metrics, finished), random.nextInt((int) TICK_MILLIS + 1),
+                    TimeUnit.MILLISECONDS);
+        }
+        assertThat(finished.await(5, TimeUnit.MINUTES)).as("all walkers reached their destination").isTrue();
+
+        // 마지막 묶음 전송과 구독자 전달 대기
+        long expectedArrivalEvents = (long) walkers.size() * CLIENTS;
+        long deadline = System.currentTimeMillis() + 5_000;
+        while (metrics.arrivalEvents.get() < expectedArrivalEvents && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(COALESCE_MILLIS * 2 + 100);
+        long elapsedNanos = System.nanoTime() - started;
+        long cpuNanos = processCpuNanos() - cpuBefore;
+        long allocated = allocatedBytes() - allocatedBefore;
+
+        // then
+        long[] latencies = metrics.latenciesNanos.stream().mapToLong(Long::longValue).sorted().toArray();
+        long pings = metrics.pings.get();
+        System.out.println("\n========================================");
+        System.out.println("[실시간 위치 부하 하네스]");
+        System.out.printf("약속 %d개 × 클라이언트 %d명, 걸음 %.0fm, 틱 %dms, 묶음 창 %dms%n",
+                PROMISES, CLIENTS, STEP_METERS, TICK_MILLIS, COALESCE_MILLIS);
+        System.out.println("========================================");
+        System.out.printf("경과 시간          : %,d ms%n", elapsedNanos / 1_000_000);
+        System.out.printf("위치 수신          : %,d건 (%,.0f건/s)%n", pings, pings / (elapsedNanos / 1e9));
+        System.out.printf("구독자 수신 위치    : %,d건 (묶음 %,d개)%n", latencies.length, metrics.frames.get());
+        System.out.printf("종단 지연          : p50=%s, p95=%s, p99=%s, max=%s%n",
+                micros(latencies, 0.50), micros(latencies, 0.95), micros(latencies, 0.99), micros(latencies, 1.0));
+        System.out.printf("outbound 대기      : max=%.1f ms%n", meterRegistry.get("websocket.channel.task.wait")
+                .tag("channel", "clientOutbound").timer().max(TimeUnit.MICROSECONDS) / 1000.0);
+        System.out.printf("도착 이벤트        : %,d / 기대 %,d (중복 %d, 오탐 %d)%n",
+                metrics.arrivalEvents.get(), expectedArrivalEvents, metrics.duplicateArrivals.get(),
+                metrics.falseArrivals.get());
+        System.out.printf("ETA 메시지         : %,d건%n", metrics.etaEvents.get());
+        System.out.printf("처리 실패          : 위치 %,d건, 수신 해석 %,d건%n",
+                metrics.pingFailures.get(), metrics.decodeFailures.get());
+        System.out.printf("프로세스 CPU       : %,d ms (위치당 %.1f us)%n",
+                cpuNanos / 1_000_000, pings > 0 ? cpuNanos / 1000.0 / pings : 0);
+        System.out.printf("할당량             : %,.1f MB (위치당 %,d B)%n",
+                allocated / 1024.0 / 1024.0, pings > 0 ? allocated / pings : 0);
+        System.out.println("========================================\n");
+
+        assertThat(metrics.pingFailures.get()).as("updateLocation failures").isZero();
+        assertThat(metrics.decodeFailures.get()).as("subscriber decode failures").isZero();
+        assertThat(metrics.arrivalEvents.get()).isEqualTo(expectedArrivalEvents);
+        assertThat(metrics.duplicateArrivals.get()).isZero();
+        assertThat(metrics.falseArrivals.get()).isZero();
+        assertThat(latencies).isNotEmpty();
+    }
+
+    /**
+     * 한 걸음 이동 후 위치 전송, 도착하면 종료하고 아니면 다음 틱 예약
+     */
+    private void step(Walker walker, LocationTrackingService service, Metrics metrics, CountDownLatch finished) {
+        inboundPool.execute(() -> {
+            try {
+                double[] reported = walker.advance();
+                metrics.sentAt.put(locationKey(walker.userId, reported[0], reported[1]), System.nanoTime());
+                metrics.pings.incrementAndGet();
+                if (GeoDistance.meters(reported[0], reported[1], walker.destinationLat, walker.destinationLon)
+                        <= arrivalProperties.getRadiusMeters()) {
+                    metrics.withinRadius.add(walker.userId);
+                }
+                service.updateLocation(walker.promiseId, walker.userId, reported[0], reported[1]);
+            } catch (Exception e) {
+                metrics.pingFailures.incrementAndGet();
+            }
+
+            if (walker.done()) {
+                finished.countDown();
+            } else {
+                ticker.schedule(() -> step(walker, service, metrics, finished), TICK_MILLIS, TimeUnit.MILLISECONDS);
+            }
+        });
+    }
+
+    private LocationTrackingService locationTrackingService(Map<Long, TrackingSession> sessions,
+                                                            SimpMessagingTemplate messagingTemplate) {
+        LocationGateProperties gateProperties = new LocationGateProperties();
+        gateProperties.setEnabled(false);
+        gateProperties.setCoalesceWindowMillis(COALESCE_MILLIS);
+
+        TrajectoryProperties trajectoryProperties = new TrajectoryProperties();
+        trajectoryProperties.setEnabled(false);
+
+        // ETA: 대중교통 소요 시간은 고정 응답 (TMap 대체)
+        TMapDirectionsService directionsService = mock(TMapDirectionsService.class, withSettings().stubOnly());
+        when(directionsService.getDirectionsBatch(anyList(), eq(1)))
+                .thenReturn(Flux.just(new IndexedDirections(0, DirectionsResponse.builder()
+                        .routeOptions(List.of(DirectionsResponse.RouteOption.builder().totalDuration(30).build()))
+                        .build())));
+
+        // 마지막 ETA 보관용 HSET 은 버림
+        @SuppressWarnings("unchecked")
+        RedisTemplate<String, Object> redisTemplate = mock(RedisTemplate.class, withSettings().stubOnly());
+        @SuppressWarnings("unchecked")
+        HashOperations<String, Object, Object> hashOperations = mock(HashOperations.class, withSettings().stubOnly());
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        return new LocationTrackingService(
+                new InMemoryTrackingSessionCache(sessions),
+                new LocationGate(gateProperties, meterRegistry),
+                new LocationBroadcastCoalescer(messagingTemplate, new InMemoryDeltaLog(gateProperties),
+                        gateProperties, meterRegistry),
+                new InMemoryLocationStore(arrivalProperties),
+                new TrajectoryStore(null, trajectoryProperties),
+                trajectoryProperties,
+                new LiveEtaEngine(new EtaProperties(), directionsService, meterRegistry),
+                redisTemplate,
+                messagingTemplate);
+    }
+
+    /**
+     * 클라이언트마다 STOMP 세션을 열고 자기 약속의 위치·도착·ETA 토픽을 구독
+     */
+    private void subscribeAll(MessageChannel clientInbound, ExecutorSubscribableChannel clientOutbound,
+                              List<Walker> walkers, Metrics metrics) {
+        clientOutbound.subscribe(message -> {
+            if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) return;
+            long receivedAt = System.nanoTime();
+            String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+            String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+            try {
+                onMessage(destination, sessionId, (byte[]) message.getPayload(), receivedAt, metrics);
+            } catch (Exception e) {
+                metrics.decodeFailures.incrementAndGet();
+            }
+        });
+
+        for (Walker walker : walkers) {
+            String sessionId = "session-" + walker.userId;
+            clientInbound.send(clientMessage(SimpMessageType.CONNECT, sessionId, null, null));
+            String prefix = "/topic/promises/" + walker.promiseId;
+            clientInbound.send(clientMessage(SimpMessageType.SUBSCRIBE, sessionId, "loc", prefix + "/locations"));
+            clientInbound.send(clientMessage(SimpMessageType.SUBSCRIBE, sessionId, "arr", prefix + "/arrivals"));
+            clientInbound.send(clientMessage(SimpMessageType.SUBSCRIBE, sessionId, "eta", prefix + "/etas"));
+        }
+    }
+
+    private void onMessage(String destination, String sessionId, byte[] payload, long receivedAt, Metrics metrics)
+            throws Exception {
+        if (destination.endsWith("/locations")) {
+            LocationsDeltaMessage frame = objectMapper.readValue(payload, LocationsDeltaMessage.class);
+            metrics.frames.incrementAndGet();
+            for (LocationUpdateMessage location : frame.getLocations()) {
+                Long sentAt = metrics.sentAt.get(
+                        locationKey(location.getUserId(), location.getLatitude(), location.getLongitude()));
+                if (sentAt != null) {
+                    metrics.latenciesNanos.add(receivedAt - sentAt);
+                }
+            }
+        } else if (destination.endsWith("/arrivals")) {
+            JsonNode event = objectMapper.readTree(payload);
+            long userId = event.get("userId").asLong();
+            metrics.arrivalEvents.incrementAndGet();
+            if (!metrics.receivedArrivals.add(sessionId + "/" + userId)) {
+                metrics.duplicateArrivals.incrementAndGet();
+            }
+            if (!metrics.withinRadius.contains(userId)) {
+                metrics.falseArrivals.incrementAndGet();
+            }
+        } else if (destination.endsWith("/etas")) {
+            metrics.etaEvents.incrementAndGet();
+        }
+    }
+
+    private static Message<byte[]> clientMessage(SimpMessageType type, String sessionId, String subscriptionId,
+                                                 String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        if (type == SimpMessageType.CONNECT) {
+            accessor.setHeader(SimpMessageHeaderAccessor.HEART_BEAT_HEADER, new long[]{0, 0});
+        }
+        if (destination != null) {
+            accessor.setSubscriptionId(subscriptionId);
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    private static String locationKey(long userId, double latitude, double longitude) {
+        return userId + "@" + latitude + "," + longitude;
+    }
+
+    private static String micros(long[] sorted, double percentile) {
+        if (sorted.length == 0) return "-";
+        int index = Math.min(sorted.length - 1, (int) Math.ceil(percentile * sorted.length) - 1);
+        return String.format("%.1fms", sorted[Math.max(0, index)] / 1_000_000.0);
+    }
+
+    private static long processCpuNanos() {
+        if (ManagementFactory.getOperatingSystemMXBean() instanceof com.sun.management.OperatingSystemMXBean os) {
+            return os.getProcessCpuTime();
+        }
+        return 0;
+    }
+
+    /**
+     * 살아 있는 스레드의 누적 할당량 합 (하네스 스레드 풀은 측정 내내 유지되므로 차이로 계산 가능)
+     */
+    private static long allocatedBytes() {
+        if (!(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean threads)
+                || !threads.isThreadAllocatedMemorySupported()) {
+            return 0;
+        }
+        return Arrays.stream(threads.getThreadAllocatedBytes(threads.getAllThreadIds()))
+                .filter(bytes -> bytes > 0)
+                .sum();
+    }
+
+    private static ThreadFactory daemon(String name) {
+        AtomicLong sequence = new AtomicLong();
+        return runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class Metrics {
+        final Map<String, Long> sentAt = new ConcurrentHashMap<>();
+        final ConcurrentLinkedQueue<Long> latenciesNanos = new ConcurrentLinkedQueue<>();
+        final Set<Long> withinRadius = ConcurrentHashMap.newKeySet();
+        final Set<String> receivedArrivals = ConcurrentHashMap.newKeySet();
+        final AtomicLong pings = new AtomicLong();
+        final AtomicLong frames = new AtomicLong();
+        final AtomicLong arrivalEvents = new AtomicLong();
+        final AtomicLong duplicateArrivals = new AtomicLong();
+        final AtomicLong falseArrivals = new AtomicLong();
+        final AtomicLong etaEvents = new AtomicLong();
+        final AtomicLong pingFailures = new AtomicLong();
+        final AtomicLong decodeFailures = new AtomicLong();
+    }
+
+    /**
+     * 약속 장소를 향해 걷는 참여자 (걸음마다 좌우 흔들림 + GPS 노이즈)
+     * 약속 장소 근처에 닿은 뒤 몇 걸음 더 머물러 도착 후 위치도 보냄
+     */
+    private static final class Walker {
+        final long promiseId;
+        final long userId;
+        final double destinationLat;
+        final double destinationLon;
+        final Random random;
+
+        double northMeters;
+        double eastMeters;
+        int stepsAfterArrival;
+
+        Walker(long promiseId, long userId, double destinationLat, double destinationLon,
+               double startDistanceMeters, double bearing, long seed) {
+            this.promiseId = promiseId;
+            this.userId = userId;
+            this.destinationLat = destinationLat;
+            this.destinationLon = destinationLon;
+            this.random = new Random(seed);
+            this.northMeters = Math.cos(bearing) * startDistanceMeters;
+            this.eastMeters = Math.sin(bearing) * startDistanceMeters;
+        }
+
+        /**
+         * 한 걸음 이동 후 보고할 위치 {위도, 경도}
+         */
+        double[] advance() {
+            double remaining = Math.hypot(northMeters, eastMeters);
+            if (remaining > 20) {
+                double step = Math.min(remaining - 10, STEP_METERS * (0.8 + random.nextDouble() * 0.4));
+                double sway = (random.nextDouble() - 0.5) * 0.3;
+                double heading = Math.atan2(-eastMeters, -northMeters) + sway;
+                northMeters += Math.cos(heading) * step;
+                eastMeters += Math.sin(heading) * step;
+            } else {
+                stepsAfterArrival++;
+            }
+
+            double noisyNorth = northMeters + random.nextGaussian() * GPS_NOISE_METERS;
+            double noisyEast = eastMeters + random.nextGaussian() * GPS_NOISE_METERS;
+            double latitude = destinationLat + noisyNorth / METERS_PER_DEGREE;
+            double longitude = destinationLon
+                    + noisyEast / (METERS_PER_DEGREE * Math.cos(Math.toRadians(destinationLat)));
+            return new double[]{latitude, longitude};
+        }
+
+        boolean done() {
+            return stepsAfterArrival >= 3;
+        }
+    }
+
+    /**
+     * 세션 캐시 대체 (DB 적재 없이 미리 만든 세션)
+     */
+    private static final class InMemoryTrackingSessionCache extends TrackingSessionCache {
+        private final Map<Long, TrackingSession> sessions;
+
+        InMemoryTrackingSessionCache(Map<Long, TrackingSession> sessions) {
+            super(null, null, null, null, null);
+            this.sessions = sessions;
+        }
+
+        @Override
+        public TrackingSession get(Long promiseId) {
+            return sessions.get(promiseId);
+        }
+    }
+
+    /**
+     * 위치 저장 스크립트 대체 (같은 도착 규칙을 메모리에서 원자적으로 수행, 스크립트를 바꾸면 함께 맞춰야 함)
+     */
+    private static final class InMemoryLocationStore extends RedisLocationStore {
+        private final ArrivalProperties properties;
+        private final Map<Long, Map<Long, LocationUpdateMessage>> locations = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> arrivals = new ConcurrentHashMap<>();
+
+        InMemoryLocationStore(ArrivalProperties properties) {
+            super(new RedisTemplate<>(), null, properties);
+            this.properties = properties;
+        }
+
+        @Override
+        public ArrivalResult save(TrackingSession session, LocationUpdateMessage location, long nowMillis) {
+            Long promiseId = session.getPromiseId();
+            locations.computeIfAbsent(promiseId, id -> new ConcurrentHashMap<>()).put(location.getUserId(), location);
+            if (!session.detectsArrival()) {
+                return ArrivalResult.NONE;
+            }
+
+            Set<Long> arrived = arrivals.computeIfAbsent(promiseId, id -> ConcurrentHashMap.newKeySet());
+            if (arrived.contains(location.getUserId())) {
+                return new ArrivalResult(false, true, arrived.size(), session.getParticipants().size());
+            }
+            double distance = GeoDistance.meters(location.getLatitude(), location.getLongitude(),
+                    session.getConfirmedLatitude(), session.getConfirmedLongitude());
+            if (distance > properties.getRadiusMeters()) {
+                return ArrivalResult.NONE;
+            }
+            boolean added = arrived.add(location.getUserId());
+            return new ArrivalResult(added, !added, arrived.size(), session.getParticipants().size());
+        }
+    }
+
+    /**
+     * 순번 로그 대체 (INCR 대신 약속별 카운터, 버퍼는 보관하지 않음)
+     */
+    private static final class InMemoryDeltaLog extends LocationDeltaLog {
+        private final Map<Long, AtomicLong> sequences = new ConcurrentHashMap<>();
+
+        InMemoryDeltaLog(LocationGateProperties properties) {
+            super(null, null, properties);
+        }
+
+        @Override
+        public LocationsDeltaMessage append(Long promiseId, List<LocationUpdateMessage> locations) {
+            return LocationsDeltaMessage.builder()
+                    .promiseId(promiseId)
+                    .seq(sequences.computeIfAbsent(promiseId, id -> new AtomicLong()).incrementAndGet())
+                    .locations(locations)
+                    .timestamp(LocalDateTime.now())
+                    .build();
+        }
+    }
+}
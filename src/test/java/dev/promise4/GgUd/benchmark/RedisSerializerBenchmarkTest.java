@@ -0,0 +1,130 @@
+package dev.promise4.GgUd.benchmark;
+
+import dev.promise4.GgUd.common.redis.RedisSerializers;
+import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+import dev.promise4.GgUd.controller.dto.LocationUpdateMessage;
+import dev.promise4.GgUd.entity.SubwayStation;
+import dev.promise4.GgUd.service.directions.CachedDirections;
+import dev.promise4.GgUd.service.directions.RouteGeometry;
+import dev.promise4.GgUd.service.station.SubwayStationCsvReader;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Redis 값 직렬화 벤치마크 (외부 Redis 불필요)
+ * 기존 JSON(default typing) vs 바이너리 vs 바이너리+Deflate 의 저장 크기와 직렬화/역직렬화 ns/op 비교
+ */
+@DisplayName("Redis Serializer Benchmark Test")
+class RedisSerializerBenchmarkTest {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    private final RedisSerializer<Object> json = RedisSerializers.json();
+    private final RedisSerializer<Object> binary = RedisSerializers.compact(true, 0);
+    private final RedisSerializer<Object> binaryDeflate = RedisSerializers.compact(true, 1024);
+
+    @Test
+    @DisplayName("[1] 실제 캐시 값 타입별 JSON vs 바이너리")
+    void benchmarkSerializers() throws Exception {
+        System.out.println("\n========================================");
+        System.out.println("[Redis 직렬화 벤치마크]");
+        System.out.printf("반복: %,d회%n", ITERATIONS);
+        System.out.println("========================================");
+
+        run("길찾기 캐시 (경로 3개)", new CachedDirections(37.4979, 127.0276, directions()));
+        run("지하철역 목록", stations());
+        run("실시간 위치", LocationUpdateMessage.of(1L, "홍길동", "https://cdn.example.com/profile/1.png",
+                37.5665, 126.9780));
+        System.out.println("========================================\n");
+    }
+
+    private void run(String label, Object value) {
+        System.out.println("- " + label);
+        measure("JSON (기존)", json, value);
+        measure("바이너리", binary, value);
+        measure("바이너리+Deflate", binaryDeflate, value);
+    }
+
+    private void measure(String label, RedisSerializer<Object> serializer, Object value) {
+        byte[] bytes = serializer.serialize(value);
+        for (int i = 0; i < WARMUP; i++) {
+            serializer.deserialize(serializer.serialize(value));
+        }
+
+        long start = System.nanoTime();
+        int sink = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += serializer.serialize(value).length;
+        }
+        long serializeNanos = (System.nanoTime() - start) / ITERATIONS;
+
+        start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += serializer.deserialize(bytes) != null ? 1 : 0;
+        }
+        long deserializeNanos = (System.nanoTime() - start) / ITERATIONS;
+
+        assert sink > 0;
+        System.out.printf(Locale.ROOT, "  %-16s: %,8d bytes, serialize %,8d ns/op, deserialize %,8d ns/op%n",
+                label, bytes.length, serializeNanos, deserializeNanos);
+    }
+
+    /**
+     * 캐시에 저장되는 형태와 같게 경로 좌표를 인코딩한 응답
+     */
+    private static DirectionsResponse directions() {
+        List<DirectionsResponse.RouteOption> options = new ArrayList<>();
+        for (int r = 0; r < 3; r++) {
+            options.add(DirectionsResponse.RouteOption.builder()
+                    .totalDuration(40 + r * 5)
+                    .totalDistance(12_500)
+                    .totalFare(1_400)
+                    .transferCount(r)
+                    .routes(List.of(
+                            step(DirectionsResponse.TransportType.WALK, "도보 이동", null, 40),
+                            step(DirectionsResponse.TransportType.SUBWAY, "강남 승차 → 홍대입구 하차", "수도권2호선", 400),
+                            step(DirectionsResponse.TransportType.WALK, "도보 이동", null, 40)))
+                    .build());
+        }
+        return RouteGeometry.encode(DirectionsResponse.builder().routeOptions(options).build(), 0);
+    }
+
+    private static DirectionsResponse.RouteStep step(DirectionsResponse.TransportType type, String instruction,
+                                                     String lineName, int points) {
+        StringBuilder linestring = new StringBuilder();
+        for (int i = 0; i < points; i++) {
+            if (i > 0) linestring.append(' ');
+            linestring.append(String.format(Locale.ROOT, "%.6f,%.6f",
+                    127.0276 - i * 0.00025 + Math.sin(i) * 0.00003, 37.4979 + i * 0.00015));
+        }
+        return DirectionsResponse.RouteStep.builder()
+                .type(type)
+                .instruction(instruction)
+                .duration(points / 10)
+                .distance(points * 25)
+                .lineName(lineName)
+                .linestring(linestring.toString())
+                .build();
+    }
+
+    private static List<SubwayStation> stations() throws Exception {
+        List<SubwayStation> stations = new ArrayList<>();
+        long id = 1;
+        for (SubwayStationCsvReader.StationRow row : SubwayStationCsvReader.readAll()) {
+            stations.add(SubwayStation.builder()
+                    .id(id++)
+                    .stationName(row.stationName())
+                    .lineName(row.lineName())
+                    .latitude(row.latitude())
+                    .longitude(row.longitude())
+                    .build());
+        }
+        return stations;
+    }
+}
@@ -0,0 +1,183 @@
+package dev.promise4.GgUd.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+import dev.promise4.GgUd.service.directions.TMapRouteDecoder;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * TMap 응답 파싱 벤치마크 (외부 API/Redis 불필요)
+ * 기존 방식(Map 트리 역직렬화 후 캐스팅) vs 스트리밍 디코더(좌표 포함/제외)의
+ * 응답 1건당 시간과 할당량 비교
+ */
+@DisplayName("TMap Route Parsing Benchmark Test")
+class TMapRouteParsingBenchmarkTest {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 5_000;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("[1] TMap 응답 파싱 - Map 트리 vs 스트리밍 디코더")
+    void benchmarkRouteParsing() throws Exception {
+        // 경로 3개 × (도보-지하철-도보), 지하철 구간 좌표 400개
+        byte[] body = sampleResponse(3, 400);
+
+        System.out.println("\n========================================");
+        System.out.println("[TMap 응답 파싱 벤치마크]");
+        System.out.printf("응답 크기: %,d bytes, 반복: %,d회%n", body.length, ITERATIONS);
+        System.out.println("========================================");
+
+        Result legacy = measure(() -> parseWithMap(body));
+        Result streamingFull = measure(() -> TMapRouteDecoder.decode(body, true));
+        Result streamingSummary = measure(() -> TMapRouteDecoder.decode(body, false));
+
+        print("Map 트리 (기존)", legacy);
+        print("스트리밍 (좌표 포함)", streamingFull);
+        print("스트리밍 (좌표 제외)", streamingSummary);
+        System.out.printf("좌표 제외 시 할당 감소: %.1f배%n",
+                (double) legacy.bytesPerOp() / Math.max(streamingSummary.bytesPerOp(), 1));
+        System.out.println("========================================\n");
+
+        // 두 방식의 결과가 같아야 비교 의미가 있음
+        assert durations(parseWithMap(body)).equals(durations(TMapRouteDecoder.decode(body, true)));
+    }
+
+    private Result measure(Parser parser) throws Exception {
+        for (int i = 0; i < WARMUP; i++) {
+            parser.parse();
+        }
+
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long start = System.nanoTime();
+        int sink = 0;
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink += parser.parse().getRouteOptions().size();
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+
+        assert sink > 0;
+        return new Result(elapsed / ITERATIONS, allocated / ITERATIONS);
+    }
+
+    private static void print(String label, Result result) {
+        System.out.printf(Locale.ROOT, "%-16s: %,8d ns/op, %,10d B/op%n", label, result.nanosPerOp(), result.bytesPerOp());
+    }
+
+    private static List<Integer> durations(DirectionsResponse response) {
+        return response.getRouteOptions().stream().map(DirectionsResponse.RouteOption::getTotalDuration).toList();
+    }
+
+    @FunctionalInterface
+    private interface Parser {
+        DirectionsResponse parse() throws Exception;
+    }
+
+    private record Result(long nanosPerOp, long bytesPerOp) {
+    }
+
+    /**
+     * 기존 TMapDirectionsService 파서와 같은 방식: Map 트리로 역직렬화한 뒤 캐스팅하며 순회
+     */
+    @SuppressWarnings("unchecked")
+    private DirectionsResponse parseWithMap(byte[] body) throws Exception {
+        Map<String, Object> response = objectMapper.readValue(body, Map.class);
+        Map<String, Object> plan = (Map<String, Object>) ((Map<String, Object>) response.get("metaData")).get("plan");
+        List<Map<String, Object>> itineraries = (List<Map<String, Object>>) plan.get("itineraries");
+
+        List<DirectionsResponse.RouteOption> routeOptions = new ArrayList<>();
+        for (Map<String, Object> itinerary : itineraries) {
+            List<DirectionsResponse.RouteStep> steps = new ArrayList<>();
+            for (Map<String, Object> leg : (List<Map<String, Object>>) itinerary.get("legs")) {
+                String mode = (String) leg.getOrDefault("mode", "WALK");
+                String linestring = null;
+                if ("SUBWAY".equals(mode)) {
+                    linestring = (String) ((Map<String, Object>) leg.get("passShape")).get("linestring");
+                } else {
+                    StringBuilder sb = new StringBuilder();
+                    for (Map<String, Object> step : (List<Map<String, Object>>) leg.get("steps")) {
+                        if (!sb.isEmpty()) sb.append(" ");
+                        sb.append(((String) step.get("linestring")).trim());
+                    }
+                    linestring = sb.toString();
+                }
+                String startName = (String) ((Map<String, Object>) leg.get("start")).get("name");
+                String endName = (String) ((Map<String, Object>) leg.get("end")).get("name");
+                steps.add(DirectionsResponse.RouteStep.builder()
+                        .type(DirectionsResponse.TransportType.valueOf(mode))
+                        .instruction("SUBWAY".equals(mode) ? startName + " 승차 → " + endName + " 하차" : "도보 이동")
+                        .duration(((Number) leg.get("sectionTime")).intValue() / 60)
+                        .distance(((Number) leg.get("distance")).intValue())
+                        .lineName("SUBWAY".equals(mode) ? (String) leg.get("route") : null)
+                        .linestring(linestring)
+                        .build());
+            }
+            Map<String, Object> regular = (Map<String, Object>) ((Map<String, Object>) itinerary.get("fare")).get("regular");
+            routeOptions.add(DirectionsResponse.RouteOption.builder()
+                    .totalDuration(((Number) itinerary.get("totalTime")).intValue() / 60)
+                    .totalDistance(((Number) itinerary.get("totalDistance")).intValue())
+                    .totalFare(((Number) regular.get("totalFare")).intValue())
+                    .transferCount(((Number) itinerary.get("transferCount")).intValue())
+                    .routes(steps)
+                    .build());
+        }
+        routeOptions.sort(Comparator.comparingInt(DirectionsResponse.RouteOption::getTotalDuration));
+        return DirectionsResponse.builder().routeOptions(routeOptions).build();
+    }
+
+    private static byte[] sampleResponse(int itineraries, int shapePoints) {
+        StringBuilder json = new StringBuilder("{\"metaData\":{\"requestParameters\":{\"reqCoordType\":\"WGS84GEO\"},"
+                + "\"plan\":{\"itineraries\":[");
+        for (int r = 0; r < itineraries; r++) {
+            if (r > 0) json.append(',');
+            json.append("{\"totalTime\":").append(2400 + r * 300)
+                    .append(",\"totalDistance\":12500,\"totalWalkTime\":600,\"transferCount\":0,")
+                    .append("\"fare\":{\"regular\":{\"totalFare\":1400,\"currency\":{\"symbol\":\"￦\",\"currency\":\"원\"}}},")
+                    .append("\"legs\":[")
+                    .append(walkLeg(shapePoints / 10)).append(',')
+                    .append("{\"mode\":\"SUBWAY\",\"sectionTime\":1800,\"distance\":12000,\"route\":\"수도권2호선\",")
+                    .append("\"start\":{\"name\":\"강남\",\"lon\":127.0276,\"lat\":37.4979},")
+                    .append("\"end\":{\"name\":\"홍대입구\",\"lon\":126.9246,\"lat\":37.5575},")
+                    .append("\"passStopList\":{\"stationList\":[");
+            for (int s = 0; s < 15; s++) {
+                if (s > 0) json.append(',');
+                json.append("{\"index\":").append(s).append(",\"stationName\":\"역").append(s)
+                        .append("\",\"lon\":\"127.0").append(s).append("\",\"lat\":\"37.5").append(s).append("\"}");
+            }
+            json.append("]},\"passShape\":{\"linestring\":\"").append(linestring(shapePoints)).append("\"}},")
+                    .append(walkLeg(shapePoints / 10))
+                    .append("]}");
+        }
+        json.append("]}}}");
+        return json.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String walkLeg(int points) {
+        return "{\"mode\":\"WALK\",\"sectionTime\":300,\"distance\":250,"
+                + "\"start\":{\"name\":\"출발지\"},\"end\":{\"name\":\"강남\"},"
+                + "\"steps\":[{\"streetName\":\"강남대로\",\"distance\":120,\"linestring\":\"" + linestring(points) + "\"},"
+                + "{\"streetName\":\"\",\"distance\":130,\"linestring\":\"" + linestring(points) + "\"}]}";
+    }
+
+    private static String linestring(int points) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < points; i++) {
+            if (i > 0) sb.append(' ');
+            sb.append(String.format(Locale.ROOT, "%.6f,%.6f", 127.0276 - i * 0.00025, 37.4979 + i * 0.00015));
+        }
+        return sb.toString();
+    }
+}
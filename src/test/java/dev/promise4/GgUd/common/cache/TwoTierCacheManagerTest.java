@@ -0,0 +1,107 @@
+package dev.promise4.GgUd.common.cache;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TwoTierCacheManager 테스트")
+class TwoTierCacheManagerTest {
+
+    private ConcurrentMapCacheManager remoteCacheManager;
+    private SimpleMeterRegistry meterRegistry;
+    private List<String> published;
+    private TwoTierCacheManager cacheManager;
+
+    @BeforeEach
+    void setUp() {
+        remoteCacheManager = new ConcurrentMapCacheManager("users", "promises");
+        meterRegistry = new SimpleMeterRegistry();
+        published = new ArrayList<>();
+        cacheManager = new TwoTierCacheManager(remoteCacheManager, List.of("users"), 100,
+                Duration.ofMinutes(1), published::add, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("지정한 캐시만 로컬 계층으로 감싼다")
+    void getCache_wrapsOnlyNearCaches() {
+        assertThat(cacheManager.getCache("users")).isInstanceOf(TwoTierCache.class);
+        assertThat(cacheManager.getCache("promises")).isNotInstanceOf(TwoTierCache.class);
+    }
+
+    @Test
+    @DisplayName("Redis 에서 읽은 값은 로컬에 남아 다음 조회는 로컬에서 적중한다")
+    void get_populatesLocalTier() {
+        // given
+        remoteCacheManager.getCache("users").put(1L, "user-1");
+        Cache cache = cacheManager.getCache("users");
+
+        // when
+        cache.get(1L);
+        remoteCacheManager.getCache("users").evict(1L);
+        Cache.ValueWrapper second = cache.get(1L);
+
+        // then
+        assertThat(second).isNotNull();
+        assertThat(second.get()).isEqualTo("user-1");
+        assertThat(count("local", "hit")).isEqualTo(1);
+        assertThat(count("local", "miss")).isEqualTo(1);
+        assertThat(count("remote", "hit")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("삭제는 두 계층에 반영하고 다른 인스턴스에 무효화를 전파한다")
+    void evict_publishesInvalidation() {
+        // given
+        Cache cache = cacheManager.getCache("users");
+        cache.put(1L, "user-1");
+
+        // when
+        cache.evict(1L);
+
+        // then
+        assertThat(cache.get(1L)).isNull();
+        assertThat(remoteCacheManager.getCache("users").get(1L)).isNull();
+        assertThat(published).hasSize(2).allSatisfy(message -> assertThat(message).endsWith("\nusers\n1"));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 무효화 메시지는 로컬만 지우고, 자신이 보낸 메시지는 무시한다")
+    void onInvalidationMessage_invalidatesLocalOnly() {
+        // given
+        Cache cache = cacheManager.getCache("users");
+        cache.put(1L, "user-1");
+        String own = published.get(0);
+
+        // when - 자기 메시지
+        cacheManager.onInvalidationMessage(own);
+
+        // then
+        assertThat(((TwoTierCache) cache).localSize()).isEqualTo(1);
+
+        // when - 다른 인스턴스 메시지
+        cacheManager.onInvalidationMessage("other-instance\nusers\n1");
+
+        // then - 로컬은 비고 Redis 값은 유지
+        assertThat(((TwoTierCache) cache).localSize()).isZero();
+        assertThat(cache.get(1L).get()).isEqualTo("user-1");
+        assertThat(count("remote", "hit")).isEqualTo(1);
+    }
+
+    private double count(String tier, String result) {
+        return meterRegistry.get("cache.tier.requests")
+                .tag("cache", "users")
+                .tag("tier", tier)
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
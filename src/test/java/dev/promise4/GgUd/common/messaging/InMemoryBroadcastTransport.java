@@ -0,0 +1,35 @@
+package dev.promise4.GgUd.common.messaging;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * 테스트용 Redis pub/sub 대체 (발행 스레드와 다른 스레드에서 모든 구독자에게 순서대로 전달)
+ */
+class InMemoryBroadcastTransport implements BroadcastTransport, AutoCloseable {
+
+    private final List<Consumer<byte[]>> listeners = new CopyOnWriteArrayList<>();
+    private final ExecutorService dispatcher = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "in-memory-pubsub");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    @Override
+    public void publish(byte[] message) {
+        dispatcher.execute(() -> listeners.forEach(listener -> listener.accept(message)));
+    }
+
+    @Override
+    public void subscribe(Consumer<byte[]> listener) {
+        listeners.add(listener);
+    }
+
+    @Override
+    public void close() {
+        dispatcher.shutdownNow();
+    }
+}
@@ -0,0 +1,86 @@
+package dev.promise4.GgUd.common.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("InstrumentedChannelExecutor 테스트")
+class InstrumentedChannelExecutorTest {
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    @DisplayName("대기 중인 작업 수를 집계하고 실행되면 대기·실행 시간을 기록한다")
+    void recordsQueueDepthAndLatency() {
+        // given - 직접 실행하기 전까지 작업을 쌓아 두는 executor
+        List<Runnable> parked = new ArrayList<>();
+        InstrumentedChannelExecutor executor = new InstrumentedChannelExecutor("clientInbound", parked::add, meterRegistry);
+        boolean[] ran = new boolean[1];
+
+        // when
+        executor.execute(() -> ran[0] = true);
+        executor.execute(() -> { });
+        double depthBeforeRun = gauge("websocket.channel.queue.depth");
+        parked.forEach(Runnable::run);
+
+        // then
+        assertThat(depthBeforeRun).isEqualTo(2);
+        assertThat(gauge("websocket.channel.queue.depth")).isZero();
+        assertThat(ran[0]).isTrue();
+        assertThat(meterRegistry.get("websocket.channel.task.wait").tag("channel", "clientInbound").timer().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("websocket.channel.task.duration").tag("channel", "clientInbound").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("포화로 거부된 작업은 대기 수에서 빼고 거부 수를 올린 뒤 예외를 그대로 던진다")
+    void rejected() {
+        InstrumentedChannelExecutor executor = new InstrumentedChannelExecutor("clientOutbound", task -> {
+            throw new RejectedExecutionException("full");
+        }, meterRegistry);
+
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+        assertThat(meterRegistry.get("websocket.channel.queue.depth").tag("channel", "clientOutbound").gauge().value())
+                .isZero();
+        assertThat(meterRegistry.get("websocket.channel.rejected").tag("channel", "clientOutbound").counter().count())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("닫으면 감싼 스레드 풀도 종료한다")
+    void close_shutsDownDelegate() throws Exception {
+        // given
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(1);
+        pool.initialize();
+        InstrumentedChannelExecutor executor = new InstrumentedChannelExecutor("clientInbound", pool, meterRegistry);
+
+        // when
+        executor.close();
+
+        // then
+        assertThat(pool.getThreadPoolExecutor().isShutdown()).isTrue();
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("channel", "clientInbound").gauge().value();
+    }
+}
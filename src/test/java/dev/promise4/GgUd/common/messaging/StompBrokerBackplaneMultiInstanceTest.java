@@ -0,0 +1,192 @@
+package dev.promise4.GgUd.common.messaging;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.BeanFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 JVM 안에 STOMP 브로커 인스턴스 두 개(각각 별도 ApplicationContext)를 띄우고
+ * 메모리 pub/sub 백플레인으로 이어 인스턴스 간 전달과 지연 시간을 확인
+ * (앱 전체 컨텍스트는 Postgres·Redis 가 필요하므로 브로커 구성 요소만 올림)
+ */
+@DisplayName("StompBrokerBackplane 다중 인스턴스 테스트")
+class StompBrokerBackplaneMultiInstanceTest {
+
+    private static final String DESTINATION = "/topic/promises/1/locations";
+    private static final int MESSAGES = 500;
+
+    private InMemoryBroadcastTransport transport;
+    private AnnotationConfigApplicationContext instanceA;
+    private AnnotationConfigApplicationContext instanceB;
+
+    @BeforeEach
+    void setUp() {
+        transport = new InMemoryBroadcastTransport();
+        instanceA = startInstance(transport);
+        instanceB = startInstance(transport);
+    }
+
+    @AfterEach
+    void tearDown() {
+        instanceA.close();
+        instanceB.close();
+        transport.close();
+    }
+
+    @Test
+    @DisplayName("한 인스턴스에서 보낸 /topic 메시지를 다른 인스턴스 구독자가 중복 없이 받는다")
+    void deliversAcrossInstances() throws InterruptedException {
+        // given - 각 인스턴스에 구독자 한 명씩
+        BlockingQueue<Message<?>> subscriberA = subscribe(instanceA, "session-a");
+        BlockingQueue<Message<?>> subscriberB = subscribe(instanceB, "session-b");
+
+        // when
+        long[] latenciesNanos = new long[MESSAGES];
+        for (int i = 0; i < MESSAGES; i++) {
+            template(instanceA).convertAndSend(DESTINATION, i + ":" + System.nanoTime());
+        }
+        for (int i = 0; i < MESSAGES; i++) {
+            Message<?> received = subscriberB.poll(5, TimeUnit.SECONDS);
+            assertThat(received).as("message %d", i).isNotNull();
+            String[] body = new String((byte[]) received.getPayload(), StandardCharsets.UTF_8).split(":");
+            assertThat(Integer.parseInt(body[0])).isEqualTo(i);
+            latenciesNanos[i] = System.nanoTime() - Long.parseLong(body[1]);
+        }
+
+        // then - 보낸 인스턴스 구독자는 로컬 브로커로 한 번만 받음 (백플레인 되돌림 무시)
+        Thread.sleep(100);
+        assertThat(subscriberA).hasSize(MESSAGES);
+        assertThat(subscriberB).isEmpty();
+
+        Arrays.sort(latenciesNanos);
+        long p50 = latenciesNanos[MESSAGES / 2] / 1000;
+        long p99 = latenciesNanos[MESSAGES * 99 / 100] / 1000;
+        System.out.printf("backplane delivery latency: p50=%dus, p99=%dus, max=%dus%n",
+                p50, p99, latenciesNanos[MESSAGES - 1] / 1000);
+        assertThat(p99).isLessThan(TimeUnit.SECONDS.toMicros(1));
+    }
+
+    @Test
+    @DisplayName("/queue 목적지는 다른 인스턴스로 중계하지 않는다")
+    void doesNotRelayQueueDestinations() throws InterruptedException {
+        BlockingQueue<Message<?>> subscriberB = subscribe(instanceB, "session-b", "/queue/errors");
+
+        template(instanceA).convertAndSend("/queue/errors", "local only");
+
+        assertThat(subscriberB.poll(200, TimeUnit.MILLISECONDS)).isNull();
+    }
+
+    private static AnnotationConfigApplicationContext startInstance(BroadcastTransport transport) {
+        AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext();
+        context.registerBean(BroadcastTransport.class, () -> transport);
+        context.register(BrokerInstanceConfig.class);
+        context.refresh();
+        return context;
+    }
+
+    private static SimpMessagingTemplate template(AnnotationConfigApplicationContext context) {
+        return context.getBean(SimpMessagingTemplate.class);
+    }
+
+    private static BlockingQueue<Message<?>> subscribe(AnnotationConfigApplicationContext context, String sessionId) {
+        return subscribe(context, sessionId, DESTINATION);
+    }
+
+    private static BlockingQueue<Message<?>> subscribe(AnnotationConfigApplicationContext context, String sessionId,
+                                                       String destination) {
+        BlockingQueue<Message<?>> received = new LinkedBlockingQueue<>();
+        context.getBean("clientOutboundChannel", ExecutorSubscribableChannel.class).subscribe(message -> {
+            if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) == SimpMessageType.MESSAGE
+                    && sessionId.equals(SimpMessageHeaderAccessor.getSessionId(message.getHeaders()))) {
+                received.add(message);
+            }
+        });
+
+        MessageChannel inbound = context.getBean("clientInboundChannel", MessageChannel.class);
+        inbound.send(clientMessage(SimpMessageType.CONNECT, sessionId, null));
+        inbound.send(clientMessage(SimpMessageType.SUBSCRIBE, sessionId, destination));
+        return received;
+    }
+
+    private static Message<byte[]> clientMessage(SimpMessageType type, String sessionId, String destination) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+        accessor.setSessionId(sessionId);
+        if (type == SimpMessageType.CONNECT) {
+            accessor.setHeader(SimpMessageHeaderAccessor.HEART_BEAT_HEADER, new long[]{0, 0});
+        }
+        if (destination != null) {
+            accessor.setSubscriptionId("sub-" + sessionId);
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+
+    /**
+     * 인스턴스 하나의 브로커 구성 (WebSocketConfig + WebSocketBackplaneConfig 가 만드는 것과 같은 연결)
+     */
+    @Configuration
+    static class BrokerInstanceConfig {
+
+        @Bean
+        ExecutorSubscribableChannel clientInboundChannel() {
+            return new ExecutorSubscribableChannel();
+        }
+
+        @Bean
+        ExecutorSubscribableChannel clientOutboundChannel() {
+            return new ExecutorSubscribableChannel();
+        }
+
+        @Bean
+        ExecutorSubscribableChannel brokerChannel(StompBrokerBackplane backplane) {
+            ExecutorSubscribableChannel channel = new ExecutorSubscribableChannel();
+            channel.addInterceptor(backplane);
+            return channel;
+        }
+
+        @Bean
+        StompBrokerBackplane backplane(BroadcastTransport transport, BeanFactory beanFactory) {
+            return new StompBrokerBackplane(transport,
+                    () -> beanFactory.getBean("brokerChannel", MessageChannel.class), new SimpleMeterRegistry());
+        }
+
+        @Bean
+        SimpleBrokerMessageHandler simpleBroker(@Qualifier("clientInboundChannel") ExecutorSubscribableChannel inbound,
+                                                @Qualifier("clientOutboundChannel") ExecutorSubscribableChannel outbound,
+                                                @Qualifier("brokerChannel") ExecutorSubscribableChannel broker) {
+            return new SimpleBrokerMessageHandler(inbound, outbound, broker, List.of("/topic", "/queue"));
+        }
+
+        @Bean
+        SimpMessagingTemplate brokerMessagingTemplate(@Qualifier("brokerChannel") ExecutorSubscribableChannel broker) {
+            SimpMessagingTemplate template = new SimpMessagingTemplate(broker);
+            template.setMessageConverter(new StringMessageConverter());
+            return template;
+        }
+    }
+}
@@ -0,0 +1,149 @@
+package dev.promise4.GgUd.common.redis;
+
+import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+import dev.promise4.GgUd.controller.dto.LocationUpdateMessage;
+import dev.promise4.GgUd.entity.SubwayStation;
+import dev.promise4.GgUd.service.directions.CachedDirections;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("CompactRedisSerializer 테스트")
+class CompactRedisSerializerTest {
+
+    private final CompactRedisSerializer serializer = RedisSerializers.compact(true, 256);
+
+    @Nested
+    @DisplayName("바이너리 코덱 테스트")
+    class CodecTest {
+
+        @Test
+        @DisplayName("길찾기 캐시 항목을 압축 포함 바이너리로 저장하고 그대로 복원한다")
+        void cachedDirections_roundTrip() {
+            // given
+            CachedDirections cached = new CachedDirections(37.4979, 127.0276, directions());
+
+            // when
+            byte[] bytes = serializer.serialize(cached);
+            CachedDirections restored = (CachedDirections) serializer.deserialize(bytes);
+
+            // then
+            assertThat(bytes[0] & 0xFF).isEqualTo(CompactRedisSerializer.MAGIC);
+            assertThat(bytes[3] & CompactRedisSerializer.FLAG_DEFLATE).isEqualTo(CompactRedisSerializer.FLAG_DEFLATE);
+            assertThat(restored.getOriginLatitude()).isEqualTo(37.4979);
+            DirectionsResponse.RouteStep step = restored.getResponse().getRouteOptions().get(0).getRoutes().get(1);
+            assertThat(step.getType()).isEqualTo(DirectionsResponse.TransportType.SUBWAY);
+            assertThat(step.getLineName()).isEqualTo("수도권2호선");
+            assertThat(step.getLinestring()).isNull();
+            assertThat(step.getEncodedPolyline()).isEqualTo("_p~iF~ps|U_ulLnnqC_mqNvxq`@");
+        }
+
+        @Test
+        @DisplayName("지하철역 목록과 실시간 위치도 바이너리로 복원된다")
+        void stationsAndLocation_roundTrip() {
+            // given
+            List<SubwayStation> stations = List.of(
+                    SubwayStation.builder().id(1L).stationName("강남").lineName("2호선")
+                            .latitude(37.4979).longitude(127.0276).build());
+            LocationUpdateMessage location = LocationUpdateMessage.builder()
+                    .userId(7L).nickname("홍길동").latitude(37.5665).longitude(126.978)
+                    .timestamp(LocalDateTime.of(2025, 5, 1, 12, 30, 15, 123_000_000))
+                    .build();
+
+            // when
+            @SuppressWarnings("unchecked")
+            List<SubwayStation> restoredStations =
+                    (List<SubwayStation>) serializer.deserialize(serializer.serialize(stations));
+            LocationUpdateMessage restoredLocation =
+                    (LocationUpdateMessage) serializer.deserialize(serializer.serialize(location));
+
+            // then
+            assertThat(restoredStations).singleElement()
+                    .satisfies(s -> assertThat(s.getStationName()).isEqualTo("강남"));
+            assertThat(restoredLocation.getUserId()).isEqualTo(7L);
+            assertThat(restoredLocation.getProfileImageUrl()).isNull();
+            assertThat(restoredLocation.getTimestamp()).isEqualTo(location.getTimestamp());
+        }
+    }
+
+    @Nested
+    @DisplayName("혼합 배포 호환 테스트")
+    class CompatibilityTest {
+
+        @Test
+        @DisplayName("헤더 없는 기존 JSON 값도 읽는다")
+        void deserialize_legacyJson() {
+            // given
+            byte[] legacy = RedisSerializers.json().serialize(new CachedDirections(37.5, 127.0, directions()));
+
+            // when
+            Object restored = serializer.deserialize(legacy);
+
+            // then
+            assertThat(restored).isInstanceOf(CachedDirections.class);
+        }
+
+        @Test
+        @DisplayName("바이너리 쓰기를 끄면 JSON 으로 저장한다")
+        void serialize_binaryWritesDisabled() {
+            CompactRedisSerializer jsonWrites = RedisSerializers.compact(false, 256);
+
+            byte[] bytes = jsonWrites.serialize(new CachedDirections(37.5, 127.0, directions()));
+
+            assertThat((char) bytes[0]).isEqualTo('[');
+        }
+
+        @Test
+        @DisplayName("코덱이 없는 타입은 JSON 으로 저장한다")
+        void serialize_unsupportedType() {
+            byte[] bytes = serializer.serialize(System.currentTimeMillis());
+
+            assertThat(bytes[0] & 0xFF).isNotEqualTo(CompactRedisSerializer.MAGIC);
+            assertThat(serializer.deserialize(bytes)).isInstanceOf(Long.class);
+        }
+
+        @Test
+        @DisplayName("모르는 포맷 버전은 예외를 던진다")
+        void deserialize_unknownVersion() {
+            byte[] bytes = serializer.serialize(new CachedDirections(37.5, 127.0, directions()));
+            bytes[1] = (byte) (CompactRedisSerializer.FORMAT_VERSION + 1);
+
+            assertThatThrownBy(() -> serializer.deserialize(bytes)).isInstanceOf(SerializationException.class);
+        }
+    }
+
+    private static DirectionsResponse directions() {
+        List<DirectionsResponse.RouteOption> options = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            options.add(DirectionsResponse.RouteOption.builder()
+                    .totalDuration(30 + i)
+                    .totalDistance(12_500)
+                    .totalFare(1_400)
+                    .routes(List.of(
+                            DirectionsResponse.RouteStep.builder()
+                                    .type(DirectionsResponse.TransportType.WALK)
+                                    .instruction("도보 이동")
+                                    .duration(3)
+                                    .distance(200)
+                                    .build(),
+                            DirectionsResponse.RouteStep.builder()
+                                    .type(DirectionsResponse.TransportType.SUBWAY)
+                                    .instruction("강남 승차 → 홍대입구 하차")
+                                    .duration(27 + i)
+                                    .distance(12_300)
+                                    .lineName("수도권2호선")
+                                    .encodedPolyline("_p~iF~ps|U_ulLnnqC_mqNvxq`@")
+                                    .build()))
+                    .build());
+        }
+        return DirectionsResponse.builder().routeOptions(options).build();
+    }
+}
@@ -1,8 +1,12 @@
 package dev.promise4.GgUd.service;
 
 import dev.promise4.GgUd.client.KakaoApiClient;
+import dev.promise4.GgUd.config.DirectionsCacheProperties;
 import dev.promise4.GgUd.controller.dto.Coordinate;
 import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+import dev.promise4.GgUd.service.directions.QuantizedDirectionsCache;
+import dev.promise4.GgUd.service.station.SubwayStationIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -32,13 +36,18 @@ class KakaoDirectionsServiceTest {
     @Mock
     private ValueOperations<String, Object> valueOperations;
 
+    @Mock
+    private SubwayStationIndex subwayStationIndex;
+
     private KakaoDirectionsService kakaoDirectionsService;
 
     @BeforeEach
     void setUp() {
         when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         when(valueOperations.get(anyString())).thenReturn(null); // 캐시 미스
-        kakaoDirectionsService = new KakaoDirectionsService(kakaoApiClient, redisTemplate);
+        QuantizedDirectionsCache directionsCache = new QuantizedDirectionsCache(
+                redisTemplate, subwayStationIndex, new DirectionsCacheProperties(), new SimpleMeterRegistry());
+        kakaoDirectionsService = new KakaoDirectionsService(kakaoApiClient, directionsCache);
     }
 
     @Test
@@ -0,0 +1,251 @@
+package dev.promise4.GgUd.service;
+
+import dev.promise4.GgUd.config.TrajectoryProperties;
+import dev.promise4.GgUd.controller.dto.EtaUpdateMessage;
+import dev.promise4.GgUd.controller.dto.LocationUpdateMessage;
+import dev.promise4.GgUd.controller.dto.TrajectoryResponse;
+import dev.promise4.GgUd.entity.PromiseStatus;
+import dev.promise4.GgUd.service.tracking.ArrivalResult;
+import dev.promise4.GgUd.service.tracking.LiveEtaEngine;
+import dev.promise4.GgUd.service.tracking.LocationBroadcastCoalescer;
+import dev.promise4.GgUd.service.tracking.LocationGate;
+import dev.promise4.GgUd.service.tracking.RedisLocationStore;
+import dev.promise4.GgUd.service.tracking.TrackingSession;
+import dev.promise4.GgUd.service.tracking.TrackingSessionCache;
+import dev.promise4.GgUd.service.tracking.TrajectoryPoint;
+import dev.promise4.GgUd.service.tracking.TrajectoryStore;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocationTrackingService 테스트")
+class LocationTrackingServiceTest {
+
+    private static final double PLACE_LAT = 37.4979;
+    private static final double PLACE_LON = 127.0276;
+
+    @Mock
+    private TrackingSessionCache trackingSessionCache;
+
+    @Mock
+    private LocationGate locationGate;
+
+    @Mock
+    private LocationBroadcastCoalescer broadcastCoalescer;
+
+    @Mock
+    private RedisLocationStore locationStore;
+
+    @Mock
+    private TrajectoryStore trajectoryStore;
+
+    @Mock
+    private LiveEtaEngine liveEtaEngine;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private LocationTrackingService locationTrackingService;
+
+    @BeforeEach
+    void setUp() {
+        locationTrackingService = new LocationTrackingService(trackingSessionCache, locationGate,
+                broadcastCoalescer, locationStore, trajectoryStore, new TrajectoryProperties(),
+                liveEtaEngine, redisTemplate, messagingTemplate);
+
+        lenient().when(locationGate.accept(anyLong(), anyLong(), anyDouble(), anyDouble(), anyLong())).thenReturn(true);
+    }
+
+    @Test
+    @DisplayName("세션 캐시의 프로필로 위치를 저장하고 묶음 전송 대기열에 넣는다")
+    void updateLocation_usesSessionOnly() {
+        // given
+        TrackingSession session = session(PromiseStatus.IN_PROGRESS);
+        when(trackingSessionCache.get(1L)).thenReturn(session);
+        when(locationStore.save(eq(session), any(LocationUpdateMessage.class), anyLong())).thenReturn(ArrivalResult.NONE);
+
+        // when
+        LocationUpdateMessage message = locationTrackingService.updateLocation(1L, 10L, 37.51, 127.04).orElseThrow();
+
+        // then
+        assertThat(message.getNickname()).isEqualTo("참여자");
+        assertThat(message.getProfileImageUrl()).isEqualTo("https://img/10.png");
+        verify(broadcastCoalescer).submit(1L, message);
+        verifyNoInteractions(messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("게이트에서 걸러진 위치는 저장·브로드캐스트를 하지 않는다")
+    void updateLocation_suppressedByGate() {
+        // given
+        when(trackingSessionCache.get(1L)).thenReturn(session(PromiseStatus.IN_PROGRESS));
+        when(locationGate.accept(eq(1L), eq(10L), anyDouble(), anyDouble(), anyLong())).thenReturn(false);
+
+        // when
+        Optional<LocationUpdateMessage> result = locationTrackingService.updateLocation(1L, 10L, 37.51, 127.04);
+
+        // then
+        assertThat(result).isEmpty();
+        verifyNoInteractions(locationStore, broadcastCoalescer, liveEtaEngine);
+    }
+
+    @Test
+    @DisplayName("스크립트가 새 도착으로 판정하면 도착 인원과 함께 도착 이벤트를 보낸다")
+    void updateLocation_arrival_broadcasts() {
+        // given
+        TrackingSession session = session(PromiseStatus.IN_PROGRESS);
+        when(trackingSessionCache.get(1L)).thenReturn(session);
+        when(locationStore.save(eq(session), any(LocationUpdateMessage.class), anyLong()))
+                .thenReturn(new ArrivalResult(true, false, 1, 3));
+
+        // when
+        locationTrackingService.updateLocation(1L, 10L, PLACE_LAT, PLACE_LON);
+
+        // then
+        verify(messagingTemplate).convertAndSend("/topic/promises/1/arrivals",
+                (Object) Map.of("userId", 10L, "nickname", "참여자", "arrivedCount", 1L, "totalCount", 3L));
+        verify(liveEtaEngine).arrived(1L, 10L);
+        verify(liveEtaEngine, never()).update(any(), any(), anyDouble(), anyDouble(), anyLong());
+    }
+
+    @Test
+    @DisplayName("도착 후 다시 들어온 위치는 ETA 를 다시 계산하거나 전송하지 않는다")
+    void updateLocation_afterArrival_skipsEta() {
+        // given
+        TrackingSession session = session(PromiseStatus.IN_PROGRESS);
+        when(trackingSessionCache.get(1L)).thenReturn(session);
+        when(locationStore.save(eq(session), any(LocationUpdateMessage.class), anyLong()))
+                .thenReturn(new ArrivalResult(true, false, 1, 3))
+                .thenReturn(new ArrivalResult(false, true, 1, 3));
+
+        // when
+        locationTrackingService.updateLocation(1L, 10L, PLACE_LAT, PLACE_LON);
+        locationTrackingService.updateLocation(1L, 10L, PLACE_LAT + 0.001, PLACE_LON);
+
+        // then
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/promises/1/arrivals"), any(Object.class));
+        verify(messagingTemplate, never()).convertAndSend(eq("/topic/promises/1/etas"), any(Object.class));
+        verify(liveEtaEngine, never()).update(any(), any(), anyDouble(), anyDouble(), anyLong());
+        verify(broadcastCoalescer, times(2)).submit(eq(1L), any(LocationUpdateMessage.class));
+    }
+
+    @Test
+    @DisplayName("ETA 가 전송 대상으로 바뀌면 마지막 값을 보관하고 ETA 토픽으로 보낸다")
+    void updateLocation_etaChanged_broadcasts() {
+        // given
+        TrackingSession session = session(PromiseStatus.IN_PROGRESS);
+        when(trackingSessionCache.get(1L)).thenReturn(session);
+        when(locationStore.save(eq(session), any(LocationUpdateMessage.class), anyLong())).thenReturn(ArrivalResult.NONE);
+        EtaUpdateMessage eta = EtaUpdateMessage.builder().userId(10L).nickname("참여자").etaSeconds(600).build();
+        when(liveEtaEngine.update(eq(session), eq(session.participant(10L)), anyDouble(), anyDouble(), anyLong()))
+                .thenReturn(Optional.of(eta));
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+
+        // when
+        locationTrackingService.updateLocation(1L, 10L, 37.51, 127.04);
+
+        // then
+        verify(hashOperations).put(LiveEtaEngine.etaKey(1L), "10", eta);
+        verify(messagingTemplate).convertAndSend("/topic/promises/1/etas", (Object) eta);
+    }
+
+    @Test
+    @DisplayName("추적 불가 상태이거나 참여자가 아니면 거부한다")
+    void updateLocation_rejected() {
+        when(trackingSessionCache.get(1L)).thenReturn(session(PromiseStatus.RECRUITING));
+        assertThatThrownBy(() -> locationTrackingService.updateLocation(1L, 10L, PLACE_LAT, PLACE_LON))
+                .isInstanceOf(IllegalStateException.class);
+
+        when(trackingSessionCache.get(2L)).thenReturn(session(PromiseStatus.IN_PROGRESS));
+        assertThatThrownBy(() -> locationTrackingService.updateLocation(2L, 99L, PLACE_LAT, PLACE_LON))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("참여자");
+
+        // 거부된 요청은 게이트 상태를 바꾸지 않음
+        verifyNoInteractions(locationGate, locationStore);
+    }
+
+    @Test
+    @DisplayName("궤적 조회는 허용 오차만큼 단순화하고 기록이 없는 참여자는 제외한다")
+    void getTrajectories_simplifies() {
+        // given
+        when(trackingSessionCache.get(1L)).thenReturn(session(PromiseStatus.IN_PROGRESS));
+        long t = System.currentTimeMillis();
+        // 거의 일직선 (가운데 지점 오차 1m 미만)
+        when(trajectoryStore.since(eq(1L), eq(10L), anyLong())).thenReturn(List.of(
+                new TrajectoryPoint(37.5000, 127.0000, t - 20_000),
+                new TrajectoryPoint(37.5010, 127.00001, t - 10_000),
+                new TrajectoryPoint(37.5020, 127.0000, t)));
+
+        // when
+        TrajectoryResponse raw = locationTrackingService.getTrajectories(1L, 10L, 10, 0);
+        TrajectoryResponse simplified = locationTrackingService.getTrajectories(1L, 10L, 10, 5);
+
+        // then
+        assertThat(raw.getTrajectories()).hasSize(1);
+        assertThat(raw.getTrajectories().get(0).getPoints()).hasSize(3);
+        assertThat(simplified.getTrajectories().get(0).getPoints()).hasSize(2);
+        assertThat(simplified.getTrajectories().get(0).getNickname()).isEqualTo("참여자");
+    }
+
+    @Test
+    @DisplayName("약속 참여자가 아니면 궤적 조회를 거부한다")
+    void getTrajectories_rejectsNonParticipant() {
+        // given
+        when(trackingSessionCache.get(1L)).thenReturn(session(PromiseStatus.IN_PROGRESS));
+
+        // when & then
+        assertThatThrownBy(() -> locationTrackingService.getTrajectories(1L, 99L, 10, 0))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("참여자");
+        verifyNoInteractions(trajectoryStore);
+    }
+
+    @Test
+    @DisplayName("최대 조회 기간을 넘는 궤적 조회는 거부한다")
+    void getTrajectories_rejectsLongWindow() {
+        assertThatThrownBy(() -> locationTrackingService.getTrajectories(1L, 10L, 61, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(trajectoryStore);
+    }
+
+    private TrackingSession session(PromiseStatus status) {
+        Map<Long, TrackingSession.TrackingParticipant> participants = new HashMap<>();
+        participants.put(10L, new TrackingSession.TrackingParticipant(10L, "참여자", "https://img/10.png", false));
+        return TrackingSession.builder()
+                .promiseId(1L)
+                .status(status)
+                .trackingStartTime(LocalDateTime.now().minusMinutes(30))
+                .confirmedLatitude(PLACE_LAT)
+                .confirmedLongitude(PLACE_LON)
+                .participants(participants)
+                .build();
+    }
+}
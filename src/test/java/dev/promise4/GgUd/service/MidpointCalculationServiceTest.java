@@ -2,6 +2,7 @@ package dev.promise4.GgUd.service;
 
 import dev.promise4.GgUd.controller.dto.Coordinate;
 import dev.promise4.GgUd.repository.SubwayStationRepository;
+import dev.promise4.GgUd.service.station.SubwayStationIndex;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -21,8 +22,11 @@ class MidpointCalculationServiceTest {
     @Mock
     private SubwayStationRepository subwayStationRepository;
 
+    @Mock
+    private SubwayStationIndex subwayStationIndex;
+
     private MidpointCalculationService getService() {
-        return new MidpointCalculationService(subwayStationRepository);
+        return new MidpointCalculationService(subwayStationRepository, subwayStationIndex);
     }
 
     @Nested
@@ -90,6 +94,47 @@ class MidpointCalculationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("calculateGeometricMedian 테스트")
+    class CalculateGeometricMedianTest {
+
+        @Test
+        @DisplayName("한쪽에 몰린 출발지가 있어도 평균 좌표보다 덜 끌려간다")
+        void calculateGeometricMedian_resistsCluster() {
+            // given - 강남 근처 3명, 노원 1명
+            List<Coordinate> departures = List.of(
+                    Coordinate.of(37.4979, 127.0276),
+                    Coordinate.of(37.4985, 127.0280),
+                    Coordinate.of(37.4990, 127.0270),
+                    Coordinate.of(37.6555, 127.0612));
+
+            // when
+            Coordinate median = getService().calculateGeometricMedian(departures, 100);
+            Coordinate centroid = getService().calculateMidpoint(departures);
+
+            // then - 강남 무리에 더 가깝다
+            Coordinate gangnam = Coordinate.of(37.4979, 127.0276);
+            assertThat(median.distanceTo(gangnam)).isLessThan(centroid.distanceTo(gangnam));
+        }
+
+        @Test
+        @DisplayName("정삼각형 꼭짓점의 기하 중앙값은 무게중심과 같다")
+        void calculateGeometricMedian_symmetric() {
+            // given
+            List<Coordinate> departures = List.of(
+                    Coordinate.of(37.50, 127.00),
+                    Coordinate.of(37.50, 127.02),
+                    Coordinate.of(37.50 + 0.02 * Math.sqrt(3) / 2 * 0.79, 127.01));
+
+            // when
+            Coordinate median = getService().calculateGeometricMedian(departures, 100);
+            Coordinate centroid = getService().calculateMidpoint(departures);
+
+            // then
+            assertThat(median.distanceTo(centroid)).isLessThan(0.05);
+        }
+    }
+
     @Nested
     @DisplayName("Haversine 거리 계산 테스트")
     class DistanceCalculationTest {
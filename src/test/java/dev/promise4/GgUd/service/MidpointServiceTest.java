@@ -0,0 +1,158 @@
+package dev.promise4.GgUd.service;
+
+import dev.promise4.GgUd.config.MidpointProperties;
+import dev.promise4.GgUd.controller.dto.*;
+import dev.promise4.GgUd.entity.*;
+import dev.promise4.GgUd.repository.AiPlaceRecommendationsRepository;
+import dev.promise4.GgUd.repository.ParticipantRepository;
+import dev.promise4.GgUd.repository.PromiseRepository;
+import dev.promise4.GgUd.repository.SubwayStationRepository;
+import dev.promise4.GgUd.service.directions.IndexedDirections;
+import dev.promise4.GgUd.service.midpoint.MidpointCandidate;
+import dev.promise4.GgUd.service.midpoint.MidpointResult;
+import dev.promise4.GgUd.service.midpoint.MidpointStrategyEngine;
+import dev.promise4.GgUd.service.midpoint.TravelTimeFairness;
+import dev.promise4.GgUd.service.station.TransitTimeEstimator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("MidpointService 테스트")
+class MidpointServiceTest {
+
+    @Mock
+    private PromiseRepository promiseRepository;
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private SubwayStationRepository subwayStationRepository;
+
+    @Mock
+    private MidpointCalculationService midpointCalculationService;
+
+    @Mock
+    private TMapDirectionsService tMapDirectionsService;
+
+    @Mock
+    private AiPlaceRecommendationsRepository aiPlaceRecommendationsRepository;
+
+    @Mock
+    private TransitTimeEstimator transitTimeEstimator;
+
+    @Mock
+    private MidpointStrategyEngine midpointStrategyEngine;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private MidpointService midpointService;
+
+    private final SubwayStation station = SubwayStation.builder()
+            .id(10L).stationName("강남").lineName("2호선").latitude(37.4979).longitude(127.0276).build();
+
+    @BeforeEach
+    void setUp() {
+        MidpointProperties properties = new MidpointProperties();
+        properties.setRecommendationTimeoutMillis(300);
+
+        midpointService = new MidpointService(promiseRepository, participantRepository, subwayStationRepository,
+                midpointCalculationService, tMapDirectionsService, aiPlaceRecommendationsRepository,
+                transitTimeEstimator, midpointStrategyEngine, properties, transactionTemplate, eventPublisher);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.getArgument(0, TransactionCallback.class).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("시간 예산 안에 응답하지 않은 길찾기는 추정값으로 채워 부분 결과를 반환한다")
+    void getRecommendations_deadline_fillsEstimates() {
+        // given - 참여자 2명, 한 명의 TMap 응답은 끝나지 않음
+        User host = user(1L, "호스트");
+        User guest = user(2L, "게스트");
+        Promise promise = Promise.builder()
+                .title("테스트 약속")
+                .promiseDateTime(LocalDateTime.now().plusDays(1))
+                .status(PromiseStatus.SELECTING_MIDPOINT)
+                .host(host)
+                .build();
+
+        when(promiseRepository.findById(1L)).thenReturn(Optional.of(promise));
+        when(participantRepository.findByPromiseId(1L)).thenReturn(List.of(
+                participant(promise, host, 37.5573, 126.9250),
+                participant(promise, guest, 37.5133, 127.1001)));
+        when(midpointStrategyEngine.solve(anyList(), anyInt())).thenReturn(new MidpointResult(
+                "minimax", Coordinate.of(37.52, 127.0),
+                List.of(new MidpointCandidate(station, 0.5, new TravelTimeFairness(30, 25, 4)))));
+
+        // 요청 순서: 역 0 × (호스트, 게스트) - 게스트 응답은 끝나지 않음
+        when(tMapDirectionsService.getDirectionsBatch(anyList(), anyInt()))
+                .thenReturn(Flux.concat(
+                        Flux.just(new IndexedDirections(0, DirectionsResponse.builder()
+                                .routeOptions(List.of(DirectionsResponse.RouteOption.builder()
+                                        .totalDuration(28)
+                                        .totalDistance(9000)
+                                        .build()))
+                                .build())),
+                        Flux.never()));
+        when(transitTimeEstimator.estimateMinutes(any(), any())).thenReturn(35);
+
+        // when
+        MidpointRecommendationResponse response = midpointService.getRecommendations(1L, 1L)
+                .block(Duration.ofSeconds(5));
+
+        // then
+        assertThat(response).isNotNull();
+        assertThat(response.isHost()).isTrue();
+        List<ParticipantTravelInfo> infos = response.getRecommendedStations().get(0).getParticipantTravelInfos();
+        assertThat(infos).hasSize(2);
+        assertThat(infos.get(0).getTravelTimeMinutes()).isEqualTo(28);
+        assertThat(infos.get(0).isEstimated()).isFalse();
+        assertThat(infos.get(1).getTravelTimeMinutes()).isEqualTo(35);
+        assertThat(infos.get(1).isEstimated()).isTrue();
+        assertThat(response.getRecommendedStations().get(0).getMaxTravelTimeMinutes()).isEqualTo(35);
+    }
+
+    private static User user(Long id, String nickname) {
+        User user = User.builder()
+                .kakaoId(String.valueOf(id))
+                .nickname(nickname)
+                .role(UserRole.USER)
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+
+    private static Participant participant(Promise promise, User user, double lat, double lon) {
+        Participant participant = Participant.builder()
+                .promise(promise)
+                .user(user)
+                .build();
+        participant.submitDepartureLocation(lat, lon, user.getNickname() + " 집");
+        return participant;
+    }
+}
@@ -1,12 +1,20 @@
 package dev.promise4.GgUd.service;
 
 import dev.promise4.GgUd.common.exception.BusinessException;
+import dev.promise4.GgUd.config.PromiseJoinProperties;
 import dev.promise4.GgUd.controller.dto.*;
 import dev.promise4.GgUd.entity.*;
 import dev.promise4.GgUd.exception.*;
 import dev.promise4.GgUd.repository.ParticipantRepository;
 import dev.promise4.GgUd.repository.PromiseRepository;
+import dev.promise4.GgUd.repository.PromiseSearchDocumentRepository;
 import dev.promise4.GgUd.repository.UserRepository;
+import dev.promise4.GgUd.service.invite.InviteCodeResolver;
+import dev.promise4.GgUd.service.event.InviteCodeIssuedEvent;
+import dev.promise4.GgUd.service.event.ParticipantDepartureSubmittedEvent;
+import dev.promise4.GgUd.service.listing.PromiseCursor;
+import dev.promise4.GgUd.service.view.PromiseView;
+import dev.promise4.GgUd.service.view.PromiseViewService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -14,15 +22,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +52,21 @@ class PromiseServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    private PromiseJoinProperties promiseJoinProperties = new PromiseJoinProperties();
+
+    @Mock
+    private InviteCodeResolver inviteCodeResolver;
+
+    @Mock
+    private PromiseSearchDocumentRepository searchDocumentRepository;
+
+    @Mock
+    private PromiseViewService promiseViewService;
+
     @InjectMocks
     private PromiseService promiseService;
 
@@ -81,6 +110,45 @@ class PromiseServiceTest {
             assertThat(response.getTitle()).isEqualTo("강남역 모임");
             assertThat(response.getHostId()).isEqualTo(1L);
             verify(participantRepository).save(any(Participant.class));
+            // 초대 코드 캐시·블룸 필터 등록은 커밋 후 이벤트로
+            verify(eventPublisher).publishEvent(any(InviteCodeIssuedEvent.class));
+            verifyNoInteractions(inviteCodeResolver);
+        }
+    }
+
+    @Nested
+    @DisplayName("getInviteInfo 테스트")
+    class GetInviteInfoTest {
+
+        @Test
+        @DisplayName("없는 초대 코드면 DB 를 조회하지 않고 예외 발생")
+        void getInviteInfo_unknownCode_skipsDatabase() {
+            // given
+            when(inviteCodeResolver.resolve("ZZZZZZ")).thenReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> promiseService.getInviteInfo("ZZZZZZ"))
+                    .isInstanceOf(InvalidInviteCodeException.class);
+            verifyNoInteractions(promiseRepository, participantRepository);
+        }
+
+        @Test
+        @DisplayName("취소된 약속의 초대 코드는 유효하지 않다")
+        void getInviteInfo_cancelledPromise_throwsException() {
+            // given
+            Promise promise = Promise.builder()
+                    .title("테스트 약속")
+                    .promiseDateTime(LocalDateTime.now().plusDays(1))
+                    .host(testUser)
+                    .build();
+            setPromiseId(promise, 1L);
+            promise.cancel();
+            when(inviteCodeResolver.resolve(promise.getInviteCode())).thenReturn(Optional.of(1L));
+            when(promiseRepository.findByIdWithHost(1L)).thenReturn(Optional.of(promise));
+
+            // when & then
+            assertThatThrownBy(() -> promiseService.getInviteInfo(promise.getInviteCode()))
+                    .isInstanceOf(InvalidInviteCodeException.class);
         }
     }
 
@@ -92,6 +160,8 @@ class PromiseServiceTest {
 
         @BeforeEach
         void setUp() {
+            promiseJoinProperties.setStrategy("pessimistic-lock");
+
             User host = User.builder()
                     .kakaoId("99999")
                     .nickname("호스트")
@@ -111,6 +181,7 @@ class PromiseServiceTest {
         @DisplayName("유효한 초대 코드로 약속에 참여한다")
         void joinPromise_success() {
             // given - uses findByInviteCodeWithLock for pessimistic locking
+            when(inviteCodeResolver.resolve(testPromise.getInviteCode())).thenReturn(Optional.of(1L));
             when(promiseRepository.findByInviteCodeWithLock(testPromise.getInviteCode()))
                     .thenReturn(Optional.of(testPromise));
             when(participantRepository.existsByPromiseIdAndUserId(1L, 1L)).thenReturn(false);
@@ -129,18 +200,20 @@ class PromiseServiceTest {
         @Test
         @DisplayName("유효하지 않은 초대 코드면 예외 발생")
         void joinPromise_invalidCode_throwsException() {
-            // given - uses findByInviteCodeWithLock for pessimistic locking
-            when(promiseRepository.findByInviteCodeWithLock("invalid-code")).thenReturn(Optional.empty());
+            // given - 없는 코드는 잠금 조회 전에 거절
+            when(inviteCodeResolver.resolve("invalid-code")).thenReturn(Optional.empty());
 
             // when & then
             assertThatThrownBy(() -> promiseService.joinPromise(1L, "invalid-code"))
                     .isInstanceOf(InvalidInviteCodeException.class);
+            verify(promiseRepository, never()).findByInviteCodeWithLock(any());
         }
 
         @Test
         @DisplayName("이미 참여한 약속이면 예외 발생")
         void joinPromise_alreadyJoined_throwsException() {
             // given - uses findByInviteCodeWithLock for pessimistic locking
+            when(inviteCodeResolver.resolve(testPromise.getInviteCode())).thenReturn(Optional.of(1L));
             when(promiseRepository.findByInviteCodeWithLock(testPromise.getInviteCode()))
                     .thenReturn(Optional.of(testPromise));
             when(participantRepository.existsByPromiseIdAndUserId(1L, 1L)).thenReturn(true);
@@ -154,6 +227,7 @@ class PromiseServiceTest {
         @DisplayName("최대 참여자 수 초과하면 예외 발생")
         void joinPromise_maxExceeded_throwsException() {
             // given - uses findByInviteCodeWithLock for pessimistic locking
+            when(inviteCodeResolver.resolve(testPromise.getInviteCode())).thenReturn(Optional.of(1L));
             when(promiseRepository.findByInviteCodeWithLock(testPromise.getInviteCode()))
                     .thenReturn(Optional.of(testPromise));
             when(participantRepository.existsByPromiseIdAndUserId(1L, 1L)).thenReturn(false);
@@ -165,6 +239,201 @@ class PromiseServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("joinPromise 좌석 카운터 테스트")
+    class JoinPromiseSeatCounterTest {
+
+        private Promise testPromise;
+
+        @BeforeEach
+        void setUp() {
+            User host = User.builder()
+                    .kakaoId("99999")
+                    .nickname("호스트")
+                    .role(UserRole.USER)
+                    .build();
+            setUserId(host, 99L);
+
+            testPromise = Promise.builder()
+                    .title("테스트 약속")
+                    .promiseDateTime(LocalDateTime.now().plusDays(1))
+                    .host(host)
+                    .build();
+            setPromiseId(testPromise, 1L);
+
+            when(inviteCodeResolver.resolve(testPromise.getInviteCode())).thenReturn(Optional.of(1L));
+            when(promiseRepository.findByIdWithHost(1L)).thenReturn(Optional.of(testPromise));
+        }
+
+        @Test
+        @DisplayName("좌석을 확보하면 잠금 없이 참여하고 확보된 참여자 수를 반환한다")
+        void joinPromise_success() {
+            // given
+            when(participantRepository.existsByPromiseIdAndUserId(1L, 1L)).thenReturn(false);
+            when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+            when(promiseRepository.reserveSeat(1L)).thenReturn(Optional.of(2));
+            when(participantRepository.save(any(Participant.class))).thenAnswer(i -> i.getArgument(0));
+
+            // when
+            PromiseResponse response = promiseService.joinPromise(1L, testPromise.getInviteCode());
+
+            // then
+            assertThat(response.getParticipantCount()).isEqualTo(2);
+            verify(promiseRepository, never()).findByInviteCodeWithLock(any());
+            verify(participantRepository, never()).countByPromiseId(any());
+        }
+
+        @Test
+        @DisplayName("좌석을 확보하지 못하면 참여자를 저장하지 않고 예외 발생")
+        void joinPromise_full_throwsException() {
+            // given
+            when(participantRepository.existsByPromiseIdAndUserId(1L, 1L)).thenReturn(false);
+            when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+            when(promiseRepository.reserveSeat(1L)).thenReturn(Optional.empty());
+
+            // when & then
+            assertThatThrownBy(() -> promiseService.joinPromise(1L, testPromise.getInviteCode()))
+                    .isInstanceOf(MaxParticipantsExceededException.class);
+            verify(participantRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("동시 참여로 유니크 제약에 걸리면 이미 참여한 약속 예외 발생")
+        void joinPromise_concurrentDuplicate_throwsException() {
+            // given
+            when(participantRepository.existsByPromiseIdAndUserId(1L, 1L)).thenReturn(false);
+            when(userRepository.findById(1L)).thenReturn(Optional.of(testUser));
+            when(promiseRepository.reserveSeat(1L)).thenReturn(Optional.of(3));
+            when(participantRepository.save(any(Participant.class)))
+                    .thenThrow(new DataIntegrityViolationException("uk_participant_promise_user"));
+
+            // when & then
+            assertThatThrownBy(() -> promiseService.joinPromise(1L, testPromise.getInviteCode()))
+                    .isInstanceOf(AlreadyJoinedException.class);
+            verify(eventPublisher, never()).publishEvent(any(Object.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("getMyPromisesByCursor 테스트")
+    class GetMyPromisesByCursorTest {
+
+        @Test
+        @DisplayName("한 건 더 조회되면 마지막 약속으로 다음 커서를 만든다")
+        void getMyPromisesByCursor_hasNext() {
+            // given
+            LocalDateTime base = LocalDateTime.of(2025, 6, 1, 18, 0);
+            List<Promise> rows = List.of(promise(3L, base), promise(2L, base), promise(1L, base.minusDays(1)));
+            when(participantRepository.findMyPromisesBefore(eq(1L), eq(null), any(), any(), any())).thenReturn(rows);
+
+            // when
+            PromiseCursorResponse response = promiseService.getMyPromisesByCursor(1L, null, null, 2, false, false);
+
+            // then
+            assertThat(response.getContent()).extracting(PromiseResponse::getId).containsExactly(3L, 2L);
+            assertThat(response.isHasNext()).isTrue();
+            assertThat(PromiseCursor.decode(response.getNextCursor())).isEqualTo(new PromiseCursor(base, 2L));
+            assertThat(response.getTotalCount()).isNull();
+            verify(participantRepository, never()).countByUserId(any());
+        }
+
+        @Test
+        @DisplayName("커서를 넘기면 그 다음부터 오름차순으로 조회하고 요청 시 전체 수를 포함한다")
+        void getMyPromisesByCursor_ascendingWithTotal() {
+            // given
+            LocalDateTime base = LocalDateTime.of(2025, 6, 1, 18, 0);
+            String cursor = new PromiseCursor(base, 5L).encode();
+            when(participantRepository.findMyPromisesAfter(eq(1L), eq(PromiseStatus.RECRUITING), eq(base), eq(5L), any()))
+                    .thenReturn(List.of(promise(6L, base.plusHours(1))));
+            when(participantRepository.countByUserIdAndPromiseStatus(1L, PromiseStatus.RECRUITING)).thenReturn(7L);
+
+            // when
+            PromiseCursorResponse response = promiseService.getMyPromisesByCursor(
+                    1L, PromiseStatus.RECRUITING, cursor, 20, true, true);
+
+            // then
+            assertThat(response.getContent()).hasSize(1);
+            assertThat(response.isHasNext()).isFalse();
+            assertThat(response.getNextCursor()).isNull();
+            assertThat(response.getTotalCount()).isEqualTo(7L);
+        }
+
+        @Test
+        @DisplayName("해석할 수 없는 커서면 예외 발생")
+        void getMyPromisesByCursor_invalidCursor_throwsException() {
+            assertThatThrownBy(() -> promiseService.getMyPromisesByCursor(1L, null, "not-a-cursor", 20, false, false))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(participantRepository);
+        }
+
+        private Promise promise(Long id, LocalDateTime promiseDateTime) {
+            Promise promise = Promise.builder()
+                    .title("약속 " + id)
+                    .promiseDateTime(promiseDateTime)
+                    .host(testUser)
+                    .build();
+            setPromiseId(promise, id);
+            return promise;
+        }
+    }
+
+    @Nested
+    @DisplayName("searchMyPromises 테스트")
+    class SearchMyPromisesTest {
+
+        @Test
+        @DisplayName("검색어를 소문자·이스케이프한 LIKE 패턴으로 검색 문서를 조회한다")
+        void searchMyPromises_usesEscapedPattern() {
+            // given
+            LocalDateTime base = LocalDateTime.of(2025, 6, 1, 18, 0);
+            Promise promise = Promise.builder()
+                    .title("CGV 100% 모임")
+                    .promiseDateTime(base)
+                    .host(testUser)
+                    .build();
+            setPromiseId(promise, 3L);
+            when(searchDocumentRepository.searchMyPromisesBefore(eq(1L), eq("%100\\%%"), eq(null), any(), any(), any()))
+                    .thenReturn(List.of(promise));
+
+            // when
+            PromiseCursorResponse response = promiseService.searchMyPromises(1L, " 100% ", null, null, 20, false);
+
+            // then
+            assertThat(response.getContent()).extracting(PromiseResponse::getId).containsExactly(3L);
+            assertThat(response.isHasNext()).isFalse();
+            verifyNoInteractions(participantRepository);
+        }
+
+        @Test
+        @DisplayName("2자 이하 검색어는 토큰 문자열 패턴으로 조회한다")
+        void searchMyPromises_shortKeyword_usesTokens() {
+            // given
+            Promise promise = Promise.builder()
+                    .title("홍대 모임")
+                    .promiseDateTime(LocalDateTime.of(2025, 6, 1, 18, 0))
+                    .host(testUser)
+                    .build();
+            setPromiseId(promise, 4L);
+            when(searchDocumentRepository.searchMyPromisesByTokenAfter(eq(1L), eq("% ㅎㄷ %"), eq(null), any(), any(), any()))
+                    .thenReturn(List.of(promise));
+
+            // when
+            PromiseCursorResponse response = promiseService.searchMyPromises(1L, "ㅎㄷ", null, null, 20, true);
+
+            // then
+            assertThat(response.getContent()).extracting(PromiseResponse::getId).containsExactly(4L);
+            verify(searchDocumentRepository, never()).searchMyPromisesAfter(any(), any(), any(), any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("검색어가 비어 있으면 예외 발생")
+        void searchMyPromises_blankKeyword_throwsException() {
+            assertThatThrownBy(() -> promiseService.searchMyPromises(1L, "  ", null, null, 20, false))
+                    .isInstanceOf(IllegalArgumentException.class);
+            verifyNoInteractions(searchDocumentRepository);
+        }
+    }
+
     @Nested
     @DisplayName("submitDepartureLocation 테스트")
     class SubmitDepartureLocationTest {
@@ -202,6 +471,47 @@ class PromiseServiceTest {
             assertThat(response.getDepartureLatitude()).isEqualTo(37.5665);
             assertThat(response.getDepartureLongitude()).isEqualTo(126.9780);
             assertThat(response.isLocationSubmitted()).isTrue();
+            verify(eventPublisher).publishEvent(new ParticipantDepartureSubmittedEvent(1L, 1L));
+        }
+    }
+
+    @Nested
+    @DisplayName("getParticipants 테스트")
+    class GetParticipantsTest {
+
+        @Test
+        @DisplayName("약속 조회 모델의 참여자 목록을 반환하고 DB 를 조회하지 않는다")
+        void getParticipants_fromView() {
+            // given
+            when(promiseViewService.getView(1L)).thenReturn(view(1L, 2L));
+
+            // when
+            List<ParticipantResponse> participants = promiseService.getParticipants(1L, 2L);
+
+            // then
+            assertThat(participants).extracting(ParticipantResponse::getUserId).containsExactly(1L, 2L);
+            verifyNoInteractions(participantRepository, promiseRepository);
+        }
+
+        @Test
+        @DisplayName("참여자가 아니면 예외 발생")
+        void getParticipants_notParticipant_throwsException() {
+            // given
+            when(promiseViewService.getView(1L)).thenReturn(view(1L));
+
+            // when & then
+            assertThatThrownBy(() -> promiseService.getParticipants(1L, 99L))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+
+        private PromiseView view(Long... userIds) {
+            return PromiseView.builder()
+                    .id(1L)
+                    .status(PromiseStatus.RECRUITING)
+                    .participants(new ArrayList<>(Arrays.stream(userIds)
+                            .map(userId -> ParticipantResponse.builder().userId(userId).build())
+                            .toList()))
+                    .build();
         }
     }
 
@@ -230,6 +540,7 @@ class PromiseServiceTest {
             promiseService.cancelPromise(1L, 1L);
 
             assertThat(promise.getStatus()).isEqualTo(PromiseStatus.CANCELLED);
+            verify(inviteCodeResolver).invalidate(promise.getInviteCode());
         }
 
         @Test
@@ -0,0 +1,133 @@
+package dev.promise4.GgUd.service;
+
+import dev.promise4.GgUd.config.DirectionsCacheProperties;
+import dev.promise4.GgUd.config.TMapApiProperties;
+import dev.promise4.GgUd.controller.dto.Coordinate;
+import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+import dev.promise4.GgUd.service.directions.CachedDirections;
+import dev.promise4.GgUd.service.directions.QuantizedDirectionsCache;
+import dev.promise4.GgUd.service.directions.RedisSingleFlightLock;
+import dev.promise4.GgUd.service.directions.SingleFlight;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TMapDirectionsService 테스트")
+class TMapDirectionsServiceTest {
+
+    private static final String CACHE_KEY = "tmap:directions:v2:o7:wydm9qw:st:1";
+
+    // 첫 도보 구간이 (37.4975, 127.0270) 에서 강남역 승차 지점 (37.4979, 127.0276) 까지
+    private static final String RESPONSE = """
+            {"metaData": {"plan": {"itineraries": [
+              {"totalTime": 1860, "totalDistance": 12500, "transferCount": 0,
+               "fare": {"regular": {"totalFare": 1400}},
+               "legs": [
+                 {"mode": "WALK", "sectionTime": 120, "distance": 150,
+                  "start": {"name": "출발지"}, "end": {"name": "강남"},
+                  "steps": [{"streetName": "", "linestring": "127.0270,37.4975 127.0276,37.4979"}]},
+                 {"mode": "SUBWAY", "route": "수도권2호선", "sectionTime": 1740, "distance": 12350,
+                  "start": {"name": "강남"}, "end": {"name": "홍대입구"},
+                  "passShape": {"linestring": "127.0276,37.4979 126.9246,37.5575"}}
+               ]}
+            ]}}}
+            """;
+
+    @Mock
+    private QuantizedDirectionsCache directionsCache;
+
+    @Mock
+    private RedisSingleFlightLock redisSingleFlightLock;
+
+    private final AtomicInteger tMapCalls = new AtomicInteger();
+
+    private TMapDirectionsService tMapDirectionsService;
+
+    @BeforeEach
+    void setUp() {
+        WebClient webClient = WebClient.builder()
+                .exchangeFunction(request -> {
+                    tMapCalls.incrementAndGet();
+                    return Mono.delay(Duration.ofMillis(200))
+                            .thenReturn(ClientResponse.create(HttpStatus.OK)
+                                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                                    .body(RESPONSE)
+                                    .build());
+                })
+                .build();
+        tMapDirectionsService = new TMapDirectionsService(webClient, directionsCache, new TMapApiProperties(),
+                new DirectionsCacheProperties(), new SingleFlight<CachedDirections>("test", new SimpleMeterRegistry()),
+                redisSingleFlightLock);
+
+        when(directionsCache.key(anyString(), any(), any())).thenReturn(CACHE_KEY);
+    }
+
+    @Test
+    @DisplayName("같은 셀의 다른 출발지 동시 요청은 TMap 한 번으로 병합하고 각자 출발지로 도보 구간을 보정한다")
+    void getDirections_concurrentCallersInOneCell_adjustPerOrigin() {
+        // given - 같은 geohash 셀, 약 200m 떨어진 두 출발지
+        Coordinate first = Coordinate.of(37.4975, 127.0270);
+        Coordinate second = Coordinate.of(37.4960, 127.0270);
+        Coordinate destination = Coordinate.of(37.5575, 126.9246);
+
+        // when
+        Tuple2<DirectionsResponse, DirectionsResponse> responses = Mono.zip(
+                tMapDirectionsService.getDirections(first, destination),
+                tMapDirectionsService.getDirections(second, destination)).block();
+
+        // then
+        assertThat(tMapCalls).hasValue(1);
+        int firstWalk = firstWalkDistance(responses.getT1());
+        int secondWalk = firstWalkDistance(responses.getT2());
+        assertThat(firstWalk).isEqualTo(150);
+        assertThat(secondWalk).isGreaterThan(250);
+        verify(directionsCache).put(eq(CACHE_KEY), same(first), any(), any());
+    }
+
+    @Test
+    @DisplayName("캐시 적중 결과도 캐시된 출발지에서 요청 출발지로 보정한다")
+    void getDirections_cacheHit_adjustsFromCachedOrigin() {
+        // given
+        Coordinate cachedOrigin = Coordinate.of(37.4975, 127.0270);
+        DirectionsResponse cached = tMapDirectionsService.getDirections(cachedOrigin, Coordinate.of(37.5575, 126.9246))
+                .block();
+        when(directionsCache.getEntry("tmap", CACHE_KEY))
+                .thenReturn(new CachedDirections(cachedOrigin.getLatitude(), cachedOrigin.getLongitude(), cached));
+
+        // when
+        DirectionsResponse response = tMapDirectionsService
+                .getDirections(Coordinate.of(37.4960, 127.0270), Coordinate.of(37.5575, 126.9246)).block();
+
+        // then
+        assertThat(tMapCalls).hasValue(1);
+        assertThat(firstWalkDistance(response)).isGreaterThan(250);
+    }
+
+    private static int firstWalkDistance(DirectionsResponse response) {
+        DirectionsResponse.RouteStep walk = response.getRouteOptions().get(0).getRoutes().get(0);
+        assertThat(walk.getType()).isEqualTo(DirectionsResponse.TransportType.WALK);
+        return walk.getDistance();
+    }
+}
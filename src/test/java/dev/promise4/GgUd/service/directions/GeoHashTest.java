@@ -0,0 +1,37 @@
+package dev.promise4.GgUd.service.directions;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("GeoHash 테스트")
+class GeoHashTest {
+
+    @Test
+    @DisplayName("알려진 좌표를 표준 geohash 로 인코딩한다")
+    void encode_knownValue() {
+        assertThat(GeoHash.encode(42.605, -5.603, 5)).isEqualTo("ezs42");
+        assertThat(GeoHash.encode(57.64911, 10.40744, 11)).isEqualTo("u4pruydqqvj");
+    }
+
+    @Test
+    @DisplayName("같은 단지 안의 가까운 두 출발지는 정밀도 7에서 같은 셀이다")
+    void encode_nearbyOriginsShareCell() {
+        // given - 약 20m 떨어진 두 지점
+        String a = GeoHash.encode(37.49790, 127.02760, 7);
+        String b = GeoHash.encode(37.49800, 127.02775, 7);
+
+        // then
+        assertThat(a).isEqualTo(b);
+        assertThat(GeoHash.encode(37.49790, 127.02760, 8)).startsWith(a);
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 정밀도는 예외")
+    void encode_invalidPrecision() {
+        assertThatThrownBy(() -> GeoHash.encode(37.5, 127.0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
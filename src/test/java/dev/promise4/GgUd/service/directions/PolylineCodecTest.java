@@ -0,0 +1,109 @@
+package dev.promise4.GgUd.service.directions;
+
+import dev.promise4.GgUd.controller.dto.Coordinate;
+import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("PolylineCodec 테스트")
+class PolylineCodecTest {
+
+    @Nested
+    @DisplayName("encode/decode 테스트")
+    class CodecTest {
+
+        @Test
+        @DisplayName("알려진 예제와 같은 문자열로 인코딩한다")
+        void encode_knownExample() {
+            List<Coordinate> points = List.of(
+                    Coordinate.of(38.5, -120.2),
+                    Coordinate.of(40.7, -120.95),
+                    Coordinate.of(43.252, -126.453));
+
+            assertThat(PolylineCodec.encode(points)).isEqualTo("_p~iF~ps|U_ulLnnqC_mqNvxq`@");
+        }
+
+        @Test
+        @DisplayName("linestring 을 인코딩 후 디코딩하면 1e-5 정밀도로 복원된다")
+        void roundTrip() {
+            // given
+            String linestring = "127.027612,37.497952 127.027301,37.498120 126.924601,37.557527";
+
+            // when
+            List<Coordinate> decoded = PolylineCodec.decode(
+                    PolylineCodec.encode(PolylineCodec.parseLinestring(linestring)));
+
+            // then
+            assertThat(decoded).hasSize(3);
+            assertThat(decoded.get(2).getLatitude()).isCloseTo(37.557527, within(1e-5));
+            assertThat(decoded.get(2).getLongitude()).isCloseTo(126.924601, within(1e-5));
+        }
+    }
+
+    @Nested
+    @DisplayName("RouteGeometry 테스트")
+    class RouteGeometryTest {
+
+        @Test
+        @DisplayName("직선 위 좌표는 단순화로 제거되고 인코딩 결과가 원문보다 훨씬 작다")
+        void encode_simplifiesAndShrinks() {
+            // given - 직선 위 200개 좌표 + 중간의 꺾이는 점 하나
+            List<Coordinate> points = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                points.add(Coordinate.of(37.4979 + i * 0.0001, 127.0276 + i * 0.0001));
+            }
+            points.add(100, Coordinate.of(37.5079, 127.0300));
+            String linestring = PolylineCodec.toLinestring(points);
+            DirectionsResponse response = responseWith(linestring);
+
+            // when
+            DirectionsResponse.RouteStep exact = step(RouteGeometry.encode(response, 0));
+            DirectionsResponse.RouteStep simplified = step(RouteGeometry.encode(response, 1.0));
+
+            // then
+            assertThat(exact.getLinestring()).isNull();
+            assertThat(PolylineCodec.decode(exact.getEncodedPolyline())).hasSize(201);
+            assertThat(exact.getEncodedPolyline().length()).isLessThan(linestring.length() / 3);
+            // 시작/끝 + 꺾이는 점과 그 앞뒤 좌표만 남음
+            assertThat(PolylineCodec.decode(simplified.getEncodedPolyline())).hasSize(5);
+        }
+
+        @Test
+        @DisplayName("RAW 로 되돌리면 linestring 으로 복원된다")
+        void decode_restoresLinestring() {
+            // given
+            DirectionsResponse encoded = RouteGeometry.encode(responseWith("127.0276,37.4979 126.9246,37.5575"), 0);
+
+            // when
+            DirectionsResponse.RouteStep raw = step(RouteGeometry.decode(encoded));
+
+            // then
+            assertThat(raw.getEncodedPolyline()).isNull();
+            assertThat(raw.getLinestring()).isEqualTo("127.0276,37.4979 126.9246,37.5575");
+        }
+
+        private DirectionsResponse responseWith(String linestring) {
+            return DirectionsResponse.builder()
+                    .routeOptions(List.of(DirectionsResponse.RouteOption.builder()
+                            .totalDuration(30)
+                            .routes(List.of(DirectionsResponse.RouteStep.builder()
+                                    .type(DirectionsResponse.TransportType.SUBWAY)
+                                    .lineName("수도권2호선")
+                                    .linestring(linestring)
+                                    .build()))
+                            .build()))
+                    .build();
+        }
+
+        private DirectionsResponse.RouteStep step(DirectionsResponse response) {
+            return response.getRouteOptions().get(0).getRoutes().get(0);
+        }
+    }
+}
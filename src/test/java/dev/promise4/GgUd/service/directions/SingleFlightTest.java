@@ -0,0 +1,91 @@
+package dev.promise4.GgUd.service.directions;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("SingleFlight 테스트")
+class SingleFlightTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private SingleFlight<String> singleFlight;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        singleFlight = new SingleFlight<>("test", meterRegistry);
+    }
+
+    @Test
+    @DisplayName("진행 중인 같은 키 요청은 한 번만 실행하고 결과를 공유한다")
+    void execute_coalescesConcurrentCalls() {
+        // given - 아직 끝나지 않은 조회
+        Sinks.One<String> upstream = Sinks.one();
+        AtomicInteger loads = new AtomicInteger();
+
+        Mono<String> first = singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            return upstream.asMono();
+        });
+        Mono<String> second = singleFlight.execute("key", () -> {
+            loads.incrementAndGet();
+            return Mono.just("other");
+        });
+
+        // when
+        var firstResult = first.toFuture();
+        var secondResult = second.toFuture();
+        upstream.tryEmitValue("route");
+
+        // then
+        assertThat(firstResult.join()).isEqualTo("route");
+        assertThat(secondResult.join()).isEqualTo("route");
+        assertThat(loads).hasValue(1);
+        assertThat(counter("upstream")).isEqualTo(1.0);
+        assertThat(counter("coalesced")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("완료된 키는 비워지므로 다음 요청은 다시 실행된다")
+    void execute_afterCompletion_loadsAgain() {
+        // given
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        singleFlight.execute("key", () -> Mono.fromCallable(loads::incrementAndGet).map(String::valueOf))
+                .block(Duration.ofSeconds(1));
+        String again = singleFlight.execute("key", () -> Mono.fromCallable(loads::incrementAndGet).map(String::valueOf))
+                .block(Duration.ofSeconds(1));
+
+        // then
+        assertThat(again).isEqualTo("2");
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패한 조회도 키를 비운다")
+    void execute_error_releasesKey() {
+        // when
+        Mono<String> failing = singleFlight.execute("key", () -> Mono.error(new IllegalStateException("boom")));
+
+        // then
+        assertThat(failing.onErrorReturn("fallback").block(Duration.ofSeconds(1))).isEqualTo("fallback");
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    private double counter(String result) {
+        return meterRegistry.get("singleflight.calls")
+                .tag("name", "test")
+                .tag("result", result)
+                .counter()
+                .count();
+    }
+}
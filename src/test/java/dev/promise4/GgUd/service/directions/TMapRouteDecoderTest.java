@@ -0,0 +1,122 @@
+package dev.promise4.GgUd.service.directions;
+
+import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TMapRouteDecoder 테스트")
+class TMapRouteDecoderTest {
+
+    // 소요 시간이 긴 경로가 먼저 오고, 두 번째 경로의 지하철 구간은 route 가 mode 보다 앞에 있음
+    private static final byte[] RESPONSE = """
+            {
+              "metaData": {
+                "requestParameters": {"startX": "127.0276", "startY": "37.4979"},
+                "plan": {
+                  "itineraries": [
+                    {
+                      "totalTime": 3000, "totalDistance": 15000, "transferCount": 1,
+                      "fare": {"regular": {"totalFare": 1500, "currency": {"symbol": "￦"}}},
+                      "legs": [
+                        {"mode": "BUS", "sectionTime": 3000, "distance": 15000, "route": "간선:146",
+                         "start": {"name": "강남역"}, "end": {"name": "홍대입구"},
+                         "passShape": {"linestring": "127.0276,37.4979 126.9246,37.5575"}}
+                      ]
+                    },
+                    {
+                      "totalTime": 1860, "totalDistance": 12500, "transferCount": 0,
+                      "fare": {"regular": {"totalFare": 1400}},
+                      "legs": [
+                        {"mode": "WALK", "sectionTime": 120, "distance": 150,
+                         "start": {"name": "출발지"}, "end": {"name": "강남"},
+                         "steps": [
+                           {"streetName": "", "linestring": " 127.0270,37.4975 127.0273,37.4977 "},
+                           {"streetName": "", "linestring": "127.0276,37.4979"}
+                         ]},
+                        {"route": "수도권2호선", "sectionTime": 1740, "distance": 12350, "mode": "SUBWAY",
+                         "start": {"name": "강남"}, "end": {"name": "홍대입구"},
+                         "passStopList": {"stationList": [{"index": 0, "stationName": "강남"}]},
+                         "passShape": {"linestring": "127.0276,37.4979 126.9246,37.5575"}}
+                      ]
+                    }
+                  ]
+                }
+              }
+            }
+            """.getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    @DisplayName("경로를 소요 시간 오름차순으로 디코딩하고 구간 필드를 채운다")
+    void decode_withGeometry() throws Exception {
+        // when
+        DirectionsResponse response = TMapRouteDecoder.decode(RESPONSE, true);
+
+        // then
+        List<DirectionsResponse.RouteOption> options = response.getRouteOptions();
+        assertThat(options).extracting(DirectionsResponse.RouteOption::getTotalDuration).containsExactly(31, 50);
+
+        DirectionsResponse.RouteOption fastest = options.get(0);
+        assertThat(fastest.getTotalDistance()).isEqualTo(12500);
+        assertThat(fastest.getTotalFare()).isEqualTo(1400);
+        assertThat(fastest.getTransferCount()).isZero();
+
+        DirectionsResponse.RouteStep walk = fastest.getRoutes().get(0);
+        assertThat(walk.getType()).isEqualTo(DirectionsResponse.TransportType.WALK);
+        assertThat(walk.getInstruction()).isEqualTo("도보 이동");
+        assertThat(walk.getDuration()).isEqualTo(2);
+        assertThat(walk.getLineName()).isNull();
+        assertThat(walk.getLinestring()).isEqualTo("127.0270,37.4975 127.0273,37.4977 127.0276,37.4979");
+
+        DirectionsResponse.RouteStep subway = fastest.getRoutes().get(1);
+        assertThat(subway.getType()).isEqualTo(DirectionsResponse.TransportType.SUBWAY);
+        assertThat(subway.getLineName()).isEqualTo("수도권2호선");
+        assertThat(subway.getInstruction()).isEqualTo("강남 승차 → 홍대입구 하차");
+        assertThat(subway.getDuration()).isEqualTo(29);
+        assertThat(subway.getLinestring()).isEqualTo("127.0276,37.4979 126.9246,37.5575");
+    }
+
+    @Test
+    @DisplayName("좌표를 요청하지 않으면 linestring 만 비우고 나머지는 같다")
+    void decode_withoutGeometry() throws Exception {
+        // when
+        DirectionsResponse response = TMapRouteDecoder.decode(RESPONSE, false);
+
+        // then
+        assertThat(response.getRouteOptions()).hasSize(2);
+        assertThat(response.getRouteOptions())
+                .flatExtracting(DirectionsResponse.RouteOption::getRoutes)
+                .allSatisfy(step -> assertThat(step.getLinestring()).isNull());
+        assertThat(response.getRouteOptions().get(1).getRoutes().get(0).getLineName()).isEqualTo("간선:146");
+    }
+
+    @Test
+    @DisplayName("반복되는 노선명은 같은 인스턴스를 공유한다")
+    void decode_internsLineNames() throws Exception {
+        // when
+        String first = TMapRouteDecoder.decode(RESPONSE, false).getRouteOptions().get(0).getRoutes().get(1).getLineName();
+        String second = TMapRouteDecoder.decode(RESPONSE, false).getRouteOptions().get(0).getRoutes().get(1).getLineName();
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("경로가 없는 오류 응답은 빈 경로 목록을 반환한다")
+    void decode_errorResponse() throws Exception {
+        // given
+        byte[] error = """
+                {"result": {"status": 11, "message": "출발지와 도착지가 너무 가까움"}}
+                """.getBytes(StandardCharsets.UTF_8);
+
+        // when
+        DirectionsResponse response = TMapRouteDecoder.decode(error, true);
+
+        // then
+        assertThat(response.getRouteOptions()).isEmpty();
+    }
+}
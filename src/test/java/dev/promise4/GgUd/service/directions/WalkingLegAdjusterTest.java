@@ -0,0 +1,77 @@
+package dev.promise4.GgUd.service.directions;
+
+import dev.promise4.GgUd.controller.dto.Coordinate;
+import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WalkingLegAdjuster 테스트")
+class WalkingLegAdjusterTest {
+
+    // 승차 지점 (37.5000, 127.0000)
+    private static final Coordinate CACHED_ORIGIN = Coordinate.of(37.4990, 127.0000);
+
+    private final DirectionsResponse cached = DirectionsResponse.builder()
+            .routeOptions(List.of(DirectionsResponse.RouteOption.builder()
+                    .totalDuration(30)
+                    .totalDistance(10_000)
+                    .routes(List.of(
+                            DirectionsResponse.RouteStep.builder()
+                                    .type(DirectionsResponse.TransportType.WALK)
+                                    .duration(2)
+                                    .distance(145)
+                                    .linestring("127.0,37.499 127.0,37.5")
+                                    .build(),
+                            DirectionsResponse.RouteStep.builder()
+                                    .type(DirectionsResponse.TransportType.SUBWAY)
+                                    .duration(28)
+                                    .distance(9_855)
+                                    .build()))
+                    .build()))
+            .build();
+
+    @Test
+    @DisplayName("같은 출발지면 그대로 반환한다")
+    void adjust_sameOrigin() {
+        assertThat(WalkingLegAdjuster.adjust(cached, CACHED_ORIGIN, CACHED_ORIGIN)).isSameAs(cached);
+    }
+
+    @Test
+    @DisplayName("승차 지점에서 더 먼 출발지는 첫 도보 구간과 총 시간이 늘어난다")
+    void adjust_fartherOrigin() {
+        // given - 승차 지점에서 약 330m 남쪽
+        Coordinate origin = Coordinate.of(37.4970, 127.0000);
+
+        // when
+        DirectionsResponse.RouteOption option =
+                WalkingLegAdjuster.adjust(cached, CACHED_ORIGIN, origin).getRouteOptions().get(0);
+
+        // then - 도보 330m × 1.3 ≈ 430m
+        DirectionsResponse.RouteStep walk = option.getRoutes().get(0);
+        assertThat(walk.getDistance()).isBetween(420, 440);
+        assertThat(walk.getLinestring()).startsWith("127.0,37.497");
+        assertThat(option.getTotalDuration()).isEqualTo(34);
+        assertThat(option.getRoutes().get(1).getDuration()).isEqualTo(28);
+    }
+
+    @Test
+    @DisplayName("인코딩된 좌표로 캐시된 경로도 승차 지점 기준으로 보정한다")
+    void adjust_encodedGeometry() {
+        // given
+        DirectionsResponse encoded = RouteGeometry.encode(cached, 0);
+        Coordinate origin = Coordinate.of(37.4970, 127.0000);
+
+        // when
+        DirectionsResponse.RouteStep walk =
+                WalkingLegAdjuster.adjust(encoded, CACHED_ORIGIN, origin).getRouteOptions().get(0).getRoutes().get(0);
+
+        // then
+        assertThat(walk.getDistance()).isBetween(420, 440);
+        assertThat(walk.getLinestring()).isNull();
+        assertThat(PolylineCodec.decode(walk.getEncodedPolyline()).get(0).getLatitude()).isEqualTo(37.497);
+    }
+}
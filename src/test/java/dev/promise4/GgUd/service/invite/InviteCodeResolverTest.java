@@ -0,0 +1,181 @@
+package dev.promise4.GgUd.service.invite;
+
+import dev.promise4.GgUd.config.InviteCacheProperties;
+import dev.promise4.GgUd.entity.Promise;
+import dev.promise4.GgUd.entity.User;
+import dev.promise4.GgUd.entity.UserRole;
+import dev.promise4.GgUd.repository.PromiseRepository;
+import dev.promise4.GgUd.service.event.InviteCodeIssuedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("InviteCodeResolver 테스트")
+class InviteCodeResolverTest {
+
+    private static final String CODE = "AB12CD";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private PromiseRepository promiseRepository;
+
+    @Mock
+    private InviteCodeBloomFilter bloomFilter;
+
+    private InviteCodeResolver resolver;
+
+    @BeforeEach
+    void setUp() {
+        resolver = new InviteCodeResolver(redisTemplate, promiseRepository, bloomFilter,
+                new InviteCacheProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않는 코드는 Redis 와 DB 를 조회하지 않는다")
+    void resolve_malformedCode() {
+        assertThat(resolver.resolve("abc")).isEmpty();
+        assertThat(resolver.resolve("../../etc")).isEmpty();
+
+        verifyNoInteractions(redisTemplate, bloomFilter, promiseRepository);
+    }
+
+    @Test
+    @DisplayName("캐시된 코드는 DB 를 조회하지 않고 약속 ID 를 반환한다")
+    void resolve_cached() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("invite:code:" + CODE)).thenReturn("42");
+
+        // when & then
+        assertThat(resolver.resolve(CODE)).contains(42L);
+        verifyNoInteractions(promiseRepository, bloomFilter);
+    }
+
+    @Test
+    @DisplayName("블룸 필터에 없는 코드는 DB 를 조회하지 않는다")
+    void resolve_bloomRejects() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(bloomFilter.mightContain(CODE)).thenReturn(false);
+
+        // when & then
+        assertThat(resolver.resolve(CODE)).isEmpty();
+        verifyNoInteractions(promiseRepository);
+    }
+
+    @Test
+    @DisplayName("DB 에도 없는 코드는 없는 코드로 캐시한다")
+    void resolve_missingIsCachedNegatively() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(bloomFilter.mightContain(CODE)).thenReturn(true);
+        when(redisTemplate.hasKey("invite:missing:" + CODE)).thenReturn(false);
+        when(promiseRepository.findByInviteCode(CODE)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThat(resolver.resolve(CODE)).isEmpty();
+        verify(valueOperations).set("invite:missing:" + CODE, "1", Duration.ofSeconds(300));
+    }
+
+    @Test
+    @DisplayName("DB 에서 찾은 코드는 초대 만료 시각까지 캐시한다")
+    void resolve_loadedIsCachedUntilInviteExpiry() {
+        // given
+        Promise promise = promise(LocalDateTime.now().plusHours(2));
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(bloomFilter.mightContain(CODE)).thenReturn(true);
+        when(redisTemplate.hasKey("invite:missing:" + CODE)).thenReturn(false);
+        when(promiseRepository.findByInviteCode(CODE)).thenReturn(Optional.of(promise));
+
+        // when
+        Optional<Long> resolved = resolver.resolve(CODE);
+
+        // then
+        assertThat(resolved).contains(7L);
+        ArgumentCaptor<Duration> ttl = ArgumentCaptor.forClass(Duration.class);
+        verify(valueOperations).set(eq("invite:code:" + CODE), eq("7"), ttl.capture());
+        assertThat(ttl.getValue()).isBetween(Duration.ofMinutes(119), Duration.ofMinutes(120));
+    }
+
+    @Test
+    @DisplayName("발급 이벤트를 받으면 블룸 필터에 넣고 없는 코드 표시를 지운 뒤 초대 만료 시각까지 캐시한다")
+    void onInviteCodeIssued_registers() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        resolver.onInviteCodeIssued(new InviteCodeIssuedEvent(7L, CODE, LocalDateTime.now().plusHours(2)));
+
+        // then
+        verify(bloomFilter).add(CODE);
+        verify(redisTemplate).delete("invite:missing:" + CODE);
+        ArgumentCaptor<Duration> ttl = ArgumentCaptor.forClass(Duration.class);
+        verify(valueOperations).set(eq("invite:code:" + CODE), eq("7"), ttl.capture());
+        assertThat(ttl.getValue()).isBetween(Duration.ofMinutes(119), Duration.ofMinutes(120));
+    }
+
+    @Test
+    @DisplayName("커밋 후 등록이 실패해도 약속 생성 요청으로 예외를 전파하지 않는다")
+    void onInviteCodeIssued_failureIsSwallowed() {
+        // given
+        doThrow(new IllegalStateException("redis down")).when(bloomFilter).add(CODE);
+
+        // when & then
+        assertThatCode(() -> resolver.onInviteCodeIssued(
+                new InviteCodeIssuedEvent(7L, CODE, LocalDateTime.now().plusHours(2))))
+                .doesNotThrowAnyException();
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("취소하면 캐시를 지우고 없는 코드로 표시한다")
+    void invalidate_marksMissing() {
+        // given
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+
+        // when
+        resolver.invalidate(CODE);
+
+        // then
+        verify(redisTemplate).delete("invite:code:" + CODE);
+        verify(valueOperations).set(eq("invite:missing:" + CODE), anyString(), any(Duration.class));
+    }
+
+    private static Promise promise(LocalDateTime inviteExpiredAt) {
+        User host = User.builder().kakaoId("1").nickname("호스트").role(UserRole.USER).build();
+        Promise promise = Promise.builder()
+                .title("테스트 약속")
+                .promiseDateTime(LocalDateTime.now().plusDays(1))
+                .host(host)
+                .inviteCode(CODE)
+                .inviteExpiredAt(inviteExpiredAt)
+                .build();
+        ReflectionTestUtils.setField(promise, "id", 7L);
+        return promise;
+    }
+}
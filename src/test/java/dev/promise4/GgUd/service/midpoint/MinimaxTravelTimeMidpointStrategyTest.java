@@ -0,0 +1,120 @@
+package dev.promise4.GgUd.service.midpoint;
+
+import dev.promise4.GgUd.config.MidpointProperties;
+import dev.promise4.GgUd.controller.dto.Coordinate;
+import dev.promise4.GgUd.entity.SubwayStation;
+import dev.promise4.GgUd.repository.SubwayStationRepository;
+import dev.promise4.GgUd.service.MidpointCalculationService;
+import dev.promise4.GgUd.service.station.SubwayStationIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("MinimaxTravelTimeMidpointStrategy 테스트")
+@ExtendWith(MockitoExtension.class)
+class MinimaxTravelTimeMidpointStrategyTest {
+
+    @Mock
+    private SubwayStationRepository subwayStationRepository;
+
+    @Mock
+    private SubwayStationIndex subwayStationIndex;
+
+    private MinimaxTravelTimeMidpointStrategy strategy;
+
+    private final List<Coordinate> departures = List.of(
+            Coordinate.of(37.4979, 127.0276),
+            Coordinate.of(37.5573, 126.9250),
+            Coordinate.of(37.5133, 127.1001));
+
+    private final SubwayStation fair = station(1L, "공평역", "2호선", 37.52, 127.01);
+    private final SubwayStation fast = station(2L, "빠른역", "2호선", 37.53, 127.00);
+    private final SubwayStation transferA = station(3L, "환승역", "2호선", 37.54, 127.02);
+    private final SubwayStation transferB = station(4L, "환승역", "5호선", 37.54, 127.02);
+
+    // 출발지별 추정 이동시간 (분)
+    private final Map<Long, int[]> minutes = Map.of(
+            1L, new int[]{30, 32, 34},  // 최대 34
+            2L, new int[]{5, 10, 50},   // 평균은 가장 짧지만 최대 50
+            3L, new int[]{40, 40, 40},
+            4L, new int[]{35, 36, 37});
+
+    @BeforeEach
+    void setUp() {
+        strategy = new MinimaxTravelTimeMidpointStrategy(
+                new MidpointCalculationService(subwayStationRepository, subwayStationIndex),
+                new MidpointProperties());
+    }
+
+    @Test
+    @DisplayName("최대 이동시간이 가장 작은 역 순으로 순위를 매긴다")
+    void solve_ranksByMaxTravelTime() {
+        // given
+        MidpointProblem problem = problem(List.of(fast, fair, transferA, transferB), 5, 1_000_000_000L);
+
+        // when
+        MidpointResult result = strategy.solve(problem);
+
+        // then
+        assertThat(result.strategy()).isEqualTo(MinimaxTravelTimeMidpointStrategy.NAME);
+        assertThat(result.candidates())
+                .extracting(c -> c.station().getId())
+                .containsExactly(1L, 4L, 2L);
+
+        TravelTimeFairness best = result.candidates().get(0).fairness();
+        assertThat(best.maxMinutes()).isEqualTo(34);
+        assertThat(best.averageMinutes()).isCloseTo(32.0, within(1e-9));
+        assertThat(best.variance()).isCloseTo(8.0 / 3, within(1e-9));
+    }
+
+    @Test
+    @DisplayName("같은 역명은 가장 좋은 노선 하나만 후보로 남긴다")
+    void solve_deduplicatesTransferStations() {
+        // given
+        MidpointProblem problem = problem(List.of(transferA, transferB), 5, 1_000_000_000L);
+
+        // when
+        MidpointResult result = strategy.solve(problem);
+
+        // then
+        assertThat(result.candidates()).hasSize(1);
+        assertThat(result.candidates().get(0).station().getLineName()).isEqualTo("5호선");
+    }
+
+    @Test
+    @DisplayName("시간 예산을 넘겨도 후보 수만큼은 평가한다")
+    void solve_budgetExhausted_stillReturnsCandidates() {
+        // given - 예산 0
+        MidpointProblem problem = problem(List.of(fast, fair, transferA), 2, 0L);
+
+        // when
+        MidpointResult result = strategy.solve(problem);
+
+        // then
+        assertThat(result.candidates()).hasSize(2);
+    }
+
+    private MidpointProblem problem(List<SubwayStation> stations, int candidateCount, long budgetNanos) {
+        return new MidpointProblem(departures, stations, candidateCount, budgetNanos,
+                (i, station) -> minutes.get(station.getId())[i]);
+    }
+
+    private static SubwayStation station(Long id, String name, String line, double lat, double lon) {
+        return SubwayStation.builder()
+                .id(id)
+                .stationName(name)
+                .lineName(line)
+                .latitude(lat)
+                .longitude(lon)
+                .build();
+    }
+}
@@ -0,0 +1,101 @@
+package dev.promise4.GgUd.service.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("KoreanSearchText 테스트")
+class KoreanSearchTextTest {
+
+    @Test
+    @DisplayName("한글 음절은 초성으로 바꾸고 나머지 문자는 그대로 둔다")
+    void chosung() {
+        assertThat(KoreanSearchText.chosung("강남역 모임")).isEqualTo("ㄱㄴㅇ ㅁㅇ");
+        assertThat(KoreanSearchText.chosung("까치산 cgv")).isEqualTo("ㄲㅊㅅ cgv");
+        assertThat(KoreanSearchText.chosung("가힣")).isEqualTo("ㄱㅎ");
+    }
+
+    @Test
+    @DisplayName("검색 텍스트는 제목과 닉네임의 소문자 원문, 초성 변환문 두 줄이다")
+    void build() {
+        // when
+        String text = KoreanSearchText.build("CGV 모임", List.of("홍길동", "Kim"));
+
+        // then
+        assertThat(text).isEqualTo("cgv 모임 홍길동 kim\ncgv ㅁㅇ ㅎㄱㄷ kim");
+    }
+
+    @Test
+    @DisplayName("부분 일치와 초성 검색어 모두 같은 검색 텍스트에 매칭된다")
+    void likePattern_matchesSubstringAndChosung() {
+        // given
+        String text = KoreanSearchText.build("강남역 저녁", List.of("홍길동"));
+
+        // when & then
+        assertThat(matches(text, KoreanSearchText.likePattern("남역"))).isTrue();
+        assertThat(matches(text, KoreanSearchText.likePattern("ㄱㄴㅇ"))).isTrue();
+        assertThat(matches(text, KoreanSearchText.likePattern("ㅎㄱ"))).isTrue();
+        assertThat(matches(text, KoreanSearchText.likePattern("ㅅㅊ"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("LIKE 특수문자는 이스케이프하고 앞뒤 공백은 제거한다")
+    void likePattern_escapes() {
+        assertThat(KoreanSearchText.likePattern(" 50%_할인\\ ")).isEqualTo("%50\\%\\_할인\\\\%");
+    }
+
+    @Test
+    @DisplayName("비어 있거나 너무 긴 검색어는 예외 발생")
+    void likePattern_invalid() {
+        assertThatThrownBy(() -> KoreanSearchText.likePattern(" "))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> KoreanSearchText.likePattern("가".repeat(KoreanSearchText.MAX_KEYWORD_LENGTH + 1)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("토큰 문자열은 줄마다 글자·숫자로 된 1~2자 조각을 중복 없이 공백으로 구분해 담는다")
+    void tokens() {
+        assertThat(KoreanSearchText.tokens("홍길 a1\nㅎㄱ a1"))
+                .isEqualTo(" 홍 홍길 길 a a1 1 ㅎ ㅎㄱ ㄱ ");
+        assertThat(KoreanSearchText.tokens("!\n?")).isEqualTo(" ");
+    }
+
+    @Test
+    @DisplayName("2자 이하 검색어는 토큰 패턴으로 부분 일치·초성 검색과 같은 결과를 낸다")
+    void tokenPattern_matchesLikeShortKeywords() {
+        // given
+        String text = KoreanSearchText.build("강남역 저녁", List.of("홍길동"));
+        String tokens = KoreanSearchText.tokens(text);
+
+        // when & then
+        assertThat(KoreanSearchText.tokenPattern(" 남역 ")).isEqualTo("% 남역 %");
+        for (String keyword : List.of("남역", "ㅎㄱ", "동", "ㄴㅇ", "ㅅㅊ", "역저", "녁 ")) {
+            assertThat(tokens.contains(KoreanSearchText.tokenPattern(keyword).replace("%", "")))
+                    .as(keyword)
+                    .isEqualTo(matches(text, KoreanSearchText.likePattern(keyword)));
+        }
+    }
+
+    @Test
+    @DisplayName("3자 이상이거나 글자·숫자가 아닌 문자가 있으면 토큰 패턴을 쓰지 않는다")
+    void tokenPattern_fallsBack() {
+        assertThat(KoreanSearchText.tokenPattern("강남역")).isNull();
+        assertThat(KoreanSearchText.tokenPattern("1%")).isNull();
+        assertThat(KoreanSearchText.tokenPattern("a b")).isNull();
+        assertThatThrownBy(() -> KoreanSearchText.tokenPattern(" "))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * '%검색어%' 패턴을 DB LIKE 와 같은 의미로 평가 (이스케이프 해제 후 부분 문자열 포함 여부)
+     */
+    private static boolean matches(String text, String pattern) {
+        String keyword = pattern.substring(1, pattern.length() - 1).replaceAll("\\\\(.)", "$1");
+        return text.contains(keyword);
+    }
+}
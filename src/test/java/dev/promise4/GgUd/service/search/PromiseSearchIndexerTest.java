@@ -0,0 +1,250 @@
+package dev.promise4.GgUd.service.search;
+
+import dev.promise4.GgUd.entity.Participant;
+import dev.promise4.GgUd.entity.Promise;
+import dev.promise4.GgUd.entity.PromiseSearchDocument;
+import dev.promise4.GgUd.entity.User;
+import dev.promise4.GgUd.entity.UserRole;
+import dev.promise4.GgUd.repository.ParticipantRepository;
+import dev.promise4.GgUd.repository.PromiseRepository;
+import dev.promise4.GgUd.repository.PromiseSearchDocumentRepository;
+import dev.promise4.GgUd.service.event.PromiseParticipantsChangedEvent;
+import dev.promise4.GgUd.service.event.UserProfileChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PromiseSearchIndexer 테스트")
+class PromiseSearchIndexerTest {
+
+    @Mock
+    private PromiseRepository promiseRepository;
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private PromiseSearchDocumentRepository documentRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PromiseSearchIndexer indexer;
+
+    private Promise promise;
+    private User host;
+    private User guest;
+
+    @BeforeEach
+    void setUp() {
+        indexer = new PromiseSearchIndexer(promiseRepository, participantRepository, documentRepository,
+                transactionManager);
+
+        host = user(1L, "호스트");
+        guest = user(2L, "게스트");
+        promise = Promise.builder()
+                .title("강남 저녁")
+                .promiseDateTime(LocalDateTime.of(2025, 6, 1, 18, 0))
+                .host(host)
+                .build();
+        ReflectionTestUtils.setField(promise, "id", 10L);
+    }
+
+    @Test
+    @DisplayName("참여자가 바뀌면 새 참여자 문서는 만들고 기존 문서는 갱신하고 빠진 참여자 문서는 지운다")
+    void onParticipantsChanged_syncsDocuments() {
+        // given
+        PromiseSearchDocument hostDocument = document(1L, "강남 저녁 호스트\nㄱㄴ ㅈㄴ ㅎㅅㅌ");
+        PromiseSearchDocument leftDocument = document(3L, "강남 저녁 호스트 떠난사람\nㄱㄴ ㅈㄴ ㅎㅅㅌ ㄸㄴㅅㄹ");
+        when(promiseRepository.findByIdWithLock(10L)).thenReturn(Optional.of(promise));
+        when(participantRepository.findByPromiseId(10L)).thenReturn(List.of(participant(host), participant(guest)));
+        when(documentRepository.findByPromiseId(10L)).thenReturn(List.of(hostDocument, leftDocument));
+
+        // when
+        indexer.onParticipantsChanged(new PromiseParticipantsChangedEvent(10L, 2L));
+
+        // then
+        String expected = KoreanSearchText.build("강남 저녁", List.of("호스트", "게스트"));
+        assertThat(hostDocument.getSearchText()).isEqualTo(expected);
+        assertThat(hostDocument.getSearchTokens()).isEqualTo(KoreanSearchText.tokens(expected));
+
+        ArgumentCaptor<PromiseSearchDocument> saved = ArgumentCaptor.forClass(PromiseSearchDocument.class);
+        verify(documentRepository).save(saved.capture());
+        assertThat(saved.getValue().getUserId()).isEqualTo(2L);
+        assertThat(saved.getValue().getSearchText()).isEqualTo(expected);
+        assertThat(saved.getValue().getSearchTokens()).isEqualTo(KoreanSearchText.tokens(expected));
+        assertThat(saved.getValue().getPromiseDateTime()).isEqualTo(promise.getPromiseDateTime());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<PromiseSearchDocument>> deleted = ArgumentCaptor.forClass(Collection.class);
+        verify(documentRepository).deleteAll(deleted.capture());
+        assertThat(deleted.getValue()).containsExactly(leftDocument);
+    }
+
+    @Test
+    @DisplayName("닉네임이 바뀌면 그 사용자가 참여한 약속만 다시 색인한다")
+    void onUserProfileChanged_reindexesUsersPromises() {
+        // given
+        when(participantRepository.findPromiseIdsByUserId(2L)).thenReturn(List.of(10L));
+        when(promiseRepository.findByIdWithLock(10L)).thenReturn(Optional.of(promise));
+        when(participantRepository.findByPromiseId(10L)).thenReturn(List.of(participant(host), participant(guest)));
+        when(documentRepository.findByPromiseId(10L)).thenReturn(List.of());
+
+        // when
+        indexer.onUserProfileChanged(new UserProfileChangedEvent(2L, true));
+
+        // then
+        verify(documentRepository, times(2)).save(any(PromiseSearchDocument.class));
+        verify(promiseRepository, only()).findByIdWithLock(10L);
+    }
+
+    @Test
+    @DisplayName("프로필 이미지만 바뀌면 다시 색인하지 않는다")
+    void onUserProfileChanged_imageOnly_skips() {
+        // when
+        indexer.onUserProfileChanged(new UserProfileChangedEvent(2L, false));
+
+        // then
+        verifyNoInteractions(participantRepository, promiseRepository, documentRepository);
+    }
+
+    @Test
+    @DisplayName("색인 실패는 원래 요청으로 전파하지 않는다")
+    void onParticipantsChanged_failureIsSwallowed() {
+        // given
+        when(promiseRepository.findByIdWithLock(10L)).thenReturn(Optional.of(promise));
+        when(participantRepository.findByPromiseId(10L)).thenReturn(List.of(participant(guest)));
+        when(documentRepository.findByPromiseId(10L)).thenReturn(List.of());
+        when(documentRepository.save(any(PromiseSearchDocument.class)))
+                .thenThrow(new DataIntegrityViolationException("duplicate"));
+
+        // when & then
+        assertThatCode(() -> indexer.onParticipantsChanged(new PromiseParticipantsChangedEvent(10L, 2L)))
+                .doesNotThrowAnyException();
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    @DisplayName("두 참여자가 동시에 들어와도 재색인이 약속 잠금으로 직렬화되어 문서가 빠지지 않는다")
+    void onParticipantsChanged_interleaved_keepsAllDocuments() throws Exception {
+        // given - 호스트 문서만 있는 약속에 게스트 두 명이 거의 동시에 참여
+        User second = user(3L, "두번째");
+        Map<Long, PromiseSearchDocument> documents = new ConcurrentHashMap<>();
+        documents.put(1L, document(1L, KoreanSearchText.build("강남 저녁", List.of("호스트"))));
+
+        // 약속 행 잠금은 커밋·롤백 때 풀림
+        Semaphore promiseLock = new Semaphore(1);
+        CountDownLatch secondWaiting = new CountDownLatch(1);
+        AtomicInteger lockCalls = new AtomicInteger();
+        when(promiseRepository.findByIdWithLock(10L)).thenAnswer(invocation -> {
+            if (lockCalls.incrementAndGet() == 2) {
+                secondWaiting.countDown();
+            }
+            promiseLock.acquire();
+            return Optional.of(promise);
+        });
+        doAnswer(invocation -> {
+            promiseLock.release();
+            return null;
+        }).when(transactionManager).commit(any());
+        doAnswer(invocation -> {
+            promiseLock.release();
+            return null;
+        }).when(transactionManager).rollback(any());
+
+        // 먼저 시작한 재색인은 두 번째 참여가 커밋되기 전의 참여자를 읽고, 두 번째 재색인이 잠금을 기다릴 때까지 진행을 멈춤
+        AtomicInteger participantReads = new AtomicInteger();
+        when(participantRepository.findByPromiseId(10L)).thenAnswer(invocation -> {
+            if (participantReads.incrementAndGet() == 1) {
+                assertThat(secondWaiting.await(5, TimeUnit.SECONDS)).isTrue();
+                return List.of(participant(host), participant(guest));
+            }
+            return List.of(participant(host), participant(guest), participant(second));
+        });
+
+        // 문서 저장소는 (user_id, promise_id) 유니크 제약을 흉내 냄
+        when(documentRepository.findByPromiseId(10L))
+                .thenAnswer(invocation -> new ArrayList<>(documents.values()));
+        when(documentRepository.save(any(PromiseSearchDocument.class))).thenAnswer(invocation -> {
+            PromiseSearchDocument document = invocation.getArgument(0);
+            if (documents.putIfAbsent(document.getUserId(), document) != null) {
+                throw new DataIntegrityViolationException("duplicate");
+            }
+            return document;
+        });
+
+        // when
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            Future<?> first = executor.submit(() ->
+                    indexer.onParticipantsChanged(new PromiseParticipantsChangedEvent(10L, 2L)));
+            while (lockCalls.get() < 1) {
+                Thread.onSpinWait();
+            }
+            Future<?> secondJoin = executor.submit(() ->
+                    indexer.onParticipantsChanged(new PromiseParticipantsChangedEvent(10L, 3L)));
+            first.get(5, TimeUnit.SECONDS);
+            secondJoin.get(5, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // then
+        String expected = KoreanSearchText.build("강남 저녁", List.of("호스트", "게스트", "두번째"));
+        assertThat(documents).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(documents.values()).allSatisfy(document ->
+                assertThat(document.getSearchText()).isEqualTo(expected));
+        verify(transactionManager, never()).rollback(any());
+    }
+
+    private PromiseSearchDocument document(Long userId, String searchText) {
+        return PromiseSearchDocument.builder()
+                .userId(userId)
+                .promiseId(10L)
+                .promiseDateTime(promise.getPromiseDateTime())
+                .searchText(searchText)
+                .searchTokens(KoreanSearchText.tokens(searchText))
+                .build();
+    }
+
+    private Participant participant(User user) {
+        return Participant.builder()
+                .promise(promise)
+                .user(user)
+                .build();
+    }
+
+    private static User user(Long id, String nickname) {
+        User user = User.builder().kakaoId(String.valueOf(id)).nickname(nickname).role(UserRole.USER).build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,120 @@
+package dev.promise4.GgUd.service.station;
+
+import dev.promise4.GgUd.controller.dto.Coordinate;
+import dev.promise4.GgUd.controller.dto.StationDistance;
+import dev.promise4.GgUd.entity.SubwayStation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("StationKdTree 테스트")
+class StationKdTreeTest {
+
+    private static final Coordinate GANGNAM = Coordinate.of(37.4979, 127.0276);
+
+    @Nested
+    @DisplayName("nearest 테스트")
+    class NearestTest {
+
+        @Test
+        @DisplayName("가장 가까운 역 k개를 전수 탐색과 같은 순서로 반환한다")
+        void nearest_matchesBruteForce() {
+            // given - 수도권 범위 무작위 역 5,000개
+            List<SubwayStation> stations = randomStations(5_000, 42L);
+            StationKdTree tree = StationKdTree.build(stations);
+            Random random = new Random(7L);
+
+            for (int i = 0; i < 200; i++) {
+                Coordinate query = randomCoordinate(random);
+
+                // when
+                List<StationDistance> actual = tree.nearest(query, 5);
+
+                // then
+                List<StationDistance> expected = bruteForce(stations, query, 5);
+                assertThat(actual).hasSize(5);
+                for (int j = 0; j < 5; j++) {
+                    assertThat(actual.get(j).getDistanceKm())
+                            .isCloseTo(expected.get(j).getDistanceKm(), within(1e-6));
+                }
+            }
+        }
+
+        @Test
+        @DisplayName("역 수보다 큰 k를 요청하면 전체 역을 반환한다")
+        void nearest_kLargerThanSize() {
+            StationKdTree tree = StationKdTree.build(randomStations(3, 1L));
+
+            assertThat(tree.nearest(GANGNAM, 10)).hasSize(3);
+        }
+
+        @Test
+        @DisplayName("빈 트리는 빈 목록을 반환한다")
+        void nearest_emptyTree() {
+            StationKdTree tree = StationKdTree.build(List.of());
+
+            assertThat(tree.isEmpty()).isTrue();
+            assertThat(tree.nearest(GANGNAM, 5)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("withinRadius 테스트")
+    class WithinRadiusTest {
+
+        @Test
+        @DisplayName("반경 내 역을 전수 탐색과 동일하게 거리순으로 반환한다")
+        void withinRadius_matchesBruteForce() {
+            // given
+            List<SubwayStation> stations = randomStations(2_000, 3L);
+            StationKdTree tree = StationKdTree.build(stations);
+
+            // when
+            List<StationDistance> actual = tree.withinRadius(GANGNAM, 3.0);
+
+            // then
+            long expectedCount = stations.stream()
+                    .filter(s -> GANGNAM.distanceTo(Coordinate.of(s.getLatitude(), s.getLongitude())) <= 3.0)
+                    .count();
+            assertThat(actual).hasSize((int) expectedCount);
+            assertThat(actual).isSortedAccordingTo(Comparator.comparingDouble(StationDistance::getDistanceKm));
+            assertThat(actual).allSatisfy(sd -> assertThat(sd.getDistanceKm()).isLessThanOrEqualTo(3.0 + 1e-9));
+        }
+    }
+
+    private static List<StationDistance> bruteForce(List<SubwayStation> stations, Coordinate query, int k) {
+        return stations.stream()
+                .map(s -> new StationDistance(s, query.distanceTo(Coordinate.of(s.getLatitude(), s.getLongitude()))))
+                .sorted(Comparator.comparingDouble(StationDistance::getDistanceKm))
+                .limit(k)
+                .toList();
+    }
+
+    private static List<SubwayStation> randomStations(int count, long seed) {
+        Random random = new Random(seed);
+        List<SubwayStation> stations = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Coordinate c = randomCoordinate(random);
+            stations.add(SubwayStation.builder()
+                    .id((long) i)
+                    .stationName("역" + i)
+                    .lineName("1호선")
+                    .latitude(c.getLatitude())
+                    .longitude(c.getLongitude())
+                    .build());
+        }
+        return stations;
+    }
+
+    private static Coordinate randomCoordinate(Random random) {
+        return Coordinate.of(37.3 + random.nextDouble() * 0.5, 126.6 + random.nextDouble() * 0.6);
+    }
+}
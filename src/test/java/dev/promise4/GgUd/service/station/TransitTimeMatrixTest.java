@@ -0,0 +1,76 @@
+package dev.promise4.GgUd.service.station;
+
+import dev.promise4.GgUd.service.station.SubwayStationCsvReader.StationRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("TransitTimeMatrix 테스트")
+class TransitTimeMatrixTest {
+
+    private static final TransitTimeMatrix.NetworkParameters PARAMS =
+            new TransitTimeMatrix.NetworkParameters(33.0, 30, 240, 4.0);
+
+    // 2호선 A-B-C (약 1.1km 간격), 9호선 C-D, 멀리 떨어진 고립역 E
+    private static final List<StationRow> ROWS = List.of(
+            new StationRow("2호선", "201", "A", 37.50, 127.00),
+            new StationRow("2호선", "202", "B", 37.51, 127.00),
+            new StationRow("2호선", "203", "C", 37.52, 127.00),
+            new StationRow("9호선", "901", "C", 37.52, 127.00),
+            new StationRow("9호선", "902", "D", 37.52, 127.01),
+            new StationRow("8호선", "801", "E", 38.50, 128.00)
+    );
+
+    @Test
+    @DisplayName("같은 노선 연속역은 거리/속도 + 정차 시간으로 연결된다")
+    void minutes_sameLine() {
+        TransitTimeMatrix matrix = TransitTimeMatrix.build(ROWS, PARAMS);
+
+        int a = matrix.nodeOf("A", "2호선");
+        int c = matrix.nodeOf("C", "2호선");
+
+        // 2.2km / 33km/h = 4분 + 정차 30초 × 2
+        assertThat(matrix.minutes(a, c)).isEqualTo(5);
+        assertThat(matrix.minutes(a, a)).isZero();
+        assertThat(matrix.minutes(a, c)).isEqualTo(matrix.minutes(c, a));
+    }
+
+    @Test
+    @DisplayName("같은 역명의 다른 노선은 환승 페널티를 더해 연결된다")
+    void minutes_transfer() {
+        TransitTimeMatrix matrix = TransitTimeMatrix.build(ROWS, PARAMS);
+
+        int a = matrix.nodeOf("A", "2호선");
+        int c2 = matrix.nodeOf("C", "2호선");
+        int c9 = matrix.nodeOf("C", "9호선");
+        int d = matrix.nodeOf("D", "9호선");
+
+        assertThat(matrix.minutes(c2, c9)).isEqualTo(4);
+        assertThat(matrix.minutes(a, d)).isGreaterThan(matrix.minutes(a, c2) + 4);
+    }
+
+    @Test
+    @DisplayName("연결되지 않은 역은 UNREACHABLE")
+    void minutes_unreachable() {
+        TransitTimeMatrix matrix = TransitTimeMatrix.build(ROWS, PARAMS);
+
+        int a = matrix.nodeOf("A", "2호선");
+        int e = matrix.nodeOf("E", "8호선");
+
+        assertThat(matrix.minutes(a, e)).isEqualTo(TransitTimeMatrix.UNREACHABLE);
+    }
+
+    @Test
+    @DisplayName("노선명이 다르면 역명으로 찾고, 인천 노선 원본 코드도 인식한다")
+    void nodeOf_fallbacks() {
+        TransitTimeMatrix matrix = TransitTimeMatrix.build(List.of(
+                new StationRow("인천1호선", "IN1001", "계양", 37.57, 126.73)), PARAMS);
+
+        assertThat(matrix.nodeOf("계양", "IN_1")).isZero();
+        assertThat(matrix.nodeOf("계양", "공항철도")).isZero();
+        assertThat(matrix.nodeOf("없는역", "2호선")).isEqualTo(-1);
+    }
+}
@@ -0,0 +1,173 @@
+package dev.promise4.GgUd.service.tracking;
+
+import dev.promise4.GgUd.config.ArrivalProperties;
+import dev.promise4.GgUd.repository.ParticipantRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ArrivalWriteBehindFlusher 테스트")
+class ArrivalWriteBehindFlusherTest {
+
+    private static final String PENDING = "tracking:arrivals:pending";
+    private static final String PROCESSING = "tracking:arrivals:processing";
+    private static final List<String> KEYS = List.of(PENDING, PROCESSING);
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ListOperations<String, String> listOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private ArrivalWriteBehindFlusher flusher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ArrivalProperties properties = new ArrivalProperties();
+        properties.setFlushBatchSize(50);
+        properties.setClaimTimeoutMillis(60_000);
+        flusher = new ArrivalWriteBehindFlusher(stringRedisTemplate, participantRepository, transactionTemplate, properties);
+
+        lenient().when(stringRedisTemplate.opsForList()).thenReturn(listOperations);
+        lenient().when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        lenient().when(stringRedisTemplate.execute(eq(ArrivalWriteBehindFlusher.RECLAIM), eq(KEYS), anyString(), anyString()))
+                .thenReturn(0L);
+        lenient().doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    @DisplayName("대기 중인 도착 기록을 한 트랜잭션에서 DB 에 반영하고, 잘못된 기록은 건너뛴다")
+    void flush_persistsRecords() {
+        // given
+        long arrivedAtMillis = 1_700_000_000_000L;
+        List<String> records = List.of("1:10:" + arrivedAtMillis, "broken", "1:20:" + arrivedAtMillis);
+        claims(records);
+
+        // when
+        flusher.flush();
+
+        // then
+        LocalDateTime arrivedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(arrivedAtMillis), ZoneId.systemDefault());
+        verify(participantRepository).markArrivedIfAbsent(1L, 10L, arrivedAt);
+        verify(participantRepository).markArrivedIfAbsent(1L, 20L, arrivedAt);
+        verify(transactionTemplate, times(1)).executeWithoutResult(any());
+        verify(listOperations, never()).rightPushAll(any(String.class), anyList());
+        // 커밋 후에만 처리 중 집합에서 지움
+        verify(zSetOperations).remove(PROCESSING, records.toArray());
+    }
+
+    @Test
+    @DisplayName("DB 반영에 실패하면 꺼낸 기록을 대기 목록에 되돌린다")
+    void flush_failure_requeues() {
+        // given
+        List<String> records = List.of("1:10:1700000000000");
+        claims(records);
+        when(participantRepository.markArrivedIfAbsent(any(), any(), any())).thenThrow(new IllegalStateException("db down"));
+
+        // when
+        flusher.flush();
+
+        // then
+        verify(listOperations).rightPushAll(PENDING, records);
+        verify(zSetOperations).remove(PROCESSING, records.toArray());
+    }
+
+    @Test
+    @DisplayName("DB 반영 실패 후 되돌리기도 실패하면 예외를 던지지 않고 처리 중 집합에 남긴다")
+    void flush_failure_requeueFailure_leavesClaimed() {
+        // given
+        List<String> records = List.of("1:10:1700000000000");
+        claims(records);
+        when(participantRepository.markArrivedIfAbsent(any(), any(), any())).thenThrow(new IllegalStateException("db down"));
+        when(listOperations.rightPushAll(PENDING, records)).thenThrow(new IllegalStateException("redis down"));
+
+        // when & then
+        assertThatCode(() -> flusher.flush()).doesNotThrowAnyException();
+        verify(zSetOperations, never()).remove(any(), any());
+    }
+
+    @Test
+    @DisplayName("꺼낸 뒤 커밋 전에 중단된 기록은 처리 시간이 지나면 다음 주기에 다시 반영된다")
+    void flush_crashBetweenClaimAndCommit_reclaimedOnNextTick() {
+        // given - 첫 주기: 꺼낸 뒤 DB 반영 도중 인스턴스 중단 (커밋·되돌리기 모두 실행되지 않음)
+        String record = "1:10:1700000000000";
+        claims(List.of(record));
+        doThrow(new Error("process killed")).when(transactionTemplate).executeWithoutResult(any());
+        assertThatThrownBy(() -> flusher.flush()).isInstanceOf(Error.class);
+        verify(zSetOperations, never()).remove(any(), any());
+
+        // 다음 주기: 처리 시간이 지난 기록을 대기 목록으로 되돌린 뒤 다시 꺼내 반영
+        long before = System.currentTimeMillis();
+        when(stringRedisTemplate.execute(eq(ArrivalWriteBehindFlusher.RECLAIM), eq(KEYS), anyString(), anyString()))
+                .thenReturn(1L);
+        doAnswer(invocation -> {
+            invocation.getArgument(0, Consumer.class).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        // when
+        flusher.flush();
+
+        // then
+        ArgumentCaptor<String> cutoff = ArgumentCaptor.forClass(String.class);
+        verify(stringRedisTemplate, times(2))
+                .execute(eq(ArrivalWriteBehindFlusher.RECLAIM), eq(KEYS), cutoff.capture(), eq("50"));
+        assertThat(Long.parseLong(cutoff.getValue()))
+                .isBetween(before - 60_000, System.currentTimeMillis() - 60_000);
+        verify(participantRepository).markArrivedIfAbsent(eq(1L), eq(10L), any());
+        verify(zSetOperations).remove(PROCESSING, record);
+    }
+
+    @Test
+    @DisplayName("대기 중인 기록이 없으면 트랜잭션을 열지 않는다")
+    void flush_empty() {
+        claims(List.of());
+
+        flusher.flush();
+
+        verifyNoInteractions(transactionTemplate, participantRepository);
+    }
+
+    private void claims(List<String> records) {
+        when(stringRedisTemplate.execute(eq(ArrivalWriteBehindFlusher.CLAIM), eq(KEYS), eq("50"), anyString()))
+                .thenReturn(records);
+    }
+}
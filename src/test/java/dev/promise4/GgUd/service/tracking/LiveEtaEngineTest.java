@@ -0,0 +1,165 @@
+package dev.promise4.GgUd.service.tracking;
+
+import dev.promise4.GgUd.config.EtaProperties;
+import dev.promise4.GgUd.controller.dto.DirectionsResponse;
+import dev.promise4.GgUd.controller.dto.EtaUpdateMessage;
+import dev.promise4.GgUd.entity.PromiseStatus;
+import dev.promise4.GgUd.service.TMapDirectionsService;
+import dev.promise4.GgUd.service.directions.IndexedDirections;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LiveEtaEngine 테스트")
+class LiveEtaEngineTest {
+
+    private static final double PLACE_LAT = 37.4979;
+    private static final double PLACE_LON = 127.0276;
+    /** 위도 1도 ≈ 111km */
+    private static final double DEGREES_PER_METER = 1.0 / 111_000;
+
+    @Mock
+    private TMapDirectionsService directionsService;
+
+    private EtaProperties properties;
+    private LiveEtaEngine engine;
+    private TrackingSession.TrackingParticipant participant;
+
+    @BeforeEach
+    void setUp() {
+        properties = new EtaProperties();
+        // 재조회 결과를 같은 호출 안에서 반영해 순서를 결정적으로 만듦
+        engine = new LiveEtaEngine(properties, directionsService, new SimpleMeterRegistry(), Schedulers.immediate());
+        participant = new TrackingSession.TrackingParticipant(10L, "참여자", null, false);
+    }
+
+    @Test
+    @DisplayName("첫 위치는 대중교통 소요 시간으로 ETA 를 보내고, 재조회 간격 안에서는 다시 조회하지 않는다")
+    void update_usesCachedTransitEstimate() {
+        // given
+        when(directionsService.getDirectionsBatch(anyList(), eq(1)))
+                .thenReturn(Flux.just(new IndexedDirections(0, directions(30, 40))));
+        TrackingSession session = session(PromiseStatus.IN_PROGRESS);
+
+        // when
+        Optional<EtaUpdateMessage> first = engine.update(session, participant, south(6000), PLACE_LON, 0);
+        Optional<EtaUpdateMessage> second = engine.update(session, participant, south(5995), PLACE_LON, 20_000);
+
+        // then
+        assertThat(first).isPresent();
+        assertThat(first.get().getEtaSeconds()).isEqualTo(30 * 60);
+        assertThat(first.get().getRemainingDistanceMeters()).isBetween(5990, 6010);
+        assertThat(second).isEmpty();
+        verify(directionsService, times(1)).getDirectionsBatch(anyList(), anyInt());
+        verify(directionsService, never()).getDirections(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("남은 거리가 줄면 대중교통 추정을 비율로 줄이고 임계값 이상 바뀌면 다시 보낸다")
+    void update_scalesTransitByRemainingDistance() {
+        // given
+        properties.setSpeedWeight(0);
+        when(directionsService.getDirectionsBatch(anyList(), eq(1)))
+                .thenReturn(Flux.just(new IndexedDirections(0, directions(30, 40))));
+        TrackingSession session = session(PromiseStatus.IN_PROGRESS);
+        engine.update(session, participant, south(6000), PLACE_LON, 0);
+
+        // when
+        Optional<EtaUpdateMessage> halfway = engine.update(session, participant, south(3000), PLACE_LON, 60_000);
+
+        // then
+        assertThat(halfway).isPresent();
+        assertThat(halfway.get().getEtaSeconds()).isBetween(880L, 920L);
+    }
+
+    @Test
+    @DisplayName("대중교통 경로가 없으면 최근 이동 속도로 ETA 를 계산한다")
+    void update_fallsBackToRecentSpeed() {
+        // given
+        when(directionsService.getDirectionsBatch(anyList(), eq(1))).thenReturn(Flux.empty());
+        TrackingSession session = session(PromiseStatus.IN_PROGRESS);
+        engine.update(session, participant, south(1100), PLACE_LON, 0);
+
+        // when: 10초에 100m (10m/s)
+        Optional<EtaUpdateMessage> moving = engine.update(session, participant, south(1000), PLACE_LON, 10_000);
+
+        // then
+        assertThat(moving).isPresent();
+        assertThat(moving.get().getEtaSeconds()).isBetween(95L, 105L);
+    }
+
+    @Test
+    @DisplayName("대중교통 재조회는 위치 수신 스레드가 아닌 별도 스레드에서 실행한다")
+    void update_refreshesTransitOffCallerThread() throws Exception {
+        // given
+        LiveEtaEngine asyncEngine = new LiveEtaEngine(properties, directionsService, new SimpleMeterRegistry());
+        CompletableFuture<Thread> lookupThread = new CompletableFuture<>();
+        when(directionsService.getDirectionsBatch(anyList(), eq(1))).thenAnswer(invocation -> {
+            lookupThread.complete(Thread.currentThread());
+            return Flux.just(new IndexedDirections(0, directions(30, 40)));
+        });
+        TrackingSession session = session(PromiseStatus.IN_PROGRESS);
+
+        // when
+        asyncEngine.update(session, participant, south(6000), PLACE_LON, 0);
+
+        // then
+        assertThat(lookupThread.get(5, TimeUnit.SECONDS)).isNotSameAs(Thread.currentThread());
+    }
+
+    @Test
+    @DisplayName("진행 중이 아닌 약속이나 도착한 참여자는 계산하지 않는다")
+    void update_skipsWhenNotTracking() {
+        TrackingSession.TrackingParticipant arrived = new TrackingSession.TrackingParticipant(10L, "참여자", null, true);
+
+        assertThat(engine.update(session(PromiseStatus.PLACE_CONFIRMED), participant, south(1000), PLACE_LON, 0))
+                .isEmpty();
+        assertThat(engine.update(session(PromiseStatus.IN_PROGRESS), arrived, south(1000), PLACE_LON, 0))
+                .isEmpty();
+        verifyNoInteractions(directionsService);
+    }
+
+    private static double south(double meters) {
+        return PLACE_LAT - meters * DEGREES_PER_METER;
+    }
+
+    private static DirectionsResponse directions(int... minutes) {
+        return DirectionsResponse.builder()
+                .routeOptions(Arrays.stream(minutes)
+                        .mapToObj(m -> DirectionsResponse.RouteOption.builder().totalDuration(m).build())
+                        .toList())
+                .build();
+    }
+
+    private static TrackingSession session(PromiseStatus status) {
+        return TrackingSession.builder()
+                .promiseId(1L)
+                .status(status)
+                .trackingStartTime(LocalDateTime.now().minusMinutes(30))
+                .confirmedLatitude(PLACE_LAT)
+                .confirmedLongitude(PLACE_LON)
+                .participants(Map.of())
+                .build();
+    }
+}
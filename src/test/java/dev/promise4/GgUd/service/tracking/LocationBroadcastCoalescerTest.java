@@ -0,0 +1,88 @@
+package dev.promise4.GgUd.service.tracking;
+
+import dev.promise4.GgUd.config.LocationGateProperties;
+import dev.promise4.GgUd.controller.dto.LocationUpdateMessage;
+import dev.promise4.GgUd.controller.dto.LocationsDeltaMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocationBroadcastCoalescer 테스트")
+class LocationBroadcastCoalescerTest {
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    @Mock
+    private LocationDeltaLog deltaLog;
+
+    private LocationBroadcastCoalescer coalescer;
+
+    @AfterEach
+    void tearDown() {
+        coalescer.shutdown();
+    }
+
+    @Test
+    @DisplayName("시간 창 안의 위치는 참여자별 최신 값만 한 프레임으로 보낸다")
+    void coalescesWithinWindow() {
+        // given - 테스트 중 예약 전송이 실행되지 않도록 긴 시간 창
+        coalescer = coalescer(60_000);
+        when(deltaLog.append(eq(1L), anyList())).thenAnswer(invocation -> LocationsDeltaMessage.builder()
+                .promiseId(1L)
+                .seq(7)
+                .locations(invocation.getArgument(1))
+                .build());
+        coalescer.submit(1L, location(10L, 37.50));
+        coalescer.submit(1L, location(20L, 37.51));
+        coalescer.submit(1L, location(10L, 37.52));
+
+        // when
+        coalescer.flush(1L);
+
+        // then
+        ArgumentCaptor<LocationsDeltaMessage> frame = ArgumentCaptor.forClass(LocationsDeltaMessage.class);
+        verify(messagingTemplate, times(1)).convertAndSend(eq("/topic/promises/1/locations"), frame.capture());
+        assertThat(frame.getValue().getSeq()).isEqualTo(7);
+        assertThat(frame.getValue().getLocations())
+                .extracting(LocationUpdateMessage::getUserId, LocationUpdateMessage::getLatitude)
+                .containsExactly(tuple(10L, 37.52), tuple(20L, 37.51));
+
+        coalescer.flush(1L);
+        verifyNoMoreInteractions(messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("시간 창이 0이면 즉시 보낸다")
+    void zeroWindow_sendsImmediately() {
+        coalescer = coalescer(0);
+        when(deltaLog.append(eq(1L), anyList())).thenReturn(LocationsDeltaMessage.builder().promiseId(1L).seq(1).build());
+
+        coalescer.submit(1L, location(10L, 37.50));
+
+        verify(messagingTemplate).convertAndSend(eq("/topic/promises/1/locations"), any(LocationsDeltaMessage.class));
+    }
+
+    private LocationBroadcastCoalescer coalescer(long windowMillis) {
+        LocationGateProperties properties = new LocationGateProperties();
+        properties.setCoalesceWindowMillis(windowMillis);
+        return new LocationBroadcastCoalescer(messagingTemplate, deltaLog, properties, new SimpleMeterRegistry());
+    }
+
+    private static LocationUpdateMessage location(Long userId, double latitude) {
+        return LocationUpdateMessage.of(userId, "참여자" + userId, null, latitude, 126.97);
+    }
+}
@@ -0,0 +1,76 @@
+package dev.promise4.GgUd.service.tracking;
+
+import dev.promise4.GgUd.config.LocationGateProperties;
+import dev.promise4.GgUd.controller.dto.LocationsDeltaMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.ListOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocationDeltaLog 테스트")
+class LocationDeltaLogTest {
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private ListOperations<String, Object> listOperations;
+
+    private LocationDeltaLog deltaLog;
+
+    @BeforeEach
+    void setUp() {
+        deltaLog = new LocationDeltaLog(redisTemplate, stringRedisTemplate, new LocationGateProperties());
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(redisTemplate.opsForList()).thenReturn(listOperations);
+    }
+
+    @Test
+    @DisplayName("버퍼가 요청 순번 바로 다음부터 이어지면 놓친 메시지만 돌려준다")
+    void since_resumesFromBuffer() {
+        // given
+        when(valueOperations.get("tracking:seq:1")).thenReturn("12");
+        when(listOperations.range("tracking:deltas:1", 0, -1)).thenReturn(List.of(frame(9), frame(10), frame(11), frame(12)));
+
+        // when
+        Optional<List<LocationsDeltaMessage>> missed = deltaLog.since(1L, 10);
+
+        // then
+        assertThat(missed).hasValueSatisfying(frames ->
+                assertThat(frames).extracting(LocationsDeltaMessage::getSeq).containsExactly(11L, 12L));
+    }
+
+    @Test
+    @DisplayName("이미 최신이면 빈 목록, 버퍼에서 밀려났거나 순번이 앞서 있으면 스냅샷이 필요하다")
+    void since_requiresSnapshot() {
+        when(valueOperations.get("tracking:seq:1")).thenReturn("12");
+        when(listOperations.range("tracking:deltas:1", 0, -1)).thenReturn(List.of(frame(11), frame(12)));
+
+        assertThat(deltaLog.since(1L, 12)).hasValue(List.of());
+        assertThat(deltaLog.since(1L, 5)).isEmpty();
+        assertThat(deltaLog.since(1L, 20)).isEmpty();
+    }
+
+    private static LocationsDeltaMessage frame(long seq) {
+        return LocationsDeltaMessage.builder().promiseId(1L).seq(seq).locations(List.of()).build();
+    }
+}
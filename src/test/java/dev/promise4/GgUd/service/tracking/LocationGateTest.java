@@ -0,0 +1,84 @@
+package dev.promise4.GgUd.service.tracking;
+
+import dev.promise4.GgUd.config.LocationGateProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LocationGate 테스트")
+class LocationGateTest {
+
+    private static final double LAT = 37.5665;
+    private static final double LON = 126.9780;
+    /** 위도 1도 ≈ 111km */
+    private static final double DEGREES_PER_METER = 1.0 / 111_000;
+
+    private LocationGateProperties properties;
+    private LocationGate gate;
+
+    @BeforeEach
+    void setUp() {
+        properties = new LocationGateProperties();
+        properties.setMinIntervalMillis(2000);
+        properties.setFastIntervalMillis(1000);
+        properties.setFastSpeedMetersPerSecond(8.0);
+        properties.setMinDisplacementMeters(10.0);
+        properties.setHeartbeatIntervalMillis(30000);
+        gate = new LocationGate(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    @DisplayName("첫 위치는 반영하고, 최소 간격 안에 들어온 위치는 버린다")
+    void minInterval() {
+        assertThat(gate.accept(1L, 10L, LAT, LON, 0)).isTrue();
+        assertThat(gate.accept(1L, 10L, north(50), LON, 1500)).isFalse();
+        assertThat(gate.accept(1L, 10L, north(50), LON, 2000)).isTrue();
+    }
+
+    @Test
+    @DisplayName("최소 이동 거리보다 덜 움직이면 heartbeat 간격 전까지 버린다")
+    void minDisplacement_heartbeat() {
+        gate.accept(1L, 10L, LAT, LON, 0);
+
+        assertThat(gate.accept(1L, 10L, north(3), LON, 5000)).isFalse();
+        assertThat(gate.accept(1L, 10L, north(3), LON, 30000)).isTrue();
+    }
+
+    @Test
+    @DisplayName("빠르게 이동 중이면 더 짧은 간격으로 반영한다")
+    void speedAdaptiveInterval() {
+        gate.accept(1L, 10L, LAT, LON, 0);
+        // 2초에 40m → 20m/s
+        assertThat(gate.accept(1L, 10L, north(40), LON, 2000)).isTrue();
+
+        assertThat(gate.accept(1L, 10L, north(60), LON, 3000)).isTrue();
+    }
+
+    @Test
+    @DisplayName("참여자와 약속별로 상태를 따로 관리하고, 정리 후에는 다시 첫 위치로 본다")
+    void perParticipantState() {
+        gate.accept(1L, 10L, LAT, LON, 0);
+
+        assertThat(gate.accept(1L, 20L, LAT, LON, 100)).isTrue();
+        assertThat(gate.accept(2L, 10L, LAT, LON, 100)).isTrue();
+
+        gate.clear(1L);
+        assertThat(gate.accept(1L, 10L, LAT, LON, 200)).isTrue();
+    }
+
+    @Test
+    @DisplayName("게이트를 끄면 모든 위치를 반영한다")
+    void disabled() {
+        properties.setEnabled(false);
+
+        assertThat(gate.accept(1L, 10L, LAT, LON, 0)).isTrue();
+        assertThat(gate.accept(1L, 10L, LAT, LON, 1)).isTrue();
+    }
+
+    private static double north(double meters) {
+        return LAT + meters * DEGREES_PER_METER;
+    }
+}
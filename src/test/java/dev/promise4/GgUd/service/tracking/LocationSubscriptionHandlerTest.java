@@ -0,0 +1,107 @@
+package dev.promise4.GgUd.service.tracking;
+
+import dev.promise4.GgUd.controller.dto.LocationUpdateMessage;
+import dev.promise4.GgUd.controller.dto.LocationsDeltaMessage;
+import dev.promise4.GgUd.controller.dto.LocationsSnapshotMessage;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("LocationSubscriptionHandler 테스트")
+class LocationSubscriptionHandlerTest {
+
+    private static final String QUEUE = "/queue/promises/1/locations";
+
+    @Mock
+    private TrackingSessionCache trackingSessionCache;
+
+    @Mock
+    private LocationDeltaLog deltaLog;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private SimpMessagingTemplate messagingTemplate;
+
+    private LocationSubscriptionHandler handler;
+
+    @BeforeEach
+    void setUp() {
+        handler = new LocationSubscriptionHandler(trackingSessionCache, deltaLog, redisTemplate, messagingTemplate);
+    }
+
+    @Test
+    @DisplayName("이어받기 순번이 없으면 현재 순번과 전체 위치를 스냅샷으로 보낸다")
+    void handshake_sendsSnapshot() {
+        // given
+        LocationUpdateMessage location = LocationUpdateMessage.of(10L, "참여자", null, 37.5, 127.0);
+        when(deltaLog.currentSeq(1L)).thenReturn(42L);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(RedisLocationStore.locationKey(1L))).thenReturn(Map.of("10", location));
+
+        // when
+        handler.handshake("10", 1L, null);
+
+        // then
+        ArgumentCaptor<LocationsSnapshotMessage> snapshot = ArgumentCaptor.forClass(LocationsSnapshotMessage.class);
+        verify(messagingTemplate).convertAndSendToUser(eq("10"), eq(QUEUE), snapshot.capture());
+        assertThat(snapshot.getValue().getSeq()).isEqualTo(42L);
+        assertThat(snapshot.getValue().getLocations()).containsExactly(location);
+    }
+
+    @Test
+    @DisplayName("버퍼로 이어받을 수 있으면 스냅샷 없이 놓친 메시지만 보낸다")
+    void handshake_resumesFromBuffer() {
+        // given
+        LocationsDeltaMessage frame11 = LocationsDeltaMessage.builder().promiseId(1L).seq(11).build();
+        LocationsDeltaMessage frame12 = LocationsDeltaMessage.builder().promiseId(1L).seq(12).build();
+        when(deltaLog.since(1L, 10L)).thenReturn(Optional.of(List.of(frame11, frame12)));
+
+        // when
+        handler.handshake("10", 1L, 10L);
+
+        // then
+        verify(messagingTemplate).convertAndSendToUser("10", QUEUE, frame11);
+        verify(messagingTemplate).convertAndSendToUser("10", QUEUE, frame12);
+        verify(deltaLog, never()).currentSeq(anyLong());
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("버퍼에서 밀려난 순번이면 스냅샷으로 대체한다")
+    void handshake_fallsBackToSnapshot() {
+        // given
+        when(deltaLog.since(1L, 3L)).thenReturn(Optional.empty());
+        when(deltaLog.currentSeq(1L)).thenReturn(42L);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries(any())).thenReturn(Map.of());
+
+        // when
+        handler.handshake("10", 1L, 3L);
+
+        // then
+        verify(messagingTemplate).convertAndSendToUser(eq("10"), eq(QUEUE), any(LocationsSnapshotMessage.class));
+    }
+}
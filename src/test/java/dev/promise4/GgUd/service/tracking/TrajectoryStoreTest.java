@@ -0,0 +1,90 @@
+package dev.promise4.GgUd.service.tracking;
+
+import dev.promise4.GgUd.config.TrajectoryProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.StreamOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TrajectoryStore 테스트")
+class TrajectoryStoreTest {
+
+    private static final String KEY = "tracking:trajectory:1:10";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private StreamOperations<String, Object, Object> streamOperations;
+
+    private TrajectoryStore trajectoryStore;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForStream()).thenReturn(streamOperations);
+        trajectoryStore = new TrajectoryStore(redisTemplate, new TrajectoryProperties());
+    }
+
+    @Test
+    @DisplayName("샘플 간격 안의 위치는 버리고 간격이 지나면 다시 저장한다")
+    void append_downsamplesByInterval() {
+        // when
+        boolean first = trajectoryStore.append(1L, 10L, 37.5, 127.0, 100_000);
+        boolean withinInterval = trajectoryStore.append(1L, 10L, 37.6, 127.1, 105_000);
+        boolean afterInterval = trajectoryStore.append(1L, 10L, 37.7, 127.2, 110_000);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(withinInterval).isFalse();
+        assertThat(afterInterval).isTrue();
+        verify(streamOperations, times(2)).add(any(MapRecord.class), any(XAddOptions.class));
+        verify(redisTemplate, times(2)).expire(eq(KEY), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("비활성화되어 있으면 저장하지 않는다")
+    void append_disabled() {
+        TrajectoryProperties properties = new TrajectoryProperties();
+        properties.setEnabled(false);
+        TrajectoryStore disabled = new TrajectoryStore(redisTemplate, properties);
+
+        assertThat(disabled.append(1L, 10L, 37.5, 127.0, 100_000)).isFalse();
+        verifyNoInteractions(streamOperations);
+    }
+
+    @Test
+    @DisplayName("조회 시각 이후 항목을 지점으로 변환하고 깨진 항목은 건너뛴다")
+    @SuppressWarnings("unchecked")
+    void since_parsesRecords() {
+        // given
+        MapRecord<String, Object, Object> valid = StreamRecords.newRecord().in(KEY)
+                .ofMap(Map.<Object, Object>of("lat", "37.5", "lon", "127.0", "t", "100000"));
+        MapRecord<String, Object, Object> malformed = StreamRecords.newRecord().in(KEY)
+                .ofMap(Map.<Object, Object>of("lat", "x"));
+        when(streamOperations.range(eq(KEY), any(Range.class))).thenReturn(List.of(valid, malformed));
+
+        // when
+        List<TrajectoryPoint> points = trajectoryStore.since(1L, 10L, 90_000);
+
+        // then
+        assertThat(points).containsExactly(new TrajectoryPoint(37.5, 127.0, 100_000));
+    }
+}
@@ -0,0 +1,103 @@
+package dev.promise4.GgUd.service.view;
+
+import dev.promise4.GgUd.entity.Participant;
+import dev.promise4.GgUd.entity.Promise;
+import dev.promise4.GgUd.entity.User;
+import dev.promise4.GgUd.entity.UserRole;
+import dev.promise4.GgUd.repository.ParticipantRepository;
+import dev.promise4.GgUd.repository.PromiseRepository;
+import dev.promise4.GgUd.service.event.UserProfileChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("PromiseViewService 테스트")
+class PromiseViewServiceTest {
+
+    @Mock
+    private PromiseRepository promiseRepository;
+
+    @Mock
+    private ParticipantRepository participantRepository;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache cache;
+
+    private PromiseViewService promiseViewService;
+
+    @BeforeEach
+    void setUp() {
+        promiseViewService = new PromiseViewService(promiseRepository, participantRepository, cacheManager);
+    }
+
+    @Test
+    @DisplayName("약속과 참여자로 조회 모델을 만든다")
+    void getView_buildsFromPromiseAndParticipants() {
+        // given
+        User host = User.builder().kakaoId("1").nickname("호스트").role(UserRole.USER).build();
+        ReflectionTestUtils.setField(host, "id", 1L);
+        Promise promise = Promise.builder()
+                .title("강남 저녁")
+                .promiseDateTime(LocalDateTime.of(2025, 6, 1, 18, 0))
+                .host(host)
+                .build();
+        ReflectionTestUtils.setField(promise, "id", 10L);
+        when(promiseRepository.findByIdWithHost(10L)).thenReturn(Optional.of(promise));
+        when(participantRepository.findByPromiseId(10L))
+                .thenReturn(List.of(Participant.builder().promise(promise).user(host).isHost(true).build()));
+
+        // when
+        PromiseView view = promiseViewService.getView(10L);
+
+        // then
+        assertThat(view.getId()).isEqualTo(10L);
+        assertThat(view.getHostNickname()).isEqualTo("호스트");
+        assertThat(view.hasParticipant(1L)).isTrue();
+        assertThat(view.toSummaryResponse().getTitle()).isEqualTo("강남 저녁");
+    }
+
+    @Test
+    @DisplayName("없는 약속이면 예외 발생")
+    void getView_notFound_throwsException() {
+        // given
+        when(promiseRepository.findByIdWithHost(10L)).thenReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> promiseViewService.getView(10L))
+                .isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(participantRepository);
+    }
+
+    @Test
+    @DisplayName("프로필이 바뀌면 사용자가 참여한 모든 약속의 조회 모델을 지운다")
+    void onUserProfileChanged_evictsUsersPromises() {
+        // given
+        when(cacheManager.getCache(PromiseViewService.CACHE_NAME)).thenReturn(cache);
+        when(participantRepository.findPromiseIdsByUserId(2L)).thenReturn(List.of(10L, 11L));
+
+        // when
+        promiseViewService.onUserProfileChanged(new UserProfileChangedEvent(2L, false));
+
+        // then
+        verify(cache).evict(10L);
+        verify(cache).evict(11L);
+    }
+}
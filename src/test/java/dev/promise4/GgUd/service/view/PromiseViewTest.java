@@ -0,0 +1,67 @@
+package dev.promise4.GgUd.service.view;
+
+import dev.promise4.GgUd.common.redis.RedisSerializers;
+import dev.promise4.GgUd.controller.dto.PromiseResponse;
+import dev.promise4.GgUd.entity.Participant;
+import dev.promise4.GgUd.entity.Promise;
+import dev.promise4.GgUd.entity.PromiseStatus;
+import dev.promise4.GgUd.entity.User;
+import dev.promise4.GgUd.entity.UserRole;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@DisplayName("PromiseView 테스트")
+class PromiseViewTest {
+
+    @Test
+    @DisplayName("약속 캐시 직렬화기(JSON)로 저장했다 읽어도 같은 응답을 만든다")
+    void jsonRoundTrip() {
+        // given
+        User host = user(1L, "호스트");
+        User guest = user(2L, "게스트");
+        Promise promise = Promise.builder()
+                .title("강남 저녁")
+                .promiseDateTime(LocalDateTime.of(2025, 6, 1, 18, 0))
+                .host(host)
+                .build();
+        promise.startRecruiting();
+        ReflectionTestUtils.setField(promise, "id", 10L);
+        Participant hostParticipant = Participant.builder().promise(promise).user(host).isHost(true).build();
+        Participant guestParticipant = Participant.builder().promise(promise).user(guest).build();
+        guestParticipant.submitDepartureLocation(37.5, 127.0, "서울역");
+        PromiseView view = PromiseView.of(promise, List.of(hostParticipant, guestParticipant));
+        GenericJackson2JsonRedisSerializer serializer = RedisSerializers.json();
+
+        // when
+        Object restored = serializer.deserialize(serializer.serialize(view));
+
+        // then
+        assertThat(restored).isInstanceOf(PromiseView.class);
+        PromiseResponse response = ((PromiseView) restored).toResponse();
+        assertThat(response.getId()).isEqualTo(10L);
+        assertThat(response.getStatus()).isEqualTo(PromiseStatus.RECRUITING);
+        assertThat(response.getPromiseDateTime()).isEqualTo(promise.getPromiseDateTime());
+        assertThat(response.getHostNickname()).isEqualTo("호스트");
+        assertThat(response.getParticipantCount()).isEqualTo(2);
+        assertThat(response.getParticipants()).extracting("nickname", "locationSubmitted", "host")
+                .containsExactly(
+                        tuple("호스트", false, true),
+                        tuple("게스트", true, false));
+        assertThat(((PromiseView) restored).hasParticipant(2L)).isTrue();
+        assertThat(((PromiseView) restored).hasParticipant(3L)).isFalse();
+    }
+
+    private static User user(Long id, String nickname) {
+        User user = User.builder().kakaoId(String.valueOf(id)).nickname(nickname).role(UserRole.USER).build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}